@@ -0,0 +1,54 @@
+package com.lmax.solana4j.client.jsonrpc;
+
+import com.lmax.solana4j.client.api.AsyncSolanaApi;
+import com.lmax.solana4j.client.api.SolanaClientResponse;
+import org.junit.jupiter.api.Test;
+
+import java.net.http.HttpClient;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+final class AsyncSolanaApiContractTest extends SolanaClientIntegrationTestBase
+{
+    private static final AsyncSolanaApi ASYNC_SOLANA_API = new SolanaJsonRpcAsyncClient(HttpClient.newHttpClient(), solanaRpcUrl, true);
+
+    @Test
+    void shouldGetBalanceAsynchronously() throws Exception
+    {
+        assertThat(ASYNC_SOLANA_API.getBalance(SOL_ACCOUNT).get().getResponse()).isEqualTo(600000L);
+    }
+
+    @Test
+    void shouldGetAccountInfoAsynchronously() throws Exception
+    {
+        final var accountInfo = ASYNC_SOLANA_API.getAccountInfo(TOKEN_MINT).get().getResponse();
+
+        assertThat(accountInfo.getOwner()).isEqualTo("TokenzQdBNbLqP5VEhdkAS6EPFLC1PHnBqCXEpPxuEb");
+        assertThat(accountInfo.getLamports()).isEqualTo(500000L);
+    }
+
+    @Test
+    void shouldReturnErrorForMalformedAccountAsynchronously() throws Exception
+    {
+        final var response = ASYNC_SOLANA_API.getBalance("iamnotarealaccount").get();
+
+        assertThat(response.isSuccess()).isFalse();
+        assertThat(response.getError().getErrorCode()).isEqualTo(-32602L);
+    }
+
+    @Test
+    void shouldKeepManyRequestsInFlightConcurrently()
+    {
+        final List<CompletableFuture<SolanaClientResponse<Long>>> inFlight = IntStream.range(0, 100)
+                .mapToObj(i -> ASYNC_SOLANA_API.getBalance(SOL_ACCOUNT))
+                .collect(Collectors.toList());
+
+        CompletableFuture.allOf(inFlight.toArray(new CompletableFuture[0])).join();
+
+        assertThat(inFlight).allSatisfy(response -> assertThat(response.join().getResponse()).isEqualTo(600000L));
+    }
+}
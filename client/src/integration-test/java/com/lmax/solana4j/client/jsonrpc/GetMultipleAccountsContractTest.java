@@ -0,0 +1,76 @@
+package com.lmax.solana4j.client.jsonrpc;
+
+import com.lmax.solana4j.client.api.SolanaClientOptionalParams;
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.util.Base64;
+import java.util.Collections;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// https://solana.com/docs/rpc/http/getmultipleaccounts
+final class GetMultipleAccountsContractTest extends SolanaClientIntegrationTestBase
+{
+    private static final String TOKEN_MINT_DATA = "AQAAAFA1CQIm+hHzTXNa/YZ1Z19+UKIaAOLFJLLDvQODwCs1Cg" +
+                                                  "AAAAAAAAASAQEAAAB6OXSiO1mUI304QU8IJGTYsmjXkEECbyV3Ar74PD8D6Q==";
+
+    @Test
+    void shouldGetMultipleAccountsDefaultOptionalParams() throws SolanaJsonRpcClientException
+    {
+        final var accounts = SOLANA_API.getMultipleAccounts(List.of(TOKEN_MINT, SOL_ACCOUNT)).getResponse();
+
+        assertThat(accounts).hasSize(2);
+
+        final var tokenMint = accounts.get(0);
+        assertThat(tokenMint.getOwner()).isEqualTo("TokenzQdBNbLqP5VEhdkAS6EPFLC1PHnBqCXEpPxuEb");
+        assertThat(tokenMint.getLamports()).isEqualTo(500000L);
+        assertThat(tokenMint.getSpace()).isEqualTo(82L);
+        assertThat(tokenMint.getData().getAccountInfoBytes()).isEqualTo(ByteBuffer.wrap(Base64.getDecoder().decode(TOKEN_MINT_DATA)));
+        assertThat(tokenMint.getData().getAccountInfoEncoded()).containsExactly(TOKEN_MINT_DATA, "base64");
+
+        final var solAccount = accounts.get(1);
+        assertThat(solAccount.getLamports()).isEqualTo(600000L);
+        assertThat(solAccount.getData().getAccountInfoBytes().remaining()).isEqualTo(0);
+    }
+
+    @Test
+    void shouldReturnNullForAccountsThatDoNotExist() throws SolanaJsonRpcClientException
+    {
+        final var accounts = SOLANA_API.getMultipleAccounts(List.of("11111111111111111111111111111112", TOKEN_MINT)).getResponse();
+
+        assertThat(accounts.get(0)).isNull();
+        assertThat(accounts.get(1).getLamports()).isEqualTo(500000L);
+    }
+
+    @Test
+    void shouldAlwaysDecodeBase64WhateverEncodingIsRequested() throws SolanaJsonRpcClientException
+    {
+        final SolanaClientOptionalParams optionalParams = new SolanaJsonRpcClientOptionalParams();
+        optionalParams.addParam("encoding", "base58");
+        optionalParams.addParam("commitment", "processed");
+
+        final var accounts = SOLANA_API.getMultipleAccounts(List.of(TOKEN_MINT), optionalParams).getResponse();
+
+        assertThat(accounts.get(0).getData().getAccountInfoEncoded()).containsExactly(TOKEN_MINT_DATA, "base64");
+    }
+
+    @Test
+    void shouldGetMoreAccountsThanFitInASingleRequest() throws SolanaJsonRpcClientException
+    {
+        final var accounts = SOLANA_API.getMultipleAccounts(Collections.nCopies(250, SOL_ACCOUNT)).getResponse();
+
+        assertThat(accounts).hasSize(250);
+        assertThat(accounts).allSatisfy(account -> assertThat(account.getLamports()).isEqualTo(600000L));
+    }
+
+    @Test
+    void shouldGetErrorResponseForMalformedAddress() throws SolanaJsonRpcClientException
+    {
+        final var response = SOLANA_API.getMultipleAccounts(List.of("iamnotarealaccount"));
+
+        assertThat(response.isSuccess()).isFalse();
+        assertThat(response.getError().getErrorCode()).isEqualTo(-32602L);
+    }
+}
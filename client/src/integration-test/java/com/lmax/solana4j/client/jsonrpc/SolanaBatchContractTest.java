@@ -0,0 +1,26 @@
+package com.lmax.solana4j.client.jsonrpc;
+
+import com.lmax.solana4j.client.api.AccountInfo;
+import com.lmax.solana4j.client.api.SolanaBatch;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+final class SolanaBatchContractTest extends SolanaClientIntegrationTestBase
+{
+    @Test
+    void shouldExecuteSeveralCallsInOneBatch() throws SolanaJsonRpcClientException
+    {
+        final SolanaBatch batch = SOLANA_API.batch();
+        final SolanaBatch.Call<Long> balance = batch.getBalance(SOL_ACCOUNT);
+        final SolanaBatch.Call<AccountInfo> accountInfo = batch.getAccountInfo(TOKEN_MINT);
+        final SolanaBatch.Call<Long> malformed = batch.getBalance("iamnotarealaccount");
+
+        batch.execute();
+
+        assertThat(balance.getResponse().getResponse()).isEqualTo(600000L);
+        assertThat(accountInfo.getResponse().getResponse().getOwner()).isEqualTo("TokenzQdBNbLqP5VEhdkAS6EPFLC1PHnBqCXEpPxuEb");
+        assertThat(malformed.getResponse().isSuccess()).isFalse();
+        assertThat(malformed.getResponse().getError().getErrorCode()).isEqualTo(-32602L);
+    }
+}
@@ -0,0 +1,88 @@
+package com.lmax.solana4j.client.jsonrpc;
+
+import com.lmax.solana4j.client.api.SignatureNotification;
+import com.lmax.solana4j.client.api.SlotNotification;
+import com.lmax.solana4j.client.api.SolanaRpcResponse;
+import com.lmax.solana4j.client.api.SolanaSubscriptionClient;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.net.http.HttpClient;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+final class SolanaSubscriptionClientContractTest extends SolanaClientIntegrationTestBase
+{
+    private SolanaSubscriptionClient subscriptionClient;
+
+    @BeforeEach
+    void setUp()
+    {
+        subscriptionClient = new SolanaJsonRpcSubscriptionClient(HttpClient.newHttpClient(), solanaWsUrl, Duration.ofMillis(100), true);
+    }
+
+    @AfterEach
+    void tearDown()
+    {
+        subscriptionClient.close();
+    }
+
+    @Test
+    void shouldReceiveSlotNotifications() throws Exception
+    {
+        final CompletableFuture<SlotNotification> firstSlot = new CompletableFuture<>();
+        final CountDownLatch slots = new CountDownLatch(3);
+
+        subscriptionClient.slotSubscribe(slot ->
+        {
+            firstSlot.complete(slot);
+            slots.countDown();
+        }).get(10, TimeUnit.SECONDS);
+
+        assertThat(slots.await(30, TimeUnit.SECONDS)).isTrue();
+        assertThat(firstSlot.get().getSlot()).isGreaterThan(firstSlot.get().getParent());
+    }
+
+    @Test
+    void shouldReceiveSingleSignatureNotificationForAirdrop() throws Exception
+    {
+        final var airdropTransactionSignature = SOLANA_API.requestAirdrop(PAYER, 1000).getResponse();
+        final CompletableFuture<SolanaRpcResponse<SignatureNotification>> outcome = new CompletableFuture<>();
+        final AtomicInteger notifications = new AtomicInteger();
+
+        subscriptionClient.signatureSubscribe(airdropTransactionSignature, notification ->
+        {
+            notifications.incrementAndGet();
+            outcome.complete(notification);
+        }).get(10, TimeUnit.SECONDS);
+
+        assertThat(outcome.get(60, TimeUnit.SECONDS).getValue().getErr()).isNull();
+        assertThat(notifications.get()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldStopNotifyingAfterUnsubscribe() throws Exception
+    {
+        final AtomicInteger notifications = new AtomicInteger();
+        final CountDownLatch firstSlot = new CountDownLatch(1);
+
+        final SolanaSubscriptionClient.Subscription subscription = subscriptionClient.slotSubscribe(slot ->
+        {
+            notifications.incrementAndGet();
+            firstSlot.countDown();
+        }).get(10, TimeUnit.SECONDS);
+        assertThat(firstSlot.await(30, TimeUnit.SECONDS)).isTrue();
+
+        subscription.unsubscribe();
+        final int notificationsAtUnsubscribe = notifications.get();
+        Thread.sleep(2000);
+
+        assertThat(notifications.get()).isEqualTo(notificationsAtUnsubscribe);
+    }
+}
@@ -0,0 +1,71 @@
+package com.lmax.solana4j.client.jsonrpc;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+// run with the gc profiler (-prof gc) and compare gc.alloc.rate.norm to see the per-response allocation
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@Threads(1)
+@State(Scope.Thread)
+public class ResponseDecodingBenchmark
+{
+    @Param({"10", "1000"})
+    private int signatures;
+
+    private final SolanaCodec solanaCodec = new SolanaCodec(false);
+    private byte[] responseBytes;
+
+    @Setup
+    public void setUp()
+    {
+        final String signaturesForAddress = IntStream.range(0, signatures)
+                .mapToObj(i -> "{\"blockTime\": 1729588800, \"confirmationStatus\": \"finalized\", \"err\": null, \"memo\": null, " +
+                               "\"signature\": \"5h6xBEauJ3PK6SWCZ1PGjBvj8vDdWG3KpwATGy1ARAXFSDwt8GFXM7W5Ncn16wmqokgpiKRLuS83KUxyZyv2sUYv\", " +
+                               "\"slot\": " + (114 + i) + "}")
+                .collect(Collectors.joining(","));
+
+        responseBytes = ("{\"jsonrpc\": \"2.0\", \"id\": 1, \"result\": [" + signaturesForAddress + "]}").getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Benchmark
+    public void decodeViaString(final Blackhole bh) throws IOException
+    {
+        // BodyHandlers.ofString() followed by getBytes(), the path taken before decoding was streamed
+        final String body = new String(responseBytes, StandardCharsets.UTF_8);
+        bh.consume(solanaCodec.decodeResponse(body.getBytes(StandardCharsets.UTF_8), SolanaRpcMethod.GET_SIGNATURES_FOR_ADDRESS));
+    }
+
+    @Benchmark
+    public void decodeFromByteArray(final Blackhole bh) throws IOException
+    {
+        bh.consume(solanaCodec.decodeResponse(responseBytes, SolanaRpcMethod.GET_SIGNATURES_FOR_ADDRESS));
+    }
+
+    @Benchmark
+    public void decodeFromInputStream(final Blackhole bh) throws IOException
+    {
+        bh.consume(solanaCodec.decodeResponse(new ByteArrayInputStream(responseBytes), SolanaRpcMethod.GET_SIGNATURES_FOR_ADDRESS));
+    }
+}
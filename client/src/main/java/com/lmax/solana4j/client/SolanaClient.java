@@ -1,15 +1,32 @@
 package com.lmax.solana4j.client;
 
+import com.lmax.solana4j.client.api.AsyncSolanaApi;
+import com.lmax.solana4j.client.api.Blockhash;
+import com.lmax.solana4j.client.api.BlockhashProvider;
+import com.lmax.solana4j.client.api.LoadBalancedSolanaApi;
+import com.lmax.solana4j.client.api.RateLimitPolicy;
+import com.lmax.solana4j.client.api.RetryPolicy;
 import com.lmax.solana4j.client.api.SolanaApi;
+import com.lmax.solana4j.client.api.SolanaClientMetrics;
+import com.lmax.solana4j.client.api.SolanaSubscriptionClient;
+import com.lmax.solana4j.client.jsonrpc.SolanaJsonRpcAsyncClient;
+import com.lmax.solana4j.client.jsonrpc.SolanaJsonRpcBlockhashProvider;
 import com.lmax.solana4j.client.jsonrpc.SolanaJsonRpcClient;
+import com.lmax.solana4j.client.jsonrpc.SolanaJsonRpcLoadBalancedClient;
+import com.lmax.solana4j.client.jsonrpc.SolanaJsonRpcRateLimitedClient;
+import com.lmax.solana4j.client.jsonrpc.SolanaJsonRpcRetryingClient;
+import com.lmax.solana4j.client.jsonrpc.SolanaJsonRpcSubscriptionClient;
 
 import java.net.SocketTimeoutException;
 import java.net.http.HttpClient;
 import java.time.Duration;
+import java.util.List;
+import java.util.function.Consumer;
 
 /**
- * The {@code SolanaClient} class provides a static factory method to create a {@link SolanaApi} object
- * to communicate with a solana node.
+ * The {@code SolanaClient} class provides static factory methods to create a {@link SolanaApi},
+ * {@link LoadBalancedSolanaApi}, {@link AsyncSolanaApi}, {@link BlockhashProvider} or {@link SolanaSubscriptionClient}
+ * object to communicate with a solana node.
  */
 public final class SolanaClient
 {
@@ -50,4 +67,282 @@ public final class SolanaClient
     {
         return new SolanaJsonRpcClient(httpClient, rpcUrl, socketTimeout);
     }
-}
\ No newline at end of file
+
+    /**
+     * Creates a new {@code SolanaApi} instance using the specified http client and rpc url, which records the phases,
+     * payload sizes and outcome of every call to the given metrics.
+     * HTTP calls to RPC endpoints will be made with no socket timeout.
+     *
+     * @param httpClient      the {@link HttpClient} instance to use for sending requests.
+     * @param rpcUrl          the url of the solana json rpc endpoint.
+     * @param metrics         the {@link SolanaClientMetrics} to record each call to.
+     * @return                a new {@link SolanaApi} instance configured with the provided http client, rpc url
+     *                        and metrics.
+     */
+    public static SolanaApi create(final HttpClient httpClient, final String rpcUrl, final SolanaClientMetrics metrics)
+    {
+        return new SolanaJsonRpcClient(httpClient, rpcUrl, metrics);
+    }
+
+    /**
+     * Creates a new {@code SolanaApi} instance using the specified http client and rpc url, which records the phases,
+     * payload sizes and outcome of every call to the given metrics.
+     * HTTP calls to RPC endpoints will be made with the given socket timeout.
+     *
+     * @param httpClient      the {@link HttpClient} instance to use for sending requests.
+     * @param rpcUrl          the url of the solana json rpc endpoint.
+     * @param socketTimeout   the {@link Duration} of inactivity on the HTTP connection that will
+     *                        result in a {@link SocketTimeoutException} when making an RPC call.
+     * @param metrics         the {@link SolanaClientMetrics} to record each call to.
+     * @return                a new {@link SolanaApi} instance configured with the provided http client, rpc url
+     *                        and metrics.
+     */
+    public static SolanaApi create(final HttpClient httpClient, final String rpcUrl, final Duration socketTimeout, final SolanaClientMetrics metrics)
+    {
+        return new SolanaJsonRpcClient(httpClient, rpcUrl, socketTimeout, metrics);
+    }
+
+    /**
+     * Creates a new {@code SolanaApi} instance using the specified http client and rpc url, which hedges and retries
+     * idempotent reads according to the given policy.
+     * HTTP calls to RPC endpoints will be made with no socket timeout.
+     *
+     * @param httpClient      the {@link HttpClient} instance to use for sending requests.
+     * @param rpcUrl          the url of the solana json rpc endpoint.
+     * @param policy          the {@link RetryPolicy} to hedge and retry reads with.
+     * @return                a new {@link SolanaApi} instance configured with the provided http client, rpc url
+     *                        and retry policy.
+     */
+    public static SolanaApi createRetrying(final HttpClient httpClient, final String rpcUrl, final RetryPolicy policy)
+    {
+        return new SolanaJsonRpcRetryingClient(httpClient, rpcUrl, policy);
+    }
+
+    /**
+     * Creates a new {@code SolanaApi} instance using the specified http client and rpc url, which hedges and retries
+     * idempotent reads according to the given policy.
+     * HTTP calls to RPC endpoints will be made with the given socket timeout, and a read that times out may be retried.
+     *
+     * @param httpClient      the {@link HttpClient} instance to use for sending requests.
+     * @param rpcUrl          the url of the solana json rpc endpoint.
+     * @param socketTimeout   the {@link Duration} of inactivity on the HTTP connection that will
+     *                        result in a {@link SocketTimeoutException} when making an RPC call.
+     * @param policy          the {@link RetryPolicy} to hedge and retry reads with.
+     * @return                a new {@link SolanaApi} instance configured with the provided http client, rpc url
+     *                        and retry policy.
+     */
+    public static SolanaApi createRetrying(final HttpClient httpClient, final String rpcUrl, final Duration socketTimeout, final RetryPolicy policy)
+    {
+        return new SolanaJsonRpcRetryingClient(httpClient, rpcUrl, socketTimeout, policy);
+    }
+
+    /**
+     * Creates a new {@code SolanaApi} instance decorating the given clients, which hedges and retries idempotent reads
+     * according to the given policy. Reads are sent through the async client, and transactions, airdrops and batches
+     * once through the blocking client, so either may be rate limited or record metrics.
+     *
+     * @param api             the {@link SolanaApi} to send transactions, airdrops and batches through.
+     * @param asyncApi        the {@link AsyncSolanaApi} to send reads through.
+     * @param policy          the {@link RetryPolicy} to hedge and retry reads with.
+     * @return                a new {@link SolanaApi} instance decorating the given clients.
+     */
+    public static SolanaApi createRetrying(final SolanaApi api, final AsyncSolanaApi asyncApi, final RetryPolicy policy)
+    {
+        return new SolanaJsonRpcRetryingClient(api, asyncApi, policy);
+    }
+
+    /**
+     * Creates a new {@code SolanaApi} instance using the specified http client and rpc url, which holds requests back
+     * until the given rate limit allows them to be sent, transactions and blockhash fetches ahead of other requests.
+     * HTTP calls to RPC endpoints will be made with no socket timeout.
+     *
+     * @param httpClient      the {@link HttpClient} instance to use for sending requests.
+     * @param rpcUrl          the url of the solana json rpc endpoint.
+     * @param policy          the {@link RateLimitPolicy} the node's requests are held to.
+     * @return                a new {@link SolanaApi} instance configured with the provided http client, rpc url
+     *                        and rate limit.
+     */
+    public static SolanaApi createRateLimited(final HttpClient httpClient, final String rpcUrl, final RateLimitPolicy policy)
+    {
+        return new SolanaJsonRpcRateLimitedClient(httpClient, rpcUrl, policy);
+    }
+
+    /**
+     * Creates a new {@code SolanaApi} instance using the specified http client and rpc url, which holds requests back
+     * until the given rate limit allows them to be sent, transactions and blockhash fetches ahead of other requests.
+     * HTTP calls to RPC endpoints will be made with the given socket timeout.
+     *
+     * @param httpClient      the {@link HttpClient} instance to use for sending requests.
+     * @param rpcUrl          the url of the solana json rpc endpoint.
+     * @param socketTimeout   the {@link Duration} of inactivity on the HTTP connection that will
+     *                        result in a {@link SocketTimeoutException} when making an RPC call.
+     * @param policy          the {@link RateLimitPolicy} the node's requests are held to.
+     * @return                a new {@link SolanaApi} instance configured with the provided http client, rpc url
+     *                        and rate limit.
+     */
+    public static SolanaApi createRateLimited(final HttpClient httpClient, final String rpcUrl, final Duration socketTimeout, final RateLimitPolicy policy)
+    {
+        return new SolanaJsonRpcRateLimitedClient(httpClient, rpcUrl, socketTimeout, policy);
+    }
+
+    /**
+     * Creates a new {@code LoadBalancedSolanaApi} instance fronting a solana node at each of the specified rpc urls.
+     * Each node is probed with {@code getHealth} and {@code getSlot} at the given interval; requests are sent to the
+     * least loaded healthy node within {@code maxSlotLag} slots of the most advanced, and transactions to every node.
+     * HTTP calls to RPC endpoints will be made with no socket timeout.
+     *
+     * @param httpClient      the {@link HttpClient} instance to use for sending requests to every node.
+     * @param rpcUrls         the urls of the solana json rpc endpoints.
+     * @param maxSlotLag      the most slots a node may be behind the most advanced healthy node and still be sent requests.
+     * @param probeInterval   the {@link Duration} between probes of each node, which is also the time a probe is given to complete.
+     * @return                a new {@link LoadBalancedSolanaApi} instance, which should be closed to stop the probes.
+     */
+    public static LoadBalancedSolanaApi createLoadBalanced(
+            final HttpClient httpClient,
+            final List<String> rpcUrls,
+            final long maxSlotLag,
+            final Duration probeInterval)
+    {
+        return new SolanaJsonRpcLoadBalancedClient(httpClient, rpcUrls, maxSlotLag, probeInterval);
+    }
+
+    /**
+     * Creates a new {@code LoadBalancedSolanaApi} instance fronting a solana node at each of the specified rpc urls.
+     * Each node is probed with {@code getHealth} and {@code getSlot} at the given interval; requests are sent to the
+     * least loaded healthy node within {@code maxSlotLag} slots of the most advanced, and transactions to every node.
+     * HTTP calls to RPC endpoints will be made with the given socket timeout, which also bounds how long a transaction
+     * waits for the nodes to answer.
+     *
+     * @param httpClient      the {@link HttpClient} instance to use for sending requests to every node.
+     * @param rpcUrls         the urls of the solana json rpc endpoints.
+     * @param maxSlotLag      the most slots a node may be behind the most advanced healthy node and still be sent requests.
+     * @param probeInterval   the {@link Duration} between probes of each node, which is also the time a probe is given to complete.
+     * @param socketTimeout   the {@link Duration} of inactivity on the HTTP connection that will
+     *                        result in a {@link SocketTimeoutException} when making an RPC call.
+     * @return                a new {@link LoadBalancedSolanaApi} instance, which should be closed to stop the probes.
+     */
+    public static LoadBalancedSolanaApi createLoadBalanced(
+            final HttpClient httpClient,
+            final List<String> rpcUrls,
+            final long maxSlotLag,
+            final Duration probeInterval,
+            final Duration socketTimeout)
+    {
+        return new SolanaJsonRpcLoadBalancedClient(httpClient, rpcUrls, maxSlotLag, probeInterval, socketTimeout);
+    }
+
+    /**
+     * Creates a new {@code AsyncSolanaApi} instance using the specified http client and rpc url.
+     * HTTP calls to RPC endpoints will be made asynchronously with no socket timeout.
+     *
+     * @param httpClient      the {@link HttpClient} instance to use for sending requests.
+     *                        Its executor is used to complete the returned futures.
+     * @param rpcUrl          the url of the solana json rpc endpoint.
+     * @return                a new {@link AsyncSolanaApi} instance configured with the provided http client
+     *                        and rpc url.
+     */
+    public static AsyncSolanaApi createAsync(final HttpClient httpClient, final String rpcUrl)
+    {
+        return new SolanaJsonRpcAsyncClient(httpClient, rpcUrl);
+    }
+
+    /**
+     * Creates a new {@code AsyncSolanaApi} instance using the specified http client and rpc url.
+     * HTTP calls to RPC endpoints will be made asynchronously with the given socket timeout.
+     *
+     * @param httpClient      the {@link HttpClient} instance to use for sending requests.
+     *                        Its executor is used to complete the returned futures.
+     * @param rpcUrl          the url of the solana json rpc endpoint.
+     * @param socketTimeout   the {@link Duration} of inactivity on the HTTP connection that will
+     *                        result in a {@link java.net.http.HttpTimeoutException} completing the returned future.
+     * @return                a new {@link AsyncSolanaApi} instance configured with the provided http client
+     *                        and rpc url.
+     */
+    public static AsyncSolanaApi createAsync(final HttpClient httpClient, final String rpcUrl, final Duration socketTimeout)
+    {
+        return new SolanaJsonRpcAsyncClient(httpClient, rpcUrl, socketTimeout);
+    }
+
+    /**
+     * Creates a new {@code AsyncSolanaApi} instance using the specified http client and rpc url, which records the phases,
+     * payload sizes and outcome of every call to the given metrics.
+     * HTTP calls to RPC endpoints will be made asynchronously with no socket timeout.
+     *
+     * @param httpClient      the {@link HttpClient} instance to use for sending requests.
+     * @param rpcUrl          the url of the solana json rpc endpoint.
+     * @param metrics         the {@link SolanaClientMetrics} to record each call to.
+     * @return                a new {@link AsyncSolanaApi} instance configured with the provided http client, rpc url
+     *                        and metrics.
+     */
+    public static AsyncSolanaApi createAsync(final HttpClient httpClient, final String rpcUrl, final SolanaClientMetrics metrics)
+    {
+        return new SolanaJsonRpcAsyncClient(httpClient, rpcUrl, metrics);
+    }
+
+    /**
+     * Creates a new {@code AsyncSolanaApi} instance using the specified http client and rpc url, which records the phases,
+     * payload sizes and outcome of every call to the given metrics.
+     * HTTP calls to RPC endpoints will be made asynchronously with the given socket timeout.
+     *
+     * @param httpClient      the {@link HttpClient} instance to use for sending requests.
+     * @param rpcUrl          the url of the solana json rpc endpoint.
+     * @param socketTimeout   the {@link Duration} of inactivity on the HTTP connection that will
+     *                        result in a {@link SocketTimeoutException} when making an RPC call.
+     * @param metrics         the {@link SolanaClientMetrics} to record each call to.
+     * @return                a new {@link AsyncSolanaApi} instance configured with the provided http client, rpc url
+     *                        and metrics.
+     */
+    public static AsyncSolanaApi createAsync(final HttpClient httpClient, final String rpcUrl, final Duration socketTimeout, final SolanaClientMetrics metrics)
+    {
+        return new SolanaJsonRpcAsyncClient(httpClient, rpcUrl, socketTimeout, metrics);
+    }
+
+    /**
+     * Creates a new {@code BlockhashProvider} keeping the latest blockhash of the node at the specified rpc url in memory.
+     * The blockhash and block height are refreshed at the given interval, starting straight away.
+     *
+     * @param httpClient         the {@link HttpClient} instance to use for sending requests.
+     * @param rpcUrl             the url of the solana json rpc endpoint.
+     * @param refreshInterval    the {@link Duration} between refreshes, which is also the time a refresh is given to complete.
+     * @param expiryMarginBlocks the number of blocks before its last valid block height at which a blockhash that has not
+     *                           been replaced is reported to the expiry listener.
+     * @param expiryListener     the listener to notify with a blockhash about to expire.
+     * @return                   a new {@link BlockhashProvider} instance, which should be closed to stop the refreshes.
+     */
+    public static BlockhashProvider createBlockhashProvider(
+            final HttpClient httpClient,
+            final String rpcUrl,
+            final Duration refreshInterval,
+            final long expiryMarginBlocks,
+            final Consumer<Blockhash> expiryListener)
+    {
+        return new SolanaJsonRpcBlockhashProvider(httpClient, rpcUrl, refreshInterval, expiryMarginBlocks, expiryListener);
+    }
+
+    /**
+     * Creates a new {@code SolanaSubscriptionClient} connected to the specified websocket url.
+     * A lost connection is re-established after one second and all live subscriptions are re-subscribed.
+     *
+     * @param httpClient      the {@link HttpClient} instance used to open the websocket.
+     * @param wsUrl           the url of the solana pubsub websocket endpoint.
+     * @return                a new {@link SolanaSubscriptionClient} instance connected to the provided url.
+     */
+    public static SolanaSubscriptionClient createSubscriptionClient(final HttpClient httpClient, final String wsUrl)
+    {
+        return new SolanaJsonRpcSubscriptionClient(httpClient, wsUrl);
+    }
+
+    /**
+     * Creates a new {@code SolanaSubscriptionClient} connected to the specified websocket url.
+     * A lost connection is re-established after the given delay and all live subscriptions are re-subscribed.
+     *
+     * @param httpClient      the {@link HttpClient} instance used to open the websocket.
+     * @param wsUrl           the url of the solana pubsub websocket endpoint.
+     * @param reconnectDelay  the {@link Duration} to wait before re-establishing a lost or failed connection.
+     * @return                a new {@link SolanaSubscriptionClient} instance connected to the provided url.
+     */
+    public static SolanaSubscriptionClient createSubscriptionClient(final HttpClient httpClient, final String wsUrl, final Duration reconnectDelay)
+    {
+        return new SolanaJsonRpcSubscriptionClient(httpClient, wsUrl, reconnectDelay);
+    }
+}
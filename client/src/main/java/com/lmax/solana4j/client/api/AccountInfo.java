@@ -1,5 +1,7 @@
 package com.lmax.solana4j.client.api;
 
+import java.nio.ByteBuffer;
+import java.util.Base64;
 import java.util.List;
 import java.util.Map;
 
@@ -71,6 +73,27 @@ public interface AccountInfo
          */
         List<String> getAccountInfoEncoded();
 
+        /**
+         * Returns the account information decoded to its raw bytes.
+         * Only data returned with the base64 encoding can be decoded, for any other encoding or for parsed data this returns null.
+         * The returned buffer is a read-only view positioned at the start of the data; each call returns an independent view.
+         * <p>
+         * The default implementation decodes {@link #getAccountInfoEncoded()} on every call; implementations are encouraged
+         * to decode the data once instead.
+         * </p>
+         *
+         * @return a read-only {@link ByteBuffer} over the decoded account data, or null if the data is not base64 encoded
+         */
+        default ByteBuffer getAccountInfoBytes()
+        {
+            final List<String> encoded = getAccountInfoEncoded();
+            if (encoded == null || encoded.size() != 2 || !"base64".equals(encoded.get(1)))
+            {
+                return null;
+            }
+            return ByteBuffer.wrap(Base64.getDecoder().decode(encoded.get(0))).asReadOnlyBuffer();
+        }
+
         /**
          * Returns the parsed account information.
          *
@@ -0,0 +1,306 @@
+package com.lmax.solana4j.client.api;
+
+import com.lmax.solana4j.client.jsonrpc.SolanaJsonRpcClientException;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Represents the non-blocking API for interacting with a solana node.
+ * <p>
+ * Every method returns immediately with a {@link CompletableFuture} that completes once the node has responded.
+ * Failures to encode the request, communicate with the node or decode the response complete the future
+ * exceptionally with a {@link SolanaJsonRpcClientException}.
+ * </p>
+ */
+public interface AsyncSolanaApi
+{
+    /**
+     * Sends a transaction to the blockchain with default optional parameters.
+     *
+     * @param transactionBlob the base64-encoded string representing the transaction
+     * @return a {@link CompletableFuture} completing with a {@link SolanaClientResponse} containing the signature of the transaction as a base58-encoded string
+     */
+    CompletableFuture<SolanaClientResponse<String>> sendTransaction(String transactionBlob);
+
+    /**
+     * Sends a transaction to the blockchain with optional parameters.
+     *
+     * @param transactionBlob the base64-encoded string representing the transaction
+     * @param optionalParams  a map of optional parameters to customize the request,
+     *                        such as `skipPreflight`, `preflightCommitment`, `maxRetries`, `encoding` and `minContextSlot`
+     * @return a {@link CompletableFuture} completing with a {@link SolanaClientResponse} containing the signature of the transaction as a base58-encoded string
+     */
+    CompletableFuture<SolanaClientResponse<String>> sendTransaction(String transactionBlob, SolanaClientOptionalParams optionalParams);
+
+    /**
+     * Returns the transaction response for a given transaction signature with default optional parameters.
+     *
+     * @param transactionSignature the base58-encoded signature of the transaction
+     * @return a {@link CompletableFuture} completing with a {@link SolanaClientResponse} containing the {@link TransactionResponse}
+     */
+    CompletableFuture<SolanaClientResponse<TransactionResponse>> getTransaction(String transactionSignature);
+
+    /**
+     * Returns the transaction response for a given transaction signature with optional parameters.
+     *
+     * @param transactionSignature the base58-encoded signature of the transaction
+     * @param optionalParams  a map of optional parameters to customize the request such as `commitment`, `maxSupportedTransactionVersion` and `encoding`
+     * @return a {@link CompletableFuture} completing with a {@link SolanaClientResponse} containing the {@link TransactionResponse}
+     */
+    CompletableFuture<SolanaClientResponse<TransactionResponse>> getTransaction(String transactionSignature, SolanaClientOptionalParams optionalParams);
+
+    /**
+     * Requests an airdrop of lamports to the specified address with default optional parameters.
+     *
+     * @param address        the base58-encoded public key of the recipient account
+     * @param amountLamports the amount of lamports to be airdropped
+     * @return a {@link CompletableFuture} completing with a {@link SolanaClientResponse} containing the transaction signature as a base58-encoded string
+     */
+    CompletableFuture<SolanaClientResponse<String>> requestAirdrop(String address, long amountLamports);
+
+    /**
+     * Requests an airdrop of lamports to the specified address with optional parameters.
+     *
+     * @param address        the base58-encoded public key of the recipient account
+     * @param amountLamports the amount of lamports to be airdropped
+     * @param optionalParams  a map of optional parameters to customize the request, such as `commitment`
+     * @return a {@link CompletableFuture} completing with a {@link SolanaClientResponse} containing the transaction signature as a base58-encoded string
+     */
+    CompletableFuture<SolanaClientResponse<String>> requestAirdrop(String address, long amountLamports, SolanaClientOptionalParams optionalParams);
+
+    /**
+     * Returns the balance of an account in lamports with default optional parameters.
+     *
+     * @param address the base58-encoded public key of the account.
+     * @return a {@link CompletableFuture} completing with a {@link SolanaClientResponse} containing the balance of the account in lamports
+     */
+    CompletableFuture<SolanaClientResponse<Long>> getBalance(String address);
+
+    /**
+     * Returns the balance of an account in lamports with optional parameters.
+     *
+     * @param address        the base58-encoded public key of the account
+     * @param optionalParams  a map of optional parameters to customize the request, such as `commitment` and `minContextSlot`
+     * @return a {@link CompletableFuture} completing with a {@link SolanaClientResponse} containing the balance of the account in lamports
+     */
+    CompletableFuture<SolanaClientResponse<Long>> getBalance(String address, SolanaClientOptionalParams optionalParams);
+
+    /**
+     * Returns the token account balance of an spl token account with default optional parameters.
+     *
+     * @param address the base58-encoded public key of the token account
+     * @return a {@link CompletableFuture} completing with a {@link SolanaClientResponse} containing the {@link TokenAmount} representing the token balance of the account
+     */
+    CompletableFuture<SolanaClientResponse<TokenAmount>> getTokenAccountBalance(String address);
+
+    /**
+     * Returns the token account balance of an spl token account with optional parameters.
+     *
+     * @param address        the base58-encoded public key of the token account
+     * @param optionalParams  a map of optional parameters to customize the request, such as `commitment`
+     * @return a {@link CompletableFuture} completing with a {@link SolanaClientResponse} containing the {@link TokenAmount} representing the token balance of the account
+     */
+    CompletableFuture<SolanaClientResponse<TokenAmount>> getTokenAccountBalance(String address, SolanaClientOptionalParams optionalParams);
+
+    /**
+     * Returns the account information at the specified address with default optional parameters.
+     *
+     * @param address the base58-encoded public key of the account
+     * @return a {@link CompletableFuture} completing with a {@link SolanaClientResponse} containing the {@link AccountInfo} representing information about the account
+     */
+    CompletableFuture<SolanaClientResponse<AccountInfo>> getAccountInfo(String address);
+
+    /**
+     * Returns the account information for the specified address with optional parameters.
+     *
+     * @param address the base58-encoded public key of the account
+     * @param optionalParams  a map of optional parameters to customize the request, such as `commitment` and `encoding`
+     * @return a {@link CompletableFuture} completing with a {@link SolanaClientResponse} containing the {@link AccountInfo} representing information about the account
+     */
+    CompletableFuture<SolanaClientResponse<AccountInfo>> getAccountInfo(String address, SolanaClientOptionalParams optionalParams);
+
+    /**
+     * Returns the account information for each of the specified addresses with default optional parameters.
+     * Requests for more than 100 addresses are split into several JSON-RPC calls issued concurrently.
+     * Account data is always requested base64 encoded and is available decoded through {@link AccountInfo.AccountInfoData#getAccountInfoBytes()}.
+     *
+     * @param addresses the base58-encoded public keys of the accounts
+     * @return a {@link CompletableFuture} completing with a {@link SolanaClientResponse} containing the {@link AccountInfo} of each account in address order, with null for accounts that do not exist
+     */
+    CompletableFuture<SolanaClientResponse<List<AccountInfo>>> getMultipleAccounts(List<String> addresses);
+
+    /**
+     * Returns the account information for each of the specified addresses with optional parameters.
+     * Requests for more than 100 addresses are split into several JSON-RPC calls issued concurrently.
+     * Account data is always requested base64 encoded and is available decoded through {@link AccountInfo.AccountInfoData#getAccountInfoBytes()}.
+     *
+     * @param addresses the base58-encoded public keys of the accounts
+     * @param optionalParams  a map of optional parameters to customize the request, such as `commitment` and `dataSlice`
+     * @return a {@link CompletableFuture} completing with a {@link SolanaClientResponse} containing the {@link AccountInfo} of each account in address order, with null for accounts that do not exist
+     */
+    CompletableFuture<SolanaClientResponse<List<AccountInfo>>> getMultipleAccounts(List<String> addresses, SolanaClientOptionalParams optionalParams);
+
+    /**
+     * Returns the current block height of the blockchain with default optional parameters.
+     *
+     * @return a {@link CompletableFuture} completing with a {@link SolanaClientResponse} containing the current block height
+     */
+    CompletableFuture<SolanaClientResponse<Long>> getBlockHeight();
+
+    /**
+     * Returns the current block height with optional parameters.
+     *
+     * @param optionalParams  a map of optional parameters to customize the request, such as `commitment` and `minContextSlot`
+     * @return a {@link CompletableFuture} completing with a {@link SolanaClientResponse} containing the current block height
+     */
+    CompletableFuture<SolanaClientResponse<Long>> getBlockHeight(SolanaClientOptionalParams optionalParams);
+
+    /**
+     * Returns the current slot number with default optional parameters.
+     *
+     * @return a {@link CompletableFuture} completing with a {@link SolanaClientResponse} containing the current slot number
+     */
+    CompletableFuture<SolanaClientResponse<Long>> getSlot();
+
+    /**
+     * Returns the current slot number with optional parameters.
+     *
+     * @param optionalParams  a map of optional parameters to customize the request, such as `commitment`, and `minContextSlot`
+     * @return a {@link CompletableFuture} completing with a {@link SolanaClientResponse} containing the current slot number
+     */
+    CompletableFuture<SolanaClientResponse<Long>> getSlot(SolanaClientOptionalParams optionalParams);
+
+    /**
+     * Retrieves the most recent blockhash with default optional parameters.
+     *
+     * @return a {@link CompletableFuture} completing with a {@link SolanaClientResponse} containing the {@link Blockhash} representing the most recent blockhash
+     */
+    CompletableFuture<SolanaClientResponse<Blockhash>> getLatestBlockhash();
+
+    /**
+     * Returns the most recent blockhash with optional parameters.
+     *
+     * @param optionalParams  a map of optional parameters to customize the request, such as `commitment` and `minContextSlot`
+     * @return a {@link CompletableFuture} completing with a {@link SolanaClientResponse} containing the {@link Blockhash} representing the most recent blockhash
+     */
+    CompletableFuture<SolanaClientResponse<Blockhash>> getLatestBlockhash(SolanaClientOptionalParams optionalParams);
+
+    /**
+     * Returns the minimum balance required for rent exemption for an account of the given size, with default optional parameters.
+     * This is the minimum balance needed to ensure the account is rent-exempt.
+     *
+     * @param size the size of the account in bytes
+     * @return a {@link CompletableFuture} completing with a {@link SolanaClientResponse} containing the minimum balance in lamports for rent exemption
+     */
+    CompletableFuture<SolanaClientResponse<Long>> getMinimumBalanceForRentExemption(int size);
+
+    /**
+     * Returns the minimum balance required for rent exemption for an account of the given size, with optional parameters.
+     * This is the minimum balance needed to ensure the account is rent-exempt.
+     *
+     * @param size           the size of the account in bytes
+     * @param optionalParams  a map of optional parameters to customize the request, such as `commitment`
+     * @return a {@link CompletableFuture} completing with a {@link SolanaClientResponse} containing the minimum balance in lamports for rent exemption
+     */
+    CompletableFuture<SolanaClientResponse<Long>> getMinimumBalanceForRentExemption(int size, SolanaClientOptionalParams optionalParams);
+
+    /**
+     * Returns the lowest slot that the node has information about in its ledger.
+     *
+     * @return a {@link CompletableFuture} completing with a {@link SolanaClientResponse} containing the minimum slot as a long
+     */
+    CompletableFuture<SolanaClientResponse<Long>> minimumLedgerSlot();
+
+    /**
+     * Returns the current health of the node.
+     *
+     * @return a {@link CompletableFuture} completing with a {@link SolanaClientResponse} containing the health status as a string
+     */
+    CompletableFuture<SolanaClientResponse<String>> getHealth();
+
+    /**
+     * Returns a list of transaction signatures for the specified address, with default optional parameters.
+     *
+     * @param address the base58-encoded public key of the address
+     * @return a {@link CompletableFuture} completing with a {@link SolanaClientResponse} containing a list of {@link SignatureForAddress} objects enumerating signatures relating to the address
+     */
+    CompletableFuture<SolanaClientResponse<List<SignatureForAddress>>> getSignaturesForAddress(String address);
+
+    /**
+     * Retrieves a list of transaction signatures for a specified address, with optional parameters.
+     *
+     * @param address  the base58-encoded public key of the address
+     * @param optionalParams  a map of optional parameters to customize the request, such as `commitment`, `minContextSlot`, `limit`
+     *                        `before` and `until`
+     * @return a {@link CompletableFuture} completing with a {@link SolanaClientResponse} containing a list of {@link SignatureForAddress} objects enumerating signatures relating to the address
+     */
+    CompletableFuture<SolanaClientResponse<List<SignatureForAddress>>> getSignaturesForAddress(String address, SolanaClientOptionalParams optionalParams);
+
+    /**
+     * Retrieves the statuses of one or more transaction signatures, with default optional parameters.
+     *
+     * @param transactionSignatures a list of base58-encoded transaction signatures.
+     * @return a {@link CompletableFuture} completing with a {@link SolanaClientResponse} containing a list of {@link SignatureStatus} objects detailing the signature statuses
+     */
+    CompletableFuture<SolanaClientResponse<List<SignatureStatus>>> getSignatureStatuses(List<String> transactionSignatures);
+
+    /**
+     * Retrieves the statuses of one or more transaction signatures, with optional parameters.
+     * Allows for additional filters or customizations when querying transaction statuses.
+     *
+     * @param transactionSignatures a list of base58-encoded transaction signatures.
+     * @param optionalParams  a map of optional parameters to customize the request, such as `searchTransactionHistory`
+     * @return a {@link CompletableFuture} completing with a {@link SolanaClientResponse} containing a list of {@link SignatureStatus} objects detailing the signature statuses
+     */
+    CompletableFuture<SolanaClientResponse<List<SignatureStatus>>> getSignatureStatuses(List<String> transactionSignatures, SolanaClientOptionalParams optionalParams);
+
+    /**
+     * Retrieves token accounts owned by a specific address, filtered by the token mint or program id, with default optional parameters.
+     *
+     * @param accountDelegate the base58-encoded public key of the account owner
+     * @param filter          a key-value pair specifying the filter criteria (e.g., token mint or program id)
+     * @return a {@link CompletableFuture} completing with a {@link SolanaClientResponse} containing a list of {@link TokenAccount} objects representing token accounts
+     */
+    CompletableFuture<SolanaClientResponse<List<TokenAccount>>> getTokenAccountsByOwner(String accountDelegate, Map.Entry<String, String> filter);
+
+    /**
+     * Retrieves token accounts owned by a specific address, filtered by the token mint or program id, with default optional parameters.
+     *
+     * @param accountDelegate the base58-encoded public key of the account owner.
+     * @param filter          a key-value pair specifying the filter criteria (e.g., token mint or program id)
+     * @param optionalParams  a map of optional parameters to customize the request, such as `commitment`, `minContextSlot` and `dataSlice`
+     * @return a {@link CompletableFuture} completing with a {@link SolanaClientResponse} containing a list of {@link TokenAccount} objects representing token accounts
+     */
+    CompletableFuture<SolanaClientResponse<List<TokenAccount>>> getTokenAccountsByOwner(
+            String accountDelegate,
+            Map.Entry<String, String> filter,
+            SolanaClientOptionalParams optionalParams);
+
+    /**
+     * Simulates a transaction without broadcasting it to the blockchain, with default optional parameters.
+     *
+     * @param transaction the base64-encoded string representing the transaction
+     * @return a {@link CompletableFuture} completing with a {@link SolanaClientResponse} containing a {@link SimulateTransactionResponse} object with details of the simulation
+     */
+    CompletableFuture<SolanaClientResponse<SimulateTransactionResponse>> simulateTransaction(String transaction);
+
+    /**
+     * Simulates a transaction without broadcasting it to the blockchain, with optional parameters.
+     * This allows for additional customizations, such as setting the commitment level or enabling signature verification.
+     *
+     * @param transaction    the base64-encoded string representing the transaction
+     * @param optionalParams  a map of optional parameters to customize the request, such as `commitment`, `sigVerify`, `replaceRecentBlockhash`,
+     *                        `minContextSlot`, `encoding`, `innerInstructions` and `accounts`
+     * @return a {@link CompletableFuture} completing with a {@link SolanaClientResponse} containing a {@link SimulateTransactionResponse} object with details of the simulation
+     */
+    CompletableFuture<SolanaClientResponse<SimulateTransactionResponse>> simulateTransaction(String transaction, SolanaClientOptionalParams optionalParams);
+
+    /**
+     * Retrieve the current version of Solana Core and supported Feature Set from the node.
+     *
+     * @return a {@link CompletableFuture} completing with a {@link SolanaClientResponse} containing a {@link SimulateTransactionResponse} object with the version and feature set
+     */
+    CompletableFuture<SolanaClientResponse<SolanaVersion>> getVersion();
+}
\ No newline at end of file
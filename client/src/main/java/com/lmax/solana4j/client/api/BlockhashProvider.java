@@ -0,0 +1,45 @@
+package com.lmax.solana4j.client.api;
+
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Keeps the latest blockhash of a solana node in memory, so that transactions can be built without a round trip to the
+ * node for each one.
+ * <p>
+ * The blockhash and the node's block height are refreshed in the background. A blockhash expires once the block height
+ * passes its last valid block height; as it comes within the configured margin of doing so, and no newer blockhash has
+ * replaced it, the provider's expiry listener is notified once for that blockhash.
+ * </p>
+ */
+public interface BlockhashProvider extends AutoCloseable
+{
+    /**
+     * Returns the latest blockhash fetched from the node, without blocking.
+     *
+     * @return the latest {@link Blockhash}
+     * @throws IllegalStateException if no blockhash has been fetched yet, or the latest has expired
+     */
+    Blockhash getBlockhash();
+
+    /**
+     * Returns the block height of the node when last fetched.
+     *
+     * @return the block height, or zero if it has never been fetched
+     */
+    long getBlockHeight();
+
+    /**
+     * Returns a future completing with the first blockhash fetched, for callers that must wait for the provider to start.
+     * The future completes exceptionally if the provider is closed first, but otherwise waits for as long as the node is
+     * unreachable, so callers should bound their wait, for example with {@link CompletableFuture#orTimeout}.
+     *
+     * @return a {@link CompletableFuture} completing with the first {@link Blockhash}
+     */
+    CompletableFuture<Blockhash> ready();
+
+    /**
+     * Stops refreshing the blockhash. The latest blockhash is still served until it expires.
+     */
+    @Override
+    void close();
+}
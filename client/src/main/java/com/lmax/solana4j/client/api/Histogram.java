@@ -0,0 +1,36 @@
+package com.lmax.solana4j.client.api;
+
+/**
+ * A distribution of recorded values, such as latencies in nanoseconds or payload sizes in bytes.
+ */
+public interface Histogram
+{
+    /**
+     * Returns the number of values recorded.
+     *
+     * @return the count of values
+     */
+    long getCount();
+
+    /**
+     * Returns the largest value recorded.
+     *
+     * @return the maximum value, or zero if none has been recorded
+     */
+    long getMax();
+
+    /**
+     * Returns the mean of the values recorded.
+     *
+     * @return the mean value, or zero if none has been recorded
+     */
+    double getMean();
+
+    /**
+     * Returns a value no smaller than the given fraction of the values recorded, to within the precision of the histogram.
+     *
+     * @param percentile the fraction of values, between zero and one
+     * @return the value at the percentile, or zero if none has been recorded
+     */
+    long getValueAtPercentile(double percentile);
+}
@@ -0,0 +1,61 @@
+package com.lmax.solana4j.client.api;
+
+import java.util.List;
+
+/**
+ * A {@link SolanaApi} fronting several solana nodes, each probed periodically for its health and slot.
+ * <p>
+ * Each request is sent to the healthy node with the fewest requests in flight, of those within the configured slot lag of
+ * the most advanced healthy node. Transactions are sent to every node. A node that fails a request is not used again until
+ * a probe finds it healthy.
+ * </p>
+ */
+public interface LoadBalancedSolanaApi extends SolanaApi, AutoCloseable
+{
+    /**
+     * Returns the state of each node, in the order the nodes were given.
+     *
+     * @return the {@link Endpoint} for each node
+     */
+    List<Endpoint> endpoints();
+
+    /**
+     * Stops probing the nodes. Requests may still be made, routed on the last known state of each node.
+     */
+    @Override
+    void close();
+
+    /**
+     * The last known state of one of the nodes.
+     */
+    interface Endpoint
+    {
+        /**
+         * Returns the url of the node's json rpc endpoint.
+         *
+         * @return the url of the node
+         */
+        String getUrl();
+
+        /**
+         * Indicates whether the node's last probe succeeded, and no request has failed since.
+         *
+         * @return {@code true} if the node may be sent requests
+         */
+        boolean isHealthy();
+
+        /**
+         * Returns the slot the node reported when last probed.
+         *
+         * @return the slot of the node, or zero if it has never reported one
+         */
+        long getSlot();
+
+        /**
+         * Returns the number of requests currently awaiting a response from the node.
+         *
+         * @return the number of requests in flight
+         */
+        int getInFlight();
+    }
+}
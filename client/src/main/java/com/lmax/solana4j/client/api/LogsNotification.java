@@ -0,0 +1,30 @@
+package com.lmax.solana4j.client.api;
+
+import java.util.List;
+
+/**
+ * Represents the logs of a transaction, pushed by a {@code logsSubscribe} subscription.
+ */
+public interface LogsNotification
+{
+    /**
+     * Returns the signature of the transaction that produced the logs.
+     *
+     * @return the base58-encoded transaction signature
+     */
+    String getSignature();
+
+    /**
+     * Returns the error information, if any, for the transaction.
+     *
+     * @return an object representing the error, or {@code null} if the transaction succeeded
+     */
+    Object getErr();
+
+    /**
+     * Returns the log messages output by the transaction.
+     *
+     * @return the list of log messages, or {@code null} if the transaction failed before producing any
+     */
+    List<String> getLogs();
+}
@@ -0,0 +1,73 @@
+package com.lmax.solana4j.client.api;
+
+import java.util.Map;
+
+/**
+ * The measurements recorded for the calls of one JSON-RPC method to one node.
+ */
+public interface MethodMetrics
+{
+    /**
+     * Returns the url of the node.
+     *
+     * @return the endpoint the calls were sent to
+     */
+    String getEndpoint();
+
+    /**
+     * Returns the name of the JSON-RPC method, or {@code batch} for batch requests.
+     *
+     * @return the method called
+     */
+    String getMethod();
+
+    /**
+     * Returns the number of calls that ended with the given outcome.
+     *
+     * @param outcome the outcome of the calls
+     * @return the number of calls
+     */
+    long getCount(SolanaClientMetrics.Outcome outcome);
+
+    /**
+     * Returns the number of error responses and unexpected HTTP statuses seen, by JSON-RPC error code or HTTP status.
+     *
+     * @return the number of calls that ended with each code
+     */
+    Map<Integer, Long> getCodeCounts();
+
+    /**
+     * Returns the time taken to encode each request, in nanoseconds.
+     *
+     * @return the {@link Histogram} of encode times
+     */
+    Histogram getEncodeNanos();
+
+    /**
+     * Returns the time taken for the node to respond to each request, in nanoseconds.
+     *
+     * @return the {@link Histogram} of http times
+     */
+    Histogram getHttpNanos();
+
+    /**
+     * Returns the time taken to decode each response, in nanoseconds.
+     *
+     * @return the {@link Histogram} of decode times
+     */
+    Histogram getDecodeNanos();
+
+    /**
+     * Returns the size of each encoded request, in bytes.
+     *
+     * @return the {@link Histogram} of request sizes
+     */
+    Histogram getRequestBytes();
+
+    /**
+     * Returns the size of each response body, in bytes.
+     *
+     * @return the {@link Histogram} of response sizes
+     */
+    Histogram getResponseBytes();
+}
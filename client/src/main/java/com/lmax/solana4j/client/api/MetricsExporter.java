@@ -0,0 +1,17 @@
+package com.lmax.solana4j.client.api;
+
+import java.util.List;
+
+/**
+ * Publishes recorded {@link MethodMetrics} to a monitoring system.
+ */
+@FunctionalInterface
+public interface MetricsExporter
+{
+    /**
+     * Publishes the measurements of every method called on every node so far.
+     *
+     * @param metrics the {@link MethodMetrics} of each method and node
+     */
+    void export(List<MethodMetrics> metrics);
+}
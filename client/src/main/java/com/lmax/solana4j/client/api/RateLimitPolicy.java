@@ -0,0 +1,216 @@
+package com.lmax.solana4j.client.api;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Describes the rate at which requests may be sent to a single solana node.
+ * <p>
+ * Every request takes its method's weight in tokens from a bucket refilled at the given requests per second, and a method
+ * given its own limit also takes a token from that method's bucket. Requests waiting for tokens are queued, transactions
+ * and blockhash fetches ahead of other reads and history scans behind them. A request is refused rather than queued once
+ * the queue is full, or once it has waited longer than the maximum queue time, so that callers can back off instead of
+ * the node throttling them.
+ * </p>
+ * <p>
+ * Instances are immutable; each {@code with} method returns a copy with one setting changed.
+ * </p>
+ */
+public final class RateLimitPolicy
+{
+    private final double requestsPerSecond;
+    private final int burst;
+    private final Map<String, Double> methodLimits;
+    private final Map<String, Integer> methodWeights;
+    private final int queueCapacity;
+    private final Duration maxQueueTime;
+
+    private RateLimitPolicy(
+            final double requestsPerSecond,
+            final int burst,
+            final Map<String, Double> methodLimits,
+            final Map<String, Integer> methodWeights,
+            final int queueCapacity,
+            final Duration maxQueueTime)
+    {
+        if (!(requestsPerSecond > 0))
+        {
+            throw new IllegalArgumentException("The requests per second must be greater than zero.");
+        }
+        if (burst < 1)
+        {
+            throw new IllegalArgumentException("The burst must be at least one request.");
+        }
+        if (queueCapacity < 0)
+        {
+            throw new IllegalArgumentException("The queue capacity must not be negative.");
+        }
+        this.requestsPerSecond = requestsPerSecond;
+        this.burst = burst;
+        this.methodLimits = Map.copyOf(methodLimits);
+        this.methodWeights = Map.copyOf(methodWeights);
+        this.queueCapacity = queueCapacity;
+        this.maxQueueTime = requireNonNull(maxQueueTime);
+    }
+
+    /**
+     * Returns a policy allowing the given rate of requests, with a burst of one second's worth of requests, a queue of up to
+     * a thousand requests and a maximum queue time of ten seconds.
+     *
+     * @param requestsPerSecond the rate at which requests of weight one may be sent
+     * @return a new {@link RateLimitPolicy}
+     */
+    public static RateLimitPolicy of(final double requestsPerSecond)
+    {
+        return new RateLimitPolicy(requestsPerSecond, (int) Math.max(1, Math.ceil(requestsPerSecond)), Map.of(), Map.of(), 1000, Duration.ofSeconds(10));
+    }
+
+    /**
+     * Returns a copy of this policy allowing the given number of tokens to be saved up while requests are not being sent.
+     *
+     * @param burst the most tokens that may be saved up, at least one
+     * @return a new {@link RateLimitPolicy}
+     */
+    public RateLimitPolicy withBurst(final int burst)
+    {
+        return new RateLimitPolicy(requestsPerSecond, burst, methodLimits, methodWeights, queueCapacity, maxQueueTime);
+    }
+
+    /**
+     * Returns a copy of this policy which also limits the given method to its own rate, with a burst of one second's worth
+     * of requests.
+     *
+     * @param method            the name of the JSON-RPC method, such as {@code getSignaturesForAddress}
+     * @param requestsPerSecond the rate at which the method may be sent
+     * @return a new {@link RateLimitPolicy}
+     */
+    public RateLimitPolicy withMethodLimit(final String method, final double requestsPerSecond)
+    {
+        if (!(requestsPerSecond > 0))
+        {
+            throw new IllegalArgumentException("The requests per second must be greater than zero.");
+        }
+        final Map<String, Double> limits = new HashMap<>(methodLimits);
+        limits.put(requireNonNull(method), requestsPerSecond);
+        return new RateLimitPolicy(this.requestsPerSecond, burst, limits, methodWeights, queueCapacity, maxQueueTime);
+    }
+
+    /**
+     * Returns a copy of this policy in which each request of the given method takes the given number of tokens, for
+     * providers that charge more for expensive methods. A request weighing more than the burst is refused, as the tokens for
+     * it can never be saved up.
+     *
+     * @param method the name of the JSON-RPC method, such as {@code getMultipleAccounts}
+     * @param weight the number of tokens each request of the method takes, at least one
+     * @return a new {@link RateLimitPolicy}
+     */
+    public RateLimitPolicy withMethodWeight(final String method, final int weight)
+    {
+        if (weight < 1)
+        {
+            throw new IllegalArgumentException("The weight must be at least one.");
+        }
+        final Map<String, Integer> weights = new HashMap<>(methodWeights);
+        weights.put(requireNonNull(method), weight);
+        return new RateLimitPolicy(requestsPerSecond, burst, methodLimits, weights, queueCapacity, maxQueueTime);
+    }
+
+    /**
+     * Returns a copy of this policy queueing at most the given number of requests waiting for tokens.
+     *
+     * @param queueCapacity the most requests that may wait, or zero to refuse any request that cannot be sent at once
+     * @return a new {@link RateLimitPolicy}
+     */
+    public RateLimitPolicy withQueueCapacity(final int queueCapacity)
+    {
+        return new RateLimitPolicy(requestsPerSecond, burst, methodLimits, methodWeights, queueCapacity, maxQueueTime);
+    }
+
+    /**
+     * Returns a copy of this policy refusing requests that have waited for tokens for longer than the given time.
+     *
+     * @param maxQueueTime the longest a request may wait
+     * @return a new {@link RateLimitPolicy}
+     */
+    public RateLimitPolicy withMaxQueueTime(final Duration maxQueueTime)
+    {
+        return new RateLimitPolicy(requestsPerSecond, burst, methodLimits, methodWeights, queueCapacity, maxQueueTime);
+    }
+
+    /**
+     * Returns the rate at which requests of weight one may be sent.
+     *
+     * @return the requests per second
+     */
+    public double getRequestsPerSecond()
+    {
+        return requestsPerSecond;
+    }
+
+    /**
+     * Returns the most tokens that may be saved up.
+     *
+     * @return the burst
+     */
+    public int getBurst()
+    {
+        return burst;
+    }
+
+    /**
+     * Returns the rate of each method given its own limit.
+     *
+     * @return the requests per second of each limited method
+     */
+    public Map<String, Double> getMethodLimits()
+    {
+        return methodLimits;
+    }
+
+    /**
+     * Returns the number of tokens each request of the given method takes.
+     *
+     * @param method the name of the JSON-RPC method
+     * @return the weight of the method, one unless otherwise given
+     */
+    public int getMethodWeight(final String method)
+    {
+        return methodWeights.getOrDefault(method, 1);
+    }
+
+    /**
+     * Returns the most requests that may wait for tokens.
+     *
+     * @return the queue capacity
+     */
+    public int getQueueCapacity()
+    {
+        return queueCapacity;
+    }
+
+    /**
+     * Returns the longest a request may wait for tokens.
+     *
+     * @return the maximum queue time
+     */
+    public Duration getMaxQueueTime()
+    {
+        return maxQueueTime;
+    }
+
+    @Override
+    public String toString()
+    {
+        return "RateLimitPolicy{" +
+                "requestsPerSecond=" + requestsPerSecond +
+                ", burst=" + burst +
+                ", methodLimits=" + methodLimits +
+                ", methodWeights=" + methodWeights +
+                ", queueCapacity=" + queueCapacity +
+                ", maxQueueTime=" + maxQueueTime +
+                '}';
+    }
+}
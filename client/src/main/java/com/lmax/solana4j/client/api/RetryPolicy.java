@@ -0,0 +1,234 @@
+package com.lmax.solana4j.client.api;
+
+import java.time.Duration;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Describes how idempotent reads are hedged and retried against a single solana node.
+ * <p>
+ * A read still outstanding after the configured percentile of recent latencies for its method is hedged with a duplicate
+ * request, and a read that fails with a recoverable error is retried after a jittered exponential backoff. Every request
+ * adds a fraction of a token to a retry budget, and every hedge or retry spends a whole token, so that once a node starts
+ * failing the retries sent to it are bounded by a fraction of the requests rather than multiplying them.
+ * </p>
+ * <p>
+ * Instances are immutable; each {@code with} method returns a copy with one setting changed.
+ * </p>
+ */
+public final class RetryPolicy
+{
+    private static final RetryPolicy DEFAULTS = new RetryPolicy(3, 0.95, Duration.ofMillis(5), Duration.ofMillis(50), Duration.ofSeconds(2), 0.1, 10);
+
+    private final int maxAttempts;
+    private final double hedgePercentile;
+    private final Duration minHedgeDelay;
+    private final Duration baseBackoff;
+    private final Duration maxBackoff;
+    private final double retryBudgetRatio;
+    private final int retryBudgetBurst;
+
+    private RetryPolicy(
+            final int maxAttempts,
+            final double hedgePercentile,
+            final Duration minHedgeDelay,
+            final Duration baseBackoff,
+            final Duration maxBackoff,
+            final double retryBudgetRatio,
+            final int retryBudgetBurst)
+    {
+        if (maxAttempts < 1)
+        {
+            throw new IllegalArgumentException("At least one attempt is required.");
+        }
+        if (hedgePercentile < 0 || hedgePercentile >= 1)
+        {
+            throw new IllegalArgumentException("The hedge percentile must be at least zero and less than one.");
+        }
+        if (baseBackoff.compareTo(maxBackoff) > 0)
+        {
+            throw new IllegalArgumentException("The base backoff must not exceed the maximum backoff.");
+        }
+        if (retryBudgetRatio < 0 || retryBudgetBurst < 0)
+        {
+            throw new IllegalArgumentException("The retry budget must not be negative.");
+        }
+        this.maxAttempts = maxAttempts;
+        this.hedgePercentile = hedgePercentile;
+        this.minHedgeDelay = requireNonNull(minHedgeDelay);
+        this.baseBackoff = requireNonNull(baseBackoff);
+        this.maxBackoff = requireNonNull(maxBackoff);
+        this.retryBudgetRatio = retryBudgetRatio;
+        this.retryBudgetBurst = retryBudgetBurst;
+    }
+
+    /**
+     * Returns the default policy: up to three attempts, hedging at the 95th percentile latency but never sooner than 5ms,
+     * backing off from 50ms up to 2s, and a retry budget of one retry per ten requests with a burst of ten.
+     *
+     * @return the default {@link RetryPolicy}
+     */
+    public static RetryPolicy defaults()
+    {
+        return DEFAULTS;
+    }
+
+    /**
+     * Returns a copy of this policy allowing the given number of attempts at each read, counting the first attempt and
+     * every hedge and retry.
+     *
+     * @param maxAttempts the most requests sent for a single read, at least one
+     * @return a new {@link RetryPolicy}
+     */
+    public RetryPolicy withMaxAttempts(final int maxAttempts)
+    {
+        return new RetryPolicy(maxAttempts, hedgePercentile, minHedgeDelay, baseBackoff, maxBackoff, retryBudgetRatio, retryBudgetBurst);
+    }
+
+    /**
+     * Returns a copy of this policy hedging a read once it has been outstanding for longer than the given percentile of
+     * recent latencies of the same method, or the minimum delay if that is longer.
+     *
+     * @param hedgePercentile the percentile of recent latencies after which to hedge, between zero and one
+     * @param minHedgeDelay   the shortest time a read is outstanding before it is hedged
+     * @return a new {@link RetryPolicy}
+     */
+    public RetryPolicy withHedging(final double hedgePercentile, final Duration minHedgeDelay)
+    {
+        if (hedgePercentile <= 0)
+        {
+            throw new IllegalArgumentException("The hedge percentile must be greater than zero, use withoutHedging() to disable hedging.");
+        }
+        return new RetryPolicy(maxAttempts, hedgePercentile, minHedgeDelay, baseBackoff, maxBackoff, retryBudgetRatio, retryBudgetBurst);
+    }
+
+    /**
+     * Returns a copy of this policy which never hedges, only retrying reads that fail.
+     *
+     * @return a new {@link RetryPolicy}
+     */
+    public RetryPolicy withoutHedging()
+    {
+        return new RetryPolicy(maxAttempts, 0, minHedgeDelay, baseBackoff, maxBackoff, retryBudgetRatio, retryBudgetBurst);
+    }
+
+    /**
+     * Returns a copy of this policy backing off exponentially from the given base delay, doubling with each retry up to
+     * the maximum. Each retry waits a uniformly random time up to the backoff, so that clients retrying the same failure do
+     * not do so in step.
+     *
+     * @param baseBackoff the most a first retry waits
+     * @param maxBackoff  the most any retry waits
+     * @return a new {@link RetryPolicy}
+     */
+    public RetryPolicy withBackoff(final Duration baseBackoff, final Duration maxBackoff)
+    {
+        return new RetryPolicy(maxAttempts, hedgePercentile, minHedgeDelay, baseBackoff, maxBackoff, retryBudgetRatio, retryBudgetBurst);
+    }
+
+    /**
+     * Returns a copy of this policy with the given retry budget, which starts full.
+     *
+     * @param retryBudgetRatio the fraction of a hedge or retry each request earns
+     * @param retryBudgetBurst the most hedges and retries that may be saved up
+     * @return a new {@link RetryPolicy}
+     */
+    public RetryPolicy withRetryBudget(final double retryBudgetRatio, final int retryBudgetBurst)
+    {
+        return new RetryPolicy(maxAttempts, hedgePercentile, minHedgeDelay, baseBackoff, maxBackoff, retryBudgetRatio, retryBudgetBurst);
+    }
+
+    /**
+     * Returns the most requests sent for a single read.
+     *
+     * @return the maximum number of attempts
+     */
+    public int getMaxAttempts()
+    {
+        return maxAttempts;
+    }
+
+    /**
+     * Indicates whether reads are hedged.
+     *
+     * @return {@code true} if outstanding reads are hedged
+     */
+    public boolean isHedging()
+    {
+        return hedgePercentile > 0;
+    }
+
+    /**
+     * Returns the percentile of recent latencies after which a read is hedged.
+     *
+     * @return the hedge percentile, or zero if reads are not hedged
+     */
+    public double getHedgePercentile()
+    {
+        return hedgePercentile;
+    }
+
+    /**
+     * Returns the shortest time a read is outstanding before it is hedged.
+     *
+     * @return the minimum hedge delay
+     */
+    public Duration getMinHedgeDelay()
+    {
+        return minHedgeDelay;
+    }
+
+    /**
+     * Returns the most a first retry waits.
+     *
+     * @return the base backoff
+     */
+    public Duration getBaseBackoff()
+    {
+        return baseBackoff;
+    }
+
+    /**
+     * Returns the most any retry waits.
+     *
+     * @return the maximum backoff
+     */
+    public Duration getMaxBackoff()
+    {
+        return maxBackoff;
+    }
+
+    /**
+     * Returns the fraction of a hedge or retry each request earns.
+     *
+     * @return the retry budget ratio
+     */
+    public double getRetryBudgetRatio()
+    {
+        return retryBudgetRatio;
+    }
+
+    /**
+     * Returns the most hedges and retries that may be saved up.
+     *
+     * @return the retry budget burst
+     */
+    public int getRetryBudgetBurst()
+    {
+        return retryBudgetBurst;
+    }
+
+    @Override
+    public String toString()
+    {
+        return "RetryPolicy{" +
+                "maxAttempts=" + maxAttempts +
+                ", hedgePercentile=" + hedgePercentile +
+                ", minHedgeDelay=" + minHedgeDelay +
+                ", baseBackoff=" + baseBackoff +
+                ", maxBackoff=" + maxBackoff +
+                ", retryBudgetRatio=" + retryBudgetRatio +
+                ", retryBudgetBurst=" + retryBudgetBurst +
+                '}';
+    }
+}
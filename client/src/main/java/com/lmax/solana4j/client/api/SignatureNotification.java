@@ -0,0 +1,14 @@
+package com.lmax.solana4j.client.api;
+
+/**
+ * Represents the outcome of a transaction signature pushed by a {@code signatureSubscribe} subscription.
+ */
+public interface SignatureNotification
+{
+    /**
+     * Returns the error information, if any, for the transaction.
+     *
+     * @return an object representing the error, or {@code null} if the transaction succeeded
+     */
+    Object getErr();
+}
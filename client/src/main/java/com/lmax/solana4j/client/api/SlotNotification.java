@@ -0,0 +1,28 @@
+package com.lmax.solana4j.client.api;
+
+/**
+ * Represents a slot processed by the validator, pushed by a {@code slotSubscribe} subscription.
+ */
+public interface SlotNotification
+{
+    /**
+     * Returns the slot that was processed.
+     *
+     * @return the slot number
+     */
+    long getSlot();
+
+    /**
+     * Returns the parent of the processed slot.
+     *
+     * @return the parent slot number
+     */
+    long getParent();
+
+    /**
+     * Returns the current root slot.
+     *
+     * @return the root slot number
+     */
+    long getRoot();
+}
@@ -2,6 +2,8 @@ package com.lmax.solana4j.client.api;
 
 import com.lmax.solana4j.client.jsonrpc.SolanaJsonRpcClientException;
 
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
@@ -127,6 +129,48 @@ public interface SolanaApi
      */
     SolanaClientResponse<AccountInfo> getAccountInfo(String address, SolanaClientOptionalParams optionalParams) throws SolanaJsonRpcClientException;
 
+    /**
+     * Returns the account information for each of the specified addresses with default optional parameters.
+     * Requests for more than 100 addresses are split into several JSON-RPC calls sent together in a single batch.
+     * Account data is always requested base64 encoded and is available decoded through {@link AccountInfo.AccountInfoData#getAccountInfoBytes()}.
+     * The default implementation requests each account in turn with {@code getAccountInfo}.
+     *
+     * @param addresses the base58-encoded public keys of the accounts
+     * @return a {@link SolanaClientResponse} containing the {@link AccountInfo} of each account in address order, with null for accounts that do not exist
+     * @throws SolanaJsonRpcClientException if there is an error with the JSON-RPC request
+     */
+    default SolanaClientResponse<List<AccountInfo>> getMultipleAccounts(final List<String> addresses) throws SolanaJsonRpcClientException
+    {
+        return getMultipleAccounts(addresses, base64Params(Map.of()));
+    }
+
+    /**
+     * Returns the account information for each of the specified addresses with optional parameters.
+     * Requests for more than 100 addresses are split into several JSON-RPC calls sent together in a single batch.
+     * Account data is always requested base64 encoded and is available decoded through {@link AccountInfo.AccountInfoData#getAccountInfoBytes()}.
+     * The default implementation requests each account in turn with {@code getAccountInfo}.
+     *
+     * @param addresses the base58-encoded public keys of the accounts
+     * @param optionalParams  a map of optional parameters to customize the request, such as `commitment` and `dataSlice`
+     * @return a {@link SolanaClientResponse} containing the {@link AccountInfo} of each account in address order, with null for accounts that do not exist
+     * @throws SolanaJsonRpcClientException if there is an error with the JSON-RPC request
+     */
+    default SolanaClientResponse<List<AccountInfo>> getMultipleAccounts(final List<String> addresses, final SolanaClientOptionalParams optionalParams) throws SolanaJsonRpcClientException
+    {
+        final SolanaClientOptionalParams base64Params = base64Params(optionalParams.getParams());
+        final List<AccountInfo> accounts = new ArrayList<>(addresses.size());
+        for (final String address : addresses)
+        {
+            final SolanaClientResponse<AccountInfo> response = getAccountInfo(address, base64Params);
+            if (!response.isSuccess())
+            {
+                return multipleAccountsResponse(null, response.getError());
+            }
+            accounts.add(response.getResponse());
+        }
+        return multipleAccountsResponse(accounts, null);
+    }
+
     /**
      * Returns the current block height of the blockchain with default optional parameters.
      *
@@ -307,4 +351,55 @@ public interface SolanaApi
      * @throws SolanaJsonRpcClientException if there is an error with the JSON-RPC request
      */
     SolanaClientResponse<SolanaVersion> getVersion() throws SolanaJsonRpcClientException;
-}
\ No newline at end of file
+
+    /**
+     * Creates a new batch of calls that are sent to the node as a single JSON-RPC batch request.
+     *
+     * @return a new, empty {@link SolanaBatch}
+     */
+    SolanaBatch batch();
+
+    private static SolanaClientOptionalParams base64Params(final Map<String, Object> params)
+    {
+        final Map<String, Object> base64Params = new HashMap<>(params);
+        base64Params.put("encoding", "base64");
+        return new SolanaClientOptionalParams()
+        {
+            @Override
+            public void addParam(final String key, final Object value)
+            {
+                base64Params.put(key, value);
+            }
+
+            @Override
+            public Map<String, Object> getParams()
+            {
+                return base64Params;
+            }
+        };
+    }
+
+    private static SolanaClientResponse<List<AccountInfo>> multipleAccountsResponse(final List<AccountInfo> accounts, final SolanaClientResponse.SolanaClientError error)
+    {
+        return new SolanaClientResponse<>()
+        {
+            @Override
+            public List<AccountInfo> getResponse()
+            {
+                return accounts;
+            }
+
+            @Override
+            public SolanaClientError getError()
+            {
+                return error;
+            }
+
+            @Override
+            public boolean isSuccess()
+            {
+                return error == null;
+            }
+        };
+    }
+}
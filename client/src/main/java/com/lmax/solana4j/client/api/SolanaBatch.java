@@ -0,0 +1,343 @@
+package com.lmax.solana4j.client.api;
+
+import com.lmax.solana4j.client.jsonrpc.SolanaJsonRpcClientException;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Collects typed calls to a solana node and dispatches them together as a single JSON-RPC batch request.
+ * <p>
+ * Each method queues a call and returns a {@link Call} handle. Once {@link #execute()} has returned, every handle
+ * holds the {@link SolanaClientResponse} that the node returned for that call, matched by request id. A batch
+ * can only be executed once.
+ * </p>
+ */
+public interface SolanaBatch
+{
+    /**
+     * Sends a transaction to the blockchain with default optional parameters.
+     *
+     * @param transactionBlob the base64-encoded string representing the transaction
+     * @return a {@link Call} that, once the batch is executed, holds a {@link SolanaClientResponse} containing the signature of the transaction as a base58-encoded string
+     */
+    Call<String> sendTransaction(String transactionBlob);
+
+    /**
+     * Sends a transaction to the blockchain with optional parameters.
+     *
+     * @param transactionBlob the base64-encoded string representing the transaction
+     * @param optionalParams  a map of optional parameters to customize the request,
+     *                        such as `skipPreflight`, `preflightCommitment`, `maxRetries`, `encoding` and `minContextSlot`
+     * @return a {@link Call} that, once the batch is executed, holds a {@link SolanaClientResponse} containing the signature of the transaction as a base58-encoded string
+     */
+    Call<String> sendTransaction(String transactionBlob, SolanaClientOptionalParams optionalParams);
+
+    /**
+     * Returns the transaction response for a given transaction signature with default optional parameters.
+     *
+     * @param transactionSignature the base58-encoded signature of the transaction
+     * @return a {@link Call} that, once the batch is executed, holds a {@link SolanaClientResponse} containing the {@link TransactionResponse}
+     */
+    Call<TransactionResponse> getTransaction(String transactionSignature);
+
+    /**
+     * Returns the transaction response for a given transaction signature with optional parameters.
+     *
+     * @param transactionSignature the base58-encoded signature of the transaction
+     * @param optionalParams  a map of optional parameters to customize the request such as `commitment`, `maxSupportedTransactionVersion` and `encoding`
+     * @return a {@link Call} that, once the batch is executed, holds a {@link SolanaClientResponse} containing the {@link TransactionResponse}
+     */
+    Call<TransactionResponse> getTransaction(String transactionSignature, SolanaClientOptionalParams optionalParams);
+
+    /**
+     * Requests an airdrop of lamports to the specified address with default optional parameters.
+     *
+     * @param address        the base58-encoded public key of the recipient account
+     * @param amountLamports the amount of lamports to be airdropped
+     * @return a {@link Call} that, once the batch is executed, holds a {@link SolanaClientResponse} containing the transaction signature as a base58-encoded string
+     */
+    Call<String> requestAirdrop(String address, long amountLamports);
+
+    /**
+     * Requests an airdrop of lamports to the specified address with optional parameters.
+     *
+     * @param address        the base58-encoded public key of the recipient account
+     * @param amountLamports the amount of lamports to be airdropped
+     * @param optionalParams  a map of optional parameters to customize the request, such as `commitment`
+     * @return a {@link Call} that, once the batch is executed, holds a {@link SolanaClientResponse} containing the transaction signature as a base58-encoded string
+     */
+    Call<String> requestAirdrop(String address, long amountLamports, SolanaClientOptionalParams optionalParams);
+
+    /**
+     * Returns the balance of an account in lamports with default optional parameters.
+     *
+     * @param address the base58-encoded public key of the account.
+     * @return a {@link Call} that, once the batch is executed, holds a {@link SolanaClientResponse} containing the balance of the account in lamports
+     */
+    Call<Long> getBalance(String address);
+
+    /**
+     * Returns the balance of an account in lamports with optional parameters.
+     *
+     * @param address        the base58-encoded public key of the account
+     * @param optionalParams  a map of optional parameters to customize the request, such as `commitment` and `minContextSlot`
+     * @return a {@link Call} that, once the batch is executed, holds a {@link SolanaClientResponse} containing the balance of the account in lamports
+     */
+    Call<Long> getBalance(String address, SolanaClientOptionalParams optionalParams);
+
+    /**
+     * Returns the token account balance of an spl token account with default optional parameters.
+     *
+     * @param address the base58-encoded public key of the token account
+     * @return a {@link Call} that, once the batch is executed, holds a {@link SolanaClientResponse} containing the {@link TokenAmount} representing the token balance of the account
+     */
+    Call<TokenAmount> getTokenAccountBalance(String address);
+
+    /**
+     * Returns the token account balance of an spl token account with optional parameters.
+     *
+     * @param address        the base58-encoded public key of the token account
+     * @param optionalParams  a map of optional parameters to customize the request, such as `commitment`
+     * @return a {@link Call} that, once the batch is executed, holds a {@link SolanaClientResponse} containing the {@link TokenAmount} representing the token balance of the account
+     */
+    Call<TokenAmount> getTokenAccountBalance(String address, SolanaClientOptionalParams optionalParams);
+
+    /**
+     * Returns the account information at the specified address with default optional parameters.
+     *
+     * @param address the base58-encoded public key of the account
+     * @return a {@link Call} that, once the batch is executed, holds a {@link SolanaClientResponse} containing the {@link AccountInfo} representing information about the account
+     */
+    Call<AccountInfo> getAccountInfo(String address);
+
+    /**
+     * Returns the account information for the specified address with optional parameters.
+     *
+     * @param address the base58-encoded public key of the account
+     * @param optionalParams  a map of optional parameters to customize the request, such as `commitment` and `encoding`
+     * @return a {@link Call} that, once the batch is executed, holds a {@link SolanaClientResponse} containing the {@link AccountInfo} representing information about the account
+     */
+    Call<AccountInfo> getAccountInfo(String address, SolanaClientOptionalParams optionalParams);
+
+    /**
+     * Returns the account information for each of the specified addresses with default optional parameters.
+     * A single call accepts at most 100 addresses.
+     * Account data is always requested base64 encoded and is available decoded through {@link AccountInfo.AccountInfoData#getAccountInfoBytes()}.
+     *
+     * @param addresses the base58-encoded public keys of the accounts, at most 100
+     * @return a {@link Call} that, once the batch is executed, holds a {@link SolanaClientResponse} containing the {@link AccountInfo} of each account in address order, with null for accounts that do not exist
+     * @throws IllegalArgumentException if more than 100 addresses are supplied
+     */
+    Call<List<AccountInfo>> getMultipleAccounts(List<String> addresses);
+
+    /**
+     * Returns the account information for each of the specified addresses with optional parameters.
+     * A single call accepts at most 100 addresses.
+     * Account data is always requested base64 encoded and is available decoded through {@link AccountInfo.AccountInfoData#getAccountInfoBytes()}.
+     *
+     * @param addresses the base58-encoded public keys of the accounts, at most 100
+     * @param optionalParams  a map of optional parameters to customize the request, such as `commitment` and `dataSlice`
+     * @return a {@link Call} that, once the batch is executed, holds a {@link SolanaClientResponse} containing the {@link AccountInfo} of each account in address order, with null for accounts that do not exist
+     * @throws IllegalArgumentException if more than 100 addresses are supplied
+     */
+    Call<List<AccountInfo>> getMultipleAccounts(List<String> addresses, SolanaClientOptionalParams optionalParams);
+
+    /**
+     * Returns the current block height of the blockchain with default optional parameters.
+     *
+     * @return a {@link Call} that, once the batch is executed, holds a {@link SolanaClientResponse} containing the current block height
+     */
+    Call<Long> getBlockHeight();
+
+    /**
+     * Returns the current block height with optional parameters.
+     *
+     * @param optionalParams  a map of optional parameters to customize the request, such as `commitment` and `minContextSlot`
+     * @return a {@link Call} that, once the batch is executed, holds a {@link SolanaClientResponse} containing the current block height
+     */
+    Call<Long> getBlockHeight(SolanaClientOptionalParams optionalParams);
+
+    /**
+     * Returns the current slot number with default optional parameters.
+     *
+     * @return a {@link Call} that, once the batch is executed, holds a {@link SolanaClientResponse} containing the current slot number
+     */
+    Call<Long> getSlot();
+
+    /**
+     * Returns the current slot number with optional parameters.
+     *
+     * @param optionalParams  a map of optional parameters to customize the request, such as `commitment`, and `minContextSlot`
+     * @return a {@link Call} that, once the batch is executed, holds a {@link SolanaClientResponse} containing the current slot number
+     */
+    Call<Long> getSlot(SolanaClientOptionalParams optionalParams);
+
+    /**
+     * Retrieves the most recent blockhash with default optional parameters.
+     *
+     * @return a {@link Call} that, once the batch is executed, holds a {@link SolanaClientResponse} containing the {@link Blockhash} representing the most recent blockhash
+     */
+    Call<Blockhash> getLatestBlockhash();
+
+    /**
+     * Returns the most recent blockhash with optional parameters.
+     *
+     * @param optionalParams  a map of optional parameters to customize the request, such as `commitment` and `minContextSlot`
+     * @return a {@link Call} that, once the batch is executed, holds a {@link SolanaClientResponse} containing the {@link Blockhash} representing the most recent blockhash
+     */
+    Call<Blockhash> getLatestBlockhash(SolanaClientOptionalParams optionalParams);
+
+    /**
+     * Returns the minimum balance required for rent exemption for an account of the given size, with default optional parameters.
+     * This is the minimum balance needed to ensure the account is rent-exempt.
+     *
+     * @param size the size of the account in bytes
+     * @return a {@link Call} that, once the batch is executed, holds a {@link SolanaClientResponse} containing the minimum balance in lamports for rent exemption
+     */
+    Call<Long> getMinimumBalanceForRentExemption(int size);
+
+    /**
+     * Returns the minimum balance required for rent exemption for an account of the given size, with optional parameters.
+     * This is the minimum balance needed to ensure the account is rent-exempt.
+     *
+     * @param size           the size of the account in bytes
+     * @param optionalParams  a map of optional parameters to customize the request, such as `commitment`
+     * @return a {@link Call} that, once the batch is executed, holds a {@link SolanaClientResponse} containing the minimum balance in lamports for rent exemption
+     */
+    Call<Long> getMinimumBalanceForRentExemption(int size, SolanaClientOptionalParams optionalParams);
+
+    /**
+     * Returns the lowest slot that the node has information about in its ledger.
+     *
+     * @return a {@link Call} that, once the batch is executed, holds a {@link SolanaClientResponse} containing the minimum slot as a long
+     */
+    Call<Long> minimumLedgerSlot();
+
+    /**
+     * Returns the current health of the node.
+     *
+     * @return a {@link Call} that, once the batch is executed, holds a {@link SolanaClientResponse} containing the health status as a string
+     */
+    Call<String> getHealth();
+
+    /**
+     * Returns a list of transaction signatures for the specified address, with default optional parameters.
+     *
+     * @param address the base58-encoded public key of the address
+     * @return a {@link Call} that, once the batch is executed, holds a {@link SolanaClientResponse} containing a list of {@link SignatureForAddress} objects enumerating signatures relating to the address
+     */
+    Call<List<SignatureForAddress>> getSignaturesForAddress(String address);
+
+    /**
+     * Retrieves a list of transaction signatures for a specified address, with optional parameters.
+     *
+     * @param address  the base58-encoded public key of the address
+     * @param optionalParams  a map of optional parameters to customize the request, such as `commitment`, `minContextSlot`, `limit`
+     *                        `before` and `until`
+     * @return a {@link Call} that, once the batch is executed, holds a {@link SolanaClientResponse} containing a list of {@link SignatureForAddress} objects enumerating signatures relating to the address
+     */
+    Call<List<SignatureForAddress>> getSignaturesForAddress(String address, SolanaClientOptionalParams optionalParams);
+
+    /**
+     * Retrieves the statuses of one or more transaction signatures, with default optional parameters.
+     *
+     * @param transactionSignatures a list of base58-encoded transaction signatures.
+     * @return a {@link Call} that, once the batch is executed, holds a {@link SolanaClientResponse} containing a list of {@link SignatureStatus} objects detailing the signature statuses
+     */
+    Call<List<SignatureStatus>> getSignatureStatuses(List<String> transactionSignatures);
+
+    /**
+     * Retrieves the statuses of one or more transaction signatures, with optional parameters.
+     * Allows for additional filters or customizations when querying transaction statuses.
+     *
+     * @param transactionSignatures a list of base58-encoded transaction signatures.
+     * @param optionalParams  a map of optional parameters to customize the request, such as `searchTransactionHistory`
+     * @return a {@link Call} that, once the batch is executed, holds a {@link SolanaClientResponse} containing a list of {@link SignatureStatus} objects detailing the signature statuses
+     */
+    Call<List<SignatureStatus>> getSignatureStatuses(List<String> transactionSignatures, SolanaClientOptionalParams optionalParams);
+
+    /**
+     * Retrieves token accounts owned by a specific address, filtered by the token mint or program id, with default optional parameters.
+     *
+     * @param accountDelegate the base58-encoded public key of the account owner
+     * @param filter          a key-value pair specifying the filter criteria (e.g., token mint or program id)
+     * @return a {@link Call} that, once the batch is executed, holds a {@link SolanaClientResponse} containing a list of {@link TokenAccount} objects representing token accounts
+     */
+    Call<List<TokenAccount>> getTokenAccountsByOwner(String accountDelegate, Map.Entry<String, String> filter);
+
+    /**
+     * Retrieves token accounts owned by a specific address, filtered by the token mint or program id, with default optional parameters.
+     *
+     * @param accountDelegate the base58-encoded public key of the account owner.
+     * @param filter          a key-value pair specifying the filter criteria (e.g., token mint or program id)
+     * @param optionalParams  a map of optional parameters to customize the request, such as `commitment`, `minContextSlot` and `dataSlice`
+     * @return a {@link Call} that, once the batch is executed, holds a {@link SolanaClientResponse} containing a list of {@link TokenAccount} objects representing token accounts
+     */
+    Call<List<TokenAccount>> getTokenAccountsByOwner(
+            String accountDelegate,
+            Map.Entry<String, String> filter,
+            SolanaClientOptionalParams optionalParams);
+
+    /**
+     * Simulates a transaction without broadcasting it to the blockchain, with default optional parameters.
+     *
+     * @param transaction the base64-encoded string representing the transaction
+     * @return a {@link Call} that, once the batch is executed, holds a {@link SolanaClientResponse} containing a {@link SimulateTransactionResponse} object with details of the simulation
+     */
+    Call<SimulateTransactionResponse> simulateTransaction(String transaction);
+
+    /**
+     * Simulates a transaction without broadcasting it to the blockchain, with optional parameters.
+     * This allows for additional customizations, such as setting the commitment level or enabling signature verification.
+     *
+     * @param transaction    the base64-encoded string representing the transaction
+     * @param optionalParams  a map of optional parameters to customize the request, such as `commitment`, `sigVerify`, `replaceRecentBlockhash`,
+     *                        `minContextSlot`, `encoding`, `innerInstructions` and `accounts`
+     * @return a {@link Call} that, once the batch is executed, holds a {@link SolanaClientResponse} containing a {@link SimulateTransactionResponse} object with details of the simulation
+     */
+    Call<SimulateTransactionResponse> simulateTransaction(String transaction, SolanaClientOptionalParams optionalParams);
+
+    /**
+     * Retrieve the current version of Solana Core and supported Feature Set from the node.
+     *
+     * @return a {@link Call} that, once the batch is executed, holds a {@link SolanaClientResponse} containing a {@link SimulateTransactionResponse} object with the version and feature set
+     */
+    Call<SolanaVersion> getVersion();
+
+    /**
+     * Returns the number of calls queued in this batch.
+     *
+     * @return the number of queued calls
+     */
+    int size();
+
+    /**
+     * Sends all queued calls to the node in a single JSON-RPC batch request and completes each {@link Call}
+     * with its response. Executing an empty batch is a no-op. Every call is completed before an exception is thrown, those
+     * left without a response holding the failure instead.
+     *
+     * @throws SolanaJsonRpcClientException if there is an error with the JSON-RPC batch request as a whole, or a call's
+     *                                      response is missing or cannot be mapped
+     * @throws IllegalStateException        if the batch has already been executed
+     */
+    void execute() throws SolanaJsonRpcClientException;
+
+    /**
+     * A handle to the response of a single call within a {@link SolanaBatch}.
+     *
+     * @param <T> the type of the successful response payload
+     */
+    interface Call<T>
+    {
+        /**
+         * Returns the response to this call.
+         *
+         * @return the {@link SolanaClientResponse} returned by the node for this call
+         * @throws IllegalStateException if the batch containing this call has not yet been executed, or failed without a
+         *                               response to this call, in which case the {@link SolanaJsonRpcClientException}
+         *                               is its cause
+         */
+        SolanaClientResponse<T> getResponse();
+    }
+}
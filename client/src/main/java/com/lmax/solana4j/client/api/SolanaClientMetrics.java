@@ -0,0 +1,77 @@
+package com.lmax.solana4j.client.api;
+
+/**
+ * Receives the measurements of every JSON-RPC call made by a client, for recording in whatever metrics system is in use.
+ * <p>
+ * {@link #recordCall} is invoked on the thread completing the call, once for every call, so implementations should record
+ * without blocking or allocating. Every argument is either a primitive or a string the client already holds. An exception
+ * thrown by an implementation is ignored, so that recording can never fail a call.
+ * </p>
+ */
+public interface SolanaClientMetrics
+{
+    /**
+     * An implementation that records nothing.
+     */
+    SolanaClientMetrics NONE = (endpoint, method, outcome, code, encodeNanos, httpNanos, decodeNanos, requestBytes, responseBytes) ->
+    {
+    };
+
+    /**
+     * Records the measurements of a single call.
+     *
+     * @param endpoint      the url of the node the call was sent to
+     * @param method        the name of the JSON-RPC method, or {@code batch} for a batch request
+     * @param outcome       how the call ended
+     * @param code          the JSON-RPC error code of an {@link Outcome#ERROR_RESPONSE}, the HTTP status of an
+     *                      {@link Outcome#HTTP_STATUS}, otherwise zero
+     * @param encodeNanos   the time taken to encode the request
+     * @param httpNanos     the time from sending the request to receiving the response headers, or the whole response
+     *                      when the client buffers it
+     * @param decodeNanos   the time taken to decode the response, including reading it from the connection when the
+     *                      client streams it
+     * @param requestBytes  the size of the encoded request
+     * @param responseBytes the size of the response body read, or zero if none was read
+     */
+    void recordCall(
+            String endpoint,
+            String method,
+            Outcome outcome,
+            int code,
+            long encodeNanos,
+            long httpNanos,
+            long decodeNanos,
+            long requestBytes,
+            long responseBytes);
+
+    /**
+     * How a JSON-RPC call ended.
+     */
+    enum Outcome
+    {
+        /**
+         * The node returned a result.
+         */
+        SUCCESS,
+
+        /**
+         * The node returned a JSON-RPC error.
+         */
+        ERROR_RESPONSE,
+
+        /**
+         * The node returned an HTTP status other than 200.
+         */
+        HTTP_STATUS,
+
+        /**
+         * The request could not be sent or the response could not be read.
+         */
+        IO_FAILURE,
+
+        /**
+         * The request could not be encoded or the response could not be decoded.
+         */
+        CODEC_FAILURE
+    }
+}
@@ -0,0 +1,107 @@
+package com.lmax.solana4j.client.api;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
+
+/**
+ * Interface for receiving notifications pushed by a solana node over a single websocket connection.
+ * All subscriptions are multiplexed on the one connection; if the connection drops it is re-established
+ * and every live subscription is automatically re-subscribed.
+ * Listeners are invoked on the websocket's receiving thread and should hand off any lengthy work.
+ */
+public interface SolanaSubscriptionClient extends AutoCloseable
+{
+    /**
+     * Subscribes to the outcome of the transaction with the given signature at the default `finalized` commitment.
+     * The node sends a single notification once the transaction reaches the commitment, after which the subscription ends.
+     *
+     * @param transactionSignature the base58-encoded transaction signature
+     * @param listener             the listener to notify with the outcome of the transaction
+     * @return a {@link CompletableFuture} completing with the {@link Subscription} once the node has accepted it
+     */
+    CompletableFuture<Subscription> signatureSubscribe(String transactionSignature, Consumer<SolanaRpcResponse<SignatureNotification>> listener);
+
+    /**
+     * Subscribes to the outcome of the transaction with the given signature with optional parameters.
+     * The node sends a single notification once the transaction reaches the commitment, after which the subscription ends.
+     *
+     * @param transactionSignature the base58-encoded transaction signature
+     * @param optionalParams       a map of optional parameters to customize the subscription, such as `commitment`
+     * @param listener             the listener to notify with the outcome of the transaction
+     * @return a {@link CompletableFuture} completing with the {@link Subscription} once the node has accepted it
+     */
+    CompletableFuture<Subscription> signatureSubscribe(
+            String transactionSignature,
+            SolanaClientOptionalParams optionalParams,
+            Consumer<SolanaRpcResponse<SignatureNotification>> listener);
+
+    /**
+     * Subscribes to changes of the account at the given address at the default `finalized` commitment, with the data base64 encoded.
+     *
+     * @param address  the base58-encoded public key of the account
+     * @param listener the listener to notify with the {@link AccountInfo} each time the account changes
+     * @return a {@link CompletableFuture} completing with the {@link Subscription} once the node has accepted it
+     */
+    CompletableFuture<Subscription> accountSubscribe(String address, Consumer<SolanaRpcResponse<AccountInfo>> listener);
+
+    /**
+     * Subscribes to changes of the account at the given address with optional parameters.
+     *
+     * @param address        the base58-encoded public key of the account
+     * @param optionalParams a map of optional parameters to customize the subscription, such as `commitment` and `encoding`
+     * @param listener       the listener to notify with the {@link AccountInfo} each time the account changes
+     * @return a {@link CompletableFuture} completing with the {@link Subscription} once the node has accepted it
+     */
+    CompletableFuture<Subscription> accountSubscribe(
+            String address,
+            SolanaClientOptionalParams optionalParams,
+            Consumer<SolanaRpcResponse<AccountInfo>> listener);
+
+    /**
+     * Subscribes to every slot processed by the validator.
+     *
+     * @param listener the listener to notify with each processed slot
+     * @return a {@link CompletableFuture} completing with the {@link Subscription} once the node has accepted it
+     */
+    CompletableFuture<Subscription> slotSubscribe(Consumer<SlotNotification> listener);
+
+    /**
+     * Subscribes to the logs of every transaction that mentions the given address, at the default `finalized` commitment.
+     *
+     * @param mentionedAddress the base58-encoded public key that transactions must mention
+     * @param listener         the listener to notify with the logs of each matching transaction
+     * @return a {@link CompletableFuture} completing with the {@link Subscription} once the node has accepted it
+     */
+    CompletableFuture<Subscription> logsSubscribe(String mentionedAddress, Consumer<SolanaRpcResponse<LogsNotification>> listener);
+
+    /**
+     * Subscribes to the logs of every transaction that mentions the given address, with optional parameters.
+     *
+     * @param mentionedAddress the base58-encoded public key that transactions must mention
+     * @param optionalParams   a map of optional parameters to customize the subscription, such as `commitment`
+     * @param listener         the listener to notify with the logs of each matching transaction
+     * @return a {@link CompletableFuture} completing with the {@link Subscription} once the node has accepted it
+     */
+    CompletableFuture<Subscription> logsSubscribe(
+            String mentionedAddress,
+            SolanaClientOptionalParams optionalParams,
+            Consumer<SolanaRpcResponse<LogsNotification>> listener);
+
+    /**
+     * Closes the websocket connection, ending all subscriptions. No reconnection is attempted after closing.
+     */
+    @Override
+    void close();
+
+    /**
+     * A live subscription on the node.
+     */
+    interface Subscription
+    {
+        /**
+         * Stops notifications for this subscription and, if still connected, unsubscribes from the node.
+         * It is safe to call this more than once.
+         */
+        void unsubscribe();
+    }
+}
@@ -3,15 +3,17 @@ package com.lmax.solana4j.client.jsonrpc;
 import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.databind.DeserializationContext;
 import com.fasterxml.jackson.databind.JsonDeserializer;
-import com.fasterxml.jackson.databind.JsonNode;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
 import com.lmax.solana4j.client.api.AccountInfo;
 import com.lmax.solana4j.client.api.SolanaRpcResponse;
 
 import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Base64;
 import java.util.List;
 import java.util.Map;
 
@@ -129,8 +131,11 @@ final class AccountInfoDTO implements SolanaRpcResponse<AccountInfo>
     @JsonDeserialize(using = AccountInfoDataDTO.AccountInfoDataDeserializer.class)
     static final class AccountInfoDataDTO implements AccountInfo.AccountInfoData
     {
+        static final String BASE64_ENCODING = "base64";
+
         private final List<String> accountInfoEncoded;
         private final AccountInfoParsedData accountInfoParsed;
+        private byte[] accountInfoBytes;
 
         AccountInfoDataDTO(final List<String> accountInfoEncoded, final AccountInfoParsedDataDTO accountInfoParsed)
         {
@@ -144,6 +149,20 @@ final class AccountInfoDTO implements SolanaRpcResponse<AccountInfo>
             return accountInfoEncoded;
         }
 
+        @Override
+        public ByteBuffer getAccountInfoBytes()
+        {
+            if (accountInfoBytes == null)
+            {
+                if (accountInfoEncoded == null || accountInfoEncoded.size() != 2 || !BASE64_ENCODING.equals(accountInfoEncoded.get(1)))
+                {
+                    return null;
+                }
+                accountInfoBytes = Base64.getDecoder().decode(accountInfoEncoded.get(0));
+            }
+            return ByteBuffer.wrap(accountInfoBytes).asReadOnlyBuffer();
+        }
+
         @Override
         public AccountInfoParsedData getAccountInfoParsed()
         {
@@ -155,18 +174,19 @@ final class AccountInfoDTO implements SolanaRpcResponse<AccountInfo>
             @Override
             public AccountInfo.AccountInfoData deserialize(final JsonParser parser, final DeserializationContext ctxt) throws IOException
             {
-                final ObjectMapper mapper = (ObjectMapper) parser.getCodec();
-                final JsonNode node = mapper.readTree(parser);
-
-                if (node.isArray())
+                // stream the tokens straight into the result rather than materialising an intermediate tree
+                if (parser.isExpectedStartArrayToken())
                 {
-                    final List<String> accountInfoEncoded = mapper.convertValue(node, mapper.getTypeFactory().constructCollectionType(List.class, String.class));
+                    final List<String> accountInfoEncoded = new ArrayList<>(2);
+                    while (parser.nextToken() != JsonToken.END_ARRAY)
+                    {
+                        accountInfoEncoded.add(parser.getValueAsString());
+                    }
                     return new AccountInfoDataDTO(accountInfoEncoded, null);
                 }
-                else if (node.isObject())
+                else if (parser.isExpectedStartObjectToken())
                 {
-                    final AccountInfoParsedDataDTO accountInfoParsedData = mapper.convertValue(node, AccountInfoParsedDataDTO.class);
-                    return new AccountInfoDataDTO(null, accountInfoParsedData);
+                    return new AccountInfoDataDTO(null, ctxt.readValue(parser, AccountInfoParsedDataDTO.class));
                 }
                 throw new IOException("Unable to deserialize Transaction Data.");
             }
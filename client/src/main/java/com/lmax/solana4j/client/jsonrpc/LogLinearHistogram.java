@@ -0,0 +1,110 @@
+package com.lmax.solana4j.client.jsonrpc;
+
+import com.lmax.solana4j.client.api.Histogram;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A fixed size histogram of non-negative longs in the style of HdrHistogram, recording without allocating or locking.
+ * <p>
+ * Values below {@value #SUB_BUCKETS} are counted exactly. Larger values are counted in buckets splitting each power of two
+ * into {@value #SUB_BUCKETS} equal parts, so every value is reported to within one part in {@value #SUB_BUCKETS} across the
+ * whole range of a long in under a thousand counters.
+ * </p>
+ */
+final class LogLinearHistogram implements Histogram
+{
+    private static final int SUB_BUCKET_BITS = 4;
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+    private static final int BUCKETS = (Long.SIZE - SUB_BUCKET_BITS) * SUB_BUCKETS;
+
+    private final AtomicLongArray counts = new AtomicLongArray(BUCKETS);
+    private final LongAdder count = new LongAdder();
+    private final LongAdder sum = new LongAdder();
+    private final LongAccumulator max = new LongAccumulator(Math::max, 0);
+
+    void record(final long value)
+    {
+        final long clamped = Math.max(0, value);
+        counts.incrementAndGet(indexOf(clamped));
+        count.increment();
+        sum.add(clamped);
+        max.accumulate(clamped);
+    }
+
+    @Override
+    public long getCount()
+    {
+        return count.sum();
+    }
+
+    @Override
+    public long getMax()
+    {
+        return max.get();
+    }
+
+    @Override
+    public double getMean()
+    {
+        final long total = count.sum();
+        return total == 0 ? 0 : (double) sum.sum() / total;
+    }
+
+    @Override
+    public long getValueAtPercentile(final double percentile)
+    {
+        final long total = count.sum();
+        if (total == 0)
+        {
+            return 0;
+        }
+
+        final long wanted = Math.max(1, (long) Math.ceil(Math.min(1, Math.max(0, percentile)) * total));
+        long seen = 0;
+        for (int index = 0; index < BUCKETS; index++)
+        {
+            seen += counts.get(index);
+            if (seen >= wanted)
+            {
+                return Math.min(highestValueAt(index), getMax());
+            }
+        }
+        return getMax();
+    }
+
+    @Override
+    public String toString()
+    {
+        return "Histogram{" +
+                "count=" + getCount() +
+                ", mean=" + getMean() +
+                ", p50=" + getValueAtPercentile(0.5) +
+                ", p99=" + getValueAtPercentile(0.99) +
+                ", max=" + getMax() +
+                '}';
+    }
+
+    static int indexOf(final long value)
+    {
+        if (value < SUB_BUCKETS)
+        {
+            return (int) value;
+        }
+        final int shift = Long.SIZE - SUB_BUCKET_BITS - 1 - Long.numberOfLeadingZeros(value);
+        return (shift + 1) * SUB_BUCKETS + (int) (value >>> shift) - SUB_BUCKETS;
+    }
+
+    static long highestValueAt(final int index)
+    {
+        if (index < SUB_BUCKETS)
+        {
+            return index;
+        }
+        final int shift = index / SUB_BUCKETS - 1;
+        final long lowest = (long) (index % SUB_BUCKETS + SUB_BUCKETS) << shift;
+        return lowest + (1L << shift) - 1;
+    }
+}
@@ -0,0 +1,90 @@
+package com.lmax.solana4j.client.jsonrpc;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.lmax.solana4j.client.api.LogsNotification;
+import com.lmax.solana4j.client.api.SolanaRpcResponse;
+
+import java.util.List;
+
+final class LogsNotificationDTO implements SolanaRpcResponse<LogsNotification>
+{
+    private final ContextDTO context;
+    private final LogsNotificationValueDTO value;
+
+    @JsonCreator
+    LogsNotificationDTO(
+            final @JsonProperty("context") ContextDTO context,
+            final @JsonProperty("value") LogsNotificationValueDTO value)
+    {
+        this.context = context;
+        this.value = value;
+    }
+
+    @Override
+    public Context getContext()
+    {
+        return context;
+    }
+
+    @Override
+    public LogsNotification getValue()
+    {
+        return value;
+    }
+
+    @Override
+    public String toString()
+    {
+        return "LogsNotificationDTO{" +
+               "context=" + context +
+               ", value=" + value +
+               '}';
+    }
+
+    static final class LogsNotificationValueDTO implements LogsNotification
+    {
+        private final String signature;
+        private final Object err;
+        private final List<String> logs;
+
+        @JsonCreator
+        LogsNotificationValueDTO(
+                final @JsonProperty("signature") String signature,
+                final @JsonProperty("err") Object err,
+                final @JsonProperty("logs") List<String> logs)
+        {
+            this.signature = signature;
+            this.err = err;
+            this.logs = logs;
+        }
+
+        @Override
+        public String getSignature()
+        {
+            return signature;
+        }
+
+        @Override
+        public Object getErr()
+        {
+            return err;
+        }
+
+        @Override
+        public List<String> getLogs()
+        {
+            return logs;
+        }
+
+        @Override
+        public String toString()
+        {
+            return "LogsNotificationValueDTO{" +
+                   "signature='" + signature + '\'' +
+                   ", err=" + err +
+                   ", logs=" + logs +
+                   '}';
+        }
+    }
+}
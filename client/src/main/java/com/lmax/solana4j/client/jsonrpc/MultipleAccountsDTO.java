@@ -0,0 +1,191 @@
+package com.lmax.solana4j.client.jsonrpc;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import com.lmax.solana4j.client.api.AccountInfo;
+import com.lmax.solana4j.client.api.SolanaRpcResponse;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.Base64;
+import java.util.List;
+
+final class MultipleAccountsDTO implements SolanaRpcResponse<List<AccountInfo>>
+{
+    private final ContextDTO context;
+    private final List<MultipleAccountsValueDTO> value;
+
+    @JsonCreator
+    MultipleAccountsDTO(
+            final @JsonProperty("context") ContextDTO context,
+            final @JsonProperty("value") List<MultipleAccountsValueDTO> value)
+    {
+        this.context = context;
+        this.value = value;
+    }
+
+    @Override
+    public Context getContext()
+    {
+        return context;
+    }
+
+    @Override
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    public List<AccountInfo> getValue()
+    {
+        return (List) value;
+    }
+
+    @Override
+    public String toString()
+    {
+        return "MultipleAccountsDTO{" +
+               "context=" + context +
+               ", value=" + value +
+               '}';
+    }
+
+    static final class MultipleAccountsValueDTO implements AccountInfo
+    {
+        private final long lamports;
+        private final String owner;
+        private final AccountInfoData data;
+        private final boolean executable;
+        private final String rentEpoch;
+        private final int space;
+
+        @JsonCreator
+        MultipleAccountsValueDTO(
+                final @JsonProperty("lamports") long lamports,
+                final @JsonProperty("owner") String owner,
+                final @JsonProperty("data") Base64AccountInfoDataDTO data,
+                final @JsonProperty("executable") boolean executable,
+                final @JsonProperty("rentEpoch") String rentEpoch,
+                final @JsonProperty("space") int space)
+        {
+            this.lamports = lamports;
+            this.owner = owner;
+            this.data = data;
+            this.executable = executable;
+            this.rentEpoch = rentEpoch;
+            this.space = space;
+        }
+
+        @Override
+        public long getLamports()
+        {
+            return lamports;
+        }
+
+        @Override
+        public String getOwner()
+        {
+            return owner;
+        }
+
+        @Override
+        public AccountInfoData getData()
+        {
+            return data;
+        }
+
+        @Override
+        public boolean isExecutable()
+        {
+            return executable;
+        }
+
+        @Override
+        public String getRentEpoch()
+        {
+            return rentEpoch;
+        }
+
+        @Override
+        public long getSpace()
+        {
+            return space;
+        }
+
+        @Override
+        public String toString()
+        {
+            return "MultipleAccountsValueDTO{" +
+                    "lamports=" + lamports +
+                    ", owner='" + owner + '\'' +
+                    ", data=" + data +
+                    ", executable=" + executable +
+                    ", rentEpoch='" + rentEpoch + '\'' +
+                    ", space=" + space +
+                    '}';
+        }
+    }
+
+    // getMultipleAccounts always requests base64, so the payload is decoded straight from the parser's buffer without an intermediate String
+    @JsonDeserialize(using = Base64AccountInfoDataDTO.Base64AccountInfoDataDeserializer.class)
+    static final class Base64AccountInfoDataDTO implements AccountInfo.AccountInfoData
+    {
+        private final byte[] accountInfoBytes;
+
+        Base64AccountInfoDataDTO(final byte[] accountInfoBytes)
+        {
+            this.accountInfoBytes = accountInfoBytes;
+        }
+
+        @Override
+        public List<String> getAccountInfoEncoded()
+        {
+            return List.of(Base64.getEncoder().encodeToString(accountInfoBytes), AccountInfoDTO.AccountInfoDataDTO.BASE64_ENCODING);
+        }
+
+        @Override
+        public ByteBuffer getAccountInfoBytes()
+        {
+            return ByteBuffer.wrap(accountInfoBytes).asReadOnlyBuffer();
+        }
+
+        @Override
+        public AccountInfoParsedData getAccountInfoParsed()
+        {
+            return null;
+        }
+
+        @Override
+        public String toString()
+        {
+            return "Base64AccountInfoDataDTO{" +
+                    "accountInfoBytes=" + accountInfoBytes.length + " bytes" +
+                    '}';
+        }
+
+        public static class Base64AccountInfoDataDeserializer extends JsonDeserializer<Base64AccountInfoDataDTO>
+        {
+            @Override
+            public Base64AccountInfoDataDTO deserialize(final JsonParser parser, final DeserializationContext ctxt) throws IOException
+            {
+                if (!parser.isExpectedStartArrayToken() || parser.nextToken() != JsonToken.VALUE_STRING)
+                {
+                    throw new IOException("Unable to deserialize account data, expected a [data, encoding] array.");
+                }
+                final byte[] accountInfoBytes = parser.getBinaryValue();
+
+                if (parser.nextToken() != JsonToken.VALUE_STRING || !AccountInfoDTO.AccountInfoDataDTO.BASE64_ENCODING.equals(parser.getText()))
+                {
+                    throw new IOException("Unable to deserialize account data, only base64 encoded data is supported.");
+                }
+                if (parser.nextToken() != JsonToken.END_ARRAY)
+                {
+                    throw new IOException("Unable to deserialize account data, expected a [data, encoding] array.");
+                }
+
+                return new Base64AccountInfoDataDTO(accountInfoBytes);
+            }
+        }
+    }
+}
@@ -0,0 +1,62 @@
+package com.lmax.solana4j.client.jsonrpc;
+
+import com.lmax.solana4j.client.api.AccountInfo;
+import com.lmax.solana4j.client.api.SolanaClientResponse;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Splits getMultipleAccounts requests to fit within the node's per-request key limit and stitches the answers back together.
+ */
+final class MultipleAccountsRequest
+{
+    static final int MAX_ACCOUNTS_PER_REQUEST = 100;
+
+    private MultipleAccountsRequest()
+    {
+    }
+
+    static List<List<String>> partition(final List<String> addresses)
+    {
+        final List<List<String>> chunks = new ArrayList<>((addresses.size() + MAX_ACCOUNTS_PER_REQUEST - 1) / MAX_ACCOUNTS_PER_REQUEST);
+        for (int from = 0; from < addresses.size(); from += MAX_ACCOUNTS_PER_REQUEST)
+        {
+            chunks.add(addresses.subList(from, Math.min(from + MAX_ACCOUNTS_PER_REQUEST, addresses.size())));
+        }
+        return chunks;
+    }
+
+    static void checkChunkSize(final List<String> addresses)
+    {
+        if (addresses.size() > MAX_ACCOUNTS_PER_REQUEST)
+        {
+            throw new IllegalArgumentException(
+                    String.format("A single %s call accepts at most %s addresses but %s were supplied.", SolanaRpcMethod.GET_MULTIPLE_ACCOUNTS, MAX_ACCOUNTS_PER_REQUEST, addresses.size()));
+        }
+    }
+
+    static Map<String, Object> base64Params(final Map<String, Object> params)
+    {
+        // the account data is always decoded from base64, whatever encoding the caller asked for
+        final Map<String, Object> base64Params = new HashMap<>(params);
+        base64Params.put("encoding", AccountInfoDTO.AccountInfoDataDTO.BASE64_ENCODING);
+        return base64Params;
+    }
+
+    static SolanaClientResponse<List<AccountInfo>> merge(final List<SolanaClientResponse<List<AccountInfo>>> responses)
+    {
+        final List<AccountInfo> accounts = new ArrayList<>(responses.size() * MAX_ACCOUNTS_PER_REQUEST);
+        for (final SolanaClientResponse<List<AccountInfo>> response : responses)
+        {
+            if (!response.isSuccess())
+            {
+                return response;
+            }
+            accounts.addAll(response.getResponse());
+        }
+        return SolanaJsonRpcClientResponse.createSuccessResponse(accounts);
+    }
+}
@@ -0,0 +1,284 @@
+package com.lmax.solana4j.client.jsonrpc;
+
+import com.lmax.solana4j.client.api.RateLimitPolicy;
+
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.TreeSet;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Hands out the tokens of a {@link RateLimitPolicy} to blocked callers in order of priority, then arrival.
+ * <p>
+ * Buckets are refilled lazily whenever tokens are handed out, and every waiting caller sleeps only until the tokens it is
+ * waiting for should have been refilled, so no thread is needed to drive the schedule. A request held back only by its own
+ * method's limit does not hold up requests of other methods queued behind it, but a request waiting for tokens from the
+ * shared bucket does, so that a heavy request is never starved by lighter ones of lower priority. When the queue is full, the
+ * least urgent of the waiting requests, the newest of the lowest priority, is failed to make room for the new one.
+ * </p>
+ */
+final class RequestScheduler
+{
+    /**
+     * The order in which queued requests are sent.
+     */
+    enum Priority
+    {
+        HIGH, NORMAL, LOW
+    }
+
+    private static final Comparator<Ticket> QUEUE_ORDER = Comparator.<Ticket>comparingInt(ticket -> ticket.priority.ordinal())
+            .thenComparingLong(ticket -> ticket.sequence);
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition tokensHandedOut = lock.newCondition();
+    private final NavigableSet<Ticket> queue = new TreeSet<>(QUEUE_ORDER);
+    private final RateLimitPolicy policy;
+    private final Bucket shared;
+    private final Map<String, Bucket> methodBuckets = new HashMap<>();
+    private long nextSequence;
+
+    RequestScheduler(final RateLimitPolicy policy)
+    {
+        final long now = System.nanoTime();
+        this.policy = policy;
+        this.shared = new Bucket(policy.getRequestsPerSecond(), policy.getBurst(), now);
+        policy.getMethodLimits().forEach((method, requestsPerSecond) ->
+                methodBuckets.put(method, new Bucket(requestsPerSecond, Math.max(1, Math.ceil(requestsPerSecond)), now)));
+    }
+
+    /**
+     * Blocks until a request of the given method may be sent.
+     *
+     * @param method   the name of the JSON-RPC method
+     * @param weight   the number of shared tokens the request takes
+     * @param priority the priority of the request
+     * @throws SolanaJsonRpcClientException a recoverable exception if the queue is full or becomes full of more urgent
+     *                                      requests, the request waits for longer than the maximum queue time or the calling
+     *                                      thread is interrupted, and an exception that is not recoverable if the request
+     *                                      takes more tokens than can ever be saved up
+     */
+    void acquire(final String method, final int weight, final Priority priority) throws SolanaJsonRpcClientException
+    {
+        acquire(method, List.of(method), weight, priority);
+    }
+
+    /**
+     * Blocks until a request made up of calls of the given methods, such as a batch, may be sent. The request takes a token
+     * from the bucket of each call's method as well as its weight from the shared bucket.
+     *
+     * @param request  the name of the request, for the message of any exception
+     * @param methods  the names of the JSON-RPC methods called, once per call
+     * @param weight   the number of shared tokens the request takes
+     * @param priority the priority of the request
+     * @throws SolanaJsonRpcClientException as {@link #acquire(String, int, Priority)}
+     */
+    void acquire(final String request, final List<String> methods, final int weight, final Priority priority) throws SolanaJsonRpcClientException
+    {
+        final Map<Bucket, Integer> methodTokens = methodTokens(request, methods);
+        if (weight > policy.getBurst())
+        {
+            throw new SolanaJsonRpcClientException(String.format(
+                    "Rate limit burst of %s tokens can never be saved up for %s, which takes %s.", policy.getBurst(), request, weight));
+        }
+
+        lock.lock();
+        try
+        {
+            final Ticket ticket = new Ticket(methodTokens, weight, priority, nextSequence++);
+            queue.add(ticket);
+            long waitNanos = handOutTokens(System.nanoTime());
+            if (ticket.granted)
+            {
+                return;
+            }
+            if (queue.size() > policy.getQueueCapacity())
+            {
+                // make room by failing the least urgent of the waiting requests, which may be this one
+                final Ticket evicted = queue.pollLast();
+                evicted.evicted = true;
+                tokensHandedOut.signalAll();
+            }
+
+            final long deadline = System.nanoTime() + policy.getMaxQueueTime().toNanos();
+            while (!ticket.granted)
+            {
+                if (ticket.evicted)
+                {
+                    throw new SolanaJsonRpcClientException(String.format(
+                            "Rate limit queue is full with %s requests, refusing %s.", policy.getQueueCapacity(), request), null, true);
+                }
+                final long remainingNanos = deadline - System.nanoTime();
+                if (remainingNanos <= 0)
+                {
+                    abandon(ticket);
+                    throw new SolanaJsonRpcClientException(String.format(
+                            "Rate limited %s for longer than %s.", request, policy.getMaxQueueTime()), null, true);
+                }
+                try
+                {
+                    tokensHandedOut.awaitNanos(Math.min(waitNanos, remainingNanos));
+                }
+                catch (final InterruptedException e)
+                {
+                    abandon(ticket);
+                    Thread.currentThread().interrupt();
+                    throw new SolanaJsonRpcClientException(String.format("Interrupted waiting to send %s.", request), e, true);
+                }
+                waitNanos = handOutTokens(System.nanoTime());
+            }
+        }
+        finally
+        {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Returns the number of requests waiting for tokens.
+     *
+     * @return the length of the queue
+     */
+    int queued()
+    {
+        lock.lock();
+        try
+        {
+            return queue.size();
+        }
+        finally
+        {
+            lock.unlock();
+        }
+    }
+
+    private Map<Bucket, Integer> methodTokens(final String request, final List<String> methods) throws SolanaJsonRpcClientException
+    {
+        final Map<Bucket, Integer> methodTokens = new HashMap<>();
+        for (final String method : methods)
+        {
+            final Bucket bucket = methodBuckets.get(method);
+            if (bucket != null && methodTokens.merge(bucket, 1, Integer::sum) > bucket.capacity)
+            {
+                throw new SolanaJsonRpcClientException(String.format(
+                        "Rate limit of %s can never save up enough tokens for %s calling it %s times.", method, request, methodTokens.get(bucket)));
+            }
+        }
+        return methodTokens;
+    }
+
+    private void abandon(final Ticket ticket)
+    {
+        if (!ticket.granted && !ticket.evicted)
+        {
+            queue.remove(ticket);
+            // the abandoned request may have been holding up those behind it
+            handOutTokens(System.nanoTime());
+        }
+    }
+
+    /**
+     * Grants tokens to queued requests in order, waking their callers, and returns how long until more could be granted.
+     */
+    private long handOutTokens(final long now)
+    {
+        long waitNanos = Long.MAX_VALUE;
+        boolean handedOut = false;
+        shared.refill(now);
+
+        final Iterator<Ticket> tickets = queue.iterator();
+        while (tickets.hasNext())
+        {
+            final Ticket ticket = tickets.next();
+            final long methodWaitNanos = nanosUntilMethodTokens(ticket, now);
+            if (methodWaitNanos > 0)
+            {
+                waitNanos = Math.min(waitNanos, methodWaitNanos);
+                continue;
+            }
+            if (shared.tokens < ticket.weight)
+            {
+                waitNanos = Math.min(waitNanos, shared.nanosUntil(ticket.weight));
+                break;
+            }
+
+            shared.tokens -= ticket.weight;
+            ticket.methodTokens.forEach((bucket, tokens) -> bucket.tokens -= tokens);
+            ticket.granted = true;
+            tickets.remove();
+            handedOut = true;
+        }
+
+        if (handedOut)
+        {
+            tokensHandedOut.signalAll();
+        }
+        return waitNanos;
+    }
+
+    private static long nanosUntilMethodTokens(final Ticket ticket, final long now)
+    {
+        long waitNanos = 0;
+        for (final Map.Entry<Bucket, Integer> methodTokens : ticket.methodTokens.entrySet())
+        {
+            final Bucket bucket = methodTokens.getKey();
+            bucket.refill(now);
+            if (bucket.tokens < methodTokens.getValue())
+            {
+                waitNanos = Math.max(waitNanos, bucket.nanosUntil(methodTokens.getValue()));
+            }
+        }
+        return waitNanos;
+    }
+
+    private static final class Ticket
+    {
+        private final Map<Bucket, Integer> methodTokens;
+        private final int weight;
+        private final Priority priority;
+        private final long sequence;
+        private boolean granted;
+        private boolean evicted;
+
+        Ticket(final Map<Bucket, Integer> methodTokens, final int weight, final Priority priority, final long sequence)
+        {
+            this.methodTokens = methodTokens;
+            this.weight = weight;
+            this.priority = priority;
+            this.sequence = sequence;
+        }
+    }
+
+    private static final class Bucket
+    {
+        private final double tokensPerNano;
+        private final double capacity;
+        private double tokens;
+        private long refilledAt;
+
+        Bucket(final double tokensPerSecond, final double capacity, final long now)
+        {
+            this.tokensPerNano = tokensPerSecond / TimeUnit.SECONDS.toNanos(1);
+            this.capacity = capacity;
+            this.tokens = capacity;
+            this.refilledAt = now;
+        }
+
+        void refill(final long now)
+        {
+            tokens = Math.min(capacity, tokens + (now - refilledAt) * tokensPerNano);
+            refilledAt = now;
+        }
+
+        long nanosUntil(final double wanted)
+        {
+            return Math.max(1, (long) Math.ceil((wanted - tokens) / tokensPerNano));
+        }
+    }
+}
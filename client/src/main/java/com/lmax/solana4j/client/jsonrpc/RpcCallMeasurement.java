@@ -0,0 +1,118 @@
+package com.lmax.solana4j.client.jsonrpc;
+
+import com.lmax.solana4j.client.api.SolanaClientMetrics;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * Times the phases of a single JSON-RPC call and, once it ends, hands them to the {@link SolanaClientMetrics} and
+ * commits a {@link SolanaRpcCallEvent} if flight recording of the event is enabled.
+ */
+final class RpcCallMeasurement
+{
+    private final SolanaClientMetrics metrics;
+    private final String endpoint;
+    private final String method;
+    private final SolanaRpcCallEvent event = new SolanaRpcCallEvent();
+    private final long startedAt;
+    private long encodedAt;
+    private long respondedAt;
+    private boolean encoded;
+    private boolean responded;
+    private long requestBytes;
+    private long responseBytes;
+
+    RpcCallMeasurement(final SolanaClientMetrics metrics, final String endpoint, final String method)
+    {
+        this.metrics = metrics;
+        this.endpoint = endpoint;
+        this.method = method;
+        this.event.begin();
+        this.startedAt = System.nanoTime();
+    }
+
+    void encoded(final byte[] request)
+    {
+        requestBytes = request.length;
+        encodedAt = System.nanoTime();
+        encoded = true;
+    }
+
+    void responded()
+    {
+        respondedAt = System.nanoTime();
+        responded = true;
+    }
+
+    void read(final long bytes)
+    {
+        responseBytes = bytes;
+    }
+
+    /**
+     * Wraps a streamed response body to count the bytes read from it.
+     */
+    InputStream counting(final InputStream body)
+    {
+        return new FilterInputStream(body)
+        {
+            @Override
+            public int read() throws IOException
+            {
+                final int read = super.read();
+                if (read >= 0)
+                {
+                    responseBytes++;
+                }
+                return read;
+            }
+
+            @Override
+            public int read(final byte[] bytes, final int offset, final int length) throws IOException
+            {
+                final int read = super.read(bytes, offset, length);
+                if (read > 0)
+                {
+                    responseBytes += read;
+                }
+                return read;
+            }
+        };
+    }
+
+    void end(final SolanaClientMetrics.Outcome outcome, final int code)
+    {
+        final long endedAt = System.nanoTime();
+        final long encodeEnd = encoded ? encodedAt : endedAt;
+        final long httpEnd = responded ? respondedAt : endedAt;
+        final long encodeNanos = encodeEnd - startedAt;
+        final long httpNanos = httpEnd - encodeEnd;
+        final long decodeNanos = endedAt - httpEnd;
+
+        try
+        {
+            metrics.recordCall(endpoint, method, outcome, code, encodeNanos, httpNanos, decodeNanos, requestBytes, responseBytes);
+        }
+        catch (final RuntimeException e)
+        {
+            // a failure to record must not fail the call, nor leave an async call's future incomplete
+        }
+
+        event.end();
+        if (event.shouldCommit())
+        {
+            event.endpoint = endpoint;
+            event.method = method;
+            event.outcome = outcome.name();
+            event.code = code;
+            event.encodeNanos = encodeNanos;
+            event.httpNanos = httpNanos;
+            event.decodeNanos = decodeNanos;
+            event.requestBytes = requestBytes;
+            event.responseBytes = responseBytes;
+            event.commit();
+        }
+    }
+}
@@ -0,0 +1,67 @@
+package com.lmax.solana4j.client.jsonrpc;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.lmax.solana4j.client.api.SignatureNotification;
+import com.lmax.solana4j.client.api.SolanaRpcResponse;
+
+final class SignatureNotificationDTO implements SolanaRpcResponse<SignatureNotification>
+{
+    private final ContextDTO context;
+    private final SignatureNotificationValueDTO value;
+
+    @JsonCreator
+    SignatureNotificationDTO(
+            final @JsonProperty("context") ContextDTO context,
+            final @JsonProperty("value") SignatureNotificationValueDTO value)
+    {
+        this.context = context;
+        this.value = value;
+    }
+
+    @Override
+    public Context getContext()
+    {
+        return context;
+    }
+
+    @Override
+    public SignatureNotification getValue()
+    {
+        return value;
+    }
+
+    @Override
+    public String toString()
+    {
+        return "SignatureNotificationDTO{" +
+               "context=" + context +
+               ", value=" + value +
+               '}';
+    }
+
+    static final class SignatureNotificationValueDTO implements SignatureNotification
+    {
+        private final Object err;
+
+        @JsonCreator
+        SignatureNotificationValueDTO(final @JsonProperty("err") Object err)
+        {
+            this.err = err;
+        }
+
+        @Override
+        public Object getErr()
+        {
+            return err;
+        }
+
+        @Override
+        public String toString()
+        {
+            return "SignatureNotificationValueDTO{" +
+                   "err=" + err +
+                   '}';
+        }
+    }
+}
@@ -0,0 +1,51 @@
+package com.lmax.solana4j.client.jsonrpc;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.lmax.solana4j.client.api.SlotNotification;
+
+final class SlotNotificationDTO implements SlotNotification
+{
+    private final long slot;
+    private final long parent;
+    private final long root;
+
+    @JsonCreator
+    SlotNotificationDTO(
+            final @JsonProperty("slot") long slot,
+            final @JsonProperty("parent") long parent,
+            final @JsonProperty("root") long root)
+    {
+        this.slot = slot;
+        this.parent = parent;
+        this.root = root;
+    }
+
+    @Override
+    public long getSlot()
+    {
+        return slot;
+    }
+
+    @Override
+    public long getParent()
+    {
+        return parent;
+    }
+
+    @Override
+    public long getRoot()
+    {
+        return root;
+    }
+
+    @Override
+    public String toString()
+    {
+        return "SlotNotificationDTO{" +
+               "slot=" + slot +
+               ", parent=" + parent +
+               ", root=" + root +
+               '}';
+    }
+}
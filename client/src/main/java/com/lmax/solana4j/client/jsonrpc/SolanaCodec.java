@@ -1,17 +1,23 @@
 package com.lmax.solana4j.client.jsonrpc;
 
 import com.fasterxml.jackson.core.JsonGenerator;
-import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.MapperFeature;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
 import com.fasterxml.jackson.databind.json.JsonMapper;
-import com.fasterxml.jackson.databind.node.ArrayNode;
-import com.fasterxml.jackson.databind.node.ObjectNode;
 
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.StringWriter;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.atomic.AtomicLong;
 
 final class SolanaCodec
@@ -21,9 +27,16 @@ final class SolanaCodec
     static final String METHOD = "method";
     static final String PARAMS = "params";
 
+    private static final int INITIAL_REQUEST_SIZE = 256;
+
     final AtomicLong requestId = new AtomicLong();
     final ObjectMapper mapper;
 
+    // readers are resolved once per method and writers once per parameter class, so the hot path never goes back to the mapper
+    private final Map<SolanaRpcMethod<?>, ObjectReader> readers = new ConcurrentHashMap<>();
+    private final Map<Class<?>, ObjectWriter> writers = new ConcurrentHashMap<>();
+    private final Map<SolanaSubscriptionMethod<?>, ObjectReader> notificationReaders = new ConcurrentHashMap<>();
+
     SolanaCodec(final boolean failOnUnknownProperties)
     {
         this.mapper = JsonMapper.builder()
@@ -31,37 +44,166 @@ final class SolanaCodec
                 .configure(JsonGenerator.Feature.WRITE_BIGDECIMAL_AS_PLAIN, true)
                 .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, failOnUnknownProperties)
                 .build();
+
+        for (final SolanaRpcMethod<?> method : SolanaRpcMethod.ALL)
+        {
+            readers.put(method, mapper.readerFor(method.getType()));
+        }
+        for (final SolanaSubscriptionMethod<?> method : SolanaSubscriptionMethod.ALL)
+        {
+            notificationReaders.put(method, mapper.readerFor(method.getNotificationType()));
+        }
     }
 
-    String encodeRequest(final String method, final Object[] params) throws JsonProcessingException
+    long nextRequestId()
     {
-        final long id = requestId.incrementAndGet();
+        return requestId.incrementAndGet();
+    }
 
-        final ObjectNode requestNode = mapper.createObjectNode();
-        requestNode.put(JSONRPC, "2.0");
-        requestNode.put(METHOD, method);
-        requestNode.set(PARAMS, arrayParams(params));
+    byte[] encodeRequest(final SolanaRpcMethod<?> method, final Object[] params) throws IOException
+    {
+        final ByteArrayOutputStream out = new ByteArrayOutputStream(INITIAL_REQUEST_SIZE);
+        try (JsonGenerator generator = mapper.createGenerator(out))
+        {
+            writeRequest(generator, nextRequestId(), method.getName(), params);
+        }
+        return out.toByteArray();
+    }
 
-        requestNode.put(ID, id);
+    String encodeRequest(final long id, final String method, final Object[] params) throws IOException
+    {
+        final StringWriter out = new StringWriter(INITIAL_REQUEST_SIZE);
+        try (JsonGenerator generator = mapper.createGenerator(out))
+        {
+            writeRequest(generator, id, method, params);
+        }
+        return out.toString();
+    }
 
-        return mapper.writeValueAsString(requestNode);
+    byte[] encodeBatchRequest(final List<SolanaJsonRpcBatch.BatchCall<?, ?>> calls) throws IOException
+    {
+        final ByteArrayOutputStream out = new ByteArrayOutputStream(INITIAL_REQUEST_SIZE * calls.size());
+        try (JsonGenerator generator = mapper.createGenerator(out))
+        {
+            generator.writeStartArray();
+            for (final SolanaJsonRpcBatch.BatchCall<?, ?> call : calls)
+            {
+                writeRequest(generator, call.getId(), call.getMethod().getName(), call.getParams());
+            }
+            generator.writeEndArray();
+        }
+        return out.toByteArray();
     }
 
     <T> RpcWrapperDTO<T> decodeResponse(
             final byte[] bytes,
-            final TypeReference<RpcWrapperDTO<T>> type) throws IOException
+            final SolanaRpcMethod<T> method) throws IOException
     {
-        final ObjectReader objectReader = mapper.readerFor(type);
-        return objectReader.readValue(bytes);
+        return readerFor(method).readValue(bytes);
     }
 
-    private ArrayNode arrayParams(final Object[] values)
+    <T> RpcWrapperDTO<T> decodeResponse(
+            final InputStream inputStream,
+            final SolanaRpcMethod<T> method) throws IOException
     {
-        final ArrayNode newArrayParams = mapper.createArrayNode();
-        for (final Object value : values)
+        try (JsonParser parser = mapper.createParser(inputStream))
         {
-            newArrayParams.add(mapper.valueToTree(value));
+            return readerFor(method).readValue(parser);
         }
-        return newArrayParams;
     }
-}
\ No newline at end of file
+
+    <T> RpcWrapperDTO<T> decodeResponse(
+            final JsonNode node,
+            final SolanaRpcMethod<T> method) throws IOException
+    {
+        return readerFor(method).readValue(node);
+    }
+
+    JsonNode decodeMessage(final String message) throws IOException
+    {
+        return mapper.readTree(message);
+    }
+
+    <T> T decodeNotification(
+            final JsonNode result,
+            final SolanaSubscriptionMethod<T> method) throws IOException
+    {
+        return notificationReaders.computeIfAbsent(method, m -> mapper.readerFor(m.getNotificationType())).readValue(result);
+    }
+
+    /**
+     * Splits a batch response into its individual responses keyed by request id. A node that could not
+     * process the batch at all replies with a single error object, which is returned under a {@code null} key.
+     */
+    Map<Long, JsonNode> decodeBatchResponse(final InputStream inputStream) throws IOException
+    {
+        final JsonNode root = mapper.readTree(inputStream);
+        final Map<Long, JsonNode> responses = new HashMap<>();
+        if (root.isArray())
+        {
+            for (final JsonNode response : root)
+            {
+                final JsonNode id = response.get(ID);
+                responses.put(id == null || id.isNull() ? null : id.asLong(), response);
+            }
+        }
+        else
+        {
+            responses.put(null, root);
+        }
+        return responses;
+    }
+
+    private void writeRequest(
+            final JsonGenerator generator,
+            final long id,
+            final String method,
+            final Object[] params) throws IOException
+    {
+        generator.writeStartObject();
+        generator.writeStringField(JSONRPC, "2.0");
+        generator.writeStringField(METHOD, method);
+        generator.writeArrayFieldStart(PARAMS);
+        for (final Object param : params)
+        {
+            writeParam(generator, param);
+        }
+        generator.writeEndArray();
+        generator.writeNumberField(ID, id);
+        generator.writeEndObject();
+    }
+
+    private void writeParam(final JsonGenerator generator, final Object param) throws IOException
+    {
+        if (param == null)
+        {
+            generator.writeNull();
+        }
+        else if (param instanceof String)
+        {
+            generator.writeString((String) param);
+        }
+        else if (param instanceof Long)
+        {
+            generator.writeNumber((Long) param);
+        }
+        else if (param instanceof Integer)
+        {
+            generator.writeNumber((Integer) param);
+        }
+        else
+        {
+            writerFor(param.getClass()).writeValue(generator, param);
+        }
+    }
+
+    private ObjectReader readerFor(final SolanaRpcMethod<?> method)
+    {
+        return readers.computeIfAbsent(method, m -> mapper.readerFor(m.getType()));
+    }
+
+    private ObjectWriter writerFor(final Class<?> type)
+    {
+        return writers.computeIfAbsent(type, mapper::writerFor);
+    }
+}
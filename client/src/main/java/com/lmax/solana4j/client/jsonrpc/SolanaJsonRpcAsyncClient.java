@@ -0,0 +1,399 @@
+package com.lmax.solana4j.client.jsonrpc;
+
+import com.lmax.solana4j.client.api.AccountInfo;
+import com.lmax.solana4j.client.api.AsyncSolanaApi;
+import com.lmax.solana4j.client.api.Blockhash;
+import com.lmax.solana4j.client.api.SignatureForAddress;
+import com.lmax.solana4j.client.api.SignatureStatus;
+import com.lmax.solana4j.client.api.SimulateTransactionResponse;
+import com.lmax.solana4j.client.api.SolanaClientMetrics;
+import com.lmax.solana4j.client.api.SolanaClientOptionalParams;
+import com.lmax.solana4j.client.api.SolanaClientResponse;
+import com.lmax.solana4j.client.api.SolanaVersion;
+import com.lmax.solana4j.client.api.TokenAccount;
+import com.lmax.solana4j.client.api.TokenAmount;
+import com.lmax.solana4j.client.api.TransactionResponse;
+
+import java.net.SocketTimeoutException;
+import java.net.http.HttpClient;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
+
+import static com.lmax.solana4j.client.jsonrpc.SolanaJsonRpcClientOptionalParams.defaultOptionalParams;
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Implementation of the {@link AsyncSolanaApi} interface for interacting with the blockchain via JSON-RPC.
+ * Requests are dispatched with {@link HttpClient#sendAsync} so that many requests can be in flight at once
+ * without parking a thread per request; responses are decoded on the {@link HttpClient}'s executor.
+ */
+public final class SolanaJsonRpcAsyncClient implements AsyncSolanaApi
+{
+    private final SolanaJsonRpcTransport transport;
+
+    /**
+     * Constructs a new {@code SolanaJsonRpcAsyncClient} with the specified HTTP client and RPC URL.
+     * HTTP calls to RPC endpoints will be made with no socket timeout.
+     *
+     * @param httpClient      the {@link HttpClient} instance to use for sending requests.
+     *                        This allows customization of HTTP settings such as connection pooling,
+     *                        SSL context, and timeout configurations.
+     * @param rpcUrl          the URL of the Solana JSON-RPC node.
+     */
+    public SolanaJsonRpcAsyncClient(
+            final HttpClient httpClient,
+            final String rpcUrl)
+    {
+        this.transport = new SolanaJsonRpcTransport(requireNonNull(httpClient), requireNonNull(rpcUrl), null, false);
+    }
+
+    /**
+     * Constructs a new {@code SolanaJsonRpcAsyncClient} with the specified HTTP client and RPC URL.
+     * HTTP calls to RPC endpoints will be made with the given socket timeout.
+     *
+     * @param httpClient      the {@link HttpClient} instance to use for sending requests.
+     *                        This allows customization of HTTP settings such as connection pooling,
+     *                        SSL context, and timeout configurations.
+     * @param rpcUrl          the URL of the Solana JSON-RPC node.
+     * @param socketTimeout   the {@link Duration} of inactivity on the HTTP connection that will
+     *                        result in a {@link SocketTimeoutException} when making an RPC call.
+     */
+    public SolanaJsonRpcAsyncClient(
+            final HttpClient httpClient,
+            final String rpcUrl,
+            final Duration socketTimeout)
+    {
+        this.transport = new SolanaJsonRpcTransport(requireNonNull(httpClient), requireNonNull(rpcUrl), requireNonNull(socketTimeout), false);
+    }
+
+    /**
+     * Constructs a new {@code SolanaJsonRpcAsyncClient} with the specified HTTP client and RPC URL, recording every call to the given metrics.
+     * HTTP calls to RPC endpoints will be made with no socket timeout.
+     *
+     * @param httpClient      the {@link HttpClient} instance to use for sending requests.
+     *                        This allows customization of HTTP settings such as connection pooling,
+     *                        SSL context, and timeout configurations.
+     * @param rpcUrl          the URL of the Solana JSON-RPC node.
+     * @param metrics         the {@link SolanaClientMetrics} to record the phases, sizes and outcome of each call to.
+     */
+    public SolanaJsonRpcAsyncClient(
+            final HttpClient httpClient,
+            final String rpcUrl,
+            final SolanaClientMetrics metrics)
+    {
+        this.transport = new SolanaJsonRpcTransport(requireNonNull(httpClient), requireNonNull(rpcUrl), null, false, requireNonNull(metrics));
+    }
+
+    /**
+     * Constructs a new {@code SolanaJsonRpcAsyncClient} with the specified HTTP client and RPC URL, recording every call to the given metrics.
+     * HTTP calls to RPC endpoints will be made with the given socket timeout.
+     *
+     * @param httpClient      the {@link HttpClient} instance to use for sending requests.
+     *                        This allows customization of HTTP settings such as connection pooling,
+     *                        SSL context, and timeout configurations.
+     * @param rpcUrl          the URL of the Solana JSON-RPC node.
+     * @param socketTimeout   the {@link Duration} of inactivity on the HTTP connection that will
+     *                        result in a {@link SocketTimeoutException} when making an RPC call.
+     * @param metrics         the {@link SolanaClientMetrics} to record the phases, sizes and outcome of each call to.
+     */
+    public SolanaJsonRpcAsyncClient(
+            final HttpClient httpClient,
+            final String rpcUrl,
+            final Duration socketTimeout,
+            final SolanaClientMetrics metrics)
+    {
+        this.transport = new SolanaJsonRpcTransport(requireNonNull(httpClient), requireNonNull(rpcUrl), requireNonNull(socketTimeout), false, requireNonNull(metrics));
+    }
+
+    SolanaJsonRpcAsyncClient(
+            final HttpClient httpClient,
+            final String rpcUrl,
+            final boolean failOnUnknownProperties)
+    {
+        this.transport = new SolanaJsonRpcTransport(httpClient, rpcUrl, null, failOnUnknownProperties);
+    }
+
+    @Override
+    public CompletableFuture<SolanaClientResponse<String>> requestAirdrop(final String address, final long amountLamports)
+    {
+        return queryForObjectAsync(SolanaRpcMethod.REQUEST_AIRDROP, dto -> dto, address, amountLamports,
+                defaultOptionalParams());
+    }
+
+    @Override
+    public CompletableFuture<SolanaClientResponse<String>> requestAirdrop(final String address, final long amountLamports, final SolanaClientOptionalParams optionalParams)
+    {
+        return queryForObjectAsync(SolanaRpcMethod.REQUEST_AIRDROP, dto -> dto, address, amountLamports,
+                optionalParams.getParams());
+    }
+
+    @Override
+    public CompletableFuture<SolanaClientResponse<String>> sendTransaction(final String transactionBlob)
+    {
+        return queryForObjectAsync(SolanaRpcMethod.SEND_TRANSACTION, dto -> dto,
+                transactionBlob,
+                defaultOptionalParams());
+    }
+
+    @Override
+    public CompletableFuture<SolanaClientResponse<String>> sendTransaction(final String transactionBlob, final SolanaClientOptionalParams optionalParams)
+    {
+        return queryForObjectAsync(SolanaRpcMethod.SEND_TRANSACTION, dto -> dto,
+                transactionBlob,
+                optionalParams.getParams());
+    }
+
+    @Override
+    public CompletableFuture<SolanaClientResponse<TransactionResponse>> getTransaction(final String transactionSignature)
+    {
+        return queryForObjectAsync(SolanaRpcMethod.GET_TRANSACTION, dto -> dto, transactionSignature,
+                defaultOptionalParams());
+    }
+
+    @Override
+    public CompletableFuture<SolanaClientResponse<TransactionResponse>> getTransaction(final String transactionSignature, final SolanaClientOptionalParams optionalParams)
+    {
+        return queryForObjectAsync(SolanaRpcMethod.GET_TRANSACTION, dto -> dto, transactionSignature,
+                optionalParams.getParams());
+    }
+
+    @Override
+    public CompletableFuture<SolanaClientResponse<Long>> getBalance(final String address)
+    {
+        return queryForObjectAsync(SolanaRpcMethod.GET_BALANCE, BalanceDTO::getValue, address,
+                defaultOptionalParams());
+    }
+
+    @Override
+    public CompletableFuture<SolanaClientResponse<Long>> getBalance(final String address, final SolanaClientOptionalParams optionalParams)
+    {
+        return queryForObjectAsync(SolanaRpcMethod.GET_BALANCE, BalanceDTO::getValue, address,
+                optionalParams.getParams());
+    }
+
+    @Override
+    public CompletableFuture<SolanaClientResponse<TokenAmount>> getTokenAccountBalance(final String address)
+    {
+        return queryForObjectAsync(SolanaRpcMethod.GET_TOKEN_ACCOUNT_BALANCE, TokenAmountDTO::getValue, address,
+                defaultOptionalParams());
+    }
+
+    @Override
+    public CompletableFuture<SolanaClientResponse<TokenAmount>> getTokenAccountBalance(final String address, final SolanaClientOptionalParams optionalParams)
+    {
+        return queryForObjectAsync(SolanaRpcMethod.GET_TOKEN_ACCOUNT_BALANCE, TokenAmountDTO::getValue, address,
+                optionalParams.getParams());
+    }
+
+    @Override
+    public CompletableFuture<SolanaClientResponse<AccountInfo>> getAccountInfo(final String address)
+    {
+        return queryForObjectAsync(SolanaRpcMethod.GET_ACCOUNT_INFO, AccountInfoDTO::getValue, address,
+                defaultOptionalParams()
+        );
+    }
+
+    @Override
+    public CompletableFuture<SolanaClientResponse<AccountInfo>> getAccountInfo(final String address, final SolanaClientOptionalParams optionalParams)
+    {
+        return queryForObjectAsync(SolanaRpcMethod.GET_ACCOUNT_INFO, AccountInfoDTO::getValue, address,
+                optionalParams.getParams()
+        );
+    }
+
+    @Override
+    public CompletableFuture<SolanaClientResponse<List<AccountInfo>>> getMultipleAccounts(final List<String> addresses)
+    {
+        return getMultipleAccounts(addresses, defaultOptionalParams());
+    }
+
+    @Override
+    public CompletableFuture<SolanaClientResponse<List<AccountInfo>>> getMultipleAccounts(final List<String> addresses, final SolanaClientOptionalParams optionalParams)
+    {
+        return getMultipleAccounts(addresses, optionalParams.getParams());
+    }
+
+    @Override
+    public CompletableFuture<SolanaClientResponse<Long>> getBlockHeight()
+    {
+        return queryForObjectAsync(SolanaRpcMethod.GET_BLOCK_HEIGHT, dto -> dto,
+                defaultOptionalParams());
+    }
+
+    @Override
+    public CompletableFuture<SolanaClientResponse<Long>> getBlockHeight(final SolanaClientOptionalParams optionalParams)
+    {
+        return queryForObjectAsync(SolanaRpcMethod.GET_BLOCK_HEIGHT, dto -> dto,
+                optionalParams.getParams());
+    }
+
+    @Override
+    public CompletableFuture<SolanaClientResponse<Long>> getSlot()
+    {
+        return queryForObjectAsync(SolanaRpcMethod.GET_SLOT, dto -> dto,
+                defaultOptionalParams());
+    }
+
+    @Override
+    public CompletableFuture<SolanaClientResponse<Long>> getSlot(final SolanaClientOptionalParams optionalParams)
+    {
+        return queryForObjectAsync(SolanaRpcMethod.GET_SLOT, dto -> dto,
+                optionalParams.getParams());
+    }
+
+    @Override
+    public CompletableFuture<SolanaClientResponse<Blockhash>> getLatestBlockhash()
+    {
+        return queryForObjectAsync(SolanaRpcMethod.GET_LATEST_BLOCKHASH, BlockhashDTO::getValue,
+                defaultOptionalParams());
+    }
+
+    @Override
+    public CompletableFuture<SolanaClientResponse<Blockhash>> getLatestBlockhash(final SolanaClientOptionalParams optionalParams)
+    {
+        return queryForObjectAsync(SolanaRpcMethod.GET_LATEST_BLOCKHASH, BlockhashDTO::getValue,
+                optionalParams.getParams());
+    }
+
+    @Override
+    public CompletableFuture<SolanaClientResponse<Long>> getMinimumBalanceForRentExemption(final int size)
+    {
+        return queryForObjectAsync(SolanaRpcMethod.GET_MINIMUM_BALANCE_FOR_RENT_EXEMPTION, dto -> dto, size,
+                defaultOptionalParams());
+    }
+
+    @Override
+    public CompletableFuture<SolanaClientResponse<Long>> getMinimumBalanceForRentExemption(final int size, final SolanaClientOptionalParams optionalParams)
+    {
+        return queryForObjectAsync(SolanaRpcMethod.GET_MINIMUM_BALANCE_FOR_RENT_EXEMPTION, dto -> dto, size,
+                optionalParams.getParams());
+    }
+
+    @Override
+    public CompletableFuture<SolanaClientResponse<Long>> minimumLedgerSlot()
+    {
+        return queryForObjectAsync(SolanaRpcMethod.MINIMUM_LEDGER_SLOT, dto -> dto);
+    }
+
+    @Override
+    public CompletableFuture<SolanaClientResponse<String>> getHealth()
+    {
+        return queryForObjectAsync(SolanaRpcMethod.GET_HEALTH, dto -> dto);
+    }
+
+    @Override
+    public CompletableFuture<SolanaClientResponse<List<SignatureForAddress>>> getSignaturesForAddress(final String address)
+    {
+        return queryForObjectAsync(SolanaRpcMethod.GET_SIGNATURES_FOR_ADDRESS, ArrayList::new, address);
+    }
+
+    @Override
+    public CompletableFuture<SolanaClientResponse<List<SignatureForAddress>>> getSignaturesForAddress(
+            final String address,
+            final SolanaClientOptionalParams optionalParams)
+    {
+        return queryForObjectAsync(SolanaRpcMethod.GET_SIGNATURES_FOR_ADDRESS, ArrayList::new, address,
+                optionalParams.getParams());
+    }
+
+    @Override
+    public CompletableFuture<SolanaClientResponse<List<SignatureStatus>>> getSignatureStatuses(final List<String> transactionSignatures)
+    {
+        final var defaultOptionalParams = defaultOptionalParams();
+        // it's not such an optional field, apparently
+        defaultOptionalParams.put("searchTransactionHistory", false);
+
+        return queryForObjectAsync(SolanaRpcMethod.GET_SIGNATURE_STATUSES, SignatureStatusesDTO::getValue, transactionSignatures,
+                defaultOptionalParams);
+    }
+
+    @Override
+    public CompletableFuture<SolanaClientResponse<List<SignatureStatus>>> getSignatureStatuses(
+            final List<String> transactionSignatures,
+            final SolanaClientOptionalParams optionalParams)
+    {
+        return queryForObjectAsync(SolanaRpcMethod.GET_SIGNATURE_STATUSES, SignatureStatusesDTO::getValue, transactionSignatures,
+                optionalParams.getParams());
+    }
+
+    @Override
+    public CompletableFuture<SolanaClientResponse<List<TokenAccount>>> getTokenAccountsByOwner(final String accountDelegate, final Map.Entry<String, String> filter)
+    {
+        return queryForObjectAsync(SolanaRpcMethod.GET_TOKEN_ACCOUNTS_BY_OWNER, TokenAccountsByOwnerDTO::getValue, accountDelegate, filter,
+                defaultOptionalParams());
+    }
+
+    @Override
+    public CompletableFuture<SolanaClientResponse<List<TokenAccount>>> getTokenAccountsByOwner(
+            final String accountDelegate,
+            final Map.Entry<String, String> filter,
+            final SolanaClientOptionalParams optionalParams)
+    {
+        return queryForObjectAsync(SolanaRpcMethod.GET_TOKEN_ACCOUNTS_BY_OWNER, TokenAccountsByOwnerDTO::getValue, accountDelegate, filter,
+                optionalParams.getParams());
+    }
+
+    @Override
+    public CompletableFuture<SolanaClientResponse<SimulateTransactionResponse>> simulateTransaction(final String transaction)
+    {
+        return queryForObjectAsync(SolanaRpcMethod.SIMULATE_TRANSACTION, SimulateTransactionResponseDTO::getValue, transaction,
+                defaultOptionalParams());
+    }
+
+    @Override
+    public CompletableFuture<SolanaClientResponse<SimulateTransactionResponse>> simulateTransaction(final String transaction, final SolanaClientOptionalParams optionalParams)
+    {
+        return queryForObjectAsync(SolanaRpcMethod.SIMULATE_TRANSACTION, SimulateTransactionResponseDTO::getValue, transaction,
+                optionalParams.getParams());
+    }
+
+    @Override
+    public CompletableFuture<SolanaClientResponse<SolanaVersion>> getVersion()
+    {
+        return queryForObjectAsync(SolanaRpcMethod.GET_VERSION, dto -> dto);
+    }
+
+    private CompletableFuture<SolanaClientResponse<List<AccountInfo>>> getMultipleAccounts(final List<String> addresses, final Map<String, Object> params)
+    {
+        final Map<String, Object> base64Params = MultipleAccountsRequest.base64Params(params);
+        if (addresses.size() <= MultipleAccountsRequest.MAX_ACCOUNTS_PER_REQUEST)
+        {
+            return queryForMultipleAccountsAsync(addresses, base64Params);
+        }
+
+        final List<CompletableFuture<SolanaClientResponse<List<AccountInfo>>>> chunks = new ArrayList<>();
+        for (final List<String> chunk : MultipleAccountsRequest.partition(addresses))
+        {
+            chunks.add(queryForMultipleAccountsAsync(chunk, base64Params));
+        }
+
+        return CompletableFuture.allOf(chunks.toArray(new CompletableFuture<?>[0]))
+                .thenApply(ignored ->
+                {
+                    final List<SolanaClientResponse<List<AccountInfo>>> responses = new ArrayList<>(chunks.size());
+                    for (final CompletableFuture<SolanaClientResponse<List<AccountInfo>>> chunk : chunks)
+                    {
+                        responses.add(chunk.join());
+                    }
+                    return MultipleAccountsRequest.merge(responses);
+                });
+    }
+
+    private CompletableFuture<SolanaClientResponse<List<AccountInfo>>> queryForMultipleAccountsAsync(final List<String> addresses, final Map<String, Object> base64Params)
+    {
+        return queryForObjectAsync(SolanaRpcMethod.GET_MULTIPLE_ACCOUNTS, MultipleAccountsDTO::getValue, addresses,
+                base64Params);
+    }
+
+    private <S, T> CompletableFuture<SolanaClientResponse<S>> queryForObjectAsync(
+            final SolanaRpcMethod<T> method,
+            final Function<T, S> dtoMapper,
+            final Object... params)
+    {
+        return transport.queryForObjectAsync(method, dtoMapper, params);
+    }
+}
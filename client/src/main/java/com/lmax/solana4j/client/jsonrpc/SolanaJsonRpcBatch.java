@@ -0,0 +1,409 @@
+package com.lmax.solana4j.client.jsonrpc;
+
+import com.lmax.solana4j.client.api.AccountInfo;
+import com.lmax.solana4j.client.api.Blockhash;
+import com.lmax.solana4j.client.api.SignatureForAddress;
+import com.lmax.solana4j.client.api.SignatureStatus;
+import com.lmax.solana4j.client.api.SimulateTransactionResponse;
+import com.lmax.solana4j.client.api.SolanaBatch;
+import com.lmax.solana4j.client.api.SolanaClientOptionalParams;
+import com.lmax.solana4j.client.api.SolanaClientResponse;
+import com.lmax.solana4j.client.api.SolanaVersion;
+import com.lmax.solana4j.client.api.TokenAccount;
+import com.lmax.solana4j.client.api.TokenAmount;
+import com.lmax.solana4j.client.api.TransactionResponse;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+import static com.lmax.solana4j.client.jsonrpc.SolanaJsonRpcClientOptionalParams.defaultOptionalParams;
+
+final class SolanaJsonRpcBatch implements SolanaBatch
+{
+    private final SolanaJsonRpcTransport transport;
+    private final List<BatchCall<?, ?>> calls = new ArrayList<>();
+    private boolean executed;
+
+    SolanaJsonRpcBatch(final SolanaJsonRpcTransport transport)
+    {
+        this.transport = transport;
+    }
+
+    @Override
+    public Call<String> requestAirdrop(final String address, final long amountLamports)
+    {
+        return enqueue(SolanaRpcMethod.REQUEST_AIRDROP, dto -> dto, address, amountLamports,
+                defaultOptionalParams());
+    }
+
+    @Override
+    public Call<String> requestAirdrop(final String address, final long amountLamports, final SolanaClientOptionalParams optionalParams)
+    {
+        return enqueue(SolanaRpcMethod.REQUEST_AIRDROP, dto -> dto, address, amountLamports,
+                optionalParams.getParams());
+    }
+
+    @Override
+    public Call<String> sendTransaction(final String transactionBlob)
+    {
+        return enqueue(SolanaRpcMethod.SEND_TRANSACTION, dto -> dto,
+                transactionBlob,
+                defaultOptionalParams());
+    }
+
+    @Override
+    public Call<String> sendTransaction(final String transactionBlob, final SolanaClientOptionalParams optionalParams)
+    {
+        return enqueue(SolanaRpcMethod.SEND_TRANSACTION, dto -> dto,
+                transactionBlob,
+                optionalParams.getParams());
+    }
+
+    @Override
+    public Call<TransactionResponse> getTransaction(final String transactionSignature)
+    {
+        return enqueue(SolanaRpcMethod.GET_TRANSACTION, dto -> dto, transactionSignature,
+                defaultOptionalParams());
+    }
+
+    @Override
+    public Call<TransactionResponse> getTransaction(final String transactionSignature, final SolanaClientOptionalParams optionalParams)
+    {
+        return enqueue(SolanaRpcMethod.GET_TRANSACTION, dto -> dto, transactionSignature,
+                optionalParams.getParams());
+    }
+
+    @Override
+    public Call<Long> getBalance(final String address)
+    {
+        return enqueue(SolanaRpcMethod.GET_BALANCE, BalanceDTO::getValue, address,
+                defaultOptionalParams());
+    }
+
+    @Override
+    public Call<Long> getBalance(final String address, final SolanaClientOptionalParams optionalParams)
+    {
+        return enqueue(SolanaRpcMethod.GET_BALANCE, BalanceDTO::getValue, address,
+                optionalParams.getParams());
+    }
+
+    @Override
+    public Call<TokenAmount> getTokenAccountBalance(final String address)
+    {
+        return enqueue(SolanaRpcMethod.GET_TOKEN_ACCOUNT_BALANCE, TokenAmountDTO::getValue, address,
+                defaultOptionalParams());
+    }
+
+    @Override
+    public Call<TokenAmount> getTokenAccountBalance(final String address, final SolanaClientOptionalParams optionalParams)
+    {
+        return enqueue(SolanaRpcMethod.GET_TOKEN_ACCOUNT_BALANCE, TokenAmountDTO::getValue, address,
+                optionalParams.getParams());
+    }
+
+    @Override
+    public Call<AccountInfo> getAccountInfo(final String address)
+    {
+        return enqueue(SolanaRpcMethod.GET_ACCOUNT_INFO, AccountInfoDTO::getValue, address,
+                defaultOptionalParams()
+        );
+    }
+
+    @Override
+    public Call<AccountInfo> getAccountInfo(final String address, final SolanaClientOptionalParams optionalParams)
+    {
+        return enqueue(SolanaRpcMethod.GET_ACCOUNT_INFO, AccountInfoDTO::getValue, address,
+                optionalParams.getParams()
+        );
+    }
+
+    @Override
+    public Call<List<AccountInfo>> getMultipleAccounts(final List<String> addresses)
+    {
+        return getMultipleAccounts(addresses, defaultOptionalParams());
+    }
+
+    @Override
+    public Call<List<AccountInfo>> getMultipleAccounts(final List<String> addresses, final SolanaClientOptionalParams optionalParams)
+    {
+        return getMultipleAccounts(addresses, optionalParams.getParams());
+    }
+
+    Call<List<AccountInfo>> getMultipleAccounts(final List<String> addresses, final Map<String, Object> params)
+    {
+        MultipleAccountsRequest.checkChunkSize(addresses);
+
+        return enqueue(SolanaRpcMethod.GET_MULTIPLE_ACCOUNTS, MultipleAccountsDTO::getValue, addresses,
+                MultipleAccountsRequest.base64Params(params)
+        );
+    }
+
+    @Override
+    public Call<Long> getBlockHeight()
+    {
+        return enqueue(SolanaRpcMethod.GET_BLOCK_HEIGHT, dto -> dto,
+                defaultOptionalParams());
+    }
+
+    @Override
+    public Call<Long> getBlockHeight(final SolanaClientOptionalParams optionalParams)
+    {
+        return enqueue(SolanaRpcMethod.GET_BLOCK_HEIGHT, dto -> dto,
+                optionalParams.getParams());
+    }
+
+    @Override
+    public Call<Long> getSlot()
+    {
+        return enqueue(SolanaRpcMethod.GET_SLOT, dto -> dto,
+                defaultOptionalParams());
+    }
+
+    @Override
+    public Call<Long> getSlot(final SolanaClientOptionalParams optionalParams)
+    {
+        return enqueue(SolanaRpcMethod.GET_SLOT, dto -> dto,
+                optionalParams.getParams());
+    }
+
+    @Override
+    public Call<Blockhash> getLatestBlockhash()
+    {
+        return enqueue(SolanaRpcMethod.GET_LATEST_BLOCKHASH, BlockhashDTO::getValue,
+                defaultOptionalParams());
+    }
+
+    @Override
+    public Call<Blockhash> getLatestBlockhash(final SolanaClientOptionalParams optionalParams)
+    {
+        return enqueue(SolanaRpcMethod.GET_LATEST_BLOCKHASH, BlockhashDTO::getValue,
+                optionalParams.getParams());
+    }
+
+    @Override
+    public Call<Long> getMinimumBalanceForRentExemption(final int size)
+    {
+        return enqueue(SolanaRpcMethod.GET_MINIMUM_BALANCE_FOR_RENT_EXEMPTION, dto -> dto, size,
+                defaultOptionalParams());
+    }
+
+    @Override
+    public Call<Long> getMinimumBalanceForRentExemption(final int size, final SolanaClientOptionalParams optionalParams)
+    {
+        return enqueue(SolanaRpcMethod.GET_MINIMUM_BALANCE_FOR_RENT_EXEMPTION, dto -> dto, size,
+                optionalParams.getParams());
+    }
+
+    @Override
+    public Call<Long> minimumLedgerSlot()
+    {
+        return enqueue(SolanaRpcMethod.MINIMUM_LEDGER_SLOT, dto -> dto);
+    }
+
+    @Override
+    public Call<String> getHealth()
+    {
+        return enqueue(SolanaRpcMethod.GET_HEALTH, dto -> dto);
+    }
+
+    @Override
+    public Call<List<SignatureForAddress>> getSignaturesForAddress(final String address)
+    {
+        return enqueue(SolanaRpcMethod.GET_SIGNATURES_FOR_ADDRESS, ArrayList::new, address);
+    }
+
+    @Override
+    public Call<List<SignatureForAddress>> getSignaturesForAddress(
+            final String address,
+            final SolanaClientOptionalParams optionalParams)
+    {
+        return enqueue(SolanaRpcMethod.GET_SIGNATURES_FOR_ADDRESS, ArrayList::new, address,
+                optionalParams.getParams());
+    }
+
+    @Override
+    public Call<List<SignatureStatus>> getSignatureStatuses(final List<String> transactionSignatures)
+    {
+        final var defaultOptionalParams = defaultOptionalParams();
+        // it's not such an optional field, apparently
+        defaultOptionalParams.put("searchTransactionHistory", false);
+
+        return enqueue(SolanaRpcMethod.GET_SIGNATURE_STATUSES, SignatureStatusesDTO::getValue, transactionSignatures,
+                defaultOptionalParams);
+    }
+
+    @Override
+    public Call<List<SignatureStatus>> getSignatureStatuses(
+            final List<String> transactionSignatures,
+            final SolanaClientOptionalParams optionalParams)
+    {
+        return enqueue(SolanaRpcMethod.GET_SIGNATURE_STATUSES, SignatureStatusesDTO::getValue, transactionSignatures,
+                optionalParams.getParams());
+    }
+
+    @Override
+    public Call<List<TokenAccount>> getTokenAccountsByOwner(final String accountDelegate, final Map.Entry<String, String> filter)
+    {
+        return enqueue(SolanaRpcMethod.GET_TOKEN_ACCOUNTS_BY_OWNER, TokenAccountsByOwnerDTO::getValue, accountDelegate, filter,
+                defaultOptionalParams());
+    }
+
+    @Override
+    public Call<List<TokenAccount>> getTokenAccountsByOwner(
+            final String accountDelegate,
+            final Map.Entry<String, String> filter,
+            final SolanaClientOptionalParams optionalParams)
+    {
+        return enqueue(SolanaRpcMethod.GET_TOKEN_ACCOUNTS_BY_OWNER, TokenAccountsByOwnerDTO::getValue, accountDelegate, filter,
+                optionalParams.getParams());
+    }
+
+    @Override
+    public Call<SimulateTransactionResponse> simulateTransaction(final String transaction)
+    {
+        return enqueue(SolanaRpcMethod.SIMULATE_TRANSACTION, SimulateTransactionResponseDTO::getValue, transaction,
+                defaultOptionalParams());
+    }
+
+    @Override
+    public Call<SimulateTransactionResponse> simulateTransaction(final String transaction, final SolanaClientOptionalParams optionalParams)
+    {
+        return enqueue(SolanaRpcMethod.SIMULATE_TRANSACTION, SimulateTransactionResponseDTO::getValue, transaction,
+                optionalParams.getParams());
+    }
+
+    @Override
+    public Call<SolanaVersion> getVersion()
+    {
+        return enqueue(SolanaRpcMethod.GET_VERSION, dto -> dto);
+    }
+
+    @Override
+    public int size()
+    {
+        return calls.size();
+    }
+
+    @Override
+    public void execute() throws SolanaJsonRpcClientException
+    {
+        if (executed)
+        {
+            throw new IllegalStateException("This batch has already been executed.");
+        }
+        executed = true;
+
+        if (!calls.isEmpty())
+        {
+            try
+            {
+                transport.queryForBatch(calls);
+            }
+            catch (final SolanaJsonRpcClientException e)
+            {
+                // the batch cannot be executed again, so every call is left holding the failure rather than nothing
+                for (final BatchCall<?, ?> call : calls)
+                {
+                    call.fail(e);
+                }
+                throw e;
+            }
+        }
+    }
+
+    private <S, T> Call<S> enqueue(
+            final SolanaRpcMethod<T> method,
+            final Function<T, S> dtoMapper,
+            final Object... params)
+    {
+        if (executed)
+        {
+            throw new IllegalStateException("Calls cannot be added to a batch that has already been executed.");
+        }
+
+        final BatchCall<S, T> call = new BatchCall<>(transport.nextRequestId(), method, dtoMapper, params);
+        calls.add(call);
+        return call;
+    }
+
+    static final class BatchCall<S, T> implements Call<S>
+    {
+        private final long id;
+        private final SolanaRpcMethod<T> method;
+        private final Function<T, S> dtoMapper;
+        private final Object[] params;
+        private SolanaClientResponse<S> response;
+        private SolanaJsonRpcClientException failure;
+
+        BatchCall(
+                final long id,
+                final SolanaRpcMethod<T> method,
+                final Function<T, S> dtoMapper,
+                final Object[] params)
+        {
+            this.id = id;
+            this.method = method;
+            this.dtoMapper = dtoMapper;
+            this.params = params;
+        }
+
+        long getId()
+        {
+            return id;
+        }
+
+        SolanaRpcMethod<T> getMethod()
+        {
+            return method;
+        }
+
+        Object[] getParams()
+        {
+            return params;
+        }
+
+        void complete(final Result<SolanaClientResponse.SolanaClientError, T> result) throws SolanaJsonRpcClientException
+        {
+            if (result.isError())
+            {
+                this.response = SolanaJsonRpcClientResponse.creatErrorResponse(result.getError());
+            }
+            else
+            {
+                try
+                {
+                    this.response = SolanaJsonRpcClientResponse.createSuccessResponse(dtoMapper.apply(result.getSuccess()));
+                }
+                catch (final RuntimeException e)
+                {
+                    // such as a malformed base64 account or a value the node left out
+                    throw new SolanaJsonRpcClientException(String.format("Unable to map JSON RPC result %s for request id %s.", result.getSuccess(), id), e);
+                }
+            }
+        }
+
+        void fail(final SolanaJsonRpcClientException failure)
+        {
+            if (response == null && this.failure == null)
+            {
+                this.failure = failure;
+            }
+        }
+
+        @Override
+        public SolanaClientResponse<S> getResponse()
+        {
+            if (failure != null)
+            {
+                throw new IllegalStateException(String.format("The batch containing this call failed: %s", failure.getMessage()), failure);
+            }
+            if (response == null)
+            {
+                throw new IllegalStateException("The batch containing this call has not been executed.");
+            }
+            return response;
+        }
+    }
+}
@@ -0,0 +1,192 @@
+package com.lmax.solana4j.client.jsonrpc;
+
+import com.lmax.solana4j.client.api.AsyncSolanaApi;
+import com.lmax.solana4j.client.api.Blockhash;
+import com.lmax.solana4j.client.api.BlockhashProvider;
+import com.lmax.solana4j.client.api.SolanaClientResponse;
+
+import java.net.http.HttpClient;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Implementation of the {@link BlockhashProvider} interface which polls a node with {@code getLatestBlockhash} and
+ * {@code getBlockHeight} through a {@link SolanaJsonRpcAsyncClient}.
+ * <p>
+ * A single daemon thread starts both requests at every refresh interval and waits up to the interval for them, so refreshes
+ * never overlap. Each response is applied as it arrives: a failed or slow request leaves the previous value in place, and a
+ * blockhash is never replaced by one that expires sooner. The expiry listener is called on the thread completing the
+ * response that brought the blockhash within the margin, and should hand off any lengthy work.
+ * </p>
+ */
+public final class SolanaJsonRpcBlockhashProvider implements BlockhashProvider
+{
+    private final AsyncSolanaApi api;
+    private final Duration refreshInterval;
+    private final long expiryMarginBlocks;
+    private final Consumer<Blockhash> expiryListener;
+    private final ScheduledExecutorService refreshScheduler;
+    private final CompletableFuture<Blockhash> ready = new CompletableFuture<>();
+    private final Object lock = new Object();
+    private volatile Blockhash blockhash;
+    private volatile long blockHeight;
+    private String notifiedBlockhash;
+
+    /**
+     * Constructs a new {@code SolanaJsonRpcBlockhashProvider} polling the node at the given url, and fetches the first
+     * blockhash straight away.
+     *
+     * @param httpClient         the {@link HttpClient} instance to use for sending requests.
+     * @param rpcUrl             the URL of the Solana JSON-RPC node.
+     * @param refreshInterval    the {@link Duration} between refreshes, which is also the time a refresh is given to complete.
+     * @param expiryMarginBlocks the number of blocks before its last valid block height at which a blockhash that has not
+     *                           been replaced is reported to the expiry listener.
+     * @param expiryListener     the listener to notify with a blockhash about to expire.
+     */
+    public SolanaJsonRpcBlockhashProvider(
+            final HttpClient httpClient,
+            final String rpcUrl,
+            final Duration refreshInterval,
+            final long expiryMarginBlocks,
+            final Consumer<Blockhash> expiryListener)
+    {
+        this(new SolanaJsonRpcAsyncClient(httpClient, rpcUrl), refreshInterval, expiryMarginBlocks, expiryListener);
+    }
+
+    SolanaJsonRpcBlockhashProvider(
+            final AsyncSolanaApi api,
+            final Duration refreshInterval,
+            final long expiryMarginBlocks,
+            final Consumer<Blockhash> expiryListener)
+    {
+        if (expiryMarginBlocks < 0)
+        {
+            throw new IllegalArgumentException("The expiry margin must not be negative.");
+        }
+        this.api = requireNonNull(api);
+        this.refreshInterval = requireNonNull(refreshInterval);
+        this.expiryMarginBlocks = expiryMarginBlocks;
+        this.expiryListener = requireNonNull(expiryListener);
+        this.refreshScheduler = Executors.newSingleThreadScheduledExecutor(runnable ->
+        {
+            final Thread thread = new Thread(runnable, "solana-blockhash-refresh");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.refreshScheduler.scheduleWithFixedDelay(this::refresh, 0, refreshInterval.toNanos(), TimeUnit.NANOSECONDS);
+    }
+
+    @Override
+    public Blockhash getBlockhash()
+    {
+        final Blockhash latest = blockhash;
+        if (latest == null)
+        {
+            throw new IllegalStateException("No blockhash has been fetched yet.");
+        }
+        if (blockHeight > latest.getLastValidBlockHeight())
+        {
+            throw new IllegalStateException(String.format(
+                    "The latest blockhash %s expired at block height %s, the node is at %s.",
+                    latest.getBlockhashBase58(), latest.getLastValidBlockHeight(), blockHeight));
+        }
+        return latest;
+    }
+
+    @Override
+    public long getBlockHeight()
+    {
+        return blockHeight;
+    }
+
+    @Override
+    public CompletableFuture<Blockhash> ready()
+    {
+        // a copy, so that a caller completing it, say with orTimeout, does not complete it for every other caller
+        return ready.copy();
+    }
+
+    @Override
+    public void close()
+    {
+        refreshScheduler.shutdownNow();
+        ready.completeExceptionally(new IllegalStateException("The blockhash provider was closed before fetching a blockhash."));
+    }
+
+    private void refresh()
+    {
+        final long timeoutNanos = refreshInterval.toNanos();
+        try
+        {
+            final CompletableFuture<Void> latestBlockhash = api.getLatestBlockhash()
+                    .thenAccept(response -> whenSuccessful(response, this::onBlockhash));
+            final CompletableFuture<Void> latestBlockHeight = api.getBlockHeight()
+                    .thenAccept(response -> whenSuccessful(response, this::onBlockHeight));
+
+            // the next refresh is not scheduled until this one completes, so requests never pile up behind a slow node
+            CompletableFuture.allOf(latestBlockhash, latestBlockHeight)
+                    .orTimeout(timeoutNanos, TimeUnit.NANOSECONDS)
+                    .handle((ignored, throwable) -> null)
+                    .join();
+        }
+        catch (final RuntimeException e)
+        {
+            // an exception escaping a scheduled task would cancel every later refresh
+        }
+    }
+
+    private void onBlockhash(final Blockhash fetched)
+    {
+        synchronized (lock)
+        {
+            final Blockhash latest = blockhash;
+            if (latest == null || fetched.getLastValidBlockHeight() >= latest.getLastValidBlockHeight())
+            {
+                blockhash = fetched;
+            }
+        }
+        ready.complete(fetched);
+        checkExpiry();
+    }
+
+    private void onBlockHeight(final long fetched)
+    {
+        synchronized (lock)
+        {
+            blockHeight = Math.max(blockHeight, fetched);
+        }
+        checkExpiry();
+    }
+
+    private void checkExpiry()
+    {
+        final Blockhash expiring;
+        synchronized (lock)
+        {
+            final Blockhash latest = blockhash;
+            if (latest == null || latest.getBlockhashBase58().equals(notifiedBlockhash) || blockHeight == 0
+                    || blockHeight < latest.getLastValidBlockHeight() - expiryMarginBlocks)
+            {
+                return;
+            }
+            // the same blockhash is fetched afresh on every refresh until the node moves on, so it is matched by value
+            notifiedBlockhash = latest.getBlockhashBase58();
+            expiring = latest;
+        }
+        expiryListener.accept(expiring);
+    }
+
+    private static <T> void whenSuccessful(final SolanaClientResponse<T> response, final Consumer<T> consumer)
+    {
+        if (response.isSuccess())
+        {
+            consumer.accept(response.getResponse());
+        }
+    }
+}
@@ -1,13 +1,13 @@
 package com.lmax.solana4j.client.jsonrpc;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.core.type.TypeReference;
 import com.lmax.solana4j.client.api.AccountInfo;
 import com.lmax.solana4j.client.api.Blockhash;
 import com.lmax.solana4j.client.api.SignatureForAddress;
 import com.lmax.solana4j.client.api.SignatureStatus;
 import com.lmax.solana4j.client.api.SimulateTransactionResponse;
 import com.lmax.solana4j.client.api.SolanaApi;
+import com.lmax.solana4j.client.api.SolanaBatch;
+import com.lmax.solana4j.client.api.SolanaClientMetrics;
 import com.lmax.solana4j.client.api.SolanaClientOptionalParams;
 import com.lmax.solana4j.client.api.SolanaClientResponse;
 import com.lmax.solana4j.client.api.SolanaVersion;
@@ -15,13 +15,8 @@ import com.lmax.solana4j.client.api.TokenAccount;
 import com.lmax.solana4j.client.api.TokenAmount;
 import com.lmax.solana4j.client.api.TransactionResponse;
 
-import java.io.IOException;
 import java.net.SocketTimeoutException;
-import java.net.URI;
 import java.net.http.HttpClient;
-import java.net.http.HttpRequest;
-import java.net.http.HttpResponse;
-import java.nio.charset.StandardCharsets;
 import java.time.Duration;
 import java.util.ArrayList;
 import java.util.List;
@@ -38,10 +33,7 @@ import static java.util.Objects.requireNonNull;
  */
 public final class SolanaJsonRpcClient implements SolanaApi
 {
-    private final String rpcUrl;
-    private final HttpClient httpClient;
-    private final SolanaCodec solanaCodec;
-    private final Duration socketTimeout;
+    private final SolanaJsonRpcTransport transport;
 
     /**
      * Constructs a new {@code SolanaJsonRpcClient} with the specified HTTP client and RPC URL.
@@ -56,10 +48,7 @@ public final class SolanaJsonRpcClient implements SolanaApi
             final HttpClient httpClient,
             final String rpcUrl)
     {
-        this.rpcUrl = requireNonNull(rpcUrl);
-        this.httpClient = requireNonNull(httpClient);
-        this.socketTimeout = null;
-        this.solanaCodec = new SolanaCodec(false);
+        this.transport = new SolanaJsonRpcTransport(requireNonNull(httpClient), requireNonNull(rpcUrl), null, false);
     }
 
     /**
@@ -78,10 +67,46 @@ public final class SolanaJsonRpcClient implements SolanaApi
             final String rpcUrl,
             final Duration socketTimeout)
     {
-        this.rpcUrl = requireNonNull(rpcUrl);
-        this.httpClient = requireNonNull(httpClient);
-        this.socketTimeout = requireNonNull(socketTimeout);
-        this.solanaCodec = new SolanaCodec(false);
+        this.transport = new SolanaJsonRpcTransport(requireNonNull(httpClient), requireNonNull(rpcUrl), requireNonNull(socketTimeout), false);
+    }
+
+    /**
+     * Constructs a new {@code SolanaJsonRpcClient} with the specified HTTP client and RPC URL, recording every call to the given metrics.
+     * HTTP calls to RPC endpoints will be made with no socket timeout.
+     *
+     * @param httpClient      the {@link HttpClient} instance to use for sending requests.
+     *                        This allows customization of HTTP settings such as connection pooling,
+     *                        SSL context, and timeout configurations.
+     * @param rpcUrl          the URL of the Solana JSON-RPC node.
+     * @param metrics         the {@link SolanaClientMetrics} to record the phases, sizes and outcome of each call to.
+     */
+    public SolanaJsonRpcClient(
+            final HttpClient httpClient,
+            final String rpcUrl,
+            final SolanaClientMetrics metrics)
+    {
+        this.transport = new SolanaJsonRpcTransport(requireNonNull(httpClient), requireNonNull(rpcUrl), null, false, requireNonNull(metrics));
+    }
+
+    /**
+     * Constructs a new {@code SolanaJsonRpcClient} with the specified HTTP client and RPC URL, recording every call to the given metrics.
+     * HTTP calls to RPC endpoints will be made with the given socket timeout.
+     *
+     * @param httpClient      the {@link HttpClient} instance to use for sending requests.
+     *                        This allows customization of HTTP settings such as connection pooling,
+     *                        SSL context, and timeout configurations.
+     * @param rpcUrl          the URL of the Solana JSON-RPC node.
+     * @param socketTimeout   the {@link Duration} of inactivity on the HTTP connection that will
+     *                        result in a {@link SocketTimeoutException} when making an RPC call.
+     * @param metrics         the {@link SolanaClientMetrics} to record the phases, sizes and outcome of each call to.
+     */
+    public SolanaJsonRpcClient(
+            final HttpClient httpClient,
+            final String rpcUrl,
+            final Duration socketTimeout,
+            final SolanaClientMetrics metrics)
+    {
+        this.transport = new SolanaJsonRpcTransport(requireNonNull(httpClient), requireNonNull(rpcUrl), requireNonNull(socketTimeout), false, requireNonNull(metrics));
     }
 
     SolanaJsonRpcClient(
@@ -89,40 +114,27 @@ public final class SolanaJsonRpcClient implements SolanaApi
             final String rpcUrl,
             final boolean failOnUnknownProperties)
     {
-        this.rpcUrl = rpcUrl;
-        this.httpClient = httpClient;
-        this.solanaCodec = new SolanaCodec(failOnUnknownProperties);
-        this.socketTimeout = null;
+        this.transport = new SolanaJsonRpcTransport(httpClient, rpcUrl, null, failOnUnknownProperties);
     }
 
     @Override
     public SolanaClientResponse<String> requestAirdrop(final String address, final long amountLamports) throws SolanaJsonRpcClientException
     {
-        return queryForObject(new TypeReference<RpcWrapperDTO<String>>()
-                              {
-                              },
-                dto -> dto, "requestAirdrop", address, amountLamports,
+        return queryForObject(SolanaRpcMethod.REQUEST_AIRDROP, dto -> dto, address, amountLamports,
                 defaultOptionalParams());
     }
 
     @Override
     public SolanaClientResponse<String> requestAirdrop(final String address, final long amountLamports, final SolanaClientOptionalParams optionalParams) throws SolanaJsonRpcClientException
     {
-        return queryForObject(new TypeReference<RpcWrapperDTO<String>>()
-                              {
-                              },
-                dto -> dto, "requestAirdrop", address, amountLamports,
+        return queryForObject(SolanaRpcMethod.REQUEST_AIRDROP, dto -> dto, address, amountLamports,
                 optionalParams.getParams());
     }
 
     @Override
     public SolanaClientResponse<String> sendTransaction(final String transactionBlob) throws SolanaJsonRpcClientException
     {
-        return queryForObject(new TypeReference<RpcWrapperDTO<String>>()
-                              {
-                              },
-                dto -> dto,
-                "sendTransaction",
+        return queryForObject(SolanaRpcMethod.SEND_TRANSACTION, dto -> dto,
                 transactionBlob,
                 defaultOptionalParams());
     }
@@ -130,11 +142,7 @@ public final class SolanaJsonRpcClient implements SolanaApi
     @Override
     public SolanaClientResponse<String> sendTransaction(final String transactionBlob, final SolanaClientOptionalParams optionalParams) throws SolanaJsonRpcClientException
     {
-        return queryForObject(new TypeReference<RpcWrapperDTO<String>>()
-                              {
-                              },
-                dto -> dto,
-                "sendTransaction",
+        return queryForObject(SolanaRpcMethod.SEND_TRANSACTION, dto -> dto,
                 transactionBlob,
                 optionalParams.getParams());
     }
@@ -142,70 +150,49 @@ public final class SolanaJsonRpcClient implements SolanaApi
     @Override
     public SolanaClientResponse<TransactionResponse> getTransaction(final String transactionSignature) throws SolanaJsonRpcClientException
     {
-        return queryForObject(new TypeReference<RpcWrapperDTO<TransactionResponseDTO>>()
-                              {
-                              },
-                dto -> dto, "getTransaction", transactionSignature,
+        return queryForObject(SolanaRpcMethod.GET_TRANSACTION, dto -> dto, transactionSignature,
                 defaultOptionalParams());
     }
 
     @Override
     public SolanaClientResponse<TransactionResponse> getTransaction(final String transactionSignature, final SolanaClientOptionalParams optionalParams) throws SolanaJsonRpcClientException
     {
-        return queryForObject(new TypeReference<RpcWrapperDTO<TransactionResponseDTO>>()
-                              {
-                              },
-                dto -> dto, "getTransaction", transactionSignature,
+        return queryForObject(SolanaRpcMethod.GET_TRANSACTION, dto -> dto, transactionSignature,
                 optionalParams.getParams());
     }
 
     @Override
     public SolanaClientResponse<Long> getBalance(final String address) throws SolanaJsonRpcClientException
     {
-        return queryForObject(new TypeReference<>()
-                              {
-                              },
-                BalanceDTO::getValue, "getBalance", address,
+        return queryForObject(SolanaRpcMethod.GET_BALANCE, BalanceDTO::getValue, address,
                 defaultOptionalParams());
     }
 
     @Override
     public SolanaClientResponse<Long> getBalance(final String address, final SolanaClientOptionalParams optionalParams) throws SolanaJsonRpcClientException
     {
-        return queryForObject(new TypeReference<>()
-                              {
-                              },
-                BalanceDTO::getValue, "getBalance", address,
+        return queryForObject(SolanaRpcMethod.GET_BALANCE, BalanceDTO::getValue, address,
                 optionalParams.getParams());
     }
 
     @Override
     public SolanaClientResponse<TokenAmount> getTokenAccountBalance(final String address) throws SolanaJsonRpcClientException
     {
-        return queryForObject(new TypeReference<>()
-                              {
-                              },
-                TokenAmountDTO::getValue, "getTokenAccountBalance", address,
+        return queryForObject(SolanaRpcMethod.GET_TOKEN_ACCOUNT_BALANCE, TokenAmountDTO::getValue, address,
                 defaultOptionalParams());
     }
 
     @Override
     public SolanaClientResponse<TokenAmount> getTokenAccountBalance(final String address, final SolanaClientOptionalParams optionalParams) throws SolanaJsonRpcClientException
     {
-        return queryForObject(new TypeReference<>()
-                              {
-                              },
-                TokenAmountDTO::getValue, "getTokenAccountBalance", address,
+        return queryForObject(SolanaRpcMethod.GET_TOKEN_ACCOUNT_BALANCE, TokenAmountDTO::getValue, address,
                 optionalParams.getParams());
     }
 
     @Override
     public SolanaClientResponse<AccountInfo> getAccountInfo(final String address) throws SolanaJsonRpcClientException
     {
-        return queryForObject(new TypeReference<>()
-                              {
-                              },
-                AccountInfoDTO::getValue, "getAccountInfo", address,
+        return queryForObject(SolanaRpcMethod.GET_ACCOUNT_INFO, AccountInfoDTO::getValue, address,
                 defaultOptionalParams()
         );
     }
@@ -213,119 +200,95 @@ public final class SolanaJsonRpcClient implements SolanaApi
     @Override
     public SolanaClientResponse<AccountInfo> getAccountInfo(final String address, final SolanaClientOptionalParams optionalParams) throws SolanaJsonRpcClientException
     {
-        return queryForObject(new TypeReference<>()
-                              {
-                              },
-                AccountInfoDTO::getValue, "getAccountInfo", address,
+        return queryForObject(SolanaRpcMethod.GET_ACCOUNT_INFO, AccountInfoDTO::getValue, address,
                 optionalParams.getParams()
         );
     }
 
+    @Override
+    public SolanaClientResponse<List<AccountInfo>> getMultipleAccounts(final List<String> addresses) throws SolanaJsonRpcClientException
+    {
+        return getMultipleAccounts(addresses, defaultOptionalParams());
+    }
+
+    @Override
+    public SolanaClientResponse<List<AccountInfo>> getMultipleAccounts(final List<String> addresses, final SolanaClientOptionalParams optionalParams) throws SolanaJsonRpcClientException
+    {
+        return getMultipleAccounts(addresses, optionalParams.getParams());
+    }
+
     @Override
     public SolanaClientResponse<Long> getBlockHeight() throws SolanaJsonRpcClientException
     {
-        return queryForObject(new TypeReference<RpcWrapperDTO<Long>>()
-                              {
-                              },
-                dto -> dto, "getBlockHeight",
+        return queryForObject(SolanaRpcMethod.GET_BLOCK_HEIGHT, dto -> dto,
                 defaultOptionalParams());
     }
 
     @Override
     public SolanaClientResponse<Long> getBlockHeight(final SolanaClientOptionalParams optionalParams) throws SolanaJsonRpcClientException
     {
-        return queryForObject(new TypeReference<RpcWrapperDTO<Long>>()
-                              {
-                              },
-                dto -> dto, "getBlockHeight",
+        return queryForObject(SolanaRpcMethod.GET_BLOCK_HEIGHT, dto -> dto,
                 optionalParams.getParams());
     }
 
     @Override
     public SolanaClientResponse<Long> getSlot() throws SolanaJsonRpcClientException
     {
-        return queryForObject(new TypeReference<RpcWrapperDTO<Long>>()
-                              {
-                              },
-                dto -> dto, "getSlot",
+        return queryForObject(SolanaRpcMethod.GET_SLOT, dto -> dto,
                 defaultOptionalParams());
     }
 
     @Override
     public SolanaClientResponse<Long> getSlot(final SolanaClientOptionalParams optionalParams) throws SolanaJsonRpcClientException
     {
-        return queryForObject(new TypeReference<RpcWrapperDTO<Long>>()
-                              {
-                              },
-                dto -> dto, "getSlot",
+        return queryForObject(SolanaRpcMethod.GET_SLOT, dto -> dto,
                 optionalParams.getParams());
     }
 
     @Override
     public SolanaClientResponse<Blockhash> getLatestBlockhash() throws SolanaJsonRpcClientException
     {
-        return queryForObject(new TypeReference<>()
-                              {
-                              },
-                BlockhashDTO::getValue, "getLatestBlockhash",
+        return queryForObject(SolanaRpcMethod.GET_LATEST_BLOCKHASH, BlockhashDTO::getValue,
                 defaultOptionalParams());
     }
 
     @Override
     public SolanaClientResponse<Blockhash> getLatestBlockhash(final SolanaClientOptionalParams optionalParams) throws SolanaJsonRpcClientException
     {
-        return queryForObject(new TypeReference<>()
-                              {
-                              },
-                BlockhashDTO::getValue, "getLatestBlockhash",
+        return queryForObject(SolanaRpcMethod.GET_LATEST_BLOCKHASH, BlockhashDTO::getValue,
                 optionalParams.getParams());
     }
 
     @Override
     public SolanaClientResponse<Long> getMinimumBalanceForRentExemption(final int size) throws SolanaJsonRpcClientException
     {
-        return queryForObject(new TypeReference<RpcWrapperDTO<Long>>()
-                              {
-                              },
-                dto -> dto, "getMinimumBalanceForRentExemption", size,
+        return queryForObject(SolanaRpcMethod.GET_MINIMUM_BALANCE_FOR_RENT_EXEMPTION, dto -> dto, size,
                 defaultOptionalParams());
     }
 
     @Override
     public SolanaClientResponse<Long> getMinimumBalanceForRentExemption(final int size, final SolanaClientOptionalParams optionalParams) throws SolanaJsonRpcClientException
     {
-        return queryForObject(new TypeReference<RpcWrapperDTO<Long>>()
-                              {
-                              },
-                dto -> dto, "getMinimumBalanceForRentExemption", size,
+        return queryForObject(SolanaRpcMethod.GET_MINIMUM_BALANCE_FOR_RENT_EXEMPTION, dto -> dto, size,
                 optionalParams.getParams());
     }
 
     @Override
     public SolanaClientResponse<Long> minimumLedgerSlot() throws SolanaJsonRpcClientException
     {
-        return queryForObject(new TypeReference<RpcWrapperDTO<Long>>()
-                              {
-                              },
-                dto -> dto, "minimumLedgerSlot");
+        return queryForObject(SolanaRpcMethod.MINIMUM_LEDGER_SLOT, dto -> dto);
     }
 
     @Override
     public SolanaClientResponse<String> getHealth() throws SolanaJsonRpcClientException
     {
-        return queryForObject(new TypeReference<RpcWrapperDTO<String>>()
-                              {
-                              },
-                dto -> dto, "getHealth");
+        return queryForObject(SolanaRpcMethod.GET_HEALTH, dto -> dto);
     }
 
     @Override
     public SolanaClientResponse<List<SignatureForAddress>> getSignaturesForAddress(final String address) throws SolanaJsonRpcClientException
     {
-        return queryForObject(new TypeReference<RpcWrapperDTO<List<SignatureForAddressDTO>>>()
-                              {
-                              },
-                ArrayList::new, "getSignaturesForAddress", address);
+        return queryForObject(SolanaRpcMethod.GET_SIGNATURES_FOR_ADDRESS, ArrayList::new, address);
     }
 
     @Override
@@ -333,10 +296,7 @@ public final class SolanaJsonRpcClient implements SolanaApi
             final String address,
             final SolanaClientOptionalParams optionalParams) throws SolanaJsonRpcClientException
     {
-        return queryForObject(new TypeReference<RpcWrapperDTO<List<SignatureForAddressDTO>>>()
-                              {
-                              },
-                ArrayList::new, "getSignaturesForAddress", address,
+        return queryForObject(SolanaRpcMethod.GET_SIGNATURES_FOR_ADDRESS, ArrayList::new, address,
                 optionalParams.getParams());
     }
 
@@ -347,10 +307,7 @@ public final class SolanaJsonRpcClient implements SolanaApi
         // it's not such an optional field, apparently
         defaultOptionalParams.put("searchTransactionHistory", false);
 
-        return queryForObject(new TypeReference<>()
-                              {
-                              },
-                SignatureStatusesDTO::getValue, "getSignatureStatuses", transactionSignatures,
+        return queryForObject(SolanaRpcMethod.GET_SIGNATURE_STATUSES, SignatureStatusesDTO::getValue, transactionSignatures,
                 defaultOptionalParams);
     }
 
@@ -359,20 +316,14 @@ public final class SolanaJsonRpcClient implements SolanaApi
             final List<String> transactionSignatures,
             final SolanaClientOptionalParams optionalParams) throws SolanaJsonRpcClientException
     {
-        return queryForObject(new TypeReference<>()
-                              {
-                              },
-                SignatureStatusesDTO::getValue, "getSignatureStatuses", transactionSignatures,
+        return queryForObject(SolanaRpcMethod.GET_SIGNATURE_STATUSES, SignatureStatusesDTO::getValue, transactionSignatures,
                 optionalParams.getParams());
     }
 
     @Override
     public SolanaClientResponse<List<TokenAccount>> getTokenAccountsByOwner(final String accountDelegate, final Map.Entry<String, String> filter) throws SolanaJsonRpcClientException
     {
-        return queryForObject(new TypeReference<>()
-                              {
-                              },
-                TokenAccountsByOwnerDTO::getValue, "getTokenAccountsByOwner", accountDelegate, filter,
+        return queryForObject(SolanaRpcMethod.GET_TOKEN_ACCOUNTS_BY_OWNER, TokenAccountsByOwnerDTO::getValue, accountDelegate, filter,
                 defaultOptionalParams());
     }
 
@@ -382,123 +333,66 @@ public final class SolanaJsonRpcClient implements SolanaApi
             final Map.Entry<String, String> filter,
             final SolanaClientOptionalParams optionalParams) throws SolanaJsonRpcClientException
     {
-        return queryForObject(new TypeReference<>()
-                              {
-                              },
-                TokenAccountsByOwnerDTO::getValue, "getTokenAccountsByOwner", accountDelegate, filter,
+        return queryForObject(SolanaRpcMethod.GET_TOKEN_ACCOUNTS_BY_OWNER, TokenAccountsByOwnerDTO::getValue, accountDelegate, filter,
                 optionalParams.getParams());
     }
 
     @Override
     public SolanaClientResponse<SimulateTransactionResponse> simulateTransaction(final String transaction) throws SolanaJsonRpcClientException
     {
-        return queryForObject(new TypeReference<>()
-                              {
-                              },
-                SimulateTransactionResponseDTO::getValue, "simulateTransaction", transaction,
+        return queryForObject(SolanaRpcMethod.SIMULATE_TRANSACTION, SimulateTransactionResponseDTO::getValue, transaction,
                 defaultOptionalParams());
     }
 
     @Override
     public SolanaClientResponse<SimulateTransactionResponse> simulateTransaction(final String transaction, final SolanaClientOptionalParams optionalParams) throws SolanaJsonRpcClientException
     {
-        return queryForObject(new TypeReference<>()
-                              {
-                              },
-                SimulateTransactionResponseDTO::getValue, "simulateTransaction", transaction,
+        return queryForObject(SolanaRpcMethod.SIMULATE_TRANSACTION, SimulateTransactionResponseDTO::getValue, transaction,
                 optionalParams.getParams());
     }
 
     @Override
     public SolanaClientResponse<SolanaVersion> getVersion() throws SolanaJsonRpcClientException
     {
-        return queryForObject(new TypeReference<RpcWrapperDTO<SolanaVersionDTO>>()
-                              {
-                              },
-                dto -> dto, "getVersion");
+        return queryForObject(SolanaRpcMethod.GET_VERSION, dto -> dto);
     }
 
-    private <S, T> SolanaClientResponse<S> queryForObject(
-            final TypeReference<RpcWrapperDTO<T>> type,
-            final Function<T, S> dtoMapper,
-            final String method,
-            final Object... params) throws SolanaJsonRpcClientException
+    @Override
+    public SolanaBatch batch()
     {
-        final HttpRequest request = prepareRequest(method, params);
-        final HttpResponse<String> httpResponse = sendRequest(request);
-
-        final Result<SolanaClientResponse.SolanaClientError, T> response = decodeResponse(type, httpResponse);
-        if (response.isError())
-        {
-            return SolanaJsonRpcClientResponse.creatErrorResponse(response.getError());
-        }
-
-        return SolanaJsonRpcClientResponse.createSuccessResponse(dtoMapper.apply(response.getSuccess()));
+        return new SolanaJsonRpcBatch(transport);
     }
 
-    private HttpRequest prepareRequest(final String method, final Object[] params) throws SolanaJsonRpcClientException
+    private SolanaClientResponse<List<AccountInfo>> getMultipleAccounts(final List<String> addresses, final Map<String, Object> params) throws SolanaJsonRpcClientException
     {
-        try
-        {
-            return buildPostRequest(solanaCodec.encodeRequest(method, params));
-        }
-        catch (final JsonProcessingException e)
+        if (addresses.size() <= MultipleAccountsRequest.MAX_ACCOUNTS_PER_REQUEST)
         {
-            throw new SolanaJsonRpcClientException(String.format("An error occurred building the JSON RPC request for method %s.", method), e);
+            return queryForObject(SolanaRpcMethod.GET_MULTIPLE_ACCOUNTS, MultipleAccountsDTO::getValue, addresses,
+                    MultipleAccountsRequest.base64Params(params));
         }
-    }
 
-    private HttpResponse<String> sendRequest(final HttpRequest request) throws SolanaJsonRpcClientException
-    {
-        try
-        {
-            final HttpResponse<String> httpResponse = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
-            if (httpResponse.statusCode() != 200)
-            {
-                throw new SolanaJsonRpcClientException(String.format("Unexpected status code %s returned from the JSON RPC for request %s.", httpResponse.statusCode(), request));
-            }
-            else
-            {
-                return httpResponse;
-            }
-        }
-        catch (final IOException | InterruptedException e)
+        // one round trip regardless of how many chunks the node's key limit forces us to split into
+        final SolanaJsonRpcBatch batch = new SolanaJsonRpcBatch(transport);
+        final List<SolanaBatch.Call<List<AccountInfo>>> calls = new ArrayList<>();
+        for (final List<String> chunk : MultipleAccountsRequest.partition(addresses))
         {
-            throw new SolanaJsonRpcClientException(String.format("Unable to communicate with the JSON RPC for request %s.", request), e, true);
+            calls.add(batch.getMultipleAccounts(chunk, params));
         }
-    }
+        batch.execute();
 
-    private <T> Result<SolanaClientResponse.SolanaClientError, T> decodeResponse(
-            final TypeReference<RpcWrapperDTO<T>> type,
-            final HttpResponse<String> httpResponse) throws SolanaJsonRpcClientException
-    {
-        try
-        {
-            final RpcWrapperDTO<T> rpcResult = solanaCodec.decodeResponse(httpResponse.body().getBytes(StandardCharsets.UTF_8), type);
-            if (rpcResult.getError() != null)
-            {
-                return Result.error(new SolanaJsonRpcClientError(rpcResult.getError().getCode(), rpcResult.getError().getMessage()));
-            }
-            return Result.success(rpcResult.getResult());
-        }
-        catch (final IOException e)
+        final List<SolanaClientResponse<List<AccountInfo>>> responses = new ArrayList<>(calls.size());
+        for (final SolanaBatch.Call<List<AccountInfo>> call : calls)
         {
-            throw new SolanaJsonRpcClientException(String.format("Unable to decode JSON RPC response %s.", httpResponse), e);
+            responses.add(call.getResponse());
         }
+        return MultipleAccountsRequest.merge(responses);
     }
 
-    private HttpRequest buildPostRequest(final String payload)
+    private <S, T> SolanaClientResponse<S> queryForObject(
+            final SolanaRpcMethod<T> method,
+            final Function<T, S> dtoMapper,
+            final Object... params) throws SolanaJsonRpcClientException
     {
-        final HttpRequest.Builder request = HttpRequest.newBuilder();
-        request.uri(URI.create(rpcUrl));
-        request.setHeader("Content-Type", "application/json");
-        request.POST(HttpRequest.BodyPublishers.ofString(payload));
-
-        if (socketTimeout != null)
-        {
-            request.timeout(socketTimeout);
-        }
-
-        return request.build();
+        return transport.queryForObject(method, dtoMapper, params);
     }
 }
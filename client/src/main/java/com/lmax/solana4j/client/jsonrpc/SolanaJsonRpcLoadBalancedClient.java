@@ -0,0 +1,912 @@
+package com.lmax.solana4j.client.jsonrpc;
+
+import com.lmax.solana4j.client.api.AccountInfo;
+import com.lmax.solana4j.client.api.AsyncSolanaApi;
+import com.lmax.solana4j.client.api.Blockhash;
+import com.lmax.solana4j.client.api.LoadBalancedSolanaApi;
+import com.lmax.solana4j.client.api.SignatureForAddress;
+import com.lmax.solana4j.client.api.SignatureStatus;
+import com.lmax.solana4j.client.api.SimulateTransactionResponse;
+import com.lmax.solana4j.client.api.SolanaApi;
+import com.lmax.solana4j.client.api.SolanaBatch;
+import com.lmax.solana4j.client.api.SolanaClientOptionalParams;
+import com.lmax.solana4j.client.api.SolanaClientResponse;
+import com.lmax.solana4j.client.api.SolanaVersion;
+import com.lmax.solana4j.client.api.TokenAccount;
+import com.lmax.solana4j.client.api.TokenAmount;
+import com.lmax.solana4j.client.api.TransactionResponse;
+
+import java.net.http.HttpClient;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Implementation of the {@link LoadBalancedSolanaApi} interface over a {@link SolanaJsonRpcClient} for each node.
+ * <p>
+ * A single daemon thread probes every node with {@code getHealth} and {@code getSlot} through a
+ * {@link SolanaJsonRpcAsyncClient}, so that a slow node does not hold up the probes of the others. A probe that has not
+ * completed within the probe interval counts as failed. Requests are routed on the result of the latest probes, with ties
+ * between equally loaded nodes taken in turn.
+ * </p>
+ * <p>
+ * A transaction sent to every node is answered with the first successful response. Failing that, the first error response
+ * is returned once every node that was healthy when it was sent has answered, so that a node which has stopped responding
+ * cannot hold up a transaction every responsive node rejects. No transaction waits longer than the socket timeout, or
+ * thirty seconds if none is given, for the nodes to answer.
+ * </p>
+ */
+public final class SolanaJsonRpcLoadBalancedClient implements LoadBalancedSolanaApi
+{
+    private static final String HEALTHY = "ok";
+    private static final Duration DEFAULT_FAN_OUT_TIMEOUT = Duration.ofSeconds(30);
+
+    private final List<Node> nodes;
+    private final long maxSlotLag;
+    private final Duration probeInterval;
+    private final Duration fanOutTimeout;
+    private final ScheduledExecutorService probeScheduler;
+    private final AtomicInteger nextNode = new AtomicInteger();
+
+    /**
+     * Constructs a new {@code SolanaJsonRpcLoadBalancedClient} fronting a node at each of the given urls, and starts
+     * probing them.
+     *
+     * @param httpClient      the {@link HttpClient} instance to use for sending requests and probes to every node.
+     * @param rpcUrls         the urls of the Solana JSON-RPC nodes.
+     * @param maxSlotLag      the most slots a node may be behind the most advanced healthy node and still be sent requests.
+     * @param probeInterval   the {@link Duration} between probes of each node, which is also the time a probe is given to complete.
+     */
+    public SolanaJsonRpcLoadBalancedClient(
+            final HttpClient httpClient,
+            final List<String> rpcUrls,
+            final long maxSlotLag,
+            final Duration probeInterval)
+    {
+        this(nodesFor(requireNonNull(httpClient), requireNonNull(rpcUrls), null), maxSlotLag, probeInterval, DEFAULT_FAN_OUT_TIMEOUT);
+    }
+
+    /**
+     * Constructs a new {@code SolanaJsonRpcLoadBalancedClient} fronting a node at each of the given urls, and starts
+     * probing them.
+     *
+     * @param httpClient      the {@link HttpClient} instance to use for sending requests and probes to every node.
+     * @param rpcUrls         the urls of the Solana JSON-RPC nodes.
+     * @param maxSlotLag      the most slots a node may be behind the most advanced healthy node and still be sent requests.
+     * @param probeInterval   the {@link Duration} between probes of each node, which is also the time a probe is given to complete.
+     * @param socketTimeout   the {@link Duration} of inactivity on the HTTP connection that will result in a
+     *                        {@link java.net.SocketTimeoutException} when making an RPC call, which is also the longest a
+     *                        transaction waits for the nodes to answer.
+     */
+    public SolanaJsonRpcLoadBalancedClient(
+            final HttpClient httpClient,
+            final List<String> rpcUrls,
+            final long maxSlotLag,
+            final Duration probeInterval,
+            final Duration socketTimeout)
+    {
+        this(nodesFor(requireNonNull(httpClient), requireNonNull(rpcUrls), requireNonNull(socketTimeout)), maxSlotLag, probeInterval, socketTimeout);
+    }
+
+    SolanaJsonRpcLoadBalancedClient(
+            final List<Node> nodes,
+            final long maxSlotLag,
+            final Duration probeInterval,
+            final Duration fanOutTimeout)
+    {
+        if (nodes.isEmpty())
+        {
+            throw new IllegalArgumentException("At least one rpc url is required.");
+        }
+        if (maxSlotLag < 0)
+        {
+            throw new IllegalArgumentException("The maximum slot lag must not be negative.");
+        }
+        this.nodes = List.copyOf(nodes);
+        this.maxSlotLag = maxSlotLag;
+        this.probeInterval = requireNonNull(probeInterval);
+        this.fanOutTimeout = requireNonNull(fanOutTimeout);
+        this.probeScheduler = Executors.newSingleThreadScheduledExecutor(runnable ->
+        {
+            final Thread thread = new Thread(runnable, "solana-endpoint-probe");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.probeScheduler.scheduleWithFixedDelay(this::probe, 0, probeInterval.toNanos(), TimeUnit.NANOSECONDS);
+    }
+
+    @Override
+    public List<Endpoint> endpoints()
+    {
+        return List.copyOf(nodes);
+    }
+
+    @Override
+    public void close()
+    {
+        probeScheduler.shutdownNow();
+    }
+
+    @Override
+    public SolanaClientResponse<String> requestAirdrop(final String address, final long amountLamports) throws SolanaJsonRpcClientException
+    {
+        return route(api -> api.requestAirdrop(address, amountLamports));
+    }
+
+    @Override
+    public SolanaClientResponse<String> requestAirdrop(final String address, final long amountLamports, final SolanaClientOptionalParams optionalParams) throws SolanaJsonRpcClientException
+    {
+        return route(api -> api.requestAirdrop(address, amountLamports, optionalParams));
+    }
+
+    @Override
+    public SolanaClientResponse<String> sendTransaction(final String transactionBlob) throws SolanaJsonRpcClientException
+    {
+        return fanOut(async -> async.sendTransaction(transactionBlob));
+    }
+
+    @Override
+    public SolanaClientResponse<String> sendTransaction(final String transactionBlob, final SolanaClientOptionalParams optionalParams) throws SolanaJsonRpcClientException
+    {
+        return fanOut(async -> async.sendTransaction(transactionBlob, optionalParams));
+    }
+
+    @Override
+    public SolanaClientResponse<TransactionResponse> getTransaction(final String transactionSignature) throws SolanaJsonRpcClientException
+    {
+        return route(api -> api.getTransaction(transactionSignature));
+    }
+
+    @Override
+    public SolanaClientResponse<TransactionResponse> getTransaction(final String transactionSignature, final SolanaClientOptionalParams optionalParams) throws SolanaJsonRpcClientException
+    {
+        return route(api -> api.getTransaction(transactionSignature, optionalParams));
+    }
+
+    @Override
+    public SolanaClientResponse<Long> getBalance(final String address) throws SolanaJsonRpcClientException
+    {
+        return route(api -> api.getBalance(address));
+    }
+
+    @Override
+    public SolanaClientResponse<Long> getBalance(final String address, final SolanaClientOptionalParams optionalParams) throws SolanaJsonRpcClientException
+    {
+        return route(api -> api.getBalance(address, optionalParams));
+    }
+
+    @Override
+    public SolanaClientResponse<TokenAmount> getTokenAccountBalance(final String address) throws SolanaJsonRpcClientException
+    {
+        return route(api -> api.getTokenAccountBalance(address));
+    }
+
+    @Override
+    public SolanaClientResponse<TokenAmount> getTokenAccountBalance(final String address, final SolanaClientOptionalParams optionalParams) throws SolanaJsonRpcClientException
+    {
+        return route(api -> api.getTokenAccountBalance(address, optionalParams));
+    }
+
+    @Override
+    public SolanaClientResponse<AccountInfo> getAccountInfo(final String address) throws SolanaJsonRpcClientException
+    {
+        return route(api -> api.getAccountInfo(address));
+    }
+
+    @Override
+    public SolanaClientResponse<AccountInfo> getAccountInfo(final String address, final SolanaClientOptionalParams optionalParams) throws SolanaJsonRpcClientException
+    {
+        return route(api -> api.getAccountInfo(address, optionalParams));
+    }
+
+    @Override
+    public SolanaClientResponse<List<AccountInfo>> getMultipleAccounts(final List<String> addresses) throws SolanaJsonRpcClientException
+    {
+        return route(api -> api.getMultipleAccounts(addresses));
+    }
+
+    @Override
+    public SolanaClientResponse<List<AccountInfo>> getMultipleAccounts(final List<String> addresses, final SolanaClientOptionalParams optionalParams) throws SolanaJsonRpcClientException
+    {
+        return route(api -> api.getMultipleAccounts(addresses, optionalParams));
+    }
+
+    @Override
+    public SolanaClientResponse<Long> getBlockHeight() throws SolanaJsonRpcClientException
+    {
+        return route(SolanaApi::getBlockHeight);
+    }
+
+    @Override
+    public SolanaClientResponse<Long> getBlockHeight(final SolanaClientOptionalParams optionalParams) throws SolanaJsonRpcClientException
+    {
+        return route(api -> api.getBlockHeight(optionalParams));
+    }
+
+    @Override
+    public SolanaClientResponse<Long> getSlot() throws SolanaJsonRpcClientException
+    {
+        return route(SolanaApi::getSlot);
+    }
+
+    @Override
+    public SolanaClientResponse<Long> getSlot(final SolanaClientOptionalParams optionalParams) throws SolanaJsonRpcClientException
+    {
+        return route(api -> api.getSlot(optionalParams));
+    }
+
+    @Override
+    public SolanaClientResponse<Blockhash> getLatestBlockhash() throws SolanaJsonRpcClientException
+    {
+        return route(SolanaApi::getLatestBlockhash);
+    }
+
+    @Override
+    public SolanaClientResponse<Blockhash> getLatestBlockhash(final SolanaClientOptionalParams optionalParams) throws SolanaJsonRpcClientException
+    {
+        return route(api -> api.getLatestBlockhash(optionalParams));
+    }
+
+    @Override
+    public SolanaClientResponse<Long> getMinimumBalanceForRentExemption(final int size) throws SolanaJsonRpcClientException
+    {
+        return route(api -> api.getMinimumBalanceForRentExemption(size));
+    }
+
+    @Override
+    public SolanaClientResponse<Long> getMinimumBalanceForRentExemption(final int size, final SolanaClientOptionalParams optionalParams) throws SolanaJsonRpcClientException
+    {
+        return route(api -> api.getMinimumBalanceForRentExemption(size, optionalParams));
+    }
+
+    @Override
+    public SolanaClientResponse<Long> minimumLedgerSlot() throws SolanaJsonRpcClientException
+    {
+        return route(SolanaApi::minimumLedgerSlot);
+    }
+
+    @Override
+    public SolanaClientResponse<String> getHealth() throws SolanaJsonRpcClientException
+    {
+        return route(SolanaApi::getHealth);
+    }
+
+    @Override
+    public SolanaClientResponse<List<SignatureForAddress>> getSignaturesForAddress(final String address) throws SolanaJsonRpcClientException
+    {
+        return route(api -> api.getSignaturesForAddress(address));
+    }
+
+    @Override
+    public SolanaClientResponse<List<SignatureForAddress>> getSignaturesForAddress(
+            final String address,
+            final SolanaClientOptionalParams optionalParams) throws SolanaJsonRpcClientException
+    {
+        return route(api -> api.getSignaturesForAddress(address, optionalParams));
+    }
+
+    @Override
+    public SolanaClientResponse<List<SignatureStatus>> getSignatureStatuses(final List<String> transactionSignatures) throws SolanaJsonRpcClientException
+    {
+        return route(api -> api.getSignatureStatuses(transactionSignatures));
+    }
+
+    @Override
+    public SolanaClientResponse<List<SignatureStatus>> getSignatureStatuses(
+            final List<String> transactionSignatures,
+            final SolanaClientOptionalParams optionalParams) throws SolanaJsonRpcClientException
+    {
+        return route(api -> api.getSignatureStatuses(transactionSignatures, optionalParams));
+    }
+
+    @Override
+    public SolanaClientResponse<List<TokenAccount>> getTokenAccountsByOwner(final String accountDelegate, final Map.Entry<String, String> filter) throws SolanaJsonRpcClientException
+    {
+        return route(api -> api.getTokenAccountsByOwner(accountDelegate, filter));
+    }
+
+    @Override
+    public SolanaClientResponse<List<TokenAccount>> getTokenAccountsByOwner(
+            final String accountDelegate,
+            final Map.Entry<String, String> filter,
+            final SolanaClientOptionalParams optionalParams) throws SolanaJsonRpcClientException
+    {
+        return route(api -> api.getTokenAccountsByOwner(accountDelegate, filter, optionalParams));
+    }
+
+    @Override
+    public SolanaClientResponse<SimulateTransactionResponse> simulateTransaction(final String transaction) throws SolanaJsonRpcClientException
+    {
+        return route(api -> api.simulateTransaction(transaction));
+    }
+
+    @Override
+    public SolanaClientResponse<SimulateTransactionResponse> simulateTransaction(final String transaction, final SolanaClientOptionalParams optionalParams) throws SolanaJsonRpcClientException
+    {
+        return route(api -> api.simulateTransaction(transaction, optionalParams));
+    }
+
+    @Override
+    public SolanaClientResponse<SolanaVersion> getVersion() throws SolanaJsonRpcClientException
+    {
+        return route(SolanaApi::getVersion);
+    }
+
+    /**
+     * Returns a batch whose requests are all sent to the one node that would have been chosen for a single request, and
+     * which counts towards that node's load and health as a single request does.
+     */
+    @Override
+    public SolanaBatch batch()
+    {
+        return new RoutedBatch(select());
+    }
+
+    private <T> SolanaClientResponse<T> route(final Request<T> request) throws SolanaJsonRpcClientException
+    {
+        final Node node = select();
+        node.inFlight.incrementAndGet();
+        try
+        {
+            return request.send(node.api);
+        }
+        catch (final SolanaJsonRpcClientException e)
+        {
+            node.healthy = false;
+            throw e;
+        }
+        finally
+        {
+            node.inFlight.decrementAndGet();
+        }
+    }
+
+    /**
+     * Sends to every node at once, returning the first successful response, otherwise the first error response, and only
+     * if every node fails the first failure.
+     */
+    private <T> SolanaClientResponse<T> fanOut(final Function<AsyncSolanaApi, CompletableFuture<SolanaClientResponse<T>>> request)
+            throws SolanaJsonRpcClientException
+    {
+        final FanOut<T> fanOut = new FanOut<>(nodes.size());
+        for (final Node node : nodes)
+        {
+            final boolean healthy = node.healthy;
+            fanOut.sent(healthy);
+            node.inFlight.incrementAndGet();
+            request.apply(node.asyncApi).whenComplete((response, throwable) ->
+            {
+                node.inFlight.decrementAndGet();
+                if (throwable != null)
+                {
+                    node.healthy = false;
+                }
+                fanOut.answered(healthy, response, throwable == null ? null : unwrap(throwable));
+            });
+        }
+        return fanOut.await(fanOutTimeout);
+    }
+
+    /**
+     * Chooses the least loaded healthy node within the slot lag of the most advanced healthy node, or the least loaded of
+     * all nodes if none is healthy.
+     */
+    private Node select()
+    {
+        long highestSlot = 0;
+        for (final Node node : nodes)
+        {
+            if (node.healthy)
+            {
+                highestSlot = Math.max(highestSlot, node.slot);
+            }
+        }
+
+        final int start = Math.floorMod(nextNode.getAndIncrement(), nodes.size());
+        Node best = null;
+        Node leastLoaded = null;
+        for (int i = 0; i < nodes.size(); i++)
+        {
+            final Node node = nodes.get((start + i) % nodes.size());
+            final int inFlight = node.inFlight.get();
+            if (leastLoaded == null || inFlight < leastLoaded.inFlight.get())
+            {
+                leastLoaded = node;
+            }
+            if (node.healthy && node.slot >= highestSlot - maxSlotLag && (best == null || inFlight < best.inFlight.get()))
+            {
+                best = node;
+            }
+        }
+        return best != null ? best : leastLoaded;
+    }
+
+    private void probe()
+    {
+        final long timeoutNanos = probeInterval.toNanos();
+        final List<CompletableFuture<Void>> probes = new ArrayList<>(nodes.size());
+        for (final Node node : nodes)
+        {
+            try
+            {
+                probes.add(probe(node, timeoutNanos));
+            }
+            catch (final RuntimeException e)
+            {
+                // an exception escaping to the scheduler would cancel every later probe of every node
+                node.healthy = false;
+            }
+        }
+        // the next probes are not scheduled until these complete, so a node can never have two probes outstanding
+        CompletableFuture.allOf(probes.toArray(new CompletableFuture<?>[0])).join();
+    }
+
+    private static CompletableFuture<Void> probe(final Node node, final long timeoutNanos)
+    {
+        final CompletableFuture<SolanaClientResponse<String>> health = node.asyncApi.getHealth();
+        final CompletableFuture<SolanaClientResponse<Long>> slot = node.asyncApi.getSlot();
+        return health.thenCombine(slot, (healthResponse, slotResponse) ->
+                {
+                    final boolean healthy = healthResponse.isSuccess() && HEALTHY.equals(healthResponse.getResponse()) && slotResponse.isSuccess();
+                    if (healthy)
+                    {
+                        node.slot = slotResponse.getResponse();
+                    }
+                    return healthy;
+                })
+                .orTimeout(timeoutNanos, TimeUnit.NANOSECONDS)
+                .handle((healthy, throwable) ->
+                {
+                    node.healthy = throwable == null && healthy;
+                    return null;
+                });
+    }
+
+    private static List<Node> nodesFor(final HttpClient httpClient, final List<String> rpcUrls, final Duration socketTimeout)
+    {
+        final List<Node> nodes = new ArrayList<>(rpcUrls.size());
+        for (final String rpcUrl : rpcUrls)
+        {
+            nodes.add(socketTimeout == null
+                    ? new Node(rpcUrl, new SolanaJsonRpcClient(httpClient, rpcUrl), new SolanaJsonRpcAsyncClient(httpClient, rpcUrl))
+                    : new Node(rpcUrl, new SolanaJsonRpcClient(httpClient, rpcUrl, socketTimeout), new SolanaJsonRpcAsyncClient(httpClient, rpcUrl, socketTimeout)));
+        }
+        return nodes;
+    }
+
+    private static Throwable unwrap(final Throwable throwable)
+    {
+        if (throwable instanceof CompletionException && throwable.getCause() != null)
+        {
+            return throwable.getCause();
+        }
+        return throwable;
+    }
+
+    /**
+     * The answers to a request sent to every node, settled on the first successful response.
+     */
+    private static final class FanOut<T>
+    {
+        private final CompletableFuture<SolanaClientResponse<T>> result = new CompletableFuture<>();
+        private final List<SolanaClientResponse<T>> errorResponses = new ArrayList<>();
+        private final List<Throwable> failures = new ArrayList<>();
+        private int outstanding;
+        private int outstandingHealthy;
+        private boolean sentToHealthyNode;
+
+        FanOut(final int nodes)
+        {
+            this.outstanding = nodes;
+        }
+
+        synchronized void sent(final boolean healthy)
+        {
+            if (healthy)
+            {
+                outstandingHealthy++;
+                sentToHealthyNode = true;
+            }
+        }
+
+        synchronized void answered(final boolean healthy, final SolanaClientResponse<T> response, final Throwable failure)
+        {
+            outstanding--;
+            if (healthy)
+            {
+                outstandingHealthy--;
+            }
+
+            if (failure != null)
+            {
+                failures.add(failure);
+            }
+            else if (response.isSuccess())
+            {
+                result.complete(response);
+            }
+            else
+            {
+                errorResponses.add(response);
+            }
+
+            // with no healthy node to wait for, every node is given the chance to succeed
+            if (outstanding == 0 || sentToHealthyNode && outstandingHealthy == 0 && !errorResponses.isEmpty())
+            {
+                settle();
+            }
+        }
+
+        SolanaClientResponse<T> await(final Duration timeout) throws SolanaJsonRpcClientException
+        {
+            try
+            {
+                return result.get(timeout.toNanos(), TimeUnit.NANOSECONDS);
+            }
+            catch (final TimeoutException e)
+            {
+                synchronized (this)
+                {
+                    // settle for whatever has arrived rather than wait on nodes that may never answer
+                    settle();
+                    result.completeExceptionally(new SolanaJsonRpcClientException(
+                            String.format("None of the JSON RPC nodes responded within %s.", timeout), e, true));
+                }
+                return settled();
+            }
+            catch (final InterruptedException e)
+            {
+                Thread.currentThread().interrupt();
+                throw new SolanaJsonRpcClientException("Interrupted waiting for the JSON RPC nodes to respond.", e, true);
+            }
+            catch (final ExecutionException e)
+            {
+                throw toClientException(e.getCause());
+            }
+        }
+
+        /**
+         * Completes the result with the first error response, otherwise the first failure, unless it is already complete.
+         */
+        private void settle()
+        {
+            if (!errorResponses.isEmpty())
+            {
+                result.complete(errorResponses.get(0));
+            }
+            else if (!failures.isEmpty())
+            {
+                result.completeExceptionally(failures.get(0));
+            }
+        }
+
+        private SolanaClientResponse<T> settled() throws SolanaJsonRpcClientException
+        {
+            try
+            {
+                return result.join();
+            }
+            catch (final CompletionException e)
+            {
+                throw toClientException(e.getCause());
+            }
+        }
+
+        private static SolanaJsonRpcClientException toClientException(final Throwable failure)
+        {
+            if (failure instanceof SolanaJsonRpcClientException)
+            {
+                return (SolanaJsonRpcClientException) failure;
+            }
+            return new SolanaJsonRpcClientException("Unable to communicate with any of the JSON RPC nodes.", failure, true);
+        }
+    }
+
+    @FunctionalInterface
+    private interface Request<T>
+    {
+        SolanaClientResponse<T> send(SolanaApi api) throws SolanaJsonRpcClientException;
+    }
+
+    /**
+     * A batch sent to the node chosen when it was created, counted against the node's load and health as a single request is.
+     */
+    private static final class RoutedBatch implements SolanaBatch
+    {
+        private final Node node;
+        private final SolanaBatch batch;
+
+        RoutedBatch(final Node node)
+        {
+            this.node = node;
+            this.batch = node.api.batch();
+        }
+
+        @Override
+        public Call<String> sendTransaction(final String transactionBlob)
+        {
+            return batch.sendTransaction(transactionBlob);
+        }
+
+        @Override
+        public Call<String> sendTransaction(final String transactionBlob, final SolanaClientOptionalParams optionalParams)
+        {
+            return batch.sendTransaction(transactionBlob, optionalParams);
+        }
+
+        @Override
+        public Call<TransactionResponse> getTransaction(final String transactionSignature)
+        {
+            return batch.getTransaction(transactionSignature);
+        }
+
+        @Override
+        public Call<TransactionResponse> getTransaction(final String transactionSignature, final SolanaClientOptionalParams optionalParams)
+        {
+            return batch.getTransaction(transactionSignature, optionalParams);
+        }
+
+        @Override
+        public Call<String> requestAirdrop(final String address, final long amountLamports)
+        {
+            return batch.requestAirdrop(address, amountLamports);
+        }
+
+        @Override
+        public Call<String> requestAirdrop(final String address, final long amountLamports, final SolanaClientOptionalParams optionalParams)
+        {
+            return batch.requestAirdrop(address, amountLamports, optionalParams);
+        }
+
+        @Override
+        public Call<Long> getBalance(final String address)
+        {
+            return batch.getBalance(address);
+        }
+
+        @Override
+        public Call<Long> getBalance(final String address, final SolanaClientOptionalParams optionalParams)
+        {
+            return batch.getBalance(address, optionalParams);
+        }
+
+        @Override
+        public Call<TokenAmount> getTokenAccountBalance(final String address)
+        {
+            return batch.getTokenAccountBalance(address);
+        }
+
+        @Override
+        public Call<TokenAmount> getTokenAccountBalance(final String address, final SolanaClientOptionalParams optionalParams)
+        {
+            return batch.getTokenAccountBalance(address, optionalParams);
+        }
+
+        @Override
+        public Call<AccountInfo> getAccountInfo(final String address)
+        {
+            return batch.getAccountInfo(address);
+        }
+
+        @Override
+        public Call<AccountInfo> getAccountInfo(final String address, final SolanaClientOptionalParams optionalParams)
+        {
+            return batch.getAccountInfo(address, optionalParams);
+        }
+
+        @Override
+        public Call<List<AccountInfo>> getMultipleAccounts(final List<String> addresses)
+        {
+            return batch.getMultipleAccounts(addresses);
+        }
+
+        @Override
+        public Call<List<AccountInfo>> getMultipleAccounts(final List<String> addresses, final SolanaClientOptionalParams optionalParams)
+        {
+            return batch.getMultipleAccounts(addresses, optionalParams);
+        }
+
+        @Override
+        public Call<Long> getBlockHeight()
+        {
+            return batch.getBlockHeight();
+        }
+
+        @Override
+        public Call<Long> getBlockHeight(final SolanaClientOptionalParams optionalParams)
+        {
+            return batch.getBlockHeight(optionalParams);
+        }
+
+        @Override
+        public Call<Long> getSlot()
+        {
+            return batch.getSlot();
+        }
+
+        @Override
+        public Call<Long> getSlot(final SolanaClientOptionalParams optionalParams)
+        {
+            return batch.getSlot(optionalParams);
+        }
+
+        @Override
+        public Call<Blockhash> getLatestBlockhash()
+        {
+            return batch.getLatestBlockhash();
+        }
+
+        @Override
+        public Call<Blockhash> getLatestBlockhash(final SolanaClientOptionalParams optionalParams)
+        {
+            return batch.getLatestBlockhash(optionalParams);
+        }
+
+        @Override
+        public Call<Long> getMinimumBalanceForRentExemption(final int size)
+        {
+            return batch.getMinimumBalanceForRentExemption(size);
+        }
+
+        @Override
+        public Call<Long> getMinimumBalanceForRentExemption(final int size, final SolanaClientOptionalParams optionalParams)
+        {
+            return batch.getMinimumBalanceForRentExemption(size, optionalParams);
+        }
+
+        @Override
+        public Call<Long> minimumLedgerSlot()
+        {
+            return batch.minimumLedgerSlot();
+        }
+
+        @Override
+        public Call<String> getHealth()
+        {
+            return batch.getHealth();
+        }
+
+        @Override
+        public Call<List<SignatureForAddress>> getSignaturesForAddress(final String address)
+        {
+            return batch.getSignaturesForAddress(address);
+        }
+
+        @Override
+        public Call<List<SignatureForAddress>> getSignaturesForAddress(final String address, final SolanaClientOptionalParams optionalParams)
+        {
+            return batch.getSignaturesForAddress(address, optionalParams);
+        }
+
+        @Override
+        public Call<List<SignatureStatus>> getSignatureStatuses(final List<String> transactionSignatures)
+        {
+            return batch.getSignatureStatuses(transactionSignatures);
+        }
+
+        @Override
+        public Call<List<SignatureStatus>> getSignatureStatuses(final List<String> transactionSignatures, final SolanaClientOptionalParams optionalParams)
+        {
+            return batch.getSignatureStatuses(transactionSignatures, optionalParams);
+        }
+
+        @Override
+        public Call<List<TokenAccount>> getTokenAccountsByOwner(final String accountDelegate, final Map.Entry<String, String> filter)
+        {
+            return batch.getTokenAccountsByOwner(accountDelegate, filter);
+        }
+
+        @Override
+        public Call<List<TokenAccount>> getTokenAccountsByOwner(final String accountDelegate, final Map.Entry<String, String> filter, final SolanaClientOptionalParams optionalParams)
+        {
+            return batch.getTokenAccountsByOwner(accountDelegate, filter, optionalParams);
+        }
+
+        @Override
+        public Call<SimulateTransactionResponse> simulateTransaction(final String transaction)
+        {
+            return batch.simulateTransaction(transaction);
+        }
+
+        @Override
+        public Call<SimulateTransactionResponse> simulateTransaction(final String transaction, final SolanaClientOptionalParams optionalParams)
+        {
+            return batch.simulateTransaction(transaction, optionalParams);
+        }
+
+        @Override
+        public Call<SolanaVersion> getVersion()
+        {
+            return batch.getVersion();
+        }
+
+        @Override
+        public int size()
+        {
+            return batch.size();
+        }
+
+        @Override
+        public void execute() throws SolanaJsonRpcClientException
+        {
+            node.inFlight.incrementAndGet();
+            try
+            {
+                batch.execute();
+            }
+            catch (final SolanaJsonRpcClientException e)
+            {
+                node.healthy = false;
+                throw e;
+            }
+            finally
+            {
+                node.inFlight.decrementAndGet();
+            }
+        }
+    }
+
+    static final class Node implements Endpoint
+    {
+        private final String url;
+        private final SolanaApi api;
+        private final AsyncSolanaApi asyncApi;
+        private final AtomicInteger inFlight = new AtomicInteger();
+        private volatile boolean healthy = true;
+        private volatile long slot;
+
+        Node(final String url, final SolanaApi api, final AsyncSolanaApi asyncApi)
+        {
+            this.url = url;
+            this.api = api;
+            this.asyncApi = asyncApi;
+        }
+
+        @Override
+        public String getUrl()
+        {
+            return url;
+        }
+
+        @Override
+        public boolean isHealthy()
+        {
+            return healthy;
+        }
+
+        @Override
+        public long getSlot()
+        {
+            return slot;
+        }
+
+        @Override
+        public int getInFlight()
+        {
+            return inFlight.get();
+        }
+
+        @Override
+        public String toString()
+        {
+            return "Endpoint{" +
+                    "url='" + url + '\'' +
+                    ", healthy=" + healthy +
+                    ", slot=" + slot +
+                    ", inFlight=" + inFlight +
+                    '}';
+        }
+    }
+}
@@ -0,0 +1,224 @@
+package com.lmax.solana4j.client.jsonrpc;
+
+import com.lmax.solana4j.client.api.Histogram;
+import com.lmax.solana4j.client.api.MethodMetrics;
+import com.lmax.solana4j.client.api.MetricsExporter;
+import com.lmax.solana4j.client.api.SolanaClientMetrics;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Implementation of the {@link SolanaClientMetrics} interface which records every call into histograms kept per node and
+ * method, for publishing through a {@link MetricsExporter}.
+ * <p>
+ * Recording a call allocates nothing once its node and method have been seen: phase times and payload sizes go into
+ * fixed size log-linear histograms, and outcomes and error codes into fixed arrays of counters. One instance may be
+ * shared by the clients of several nodes.
+ * </p>
+ */
+public final class SolanaJsonRpcMetrics implements SolanaClientMetrics
+{
+    private final ConcurrentMap<String, ConcurrentMap<String, MethodRecorder>> endpoints = new ConcurrentHashMap<>();
+
+    @Override
+    public void recordCall(
+            final String endpoint,
+            final String method,
+            final Outcome outcome,
+            final int code,
+            final long encodeNanos,
+            final long httpNanos,
+            final long decodeNanos,
+            final long requestBytes,
+            final long responseBytes)
+    {
+        recorderFor(endpoint, method).record(outcome, code, encodeNanos, httpNanos, decodeNanos, requestBytes, responseBytes);
+    }
+
+    /**
+     * Returns the live measurements of every method called on every node so far.
+     *
+     * @return the {@link MethodMetrics} of each method and node
+     */
+    public List<MethodMetrics> getMetrics()
+    {
+        final List<MethodMetrics> metrics = new ArrayList<>();
+        endpoints.values().forEach(methods -> metrics.addAll(methods.values()));
+        return metrics;
+    }
+
+    /**
+     * Publishes the measurements of every method called on every node so far.
+     *
+     * @param exporter the {@link MetricsExporter} to publish to
+     */
+    public void exportTo(final MetricsExporter exporter)
+    {
+        exporter.export(getMetrics());
+    }
+
+    private MethodRecorder recorderFor(final String endpoint, final String method)
+    {
+        // looked up before computing so that the common case allocates no capturing lambda
+        ConcurrentMap<String, MethodRecorder> methods = endpoints.get(endpoint);
+        if (methods == null)
+        {
+            methods = endpoints.computeIfAbsent(endpoint, ignored -> new ConcurrentHashMap<>());
+        }
+        final MethodRecorder recorder = methods.get(method);
+        if (recorder != null)
+        {
+            return recorder;
+        }
+        return methods.computeIfAbsent(method, ignored -> new MethodRecorder(endpoint, method));
+    }
+
+    private static final class MethodRecorder implements MethodMetrics
+    {
+        private static final int CODE_SLOTS = 16;
+        private static final int OTHER_CODES = CODE_SLOTS;
+
+        private final String endpoint;
+        private final String method;
+        private final AtomicLongArray outcomes = new AtomicLongArray(Outcome.values().length);
+        private final AtomicIntegerArray codes = new AtomicIntegerArray(CODE_SLOTS);
+        private final AtomicLongArray codeCounts = new AtomicLongArray(CODE_SLOTS + 1);
+        private final LogLinearHistogram encodeNanos = new LogLinearHistogram();
+        private final LogLinearHistogram httpNanos = new LogLinearHistogram();
+        private final LogLinearHistogram decodeNanos = new LogLinearHistogram();
+        private final LogLinearHistogram requestBytes = new LogLinearHistogram();
+        private final LogLinearHistogram responseBytes = new LogLinearHistogram();
+
+        MethodRecorder(final String endpoint, final String method)
+        {
+            this.endpoint = endpoint;
+            this.method = method;
+        }
+
+        void record(
+                final Outcome outcome,
+                final int code,
+                final long encode,
+                final long http,
+                final long decode,
+                final long request,
+                final long response)
+        {
+            outcomes.incrementAndGet(outcome.ordinal());
+            if (code != 0)
+            {
+                codeCounts.incrementAndGet(slotFor(code));
+            }
+            encodeNanos.record(encode);
+            httpNanos.record(http);
+            decodeNanos.record(decode);
+            requestBytes.record(request);
+            responseBytes.record(response);
+        }
+
+        /**
+         * Finds or claims the slot counting the given code, in a small open addressed table where zero marks a free slot.
+         * Codes seen once every slot is taken are counted together under zero.
+         */
+        private int slotFor(final int code)
+        {
+            final int start = Math.floorMod(code, CODE_SLOTS);
+            for (int i = 0; i < CODE_SLOTS; i++)
+            {
+                final int slot = (start + i) % CODE_SLOTS;
+                final int existing = codes.get(slot);
+                if (existing == code || existing == 0 && (codes.compareAndSet(slot, 0, code) || codes.get(slot) == code))
+                {
+                    return slot;
+                }
+            }
+            return OTHER_CODES;
+        }
+
+        @Override
+        public String getEndpoint()
+        {
+            return endpoint;
+        }
+
+        @Override
+        public String getMethod()
+        {
+            return method;
+        }
+
+        @Override
+        public long getCount(final Outcome outcome)
+        {
+            return outcomes.get(outcome.ordinal());
+        }
+
+        @Override
+        public Map<Integer, Long> getCodeCounts()
+        {
+            final Map<Integer, Long> counts = new HashMap<>();
+            for (int slot = 0; slot < CODE_SLOTS; slot++)
+            {
+                final int code = codes.get(slot);
+                if (code != 0)
+                {
+                    counts.put(code, codeCounts.get(slot));
+                }
+            }
+            if (codeCounts.get(OTHER_CODES) != 0)
+            {
+                counts.put(0, codeCounts.get(OTHER_CODES));
+            }
+            return counts;
+        }
+
+        @Override
+        public Histogram getEncodeNanos()
+        {
+            return encodeNanos;
+        }
+
+        @Override
+        public Histogram getHttpNanos()
+        {
+            return httpNanos;
+        }
+
+        @Override
+        public Histogram getDecodeNanos()
+        {
+            return decodeNanos;
+        }
+
+        @Override
+        public Histogram getRequestBytes()
+        {
+            return requestBytes;
+        }
+
+        @Override
+        public Histogram getResponseBytes()
+        {
+            return responseBytes;
+        }
+
+        @Override
+        public String toString()
+        {
+            return "MethodMetrics{" +
+                    "endpoint='" + endpoint + '\'' +
+                    ", method='" + method + '\'' +
+                    ", success=" + getCount(Outcome.SUCCESS) +
+                    ", codes=" + getCodeCounts() +
+                    ", httpNanos=" + httpNanos +
+                    '}';
+        }
+    }
+}
@@ -0,0 +1,626 @@
+package com.lmax.solana4j.client.jsonrpc;
+
+import com.lmax.solana4j.client.api.AccountInfo;
+import com.lmax.solana4j.client.api.Blockhash;
+import com.lmax.solana4j.client.api.RateLimitPolicy;
+import com.lmax.solana4j.client.api.SignatureForAddress;
+import com.lmax.solana4j.client.api.SignatureStatus;
+import com.lmax.solana4j.client.api.SimulateTransactionResponse;
+import com.lmax.solana4j.client.api.SolanaApi;
+import com.lmax.solana4j.client.api.SolanaBatch;
+import com.lmax.solana4j.client.api.SolanaClientOptionalParams;
+import com.lmax.solana4j.client.api.SolanaClientResponse;
+import com.lmax.solana4j.client.api.SolanaVersion;
+import com.lmax.solana4j.client.api.TokenAccount;
+import com.lmax.solana4j.client.api.TokenAmount;
+import com.lmax.solana4j.client.api.TransactionResponse;
+
+import java.net.SocketTimeoutException;
+import java.net.http.HttpClient;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Implementation of the {@link SolanaApi} interface which holds each request back until a {@link RateLimitPolicy} allows it
+ * to be sent.
+ * <p>
+ * Waiting requests are sent in order of priority: {@code sendTransaction}, {@code simulateTransaction} and
+ * {@code getLatestBlockhash} first, the history scans {@code getSignaturesForAddress} and {@code getTransaction} last, and
+ * everything else in between. When the queue is full the newest of the least urgent requests is dropped to make room, and
+ * it, like a request that has waited for longer than the maximum queue time, fails with a recoverable
+ * {@link SolanaJsonRpcClientException} without being sent.
+ * </p>
+ * <p>
+ * A batch is sent as one request, taking the combined weight of its calls and a token from the method limit of each call,
+ * at the priority of the most urgent of them. A {@code getMultipleAccounts} request for more addresses than a node accepts
+ * in one call is charged likewise, for each of the calls it is split into. A request or batch needing more tokens than its
+ * limits can save up is refused with a {@link SolanaJsonRpcClientException} that is not recoverable.
+ * </p>
+ */
+public final class SolanaJsonRpcRateLimitedClient implements SolanaApi
+{
+    private static final String BATCH = "batch";
+
+    private final SolanaApi api;
+    private final RateLimitPolicy policy;
+    private final RequestScheduler scheduler;
+
+    /**
+     * Constructs a new {@code SolanaJsonRpcRateLimitedClient} with the specified HTTP client, RPC URL and rate limit.
+     * HTTP calls to RPC endpoints will be made with no socket timeout.
+     *
+     * @param httpClient      the {@link HttpClient} instance to use for sending requests.
+     *                        This allows customization of HTTP settings such as connection pooling,
+     *                        SSL context, and timeout configurations.
+     * @param rpcUrl          the URL of the Solana JSON-RPC node.
+     * @param policy          the {@link RateLimitPolicy} the node's requests are held to.
+     */
+    public SolanaJsonRpcRateLimitedClient(
+            final HttpClient httpClient,
+            final String rpcUrl,
+            final RateLimitPolicy policy)
+    {
+        this(new SolanaJsonRpcClient(httpClient, rpcUrl), policy);
+    }
+
+    /**
+     * Constructs a new {@code SolanaJsonRpcRateLimitedClient} with the specified HTTP client, RPC URL and rate limit.
+     * HTTP calls to RPC endpoints will be made with the given socket timeout.
+     *
+     * @param httpClient      the {@link HttpClient} instance to use for sending requests.
+     *                        This allows customization of HTTP settings such as connection pooling,
+     *                        SSL context, and timeout configurations.
+     * @param rpcUrl          the URL of the Solana JSON-RPC node.
+     * @param socketTimeout   the {@link Duration} of inactivity on the HTTP connection that will
+     *                        result in a {@link SocketTimeoutException} when making an RPC call.
+     * @param policy          the {@link RateLimitPolicy} the node's requests are held to.
+     */
+    public SolanaJsonRpcRateLimitedClient(
+            final HttpClient httpClient,
+            final String rpcUrl,
+            final Duration socketTimeout,
+            final RateLimitPolicy policy)
+    {
+        this(new SolanaJsonRpcClient(httpClient, rpcUrl, socketTimeout), policy);
+    }
+
+    SolanaJsonRpcRateLimitedClient(
+            final SolanaApi api,
+            final RateLimitPolicy policy)
+    {
+        this.api = requireNonNull(api);
+        this.policy = requireNonNull(policy);
+        this.scheduler = new RequestScheduler(policy);
+    }
+
+    /**
+     * Returns the number of requests waiting to be sent, which callers may use to shed load before requests are refused.
+     *
+     * @return the number of queued requests
+     */
+    public int getQueuedRequests()
+    {
+        return scheduler.queued();
+    }
+
+    @Override
+    public SolanaClientResponse<String> requestAirdrop(final String address, final long amountLamports) throws SolanaJsonRpcClientException
+    {
+        return limited("requestAirdrop", api -> api.requestAirdrop(address, amountLamports));
+    }
+
+    @Override
+    public SolanaClientResponse<String> requestAirdrop(final String address, final long amountLamports, final SolanaClientOptionalParams optionalParams) throws SolanaJsonRpcClientException
+    {
+        return limited("requestAirdrop", api -> api.requestAirdrop(address, amountLamports, optionalParams));
+    }
+
+    @Override
+    public SolanaClientResponse<String> sendTransaction(final String transactionBlob) throws SolanaJsonRpcClientException
+    {
+        return limited("sendTransaction", api -> api.sendTransaction(transactionBlob));
+    }
+
+    @Override
+    public SolanaClientResponse<String> sendTransaction(final String transactionBlob, final SolanaClientOptionalParams optionalParams) throws SolanaJsonRpcClientException
+    {
+        return limited("sendTransaction", api -> api.sendTransaction(transactionBlob, optionalParams));
+    }
+
+    @Override
+    public SolanaClientResponse<TransactionResponse> getTransaction(final String transactionSignature) throws SolanaJsonRpcClientException
+    {
+        return limited("getTransaction", api -> api.getTransaction(transactionSignature));
+    }
+
+    @Override
+    public SolanaClientResponse<TransactionResponse> getTransaction(final String transactionSignature, final SolanaClientOptionalParams optionalParams) throws SolanaJsonRpcClientException
+    {
+        return limited("getTransaction", api -> api.getTransaction(transactionSignature, optionalParams));
+    }
+
+    @Override
+    public SolanaClientResponse<Long> getBalance(final String address) throws SolanaJsonRpcClientException
+    {
+        return limited("getBalance", api -> api.getBalance(address));
+    }
+
+    @Override
+    public SolanaClientResponse<Long> getBalance(final String address, final SolanaClientOptionalParams optionalParams) throws SolanaJsonRpcClientException
+    {
+        return limited("getBalance", api -> api.getBalance(address, optionalParams));
+    }
+
+    @Override
+    public SolanaClientResponse<TokenAmount> getTokenAccountBalance(final String address) throws SolanaJsonRpcClientException
+    {
+        return limited("getTokenAccountBalance", api -> api.getTokenAccountBalance(address));
+    }
+
+    @Override
+    public SolanaClientResponse<TokenAmount> getTokenAccountBalance(final String address, final SolanaClientOptionalParams optionalParams) throws SolanaJsonRpcClientException
+    {
+        return limited("getTokenAccountBalance", api -> api.getTokenAccountBalance(address, optionalParams));
+    }
+
+    @Override
+    public SolanaClientResponse<AccountInfo> getAccountInfo(final String address) throws SolanaJsonRpcClientException
+    {
+        return limited("getAccountInfo", api -> api.getAccountInfo(address));
+    }
+
+    @Override
+    public SolanaClientResponse<AccountInfo> getAccountInfo(final String address, final SolanaClientOptionalParams optionalParams) throws SolanaJsonRpcClientException
+    {
+        return limited("getAccountInfo", api -> api.getAccountInfo(address, optionalParams));
+    }
+
+    @Override
+    public SolanaClientResponse<List<AccountInfo>> getMultipleAccounts(final List<String> addresses) throws SolanaJsonRpcClientException
+    {
+        return limitedMultipleAccounts(addresses, api -> api.getMultipleAccounts(addresses));
+    }
+
+    @Override
+    public SolanaClientResponse<List<AccountInfo>> getMultipleAccounts(final List<String> addresses, final SolanaClientOptionalParams optionalParams) throws SolanaJsonRpcClientException
+    {
+        return limitedMultipleAccounts(addresses, api -> api.getMultipleAccounts(addresses, optionalParams));
+    }
+
+    @Override
+    public SolanaClientResponse<Long> getBlockHeight() throws SolanaJsonRpcClientException
+    {
+        return limited("getBlockHeight", SolanaApi::getBlockHeight);
+    }
+
+    @Override
+    public SolanaClientResponse<Long> getBlockHeight(final SolanaClientOptionalParams optionalParams) throws SolanaJsonRpcClientException
+    {
+        return limited("getBlockHeight", api -> api.getBlockHeight(optionalParams));
+    }
+
+    @Override
+    public SolanaClientResponse<Long> getSlot() throws SolanaJsonRpcClientException
+    {
+        return limited("getSlot", SolanaApi::getSlot);
+    }
+
+    @Override
+    public SolanaClientResponse<Long> getSlot(final SolanaClientOptionalParams optionalParams) throws SolanaJsonRpcClientException
+    {
+        return limited("getSlot", api -> api.getSlot(optionalParams));
+    }
+
+    @Override
+    public SolanaClientResponse<Blockhash> getLatestBlockhash() throws SolanaJsonRpcClientException
+    {
+        return limited("getLatestBlockhash", SolanaApi::getLatestBlockhash);
+    }
+
+    @Override
+    public SolanaClientResponse<Blockhash> getLatestBlockhash(final SolanaClientOptionalParams optionalParams) throws SolanaJsonRpcClientException
+    {
+        return limited("getLatestBlockhash", api -> api.getLatestBlockhash(optionalParams));
+    }
+
+    @Override
+    public SolanaClientResponse<Long> getMinimumBalanceForRentExemption(final int size) throws SolanaJsonRpcClientException
+    {
+        return limited("getMinimumBalanceForRentExemption", api -> api.getMinimumBalanceForRentExemption(size));
+    }
+
+    @Override
+    public SolanaClientResponse<Long> getMinimumBalanceForRentExemption(final int size, final SolanaClientOptionalParams optionalParams) throws SolanaJsonRpcClientException
+    {
+        return limited("getMinimumBalanceForRentExemption", api -> api.getMinimumBalanceForRentExemption(size, optionalParams));
+    }
+
+    @Override
+    public SolanaClientResponse<Long> minimumLedgerSlot() throws SolanaJsonRpcClientException
+    {
+        return limited("minimumLedgerSlot", SolanaApi::minimumLedgerSlot);
+    }
+
+    @Override
+    public SolanaClientResponse<String> getHealth() throws SolanaJsonRpcClientException
+    {
+        return limited("getHealth", SolanaApi::getHealth);
+    }
+
+    @Override
+    public SolanaClientResponse<List<SignatureForAddress>> getSignaturesForAddress(final String address) throws SolanaJsonRpcClientException
+    {
+        return limited("getSignaturesForAddress", api -> api.getSignaturesForAddress(address));
+    }
+
+    @Override
+    public SolanaClientResponse<List<SignatureForAddress>> getSignaturesForAddress(
+            final String address,
+            final SolanaClientOptionalParams optionalParams) throws SolanaJsonRpcClientException
+    {
+        return limited("getSignaturesForAddress", api -> api.getSignaturesForAddress(address, optionalParams));
+    }
+
+    @Override
+    public SolanaClientResponse<List<SignatureStatus>> getSignatureStatuses(final List<String> transactionSignatures) throws SolanaJsonRpcClientException
+    {
+        return limited("getSignatureStatuses", api -> api.getSignatureStatuses(transactionSignatures));
+    }
+
+    @Override
+    public SolanaClientResponse<List<SignatureStatus>> getSignatureStatuses(
+            final List<String> transactionSignatures,
+            final SolanaClientOptionalParams optionalParams) throws SolanaJsonRpcClientException
+    {
+        return limited("getSignatureStatuses", api -> api.getSignatureStatuses(transactionSignatures, optionalParams));
+    }
+
+    @Override
+    public SolanaClientResponse<List<TokenAccount>> getTokenAccountsByOwner(final String accountDelegate, final Map.Entry<String, String> filter) throws SolanaJsonRpcClientException
+    {
+        return limited("getTokenAccountsByOwner", api -> api.getTokenAccountsByOwner(accountDelegate, filter));
+    }
+
+    @Override
+    public SolanaClientResponse<List<TokenAccount>> getTokenAccountsByOwner(
+            final String accountDelegate,
+            final Map.Entry<String, String> filter,
+            final SolanaClientOptionalParams optionalParams) throws SolanaJsonRpcClientException
+    {
+        return limited("getTokenAccountsByOwner", api -> api.getTokenAccountsByOwner(accountDelegate, filter, optionalParams));
+    }
+
+    @Override
+    public SolanaClientResponse<SimulateTransactionResponse> simulateTransaction(final String transaction) throws SolanaJsonRpcClientException
+    {
+        return limited("simulateTransaction", api -> api.simulateTransaction(transaction));
+    }
+
+    @Override
+    public SolanaClientResponse<SimulateTransactionResponse> simulateTransaction(final String transaction, final SolanaClientOptionalParams optionalParams) throws SolanaJsonRpcClientException
+    {
+        return limited("simulateTransaction", api -> api.simulateTransaction(transaction, optionalParams));
+    }
+
+    @Override
+    public SolanaClientResponse<SolanaVersion> getVersion() throws SolanaJsonRpcClientException
+    {
+        return limited("getVersion", SolanaApi::getVersion);
+    }
+
+    @Override
+    public SolanaBatch batch()
+    {
+        return new RateLimitedBatch(api.batch());
+    }
+
+    private <T> SolanaClientResponse<T> limited(final String method, final Request<T> request) throws SolanaJsonRpcClientException
+    {
+        scheduler.acquire(method, policy.getMethodWeight(method), priorityOf(method));
+        return request.send(api);
+    }
+
+    private <T> SolanaClientResponse<T> limitedMultipleAccounts(final List<String> addresses, final Request<T> request) throws SolanaJsonRpcClientException
+    {
+        // more addresses than a node accepts in one call are sent as a batch of calls, each of which the node charges for
+        final int calls = Math.max(1, MultipleAccountsRequest.partition(addresses).size());
+        final String method = "getMultipleAccounts";
+        scheduler.acquire(method, Collections.nCopies(calls, method), calls * policy.getMethodWeight(method), priorityOf(method));
+        return request.send(api);
+    }
+
+    private static RequestScheduler.Priority priorityOf(final String method)
+    {
+        switch (method)
+        {
+            case "sendTransaction":
+            case "simulateTransaction":
+            case "getLatestBlockhash":
+                return RequestScheduler.Priority.HIGH;
+            case "getSignaturesForAddress":
+            case "getTransaction":
+                return RequestScheduler.Priority.LOW;
+            default:
+                return RequestScheduler.Priority.NORMAL;
+        }
+    }
+
+    @FunctionalInterface
+    private interface Request<T>
+    {
+        SolanaClientResponse<T> send(SolanaApi api) throws SolanaJsonRpcClientException;
+    }
+
+    private final class RateLimitedBatch implements SolanaBatch
+    {
+        private final SolanaBatch batch;
+        private final List<String> methods = new ArrayList<>();
+
+        RateLimitedBatch(final SolanaBatch batch)
+        {
+            this.batch = batch;
+        }
+
+        @Override
+        public Call<String> sendTransaction(final String transactionBlob)
+        {
+            methods.add("sendTransaction");
+            return batch.sendTransaction(transactionBlob);
+        }
+
+        @Override
+        public Call<String> sendTransaction(final String transactionBlob, final SolanaClientOptionalParams optionalParams)
+        {
+            methods.add("sendTransaction");
+            return batch.sendTransaction(transactionBlob, optionalParams);
+        }
+
+        @Override
+        public Call<TransactionResponse> getTransaction(final String transactionSignature)
+        {
+            methods.add("getTransaction");
+            return batch.getTransaction(transactionSignature);
+        }
+
+        @Override
+        public Call<TransactionResponse> getTransaction(final String transactionSignature, final SolanaClientOptionalParams optionalParams)
+        {
+            methods.add("getTransaction");
+            return batch.getTransaction(transactionSignature, optionalParams);
+        }
+
+        @Override
+        public Call<String> requestAirdrop(final String address, final long amountLamports)
+        {
+            methods.add("requestAirdrop");
+            return batch.requestAirdrop(address, amountLamports);
+        }
+
+        @Override
+        public Call<String> requestAirdrop(final String address, final long amountLamports, final SolanaClientOptionalParams optionalParams)
+        {
+            methods.add("requestAirdrop");
+            return batch.requestAirdrop(address, amountLamports, optionalParams);
+        }
+
+        @Override
+        public Call<Long> getBalance(final String address)
+        {
+            methods.add("getBalance");
+            return batch.getBalance(address);
+        }
+
+        @Override
+        public Call<Long> getBalance(final String address, final SolanaClientOptionalParams optionalParams)
+        {
+            methods.add("getBalance");
+            return batch.getBalance(address, optionalParams);
+        }
+
+        @Override
+        public Call<TokenAmount> getTokenAccountBalance(final String address)
+        {
+            methods.add("getTokenAccountBalance");
+            return batch.getTokenAccountBalance(address);
+        }
+
+        @Override
+        public Call<TokenAmount> getTokenAccountBalance(final String address, final SolanaClientOptionalParams optionalParams)
+        {
+            methods.add("getTokenAccountBalance");
+            return batch.getTokenAccountBalance(address, optionalParams);
+        }
+
+        @Override
+        public Call<AccountInfo> getAccountInfo(final String address)
+        {
+            methods.add("getAccountInfo");
+            return batch.getAccountInfo(address);
+        }
+
+        @Override
+        public Call<AccountInfo> getAccountInfo(final String address, final SolanaClientOptionalParams optionalParams)
+        {
+            methods.add("getAccountInfo");
+            return batch.getAccountInfo(address, optionalParams);
+        }
+
+        @Override
+        public Call<List<AccountInfo>> getMultipleAccounts(final List<String> addresses)
+        {
+            methods.add("getMultipleAccounts");
+            return batch.getMultipleAccounts(addresses);
+        }
+
+        @Override
+        public Call<List<AccountInfo>> getMultipleAccounts(final List<String> addresses, final SolanaClientOptionalParams optionalParams)
+        {
+            methods.add("getMultipleAccounts");
+            return batch.getMultipleAccounts(addresses, optionalParams);
+        }
+
+        @Override
+        public Call<Long> getBlockHeight()
+        {
+            methods.add("getBlockHeight");
+            return batch.getBlockHeight();
+        }
+
+        @Override
+        public Call<Long> getBlockHeight(final SolanaClientOptionalParams optionalParams)
+        {
+            methods.add("getBlockHeight");
+            return batch.getBlockHeight(optionalParams);
+        }
+
+        @Override
+        public Call<Long> getSlot()
+        {
+            methods.add("getSlot");
+            return batch.getSlot();
+        }
+
+        @Override
+        public Call<Long> getSlot(final SolanaClientOptionalParams optionalParams)
+        {
+            methods.add("getSlot");
+            return batch.getSlot(optionalParams);
+        }
+
+        @Override
+        public Call<Blockhash> getLatestBlockhash()
+        {
+            methods.add("getLatestBlockhash");
+            return batch.getLatestBlockhash();
+        }
+
+        @Override
+        public Call<Blockhash> getLatestBlockhash(final SolanaClientOptionalParams optionalParams)
+        {
+            methods.add("getLatestBlockhash");
+            return batch.getLatestBlockhash(optionalParams);
+        }
+
+        @Override
+        public Call<Long> getMinimumBalanceForRentExemption(final int size)
+        {
+            methods.add("getMinimumBalanceForRentExemption");
+            return batch.getMinimumBalanceForRentExemption(size);
+        }
+
+        @Override
+        public Call<Long> getMinimumBalanceForRentExemption(final int size, final SolanaClientOptionalParams optionalParams)
+        {
+            methods.add("getMinimumBalanceForRentExemption");
+            return batch.getMinimumBalanceForRentExemption(size, optionalParams);
+        }
+
+        @Override
+        public Call<Long> minimumLedgerSlot()
+        {
+            methods.add("minimumLedgerSlot");
+            return batch.minimumLedgerSlot();
+        }
+
+        @Override
+        public Call<String> getHealth()
+        {
+            methods.add("getHealth");
+            return batch.getHealth();
+        }
+
+        @Override
+        public Call<List<SignatureForAddress>> getSignaturesForAddress(final String address)
+        {
+            methods.add("getSignaturesForAddress");
+            return batch.getSignaturesForAddress(address);
+        }
+
+        @Override
+        public Call<List<SignatureForAddress>> getSignaturesForAddress(final String address, final SolanaClientOptionalParams optionalParams)
+        {
+            methods.add("getSignaturesForAddress");
+            return batch.getSignaturesForAddress(address, optionalParams);
+        }
+
+        @Override
+        public Call<List<SignatureStatus>> getSignatureStatuses(final List<String> transactionSignatures)
+        {
+            methods.add("getSignatureStatuses");
+            return batch.getSignatureStatuses(transactionSignatures);
+        }
+
+        @Override
+        public Call<List<SignatureStatus>> getSignatureStatuses(final List<String> transactionSignatures, final SolanaClientOptionalParams optionalParams)
+        {
+            methods.add("getSignatureStatuses");
+            return batch.getSignatureStatuses(transactionSignatures, optionalParams);
+        }
+
+        @Override
+        public Call<List<TokenAccount>> getTokenAccountsByOwner(final String accountDelegate, final Map.Entry<String, String> filter)
+        {
+            methods.add("getTokenAccountsByOwner");
+            return batch.getTokenAccountsByOwner(accountDelegate, filter);
+        }
+
+        @Override
+        public Call<List<TokenAccount>> getTokenAccountsByOwner(final String accountDelegate, final Map.Entry<String, String> filter, final SolanaClientOptionalParams optionalParams)
+        {
+            methods.add("getTokenAccountsByOwner");
+            return batch.getTokenAccountsByOwner(accountDelegate, filter, optionalParams);
+        }
+
+        @Override
+        public Call<SimulateTransactionResponse> simulateTransaction(final String transaction)
+        {
+            methods.add("simulateTransaction");
+            return batch.simulateTransaction(transaction);
+        }
+
+        @Override
+        public Call<SimulateTransactionResponse> simulateTransaction(final String transaction, final SolanaClientOptionalParams optionalParams)
+        {
+            methods.add("simulateTransaction");
+            return batch.simulateTransaction(transaction, optionalParams);
+        }
+
+        @Override
+        public Call<SolanaVersion> getVersion()
+        {
+            methods.add("getVersion");
+            return batch.getVersion();
+        }
+
+        @Override
+        public int size()
+        {
+            return batch.size();
+        }
+
+        @Override
+        public void execute() throws SolanaJsonRpcClientException
+        {
+            if (!methods.isEmpty())
+            {
+                int weight = 0;
+                RequestScheduler.Priority priority = RequestScheduler.Priority.LOW;
+                for (final String method : methods)
+                {
+                    weight += policy.getMethodWeight(method);
+                    if (priorityOf(method).compareTo(priority) < 0)
+                    {
+                        priority = priorityOf(method);
+                    }
+                }
+                scheduler.acquire(BATCH, methods, weight, priority);
+            }
+            batch.execute();
+        }
+    }
+}
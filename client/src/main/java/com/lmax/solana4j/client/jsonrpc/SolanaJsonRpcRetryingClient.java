@@ -0,0 +1,567 @@
+package com.lmax.solana4j.client.jsonrpc;
+
+import com.lmax.solana4j.client.api.AccountInfo;
+import com.lmax.solana4j.client.api.AsyncSolanaApi;
+import com.lmax.solana4j.client.api.Blockhash;
+import com.lmax.solana4j.client.api.RetryPolicy;
+import com.lmax.solana4j.client.api.SignatureForAddress;
+import com.lmax.solana4j.client.api.SignatureStatus;
+import com.lmax.solana4j.client.api.SimulateTransactionResponse;
+import com.lmax.solana4j.client.api.SolanaApi;
+import com.lmax.solana4j.client.api.SolanaBatch;
+import com.lmax.solana4j.client.api.SolanaClientOptionalParams;
+import com.lmax.solana4j.client.api.SolanaClientResponse;
+import com.lmax.solana4j.client.api.SolanaVersion;
+import com.lmax.solana4j.client.api.TokenAccount;
+import com.lmax.solana4j.client.api.TokenAmount;
+import com.lmax.solana4j.client.api.TransactionResponse;
+
+import java.net.SocketTimeoutException;
+import java.net.http.HttpClient;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Implementation of the {@link SolanaApi} interface which hedges and retries idempotent reads according to a
+ * {@link RetryPolicy}.
+ * <p>
+ * Decorates a {@link SolanaApi} and an {@link AsyncSolanaApi}, which may themselves be rate limited or record metrics.
+ * Reads are sent through the {@link AsyncSolanaApi}, so that a hedge can be sent while the first attempt is still
+ * outstanding and whichever succeeds first is returned. Only failures flagged as recoverable by
+ * {@link SolanaJsonRpcClientException#isRecoverable()} are retried; error responses from the node are returned as they are.
+ * {@code sendTransaction}, {@code requestAirdrop} and batches are sent once, through the {@link SolanaApi}.
+ * </p>
+ * <p>
+ * The latencies and retry budget are kept per instance, so decorating the clients of each node separately keeps a failing
+ * node from spending the budget of the others.
+ * </p>
+ */
+public final class SolanaJsonRpcRetryingClient implements SolanaApi
+{
+    private final SolanaApi api;
+    private final AsyncSolanaApi asyncApi;
+    private final RetryPolicy policy;
+    private final RetryBudget budget;
+    private final Map<String, LatencyWindow> latencies = new ConcurrentHashMap<>();
+
+    /**
+     * Constructs a new {@code SolanaJsonRpcRetryingClient} with the specified HTTP client, RPC URL and retry policy.
+     * HTTP calls to RPC endpoints will be made with no socket timeout.
+     *
+     * @param httpClient      the {@link HttpClient} instance to use for sending requests.
+     *                        This allows customization of HTTP settings such as connection pooling,
+     *                        SSL context, and timeout configurations.
+     * @param rpcUrl          the URL of the Solana JSON-RPC node.
+     * @param policy          the {@link RetryPolicy} to hedge and retry reads with.
+     */
+    public SolanaJsonRpcRetryingClient(
+            final HttpClient httpClient,
+            final String rpcUrl,
+            final RetryPolicy policy)
+    {
+        this(new SolanaJsonRpcClient(httpClient, rpcUrl), new SolanaJsonRpcAsyncClient(httpClient, rpcUrl), policy);
+    }
+
+    /**
+     * Constructs a new {@code SolanaJsonRpcRetryingClient} with the specified HTTP client, RPC URL and retry policy.
+     * HTTP calls to RPC endpoints will be made with the given socket timeout, and a read that times out may be retried.
+     *
+     * @param httpClient      the {@link HttpClient} instance to use for sending requests.
+     *                        This allows customization of HTTP settings such as connection pooling,
+     *                        SSL context, and timeout configurations.
+     * @param rpcUrl          the URL of the Solana JSON-RPC node.
+     * @param socketTimeout   the {@link Duration} of inactivity on the HTTP connection that will
+     *                        result in a {@link SocketTimeoutException} when making an RPC call.
+     * @param policy          the {@link RetryPolicy} to hedge and retry reads with.
+     */
+    public SolanaJsonRpcRetryingClient(
+            final HttpClient httpClient,
+            final String rpcUrl,
+            final Duration socketTimeout,
+            final RetryPolicy policy)
+    {
+        this(new SolanaJsonRpcClient(httpClient, rpcUrl, socketTimeout), new SolanaJsonRpcAsyncClient(httpClient, rpcUrl, socketTimeout), policy);
+    }
+
+    /**
+     * Constructs a new {@code SolanaJsonRpcRetryingClient} decorating the given clients with the given retry policy.
+     *
+     * @param api             the {@link SolanaApi} to send transactions, airdrops and batches through, once each.
+     * @param asyncApi        the {@link AsyncSolanaApi} to send reads, hedges and retries through.
+     * @param policy          the {@link RetryPolicy} to hedge and retry reads with.
+     */
+    public SolanaJsonRpcRetryingClient(
+            final SolanaApi api,
+            final AsyncSolanaApi asyncApi,
+            final RetryPolicy policy)
+    {
+        this.api = requireNonNull(api);
+        this.asyncApi = requireNonNull(asyncApi);
+        this.policy = requireNonNull(policy);
+        this.budget = new RetryBudget(policy.getRetryBudgetRatio(), policy.getRetryBudgetBurst());
+    }
+
+    @Override
+    public SolanaClientResponse<String> requestAirdrop(final String address, final long amountLamports) throws SolanaJsonRpcClientException
+    {
+        return api.requestAirdrop(address, amountLamports);
+    }
+
+    @Override
+    public SolanaClientResponse<String> requestAirdrop(final String address, final long amountLamports, final SolanaClientOptionalParams optionalParams) throws SolanaJsonRpcClientException
+    {
+        return api.requestAirdrop(address, amountLamports, optionalParams);
+    }
+
+    @Override
+    public SolanaClientResponse<String> sendTransaction(final String transactionBlob) throws SolanaJsonRpcClientException
+    {
+        return api.sendTransaction(transactionBlob);
+    }
+
+    @Override
+    public SolanaClientResponse<String> sendTransaction(final String transactionBlob, final SolanaClientOptionalParams optionalParams) throws SolanaJsonRpcClientException
+    {
+        return api.sendTransaction(transactionBlob, optionalParams);
+    }
+
+    @Override
+    public SolanaClientResponse<TransactionResponse> getTransaction(final String transactionSignature) throws SolanaJsonRpcClientException
+    {
+        return read("getTransaction", async -> async.getTransaction(transactionSignature));
+    }
+
+    @Override
+    public SolanaClientResponse<TransactionResponse> getTransaction(final String transactionSignature, final SolanaClientOptionalParams optionalParams) throws SolanaJsonRpcClientException
+    {
+        return read("getTransaction", async -> async.getTransaction(transactionSignature, optionalParams));
+    }
+
+    @Override
+    public SolanaClientResponse<Long> getBalance(final String address) throws SolanaJsonRpcClientException
+    {
+        return read("getBalance", async -> async.getBalance(address));
+    }
+
+    @Override
+    public SolanaClientResponse<Long> getBalance(final String address, final SolanaClientOptionalParams optionalParams) throws SolanaJsonRpcClientException
+    {
+        return read("getBalance", async -> async.getBalance(address, optionalParams));
+    }
+
+    @Override
+    public SolanaClientResponse<TokenAmount> getTokenAccountBalance(final String address) throws SolanaJsonRpcClientException
+    {
+        return read("getTokenAccountBalance", async -> async.getTokenAccountBalance(address));
+    }
+
+    @Override
+    public SolanaClientResponse<TokenAmount> getTokenAccountBalance(final String address, final SolanaClientOptionalParams optionalParams) throws SolanaJsonRpcClientException
+    {
+        return read("getTokenAccountBalance", async -> async.getTokenAccountBalance(address, optionalParams));
+    }
+
+    @Override
+    public SolanaClientResponse<AccountInfo> getAccountInfo(final String address) throws SolanaJsonRpcClientException
+    {
+        return read("getAccountInfo", async -> async.getAccountInfo(address));
+    }
+
+    @Override
+    public SolanaClientResponse<AccountInfo> getAccountInfo(final String address, final SolanaClientOptionalParams optionalParams) throws SolanaJsonRpcClientException
+    {
+        return read("getAccountInfo", async -> async.getAccountInfo(address, optionalParams));
+    }
+
+    @Override
+    public SolanaClientResponse<List<AccountInfo>> getMultipleAccounts(final List<String> addresses) throws SolanaJsonRpcClientException
+    {
+        return read("getMultipleAccounts", async -> async.getMultipleAccounts(addresses));
+    }
+
+    @Override
+    public SolanaClientResponse<List<AccountInfo>> getMultipleAccounts(final List<String> addresses, final SolanaClientOptionalParams optionalParams) throws SolanaJsonRpcClientException
+    {
+        return read("getMultipleAccounts", async -> async.getMultipleAccounts(addresses, optionalParams));
+    }
+
+    @Override
+    public SolanaClientResponse<Long> getBlockHeight() throws SolanaJsonRpcClientException
+    {
+        return read("getBlockHeight", AsyncSolanaApi::getBlockHeight);
+    }
+
+    @Override
+    public SolanaClientResponse<Long> getBlockHeight(final SolanaClientOptionalParams optionalParams) throws SolanaJsonRpcClientException
+    {
+        return read("getBlockHeight", async -> async.getBlockHeight(optionalParams));
+    }
+
+    @Override
+    public SolanaClientResponse<Long> getSlot() throws SolanaJsonRpcClientException
+    {
+        return read("getSlot", AsyncSolanaApi::getSlot);
+    }
+
+    @Override
+    public SolanaClientResponse<Long> getSlot(final SolanaClientOptionalParams optionalParams) throws SolanaJsonRpcClientException
+    {
+        return read("getSlot", async -> async.getSlot(optionalParams));
+    }
+
+    @Override
+    public SolanaClientResponse<Blockhash> getLatestBlockhash() throws SolanaJsonRpcClientException
+    {
+        return read("getLatestBlockhash", AsyncSolanaApi::getLatestBlockhash);
+    }
+
+    @Override
+    public SolanaClientResponse<Blockhash> getLatestBlockhash(final SolanaClientOptionalParams optionalParams) throws SolanaJsonRpcClientException
+    {
+        return read("getLatestBlockhash", async -> async.getLatestBlockhash(optionalParams));
+    }
+
+    @Override
+    public SolanaClientResponse<Long> getMinimumBalanceForRentExemption(final int size) throws SolanaJsonRpcClientException
+    {
+        return read("getMinimumBalanceForRentExemption", async -> async.getMinimumBalanceForRentExemption(size));
+    }
+
+    @Override
+    public SolanaClientResponse<Long> getMinimumBalanceForRentExemption(final int size, final SolanaClientOptionalParams optionalParams) throws SolanaJsonRpcClientException
+    {
+        return read("getMinimumBalanceForRentExemption", async -> async.getMinimumBalanceForRentExemption(size, optionalParams));
+    }
+
+    @Override
+    public SolanaClientResponse<Long> minimumLedgerSlot() throws SolanaJsonRpcClientException
+    {
+        return read("minimumLedgerSlot", AsyncSolanaApi::minimumLedgerSlot);
+    }
+
+    @Override
+    public SolanaClientResponse<String> getHealth() throws SolanaJsonRpcClientException
+    {
+        return read("getHealth", AsyncSolanaApi::getHealth);
+    }
+
+    @Override
+    public SolanaClientResponse<List<SignatureForAddress>> getSignaturesForAddress(final String address) throws SolanaJsonRpcClientException
+    {
+        return read("getSignaturesForAddress", async -> async.getSignaturesForAddress(address));
+    }
+
+    @Override
+    public SolanaClientResponse<List<SignatureForAddress>> getSignaturesForAddress(
+            final String address,
+            final SolanaClientOptionalParams optionalParams) throws SolanaJsonRpcClientException
+    {
+        return read("getSignaturesForAddress", async -> async.getSignaturesForAddress(address, optionalParams));
+    }
+
+    @Override
+    public SolanaClientResponse<List<SignatureStatus>> getSignatureStatuses(final List<String> transactionSignatures) throws SolanaJsonRpcClientException
+    {
+        return read("getSignatureStatuses", async -> async.getSignatureStatuses(transactionSignatures));
+    }
+
+    @Override
+    public SolanaClientResponse<List<SignatureStatus>> getSignatureStatuses(
+            final List<String> transactionSignatures,
+            final SolanaClientOptionalParams optionalParams) throws SolanaJsonRpcClientException
+    {
+        return read("getSignatureStatuses", async -> async.getSignatureStatuses(transactionSignatures, optionalParams));
+    }
+
+    @Override
+    public SolanaClientResponse<List<TokenAccount>> getTokenAccountsByOwner(final String accountDelegate, final Map.Entry<String, String> filter) throws SolanaJsonRpcClientException
+    {
+        return read("getTokenAccountsByOwner", async -> async.getTokenAccountsByOwner(accountDelegate, filter));
+    }
+
+    @Override
+    public SolanaClientResponse<List<TokenAccount>> getTokenAccountsByOwner(
+            final String accountDelegate,
+            final Map.Entry<String, String> filter,
+            final SolanaClientOptionalParams optionalParams) throws SolanaJsonRpcClientException
+    {
+        return read("getTokenAccountsByOwner", async -> async.getTokenAccountsByOwner(accountDelegate, filter, optionalParams));
+    }
+
+    @Override
+    public SolanaClientResponse<SimulateTransactionResponse> simulateTransaction(final String transaction) throws SolanaJsonRpcClientException
+    {
+        return read("simulateTransaction", async -> async.simulateTransaction(transaction));
+    }
+
+    @Override
+    public SolanaClientResponse<SimulateTransactionResponse> simulateTransaction(final String transaction, final SolanaClientOptionalParams optionalParams) throws SolanaJsonRpcClientException
+    {
+        return read("simulateTransaction", async -> async.simulateTransaction(transaction, optionalParams));
+    }
+
+    @Override
+    public SolanaClientResponse<SolanaVersion> getVersion() throws SolanaJsonRpcClientException
+    {
+        return read("getVersion", AsyncSolanaApi::getVersion);
+    }
+
+    @Override
+    public SolanaBatch batch()
+    {
+        return api.batch();
+    }
+
+    private <T> SolanaClientResponse<T> read(
+            final String method,
+            final Function<AsyncSolanaApi, CompletableFuture<SolanaClientResponse<T>>> request) throws SolanaJsonRpcClientException
+    {
+        budget.deposit();
+        final Read<T> read = new Read<>(latencies.computeIfAbsent(method, ignored -> new LatencyWindow(policy.getHedgePercentile())), request);
+        read.start();
+
+        try
+        {
+            return read.result.get();
+        }
+        catch (final InterruptedException e)
+        {
+            Thread.currentThread().interrupt();
+            throw new SolanaJsonRpcClientException(String.format("Interrupted waiting for the JSON RPC response to %s.", method), e, true);
+        }
+        catch (final ExecutionException e)
+        {
+            if (e.getCause() instanceof SolanaJsonRpcClientException)
+            {
+                throw (SolanaJsonRpcClientException) e.getCause();
+            }
+            throw new SolanaJsonRpcClientException(String.format("Unable to communicate with the JSON RPC for %s.", method), e.getCause(), true);
+        }
+    }
+
+    private static boolean isRecoverable(final Throwable throwable)
+    {
+        return throwable instanceof SolanaJsonRpcClientException && ((SolanaJsonRpcClientException) throwable).isRecoverable();
+    }
+
+    private static Throwable unwrap(final Throwable throwable)
+    {
+        if (throwable instanceof CompletionException && throwable.getCause() != null)
+        {
+            return throwable.getCause();
+        }
+        return throwable;
+    }
+
+    /**
+     * The attempts at a single read. The first attempt is hedged if it is still outstanding after the hedge delay of its
+     * method, and a recoverable failure with no other attempt outstanding is retried after a backoff, each only while
+     * attempts and budget remain. Every attempt is counted when it is decided on rather than when it is sent, so that a
+     * hedge and a retry can never between them send more than the maximum attempts.
+     */
+    private final class Read<T>
+    {
+        private final CompletableFuture<SolanaClientResponse<T>> result = new CompletableFuture<>();
+        private final LatencyWindow latency;
+        private final Function<AsyncSolanaApi, CompletableFuture<SolanaClientResponse<T>>> request;
+        // the first attempt is sent as soon as the read is made
+        private int attempts = 1;
+        private int outstanding = 1;
+        private boolean hedgeCancelled;
+
+        Read(final LatencyWindow latency, final Function<AsyncSolanaApi, CompletableFuture<SolanaClientResponse<T>>> request)
+        {
+            this.latency = latency;
+            this.request = request;
+        }
+
+        void start()
+        {
+            send(true);
+        }
+
+        private void send(final boolean first)
+        {
+            final long start = System.nanoTime();
+            CompletableFuture<SolanaClientResponse<T>> attempt;
+            try
+            {
+                attempt = request.apply(asyncApi);
+            }
+            catch (final RuntimeException e)
+            {
+                attempt = CompletableFuture.failedFuture(e);
+            }
+            attempt.whenComplete((response, throwable) -> complete(first, start, response, throwable));
+
+            final long hedgeDelayNanos = latency.hedgeDelayNanos();
+            if (first && policy.isHedging() && hedgeDelayNanos > 0)
+            {
+                CompletableFuture.delayedExecutor(Math.max(hedgeDelayNanos, policy.getMinHedgeDelay().toNanos()), TimeUnit.NANOSECONDS)
+                        .execute(this::hedge);
+            }
+        }
+
+        private void hedge()
+        {
+            final boolean hedge;
+            synchronized (this)
+            {
+                hedge = !hedgeCancelled && !result.isDone() && attempts < policy.getMaxAttempts() && budget.tryWithdraw();
+                if (hedge)
+                {
+                    attempts++;
+                    outstanding++;
+                }
+            }
+            if (hedge)
+            {
+                send(false);
+            }
+        }
+
+        private void complete(final boolean first, final long start, final SolanaClientResponse<T> response, final Throwable throwable)
+        {
+            if (throwable == null)
+            {
+                latency.record(System.nanoTime() - start);
+                result.complete(response);
+            }
+            else
+            {
+                fail(first, unwrap(throwable));
+            }
+        }
+
+        private void fail(final boolean first, final Throwable failure)
+        {
+            final long retryAfterNanos;
+            synchronized (this)
+            {
+                outstanding--;
+                if (first)
+                {
+                    // a failed first attempt is retried after a backoff rather than hedged
+                    hedgeCancelled = true;
+                }
+
+                // another attempt still in flight may yet succeed
+                final boolean waiting = result.isDone() || outstanding > 0;
+                if (!waiting && isRecoverable(failure) && attempts < policy.getMaxAttempts() && budget.tryWithdraw())
+                {
+                    retryAfterNanos = backoffNanos(attempts);
+                    attempts++;
+                    outstanding++;
+                }
+                else
+                {
+                    retryAfterNanos = -1;
+                    if (!waiting)
+                    {
+                        result.completeExceptionally(failure);
+                    }
+                }
+            }
+            if (retryAfterNanos >= 0)
+            {
+                CompletableFuture.delayedExecutor(retryAfterNanos, TimeUnit.NANOSECONDS).execute(() -> send(false));
+            }
+        }
+
+        /**
+         * A uniformly random delay up to the base backoff doubled for each earlier retry, capped at the maximum backoff.
+         */
+        private long backoffNanos(final int retry)
+        {
+            final long ceiling = policy.getBaseBackoff().toNanos() << Math.min(retry - 1, 30);
+            final long backoff = ceiling < 0 ? policy.getMaxBackoff().toNanos() : Math.min(ceiling, policy.getMaxBackoff().toNanos());
+            return backoff == 0 ? 0 : ThreadLocalRandom.current().nextLong(backoff + 1);
+        }
+    }
+
+    /**
+     * A token bucket which every read tops up by a fraction of a token and every hedge or retry draws a whole token from.
+     */
+    static final class RetryBudget
+    {
+        private final double ratio;
+        private final double burst;
+        private double tokens;
+
+        RetryBudget(final double ratio, final int burst)
+        {
+            this.ratio = ratio;
+            this.burst = burst;
+            this.tokens = burst;
+        }
+
+        synchronized void deposit()
+        {
+            tokens = Math.min(burst, tokens + ratio);
+        }
+
+        synchronized boolean tryWithdraw()
+        {
+            if (tokens < 1)
+            {
+                return false;
+            }
+            tokens -= 1;
+            return true;
+        }
+    }
+
+    /**
+     * The latencies of the most recent successful attempts at one method, from which the hedge delay is recalculated
+     * every few samples rather than on every read.
+     */
+    static final class LatencyWindow
+    {
+        private static final int SIZE = 256;
+        private static final int MIN_SAMPLES = 20;
+        private static final int RECALCULATE_EVERY = 16;
+
+        private final double percentile;
+        private final long[] samples = new long[SIZE];
+        private final long[] sorted = new long[SIZE];
+        private long count;
+        private volatile long hedgeDelayNanos;
+
+        LatencyWindow(final double percentile)
+        {
+            this.percentile = percentile;
+        }
+
+        /**
+         * Returns the configured percentile of the recent latencies, or zero until enough have been recorded.
+         */
+        long hedgeDelayNanos()
+        {
+            return hedgeDelayNanos;
+        }
+
+        synchronized void record(final long latencyNanos)
+        {
+            samples[(int) (count % SIZE)] = latencyNanos;
+            count++;
+            if (count >= MIN_SAMPLES && (count == MIN_SAMPLES || count % RECALCULATE_EVERY == 0))
+            {
+                final int size = (int) Math.min(count, SIZE);
+                System.arraycopy(samples, 0, sorted, 0, size);
+                Arrays.sort(sorted, 0, size);
+                hedgeDelayNanos = sorted[Math.max(0, Math.min(size - 1, (int) Math.ceil(percentile * size) - 1))];
+            }
+        }
+    }
+}
@@ -0,0 +1,521 @@
+package com.lmax.solana4j.client.jsonrpc;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.lmax.solana4j.client.api.AccountInfo;
+import com.lmax.solana4j.client.api.Commitment;
+import com.lmax.solana4j.client.api.LogsNotification;
+import com.lmax.solana4j.client.api.SignatureNotification;
+import com.lmax.solana4j.client.api.SlotNotification;
+import com.lmax.solana4j.client.api.SolanaClientOptionalParams;
+import com.lmax.solana4j.client.api.SolanaRpcResponse;
+import com.lmax.solana4j.client.api.SolanaSubscriptionClient;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.WebSocket;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Implementation of the {@link SolanaSubscriptionClient} interface over a single {@link WebSocket} to the
+ * pubsub endpoint of a solana node.
+ * <p>
+ * Every subscription shares the one connection. When the connection is lost it is re-established after the
+ * reconnect delay and each subscription that has not been unsubscribed is sent to the node again, so listeners
+ * keep receiving notifications without any action from the caller.
+ */
+public final class SolanaJsonRpcSubscriptionClient implements SolanaSubscriptionClient
+{
+    private static final Duration DEFAULT_RECONNECT_DELAY = Duration.ofSeconds(1);
+
+    private final HttpClient httpClient;
+    private final URI wsUri;
+    private final Duration reconnectDelay;
+    private final SolanaCodec solanaCodec;
+    private final ScheduledExecutorService reconnectScheduler;
+
+    private final Object lock = new Object();
+    private final Set<SubscriptionHandle<?>> subscriptions = new LinkedHashSet<>();
+    private final Map<Long, SubscriptionHandle<?>> pendingRequests = new HashMap<>();
+    private final Map<Long, SubscriptionHandle<?>> activeSubscriptions = new HashMap<>();
+    private WebSocket webSocket;
+    private CompletableFuture<WebSocket> lastSend;
+    private boolean closed;
+
+    /**
+     * Constructs a new {@code SolanaJsonRpcSubscriptionClient} and starts connecting to the given websocket url.
+     * A lost connection is re-established after one second.
+     *
+     * @param httpClient the {@link HttpClient} instance used to open the websocket.
+     * @param wsUrl      the websocket URL of the Solana pubsub endpoint, for example {@code ws://localhost:8900}.
+     */
+    public SolanaJsonRpcSubscriptionClient(
+            final HttpClient httpClient,
+            final String wsUrl)
+    {
+        this(requireNonNull(httpClient), requireNonNull(wsUrl), DEFAULT_RECONNECT_DELAY, false);
+    }
+
+    /**
+     * Constructs a new {@code SolanaJsonRpcSubscriptionClient} and starts connecting to the given websocket url.
+     *
+     * @param httpClient     the {@link HttpClient} instance used to open the websocket.
+     * @param wsUrl          the websocket URL of the Solana pubsub endpoint, for example {@code ws://localhost:8900}.
+     * @param reconnectDelay the {@link Duration} to wait before re-establishing a lost or failed connection.
+     */
+    public SolanaJsonRpcSubscriptionClient(
+            final HttpClient httpClient,
+            final String wsUrl,
+            final Duration reconnectDelay)
+    {
+        this(requireNonNull(httpClient), requireNonNull(wsUrl), requireNonNull(reconnectDelay), false);
+    }
+
+    SolanaJsonRpcSubscriptionClient(
+            final HttpClient httpClient,
+            final String wsUrl,
+            final Duration reconnectDelay,
+            final boolean failOnUnknownProperties)
+    {
+        this.httpClient = httpClient;
+        this.wsUri = URI.create(wsUrl);
+        this.reconnectDelay = reconnectDelay;
+        this.solanaCodec = new SolanaCodec(failOnUnknownProperties);
+        this.reconnectScheduler = Executors.newSingleThreadScheduledExecutor(runnable ->
+        {
+            final Thread thread = new Thread(runnable, "solana-subscription-reconnect");
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        connect();
+    }
+
+    @Override
+    public CompletableFuture<Subscription> signatureSubscribe(
+            final String transactionSignature,
+            final Consumer<SolanaRpcResponse<SignatureNotification>> listener)
+    {
+        return subscribe(SolanaSubscriptionMethod.SIGNATURE, listener, transactionSignature, commitmentParams());
+    }
+
+    @Override
+    public CompletableFuture<Subscription> signatureSubscribe(
+            final String transactionSignature,
+            final SolanaClientOptionalParams optionalParams,
+            final Consumer<SolanaRpcResponse<SignatureNotification>> listener)
+    {
+        return subscribe(SolanaSubscriptionMethod.SIGNATURE, listener, transactionSignature, optionalParams.getParams());
+    }
+
+    @Override
+    public CompletableFuture<Subscription> accountSubscribe(
+            final String address,
+            final Consumer<SolanaRpcResponse<AccountInfo>> listener)
+    {
+        final Map<String, Object> params = commitmentParams();
+        params.put("encoding", AccountInfoDTO.AccountInfoDataDTO.BASE64_ENCODING);
+
+        return subscribe(SolanaSubscriptionMethod.ACCOUNT, listener, address, params);
+    }
+
+    @Override
+    public CompletableFuture<Subscription> accountSubscribe(
+            final String address,
+            final SolanaClientOptionalParams optionalParams,
+            final Consumer<SolanaRpcResponse<AccountInfo>> listener)
+    {
+        return subscribe(SolanaSubscriptionMethod.ACCOUNT, listener, address, optionalParams.getParams());
+    }
+
+    @Override
+    public CompletableFuture<Subscription> slotSubscribe(final Consumer<SlotNotification> listener)
+    {
+        return subscribe(SolanaSubscriptionMethod.SLOT, listener);
+    }
+
+    @Override
+    public CompletableFuture<Subscription> logsSubscribe(
+            final String mentionedAddress,
+            final Consumer<SolanaRpcResponse<LogsNotification>> listener)
+    {
+        return subscribe(SolanaSubscriptionMethod.LOGS, listener, Map.of("mentions", List.of(mentionedAddress)), commitmentParams());
+    }
+
+    @Override
+    public CompletableFuture<Subscription> logsSubscribe(
+            final String mentionedAddress,
+            final SolanaClientOptionalParams optionalParams,
+            final Consumer<SolanaRpcResponse<LogsNotification>> listener)
+    {
+        return subscribe(SolanaSubscriptionMethod.LOGS, listener, Map.of("mentions", List.of(mentionedAddress)), optionalParams.getParams());
+    }
+
+    @Override
+    public void close()
+    {
+        final List<SubscriptionHandle<?>> unsubscribed;
+        synchronized (lock)
+        {
+            if (closed)
+            {
+                return;
+            }
+            closed = true;
+            unsubscribed = new ArrayList<>(subscriptions);
+            subscriptions.clear();
+            pendingRequests.clear();
+            activeSubscriptions.clear();
+
+            if (webSocket != null)
+            {
+                final WebSocket closing = webSocket;
+                lastSend.handle((ignored, throwable) -> closing)
+                        .thenCompose(ws -> ws.sendClose(WebSocket.NORMAL_CLOSURE, ""));
+                webSocket = null;
+            }
+        }
+
+        reconnectScheduler.shutdownNow();
+        for (final SubscriptionHandle<?> subscription : unsubscribed)
+        {
+            // only subscriptions still waiting for the node to accept them are affected
+            subscription.subscribed.completeExceptionally(new IllegalStateException("The subscription client has been closed."));
+        }
+    }
+
+    private <T> CompletableFuture<Subscription> subscribe(
+            final SolanaSubscriptionMethod<T> method,
+            final Consumer<? super T> listener,
+            final Object... params)
+    {
+        final SubscriptionHandle<T> subscription = new SubscriptionHandle<>(method, requireNonNull(listener), params);
+        synchronized (lock)
+        {
+            if (closed)
+            {
+                return CompletableFuture.failedFuture(new IllegalStateException("The subscription client has been closed."));
+            }
+
+            subscriptions.add(subscription);
+            if (webSocket != null)
+            {
+                sendSubscribe(webSocket, subscription);
+            }
+        }
+        return subscription.subscribed;
+    }
+
+    private void connect()
+    {
+        httpClient.newWebSocketBuilder()
+                .buildAsync(wsUri, new SubscriptionListener())
+                .whenComplete((connected, throwable) ->
+                {
+                    if (throwable != null)
+                    {
+                        scheduleReconnect();
+                    }
+                    else
+                    {
+                        onConnected(connected);
+                    }
+                });
+    }
+
+    private void onConnected(final WebSocket connected)
+    {
+        synchronized (lock)
+        {
+            if (closed)
+            {
+                connected.sendClose(WebSocket.NORMAL_CLOSURE, "");
+                return;
+            }
+
+            webSocket = connected;
+            lastSend = CompletableFuture.completedFuture(connected);
+            for (final SubscriptionHandle<?> subscription : new ArrayList<>(subscriptions))
+            {
+                sendSubscribe(connected, subscription);
+            }
+        }
+    }
+
+    private void onDisconnected(final WebSocket disconnected)
+    {
+        synchronized (lock)
+        {
+            if (webSocket != disconnected)
+            {
+                return;
+            }
+
+            // subscription ids are only meaningful on the connection that issued them
+            webSocket = null;
+            pendingRequests.clear();
+            activeSubscriptions.clear();
+        }
+        scheduleReconnect();
+    }
+
+    private void scheduleReconnect()
+    {
+        synchronized (lock)
+        {
+            if (!closed)
+            {
+                reconnectScheduler.schedule(this::connect, reconnectDelay.toMillis(), TimeUnit.MILLISECONDS);
+            }
+        }
+    }
+
+    private void onMessage(final String text)
+    {
+        final JsonNode message;
+        try
+        {
+            message = solanaCodec.decodeMessage(text);
+        }
+        catch (final IOException e)
+        {
+            // a malformed message cannot be attributed to any subscription, so it is dropped rather than closing the shared connection
+            return;
+        }
+
+        final JsonNode id = message.get(SolanaCodec.ID);
+        if (id != null && !id.isNull())
+        {
+            onResponse(id.asLong(), message);
+        }
+        else if (message.has(SolanaCodec.PARAMS))
+        {
+            onNotification(message.get(SolanaCodec.PARAMS));
+        }
+    }
+
+    private void onResponse(final long requestId, final JsonNode message)
+    {
+        final SubscriptionHandle<?> subscription;
+        final JsonNode error = message.get("error");
+        synchronized (lock)
+        {
+            subscription = pendingRequests.remove(requestId);
+            if (subscription != null)
+            {
+                final long subscriptionId = message.path("result").asLong();
+                if (error != null && !error.isNull())
+                {
+                    subscriptions.remove(subscription);
+                }
+                else if (subscriptions.contains(subscription))
+                {
+                    subscription.subscriptionId = subscriptionId;
+                    activeSubscriptions.put(subscriptionId, subscription);
+                }
+                else
+                {
+                    // unsubscribed while the subscribe request was still in flight
+                    sendUnsubscribe(subscription.method, subscriptionId);
+                }
+            }
+        }
+
+        // responses without a pending subscription acknowledge an unsubscribe and need no further handling
+        if (subscription != null)
+        {
+            if (error != null && !error.isNull())
+            {
+                subscription.subscribed.completeExceptionally(new SolanaJsonRpcClientException(String.format(
+                        "Subscription %s was rejected with error %s: %s.", subscription.method, error.path("code").asLong(), error.path("message").asText())));
+            }
+            else
+            {
+                subscription.subscribed.complete(subscription);
+            }
+        }
+    }
+
+    private void onNotification(final JsonNode params)
+    {
+        final long subscriptionId = params.path("subscription").asLong();
+        final SubscriptionHandle<?> subscription;
+        synchronized (lock)
+        {
+            subscription = activeSubscriptions.get(subscriptionId);
+            if (subscription != null && subscription.method.isSingleNotification())
+            {
+                // the node has already ended the subscription on its side
+                activeSubscriptions.remove(subscriptionId);
+                subscriptions.remove(subscription);
+            }
+        }
+
+        if (subscription != null)
+        {
+            subscription.onNotification(params.get("result"));
+        }
+    }
+
+    private void sendSubscribe(final WebSocket ws, final SubscriptionHandle<?> subscription)
+    {
+        final long requestId = solanaCodec.nextRequestId();
+        final String request;
+        try
+        {
+            request = solanaCodec.encodeRequest(requestId, subscription.method.getSubscribeMethod(), subscription.params);
+        }
+        catch (final IOException e)
+        {
+            subscriptions.remove(subscription);
+            subscription.subscribed.completeExceptionally(new SolanaJsonRpcClientException(
+                    String.format("An error occurred building the JSON RPC request for method %s.", subscription.method), e));
+            return;
+        }
+
+        pendingRequests.put(requestId, subscription);
+        send(ws, request);
+    }
+
+    private void sendUnsubscribe(final SolanaSubscriptionMethod<?> method, final long subscriptionId)
+    {
+        if (webSocket == null)
+        {
+            return;
+        }
+
+        try
+        {
+            send(webSocket, solanaCodec.encodeRequest(solanaCodec.nextRequestId(), method.getUnsubscribeMethod(), new Object[]{subscriptionId}));
+        }
+        catch (final IOException e)
+        {
+            // a lone subscription id always encodes, and notifications for an unknown subscription are ignored regardless
+        }
+    }
+
+    private void send(final WebSocket ws, final String request)
+    {
+        // a websocket only permits one outstanding text send, so each send waits for the previous one to complete
+        lastSend = lastSend.handle((ignored, throwable) -> ws)
+                .thenCompose(previous -> previous.sendText(request, true));
+    }
+
+    private static Map<String, Object> commitmentParams()
+    {
+        final SolanaClientOptionalParams params = new SolanaJsonRpcClientOptionalParams();
+        params.addParam("commitment", Commitment.FINALIZED.name().toLowerCase());
+
+        return params.getParams();
+    }
+
+    private final class SubscriptionHandle<T> implements Subscription
+    {
+        private final SolanaSubscriptionMethod<T> method;
+        private final Consumer<? super T> listener;
+        private final Object[] params;
+        private final CompletableFuture<Subscription> subscribed = new CompletableFuture<>();
+        private long subscriptionId = -1;
+
+        SubscriptionHandle(
+                final SolanaSubscriptionMethod<T> method,
+                final Consumer<? super T> listener,
+                final Object[] params)
+        {
+            this.method = method;
+            this.listener = listener;
+            this.params = params;
+        }
+
+        @Override
+        public void unsubscribe()
+        {
+            synchronized (lock)
+            {
+                if (subscriptions.remove(this) && activeSubscriptions.remove(subscriptionId, this))
+                {
+                    sendUnsubscribe(method, subscriptionId);
+                }
+            }
+        }
+
+        void onNotification(final JsonNode result)
+        {
+            final T notification;
+            try
+            {
+                notification = solanaCodec.decodeNotification(result, method);
+            }
+            catch (final IOException e)
+            {
+                // there is no caller to report to, and later notifications for the subscription may still decode
+                return;
+            }
+
+            try
+            {
+                listener.accept(notification);
+            }
+            catch (final RuntimeException e)
+            {
+                // a failing listener must not take down the connection shared with every other subscription
+            }
+        }
+
+        @Override
+        public String toString()
+        {
+            return "SubscriptionHandle{" +
+                    "method=" + method +
+                    ", subscriptionId=" + subscriptionId +
+                    '}';
+        }
+    }
+
+    private final class SubscriptionListener implements WebSocket.Listener
+    {
+        private final StringBuilder message = new StringBuilder();
+
+        @Override
+        public CompletionStage<?> onText(final WebSocket ws, final CharSequence data, final boolean last)
+        {
+            // the node may split a large notification, such as account data, over several frames
+            message.append(data);
+            if (last)
+            {
+                final String text = message.toString();
+                message.setLength(0);
+                onMessage(text);
+            }
+            ws.request(1);
+            return null;
+        }
+
+        @Override
+        public CompletionStage<?> onClose(final WebSocket ws, final int statusCode, final String reason)
+        {
+            onDisconnected(ws);
+            return null;
+        }
+
+        @Override
+        public void onError(final WebSocket ws, final Throwable error)
+        {
+            onDisconnected(ws);
+        }
+    }
+}
@@ -0,0 +1,362 @@
+package com.lmax.solana4j.client.jsonrpc;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.lmax.solana4j.client.api.SolanaClientMetrics;
+import com.lmax.solana4j.client.api.SolanaClientResponse;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Function;
+
+/**
+ * Shared request/response plumbing for the blocking and non-blocking JSON-RPC clients.
+ * <p>
+ * Every call is measured by a {@link RpcCallMeasurement}, which ends it with an outcome chosen where the call succeeds or
+ * fails, so that each call is recorded exactly once.
+ * </p>
+ */
+final class SolanaJsonRpcTransport
+{
+    private static final String BATCH = "batch";
+
+    private final String rpcUrl;
+    private final HttpClient httpClient;
+    private final SolanaCodec solanaCodec;
+    private final Duration socketTimeout;
+    private final SolanaClientMetrics metrics;
+
+    SolanaJsonRpcTransport(
+            final HttpClient httpClient,
+            final String rpcUrl,
+            final Duration socketTimeout,
+            final boolean failOnUnknownProperties)
+    {
+        this(httpClient, rpcUrl, socketTimeout, failOnUnknownProperties, SolanaClientMetrics.NONE);
+    }
+
+    SolanaJsonRpcTransport(
+            final HttpClient httpClient,
+            final String rpcUrl,
+            final Duration socketTimeout,
+            final boolean failOnUnknownProperties,
+            final SolanaClientMetrics metrics)
+    {
+        this.httpClient = httpClient;
+        this.rpcUrl = rpcUrl;
+        this.socketTimeout = socketTimeout;
+        this.solanaCodec = new SolanaCodec(failOnUnknownProperties);
+        this.metrics = metrics;
+    }
+
+    <S, T> SolanaClientResponse<S> queryForObject(
+            final SolanaRpcMethod<T> method,
+            final Function<T, S> dtoMapper,
+            final Object... params) throws SolanaJsonRpcClientException
+    {
+        final RpcCallMeasurement measurement = new RpcCallMeasurement(metrics, rpcUrl, method.getName());
+        final HttpRequest request = prepareRequest(method, params, measurement);
+        final HttpResponse<InputStream> httpResponse = sendRequest(request, measurement);
+
+        return toClientResponse(dtoMapper, decodeStreamedResponse(method, request, httpResponse, measurement), measurement);
+    }
+
+    <S, T> CompletableFuture<SolanaClientResponse<S>> queryForObjectAsync(
+            final SolanaRpcMethod<T> method,
+            final Function<T, S> dtoMapper,
+            final Object... params)
+    {
+        final CompletableFuture<SolanaClientResponse<S>> result = new CompletableFuture<>();
+        final RpcCallMeasurement measurement = new RpcCallMeasurement(metrics, rpcUrl, method.getName());
+
+        final HttpRequest request;
+        try
+        {
+            request = prepareRequest(method, params, measurement);
+        }
+        catch (final SolanaJsonRpcClientException e)
+        {
+            result.completeExceptionally(e);
+            return result;
+        }
+
+        // the body is buffered as bytes rather than streamed so that decoding never blocks the completing thread on network reads
+        httpClient.sendAsync(request, HttpResponse.BodyHandlers.ofByteArray())
+                .whenComplete((httpResponse, throwable) ->
+                {
+                    try
+                    {
+                        result.complete(toClientResponse(dtoMapper, decodeAsyncResponse(method, request, httpResponse, throwable, measurement), measurement));
+                    }
+                    catch (final Throwable e)
+                    {
+                        // anything escaping this callback would leave the caller waiting on a future that never completes
+                        result.completeExceptionally(e);
+                    }
+                });
+
+        return result;
+    }
+
+    long nextRequestId()
+    {
+        return solanaCodec.nextRequestId();
+    }
+
+    void queryForBatch(final List<SolanaJsonRpcBatch.BatchCall<?, ?>> calls) throws SolanaJsonRpcClientException
+    {
+        final RpcCallMeasurement measurement = new RpcCallMeasurement(metrics, rpcUrl, BATCH);
+        final HttpRequest request = prepareBatchRequest(calls, measurement);
+        final HttpResponse<InputStream> httpResponse = sendRequest(request, measurement);
+
+        final Map<Long, JsonNode> responses;
+        try (InputStream body = measurement.counting(httpResponse.body()))
+        {
+            checkStatusCode(request, httpResponse, measurement);
+            responses = solanaCodec.decodeBatchResponse(body);
+        }
+        catch (final JsonProcessingException e)
+        {
+            measurement.end(SolanaClientMetrics.Outcome.CODEC_FAILURE, 0);
+            throw new SolanaJsonRpcClientException(String.format("Unable to decode JSON RPC batch response %s.", httpResponse), e);
+        }
+        catch (final IOException e)
+        {
+            measurement.end(SolanaClientMetrics.Outcome.IO_FAILURE, 0);
+            throw new SolanaJsonRpcClientException(String.format("Unable to read JSON RPC batch response %s.", httpResponse), e, true);
+        }
+
+        // error responses to the individual calls of a batch are left to its calls, but every call is completed before the
+        // first that could not be completed is reported
+        SolanaJsonRpcClientException firstFailure = null;
+        for (final SolanaJsonRpcBatch.BatchCall<?, ?> call : calls)
+        {
+            try
+            {
+                completeBatchCall(call, responses, httpResponse);
+            }
+            catch (final SolanaJsonRpcClientException e)
+            {
+                call.fail(e);
+                firstFailure = firstFailure == null ? e : firstFailure;
+            }
+        }
+        measurement.end(firstFailure == null ? SolanaClientMetrics.Outcome.SUCCESS : SolanaClientMetrics.Outcome.CODEC_FAILURE, 0);
+        if (firstFailure != null)
+        {
+            throw firstFailure;
+        }
+    }
+
+    private <S, T> void completeBatchCall(
+            final SolanaJsonRpcBatch.BatchCall<S, T> call,
+            final Map<Long, JsonNode> responses,
+            final HttpResponse<?> httpResponse) throws SolanaJsonRpcClientException
+    {
+        // a node that rejects the batch as a whole answers with a single error object that applies to every call
+        final JsonNode response = responses.containsKey(call.getId()) ? responses.get(call.getId()) : responses.get(null);
+        if (response == null)
+        {
+            throw new SolanaJsonRpcClientException(String.format("No response for request id %s in JSON RPC batch response %s.", call.getId(), httpResponse));
+        }
+
+        try
+        {
+            call.complete(toResult(solanaCodec.decodeResponse(response, call.getMethod())));
+        }
+        catch (final IOException e)
+        {
+            throw new SolanaJsonRpcClientException(String.format("Unable to decode JSON RPC response for request id %s.", call.getId()), e);
+        }
+    }
+
+    private static <S, T> SolanaClientResponse<S> toClientResponse(
+            final Function<T, S> dtoMapper,
+            final Result<SolanaClientResponse.SolanaClientError, T> response,
+            final RpcCallMeasurement measurement) throws SolanaJsonRpcClientException
+    {
+        if (response.isError())
+        {
+            measurement.end(SolanaClientMetrics.Outcome.ERROR_RESPONSE, (int) response.getError().getErrorCode());
+            return SolanaJsonRpcClientResponse.creatErrorResponse(response.getError());
+        }
+
+        final S mapped;
+        try
+        {
+            mapped = dtoMapper.apply(response.getSuccess());
+        }
+        catch (final RuntimeException e)
+        {
+            // such as a malformed base64 account or a value the node left out
+            measurement.end(SolanaClientMetrics.Outcome.CODEC_FAILURE, 0);
+            throw new SolanaJsonRpcClientException(String.format("Unable to map JSON RPC result %s.", response.getSuccess()), e);
+        }
+        measurement.end(SolanaClientMetrics.Outcome.SUCCESS, 0);
+        return SolanaJsonRpcClientResponse.createSuccessResponse(mapped);
+    }
+
+    private HttpRequest prepareBatchRequest(
+            final List<SolanaJsonRpcBatch.BatchCall<?, ?>> calls,
+            final RpcCallMeasurement measurement) throws SolanaJsonRpcClientException
+    {
+        try
+        {
+            final byte[] payload = solanaCodec.encodeBatchRequest(calls);
+            measurement.encoded(payload);
+            return buildPostRequest(payload);
+        }
+        catch (final IOException e)
+        {
+            measurement.end(SolanaClientMetrics.Outcome.CODEC_FAILURE, 0);
+            throw new SolanaJsonRpcClientException(String.format("An error occurred building the JSON RPC batch request of %s calls.", calls.size()), e);
+        }
+    }
+
+    private HttpRequest prepareRequest(
+            final SolanaRpcMethod<?> method,
+            final Object[] params,
+            final RpcCallMeasurement measurement) throws SolanaJsonRpcClientException
+    {
+        try
+        {
+            final byte[] payload = solanaCodec.encodeRequest(method, params);
+            measurement.encoded(payload);
+            return buildPostRequest(payload);
+        }
+        catch (final IOException e)
+        {
+            measurement.end(SolanaClientMetrics.Outcome.CODEC_FAILURE, 0);
+            throw new SolanaJsonRpcClientException(String.format("An error occurred building the JSON RPC request for method %s.", method), e);
+        }
+    }
+
+    private HttpResponse<InputStream> sendRequest(final HttpRequest request, final RpcCallMeasurement measurement) throws SolanaJsonRpcClientException
+    {
+        try
+        {
+            final HttpResponse<InputStream> response = httpClient.send(request, HttpResponse.BodyHandlers.ofInputStream());
+            measurement.responded();
+            return response;
+        }
+        catch (final IOException | InterruptedException e)
+        {
+            measurement.end(SolanaClientMetrics.Outcome.IO_FAILURE, 0);
+            throw new SolanaJsonRpcClientException(String.format("Unable to communicate with the JSON RPC for request %s.", request), e, true);
+        }
+    }
+
+    private static void checkStatusCode(
+            final HttpRequest request,
+            final HttpResponse<?> httpResponse,
+            final RpcCallMeasurement measurement) throws SolanaJsonRpcClientException
+    {
+        if (httpResponse.statusCode() != 200)
+        {
+            measurement.end(SolanaClientMetrics.Outcome.HTTP_STATUS, httpResponse.statusCode());
+            throw new SolanaJsonRpcClientException(String.format("Unexpected status code %s returned from the JSON RPC for request %s.", httpResponse.statusCode(), request));
+        }
+    }
+
+    private <T> Result<SolanaClientResponse.SolanaClientError, T> decodeStreamedResponse(
+            final SolanaRpcMethod<T> method,
+            final HttpRequest request,
+            final HttpResponse<InputStream> httpResponse,
+            final RpcCallMeasurement measurement) throws SolanaJsonRpcClientException
+    {
+        // the parser pulls straight off the connection, so the body is never materialised as a String or byte[]
+        try (InputStream body = measurement.counting(httpResponse.body()))
+        {
+            checkStatusCode(request, httpResponse, measurement);
+            return toResult(solanaCodec.decodeResponse(body, method));
+        }
+        catch (final JsonProcessingException e)
+        {
+            measurement.end(SolanaClientMetrics.Outcome.CODEC_FAILURE, 0);
+            throw new SolanaJsonRpcClientException(String.format("Unable to decode JSON RPC response %s.", httpResponse), e);
+        }
+        catch (final IOException e)
+        {
+            measurement.end(SolanaClientMetrics.Outcome.IO_FAILURE, 0);
+            throw new SolanaJsonRpcClientException(String.format("Unable to read JSON RPC response %s.", httpResponse), e, true);
+        }
+    }
+
+    private <T> Result<SolanaClientResponse.SolanaClientError, T> decodeAsyncResponse(
+            final SolanaRpcMethod<T> method,
+            final HttpRequest request,
+            final HttpResponse<byte[]> httpResponse,
+            final Throwable throwable,
+            final RpcCallMeasurement measurement) throws SolanaJsonRpcClientException
+    {
+        measurement.responded();
+        if (throwable != null)
+        {
+            measurement.end(SolanaClientMetrics.Outcome.IO_FAILURE, 0);
+            throw new SolanaJsonRpcClientException(
+                    String.format("Unable to communicate with the JSON RPC for request %s.", request), unwrap(throwable), true);
+        }
+        return decodeBufferedResponse(method, request, httpResponse, measurement);
+    }
+
+    private <T> Result<SolanaClientResponse.SolanaClientError, T> decodeBufferedResponse(
+            final SolanaRpcMethod<T> method,
+            final HttpRequest request,
+            final HttpResponse<byte[]> httpResponse,
+            final RpcCallMeasurement measurement) throws SolanaJsonRpcClientException
+    {
+        measurement.read(httpResponse.body().length);
+        checkStatusCode(request, httpResponse, measurement);
+        try
+        {
+            return toResult(solanaCodec.decodeResponse(httpResponse.body(), method));
+        }
+        catch (final IOException e)
+        {
+            measurement.end(SolanaClientMetrics.Outcome.CODEC_FAILURE, 0);
+            throw new SolanaJsonRpcClientException(String.format("Unable to decode JSON RPC response %s.", httpResponse), e);
+        }
+    }
+
+    private static <T> Result<SolanaClientResponse.SolanaClientError, T> toResult(final RpcWrapperDTO<T> rpcResult)
+    {
+        if (rpcResult.getError() != null)
+        {
+            return Result.error(new SolanaJsonRpcClientError(rpcResult.getError().getCode(), rpcResult.getError().getMessage()));
+        }
+        return Result.success(rpcResult.getResult());
+    }
+
+    private HttpRequest buildPostRequest(final byte[] payload)
+    {
+        final HttpRequest.Builder request = HttpRequest.newBuilder();
+        request.uri(URI.create(rpcUrl));
+        request.setHeader("Content-Type", "application/json");
+        request.POST(HttpRequest.BodyPublishers.ofByteArray(payload));
+
+        if (socketTimeout != null)
+        {
+            request.timeout(socketTimeout);
+        }
+
+        return request.build();
+    }
+
+    private static Throwable unwrap(final Throwable throwable)
+    {
+        if (throwable instanceof CompletionException && throwable.getCause() != null)
+        {
+            return throwable.getCause();
+        }
+        return throwable;
+    }
+}
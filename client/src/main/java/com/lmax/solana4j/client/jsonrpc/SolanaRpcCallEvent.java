@@ -0,0 +1,54 @@
+package com.lmax.solana4j.client.jsonrpc;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+
+/**
+ * A flight recorder event for each JSON-RPC call, so that calls can be profiled in production with no agent beyond JFR.
+ * The event's duration covers the whole call, and it is committed by the thread that completes the call.
+ */
+@Name("com.lmax.solana4j.RpcCall")
+@Label("Solana RPC Call")
+@Category({"Solana", "JSON-RPC"})
+@Description("A JSON-RPC call to a solana node")
+@StackTrace(false)
+final class SolanaRpcCallEvent extends jdk.jfr.Event
+{
+    @Label("Endpoint")
+    String endpoint;
+
+    @Label("Method")
+    String method;
+
+    @Label("Outcome")
+    String outcome;
+
+    @Label("Code")
+    @Description("The JSON-RPC error code or unexpected HTTP status, otherwise zero")
+    int code;
+
+    @Label("Encode Time")
+    @Timespan
+    long encodeNanos;
+
+    @Label("HTTP Time")
+    @Timespan
+    long httpNanos;
+
+    @Label("Decode Time")
+    @Timespan
+    long decodeNanos;
+
+    @Label("Request Size")
+    @DataAmount
+    long requestBytes;
+
+    @Label("Response Size")
+    @DataAmount
+    long responseBytes;
+}
@@ -0,0 +1,167 @@
+package com.lmax.solana4j.client.jsonrpc;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+
+import java.util.List;
+
+/**
+ * A JSON-RPC method together with the type its result decodes to. Each method is defined once so that
+ * {@link SolanaCodec} can resolve and cache its reader up front rather than on every request.
+ *
+ * @param <T> the type of the result returned by the method
+ */
+final class SolanaRpcMethod<T>
+{
+    static final SolanaRpcMethod<String> REQUEST_AIRDROP = new SolanaRpcMethod<>(
+            "requestAirdrop",
+            new TypeReference<RpcWrapperDTO<String>>()
+            {
+            });
+
+    static final SolanaRpcMethod<String> SEND_TRANSACTION = new SolanaRpcMethod<>(
+            "sendTransaction",
+            new TypeReference<RpcWrapperDTO<String>>()
+            {
+            });
+
+    static final SolanaRpcMethod<TransactionResponseDTO> GET_TRANSACTION = new SolanaRpcMethod<>(
+            "getTransaction",
+            new TypeReference<RpcWrapperDTO<TransactionResponseDTO>>()
+            {
+            });
+
+    static final SolanaRpcMethod<BalanceDTO> GET_BALANCE = new SolanaRpcMethod<>(
+            "getBalance",
+            new TypeReference<RpcWrapperDTO<BalanceDTO>>()
+            {
+            });
+
+    static final SolanaRpcMethod<TokenAmountDTO> GET_TOKEN_ACCOUNT_BALANCE = new SolanaRpcMethod<>(
+            "getTokenAccountBalance",
+            new TypeReference<RpcWrapperDTO<TokenAmountDTO>>()
+            {
+            });
+
+    static final SolanaRpcMethod<AccountInfoDTO> GET_ACCOUNT_INFO = new SolanaRpcMethod<>(
+            "getAccountInfo",
+            new TypeReference<RpcWrapperDTO<AccountInfoDTO>>()
+            {
+            });
+
+    static final SolanaRpcMethod<MultipleAccountsDTO> GET_MULTIPLE_ACCOUNTS = new SolanaRpcMethod<>(
+            "getMultipleAccounts",
+            new TypeReference<RpcWrapperDTO<MultipleAccountsDTO>>()
+            {
+            });
+
+    static final SolanaRpcMethod<Long> GET_BLOCK_HEIGHT = new SolanaRpcMethod<>(
+            "getBlockHeight",
+            new TypeReference<RpcWrapperDTO<Long>>()
+            {
+            });
+
+    static final SolanaRpcMethod<Long> GET_SLOT = new SolanaRpcMethod<>(
+            "getSlot",
+            new TypeReference<RpcWrapperDTO<Long>>()
+            {
+            });
+
+    static final SolanaRpcMethod<BlockhashDTO> GET_LATEST_BLOCKHASH = new SolanaRpcMethod<>(
+            "getLatestBlockhash",
+            new TypeReference<RpcWrapperDTO<BlockhashDTO>>()
+            {
+            });
+
+    static final SolanaRpcMethod<Long> GET_MINIMUM_BALANCE_FOR_RENT_EXEMPTION = new SolanaRpcMethod<>(
+            "getMinimumBalanceForRentExemption",
+            new TypeReference<RpcWrapperDTO<Long>>()
+            {
+            });
+
+    static final SolanaRpcMethod<Long> MINIMUM_LEDGER_SLOT = new SolanaRpcMethod<>(
+            "minimumLedgerSlot",
+            new TypeReference<RpcWrapperDTO<Long>>()
+            {
+            });
+
+    static final SolanaRpcMethod<String> GET_HEALTH = new SolanaRpcMethod<>(
+            "getHealth",
+            new TypeReference<RpcWrapperDTO<String>>()
+            {
+            });
+
+    static final SolanaRpcMethod<List<SignatureForAddressDTO>> GET_SIGNATURES_FOR_ADDRESS = new SolanaRpcMethod<>(
+            "getSignaturesForAddress",
+            new TypeReference<RpcWrapperDTO<List<SignatureForAddressDTO>>>()
+            {
+            });
+
+    static final SolanaRpcMethod<SignatureStatusesDTO> GET_SIGNATURE_STATUSES = new SolanaRpcMethod<>(
+            "getSignatureStatuses",
+            new TypeReference<RpcWrapperDTO<SignatureStatusesDTO>>()
+            {
+            });
+
+    static final SolanaRpcMethod<TokenAccountsByOwnerDTO> GET_TOKEN_ACCOUNTS_BY_OWNER = new SolanaRpcMethod<>(
+            "getTokenAccountsByOwner",
+            new TypeReference<RpcWrapperDTO<TokenAccountsByOwnerDTO>>()
+            {
+            });
+
+    static final SolanaRpcMethod<SimulateTransactionResponseDTO> SIMULATE_TRANSACTION = new SolanaRpcMethod<>(
+            "simulateTransaction",
+            new TypeReference<RpcWrapperDTO<SimulateTransactionResponseDTO>>()
+            {
+            });
+
+    static final SolanaRpcMethod<SolanaVersionDTO> GET_VERSION = new SolanaRpcMethod<>(
+            "getVersion",
+            new TypeReference<RpcWrapperDTO<SolanaVersionDTO>>()
+            {
+            });
+
+    static final List<SolanaRpcMethod<?>> ALL = List.of(
+            REQUEST_AIRDROP,
+            SEND_TRANSACTION,
+            GET_TRANSACTION,
+            GET_BALANCE,
+            GET_TOKEN_ACCOUNT_BALANCE,
+            GET_ACCOUNT_INFO,
+            GET_MULTIPLE_ACCOUNTS,
+            GET_BLOCK_HEIGHT,
+            GET_SLOT,
+            GET_LATEST_BLOCKHASH,
+            GET_MINIMUM_BALANCE_FOR_RENT_EXEMPTION,
+            MINIMUM_LEDGER_SLOT,
+            GET_HEALTH,
+            GET_SIGNATURES_FOR_ADDRESS,
+            GET_SIGNATURE_STATUSES,
+            GET_TOKEN_ACCOUNTS_BY_OWNER,
+            SIMULATE_TRANSACTION,
+            GET_VERSION);
+
+    private final String name;
+    private final TypeReference<RpcWrapperDTO<T>> type;
+
+    private SolanaRpcMethod(final String name, final TypeReference<RpcWrapperDTO<T>> type)
+    {
+        this.name = name;
+        this.type = type;
+    }
+
+    String getName()
+    {
+        return name;
+    }
+
+    TypeReference<RpcWrapperDTO<T>> getType()
+    {
+        return type;
+    }
+
+    @Override
+    public String toString()
+    {
+        return name;
+    }
+}
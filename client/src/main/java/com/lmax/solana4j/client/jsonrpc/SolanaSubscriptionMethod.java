@@ -0,0 +1,93 @@
+package com.lmax.solana4j.client.jsonrpc;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+
+import java.util.List;
+
+/**
+ * A JSON-RPC websocket subscription together with the method used to cancel it and the type its notifications decode to.
+ *
+ * @param <T> the type of the result carried by each notification
+ */
+final class SolanaSubscriptionMethod<T>
+{
+    static final SolanaSubscriptionMethod<SignatureNotificationDTO> SIGNATURE = new SolanaSubscriptionMethod<>(
+            "signatureSubscribe",
+            "signatureUnsubscribe",
+            new TypeReference<SignatureNotificationDTO>()
+            {
+            },
+            true);
+
+    static final SolanaSubscriptionMethod<AccountInfoDTO> ACCOUNT = new SolanaSubscriptionMethod<>(
+            "accountSubscribe",
+            "accountUnsubscribe",
+            new TypeReference<AccountInfoDTO>()
+            {
+            },
+            false);
+
+    static final SolanaSubscriptionMethod<SlotNotificationDTO> SLOT = new SolanaSubscriptionMethod<>(
+            "slotSubscribe",
+            "slotUnsubscribe",
+            new TypeReference<SlotNotificationDTO>()
+            {
+            },
+            false);
+
+    static final SolanaSubscriptionMethod<LogsNotificationDTO> LOGS = new SolanaSubscriptionMethod<>(
+            "logsSubscribe",
+            "logsUnsubscribe",
+            new TypeReference<LogsNotificationDTO>()
+            {
+            },
+            false);
+
+    static final List<SolanaSubscriptionMethod<?>> ALL = List.of(SIGNATURE, ACCOUNT, SLOT, LOGS);
+
+    private final String subscribeMethod;
+    private final String unsubscribeMethod;
+    private final TypeReference<T> notificationType;
+    private final boolean singleNotification;
+
+    private SolanaSubscriptionMethod(
+            final String subscribeMethod,
+            final String unsubscribeMethod,
+            final TypeReference<T> notificationType,
+            final boolean singleNotification)
+    {
+        this.subscribeMethod = subscribeMethod;
+        this.unsubscribeMethod = unsubscribeMethod;
+        this.notificationType = notificationType;
+        this.singleNotification = singleNotification;
+    }
+
+    String getSubscribeMethod()
+    {
+        return subscribeMethod;
+    }
+
+    String getUnsubscribeMethod()
+    {
+        return unsubscribeMethod;
+    }
+
+    TypeReference<T> getNotificationType()
+    {
+        return notificationType;
+    }
+
+    /**
+     * The node cancels subscriptions such as {@code signatureSubscribe} itself after sending their first notification.
+     */
+    boolean isSingleNotification()
+    {
+        return singleNotification;
+    }
+
+    @Override
+    public String toString()
+    {
+        return subscribeMethod;
+    }
+}
@@ -4,6 +4,7 @@
 module com.lmax.solana4j.client {
     requires com.fasterxml.jackson.databind;
     requires java.net.http;
+    requires jdk.jfr;
 
     exports com.lmax.solana4j.client.api;
     exports com.lmax.solana4j.client.jsonrpc;
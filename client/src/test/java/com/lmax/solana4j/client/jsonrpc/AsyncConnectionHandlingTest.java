@@ -0,0 +1,134 @@
+package com.lmax.solana4j.client.jsonrpc;
+
+import com.lmax.solana4j.client.SolanaClient;
+import com.lmax.solana4j.client.api.AccountInfo;
+import com.lmax.solana4j.client.api.AsyncSolanaApi;
+import com.lmax.solana4j.client.api.SolanaClientResponse;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.IOException;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.temporal.ChronoUnit;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+
+@ExtendWith(MockitoExtension.class)
+final class AsyncConnectionHandlingTest
+{
+    public static final String DUMMY_API_URL = "http://solana.test.org:8899";
+    public static final String DUMMY_JSONRPC_RESPONSE = "{\"jsonrpc\": \"2.0\", \"id\": 1, \"result\": {\"dummy\": \"value\"}}";
+    public static final String DUMMY_ADDRESS = "83astBRguLMdt2h5U1Tpdq5tjFoJ6noeGwaY3mDLVcri";
+
+    @Mock
+    HttpClient httpClient;
+
+    @Mock
+    HttpResponse httpResponse;
+
+    @Captor
+    ArgumentCaptor<HttpRequest> requestCaptor;
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void shouldCallCorrectUrlWithoutBlocking() throws ExecutionException, InterruptedException
+    {
+        final AsyncSolanaApi solanaApi = SolanaClient.createAsync(httpClient, DUMMY_API_URL);
+        Mockito.when(httpClient.sendAsync(Mockito.any(), Mockito.any())).thenReturn(CompletableFuture.completedFuture(httpResponse));
+        Mockito.when(httpResponse.statusCode()).thenReturn(200);
+        Mockito.when(httpResponse.body()).thenReturn(body(DUMMY_JSONRPC_RESPONSE));
+
+        final SolanaClientResponse<AccountInfo> response = solanaApi.getAccountInfo("abc123").get();
+
+        assertThat(response.isSuccess()).isTrue()
+                .describedAs("The response was not a success");
+        Mockito.verify(httpClient).sendAsync(requestCaptor.capture(), Mockito.any());
+        Mockito.verifyNoMoreInteractions(httpClient);
+        assertThat(requestCaptor.getValue().uri().toString()).isEqualTo(DUMMY_API_URL)
+                .describedAs("The URL was incorrect");
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void shouldHandleJsonrpcError() throws ExecutionException, InterruptedException
+    {
+        final AsyncSolanaApi solanaApi = SolanaClient.createAsync(httpClient, DUMMY_API_URL);
+        Mockito.when(httpClient.sendAsync(Mockito.any(), Mockito.any())).thenReturn(CompletableFuture.completedFuture(httpResponse));
+        Mockito.when(httpResponse.statusCode()).thenReturn(200);
+        Mockito.when(httpResponse.body()).thenReturn(body(
+                "{\"jsonrpc\": \"2.0\", \"id\": 1, \"error\": {" +
+                        "\"code\": \"9\", \"message\": \"Oh no!\", \"data\": \"123456\"}}"));
+
+        final SolanaClientResponse<AccountInfo> response = solanaApi.getAccountInfo("abc123").get();
+
+        assertThat(response.isSuccess()).isFalse()
+                .describedAs("The response was not a success");
+        assertThat(response.getError().getErrorCode()).isEqualTo(9)
+                .describedAs("The error code was wrong");
+        assertThat(response.getError().getErrorMessage()).isEqualTo("Oh no!")
+                .describedAs("The error message was wrong");
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void shouldCompleteExceptionallyOnHttpErrorCode()
+    {
+        final AsyncSolanaApi solanaApi = SolanaClient.createAsync(httpClient, DUMMY_API_URL);
+        Mockito.when(httpClient.sendAsync(Mockito.any(), Mockito.any())).thenReturn(CompletableFuture.completedFuture(httpResponse));
+        Mockito.when(httpResponse.statusCode()).thenReturn(500);
+
+        final ExecutionException exception = assertThrows(ExecutionException.class, () -> solanaApi.getAccountInfo(DUMMY_ADDRESS).get());
+
+        assertThat(exception.getCause()).isInstanceOf(SolanaJsonRpcClientException.class);
+        assertThat(((SolanaJsonRpcClientException) exception.getCause()).isRecoverable()).isFalse();
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void shouldCompleteExceptionallyAndRecoverablyOnIoFailure()
+    {
+        final AsyncSolanaApi solanaApi = SolanaClient.createAsync(httpClient, DUMMY_API_URL);
+        Mockito.when(httpClient.sendAsync(Mockito.any(), Mockito.any())).thenReturn(CompletableFuture.failedFuture(new IOException("connection reset")));
+
+        final ExecutionException exception = assertThrows(ExecutionException.class, () -> solanaApi.getAccountInfo(DUMMY_ADDRESS).get());
+
+        assertThat(exception.getCause()).isInstanceOf(SolanaJsonRpcClientException.class);
+        assertThat(((SolanaJsonRpcClientException) exception.getCause()).isRecoverable()).isTrue();
+        assertThat(exception.getCause().getCause()).isInstanceOf(IOException.class);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void shouldSetSocketTimeoutIfSpecified() throws ExecutionException, InterruptedException
+    {
+        final Duration socketTimeout = Duration.of(10, ChronoUnit.SECONDS);
+        final AsyncSolanaApi solanaApi = SolanaClient.createAsync(httpClient, DUMMY_API_URL, socketTimeout);
+        Mockito.when(httpClient.sendAsync(Mockito.any(), Mockito.any())).thenReturn(CompletableFuture.completedFuture(httpResponse));
+        Mockito.when(httpResponse.statusCode()).thenReturn(200);
+        Mockito.when(httpResponse.body()).thenReturn(body(DUMMY_JSONRPC_RESPONSE));
+
+        solanaApi.getAccountInfo(DUMMY_ADDRESS).get();
+
+        Mockito.verify(httpClient).sendAsync(requestCaptor.capture(), Mockito.any());
+        assertThat(requestCaptor.getValue().timeout()).contains(socketTimeout)
+                .describedAs("The timeout was incorrect");
+    }
+
+    private static byte[] body(final String json)
+    {
+        return json.getBytes(StandardCharsets.UTF_8);
+    }
+}
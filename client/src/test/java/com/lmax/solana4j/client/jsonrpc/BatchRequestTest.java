@@ -0,0 +1,137 @@
+package com.lmax.solana4j.client.jsonrpc;
+
+import com.lmax.solana4j.client.SolanaClient;
+import com.lmax.solana4j.client.api.AccountInfo;
+import com.lmax.solana4j.client.api.SolanaApi;
+import com.lmax.solana4j.client.api.SolanaBatch;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.http.HttpClient;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@ExtendWith(MockitoExtension.class)
+final class BatchRequestTest
+{
+    public static final String DUMMY_API_URL = "http://solana.test.org:8899";
+    public static final String DUMMY_ADDRESS = "83astBRguLMdt2h5U1Tpdq5tjFoJ6noeGwaY3mDLVcri";
+
+    @Mock
+    HttpClient httpClient;
+
+    @Mock
+    HttpResponse httpResponse;
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void shouldSendAllCallsInOneRequestAndMatchResponsesById() throws SolanaJsonRpcClientException, IOException, InterruptedException
+    {
+        final SolanaApi solanaApi = SolanaClient.create(httpClient, DUMMY_API_URL);
+        Mockito.when(httpClient.send(Mockito.any(), Mockito.any())).thenReturn(httpResponse);
+        Mockito.when(httpResponse.statusCode()).thenReturn(200);
+        // responses are deliberately returned out of request order
+        Mockito.when(httpResponse.body()).thenReturn(body(
+                "[" +
+                        "{\"jsonrpc\": \"2.0\", \"id\": 3, \"result\": {\"context\": {\"slot\": 9}, \"value\": 42}}," +
+                        "{\"jsonrpc\": \"2.0\", \"id\": 1, \"result\": 1234}," +
+                        "{\"jsonrpc\": \"2.0\", \"id\": 2, \"error\": {\"code\": -32602, \"message\": \"Invalid param\"}}" +
+                        "]"));
+
+        final SolanaBatch batch = solanaApi.batch();
+        final SolanaBatch.Call<Long> slot = batch.getSlot();
+        final SolanaBatch.Call<AccountInfo> accountInfo = batch.getAccountInfo("iamnotarealaccount");
+        final SolanaBatch.Call<Long> balance = batch.getBalance(DUMMY_ADDRESS);
+
+        batch.execute();
+
+        Mockito.verify(httpClient, Mockito.times(1)).send(Mockito.any(), Mockito.any());
+        assertThat(batch.size()).isEqualTo(3);
+        assertThat(slot.getResponse().getResponse()).isEqualTo(1234L);
+        assertThat(accountInfo.getResponse().isSuccess()).isFalse();
+        assertThat(accountInfo.getResponse().getError().getErrorCode()).isEqualTo(-32602L);
+        assertThat(balance.getResponse().getResponse()).isEqualTo(42L);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void shouldApplyBatchLevelErrorToEveryCall() throws SolanaJsonRpcClientException, IOException, InterruptedException
+    {
+        final SolanaApi solanaApi = SolanaClient.create(httpClient, DUMMY_API_URL);
+        Mockito.when(httpClient.send(Mockito.any(), Mockito.any())).thenReturn(httpResponse);
+        Mockito.when(httpResponse.statusCode()).thenReturn(200);
+        Mockito.when(httpResponse.body()).thenReturn(body(
+                "{\"jsonrpc\": \"2.0\", \"id\": null, \"error\": {\"code\": -32600, \"message\": \"Invalid request\"}}"));
+
+        final SolanaBatch batch = solanaApi.batch();
+        final SolanaBatch.Call<Long> slot = batch.getSlot();
+        final SolanaBatch.Call<Long> blockHeight = batch.getBlockHeight();
+
+        batch.execute();
+
+        assertThat(slot.getResponse().getError().getErrorCode()).isEqualTo(-32600L);
+        assertThat(blockHeight.getResponse().getError().getErrorCode()).isEqualTo(-32600L);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void shouldThrowWhenResponseForCallIsMissing() throws IOException, InterruptedException
+    {
+        final SolanaApi solanaApi = SolanaClient.create(httpClient, DUMMY_API_URL);
+        Mockito.when(httpClient.send(Mockito.any(), Mockito.any())).thenReturn(httpResponse);
+        Mockito.when(httpResponse.statusCode()).thenReturn(200);
+        Mockito.when(httpResponse.body()).thenReturn(body("[{\"jsonrpc\": \"2.0\", \"id\": 1, \"result\": 1234}]"));
+
+        final SolanaBatch batch = solanaApi.batch();
+        batch.getSlot();
+        batch.getBlockHeight();
+
+        assertThrows(SolanaJsonRpcClientException.class, batch::execute);
+    }
+
+    @Test
+    void shouldNotSendEmptyBatch() throws SolanaJsonRpcClientException
+    {
+        final SolanaApi solanaApi = SolanaClient.create(httpClient, DUMMY_API_URL);
+
+        solanaApi.batch().execute();
+
+        Mockito.verifyNoInteractions(httpClient);
+    }
+
+    @Test
+    void shouldNotAllowResponseToBeReadBeforeExecution()
+    {
+        final SolanaApi solanaApi = SolanaClient.create(httpClient, DUMMY_API_URL);
+
+        final SolanaBatch.Call<Long> slot = solanaApi.batch().getSlot();
+
+        assertThrows(IllegalStateException.class, slot::getResponse);
+    }
+
+    @Test
+    void shouldNotAllowBatchToBeExecutedTwice() throws SolanaJsonRpcClientException
+    {
+        final SolanaApi solanaApi = SolanaClient.create(httpClient, DUMMY_API_URL);
+        final SolanaBatch batch = solanaApi.batch();
+
+        batch.execute();
+
+        assertThrows(IllegalStateException.class, batch::execute);
+        assertThrows(IllegalStateException.class, batch::getSlot);
+    }
+
+    private static InputStream body(final String json)
+    {
+        return new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8));
+    }
+}
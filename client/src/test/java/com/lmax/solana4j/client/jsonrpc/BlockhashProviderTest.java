@@ -0,0 +1,195 @@
+package com.lmax.solana4j.client.jsonrpc;
+
+import com.lmax.solana4j.client.api.AsyncSolanaApi;
+import com.lmax.solana4j.client.api.Blockhash;
+import com.lmax.solana4j.client.api.BlockhashProvider;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.lang.reflect.Proxy;
+import java.net.http.HttpClient;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.BooleanSupplier;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+final class BlockhashProviderTest
+{
+    private static final Duration FREQUENT_REFRESHES = Duration.ofMillis(50);
+    private static final Duration ONE_REFRESH = Duration.ofHours(1);
+
+    private final HttpClient httpClient = HttpClient.newHttpClient();
+    private final List<String> expiring = new CopyOnWriteArrayList<>();
+    private volatile String blockhash = "first";
+    private volatile int lastValidBlockHeight = 250;
+    private volatile long blockHeight = 100;
+    private volatile boolean failing;
+    private StandInRpcNode node;
+    private BlockhashProvider provider;
+
+    @BeforeEach
+    void setUp() throws IOException
+    {
+        node = new StandInRpcNode(this::reply);
+    }
+
+    @AfterEach
+    void tearDown()
+    {
+        if (provider != null)
+        {
+            provider.close();
+        }
+        node.close();
+    }
+
+    @Test
+    void shouldServeBlockhashFromMemory() throws Exception
+    {
+        provider = provider(ONE_REFRESH, 20);
+
+        assertThat(provider.ready().get(5, TimeUnit.SECONDS).getBlockhashBase58()).isEqualTo("first");
+        for (int i = 0; i < 10; i++)
+        {
+            assertThat(provider.getBlockhash().getBlockhashBase58()).isEqualTo("first");
+        }
+        assertThat(blockhashCalls()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldRefreshBlockhashAndBlockHeightOnSchedule() throws Exception
+    {
+        provider = provider(FREQUENT_REFRESHES, 20);
+        provider.ready().get(5, TimeUnit.SECONDS);
+
+        blockhash = "second";
+        lastValidBlockHeight = 260;
+        blockHeight = 110;
+
+        await(() -> provider.getBlockhash().getBlockhashBase58().equals("second") && provider.getBlockHeight() == 110);
+        assertThat(provider.getBlockhash().getLastValidBlockHeight()).isEqualTo(260);
+    }
+
+    @Test
+    void shouldNotifyOnceWhenBlockhashIsAboutToExpire() throws Exception
+    {
+        provider = provider(FREQUENT_REFRESHES, 20);
+        provider.ready().get(5, TimeUnit.SECONDS);
+        assertThat(expiring).isEmpty();
+
+        blockHeight = 230;
+        await(() -> !expiring.isEmpty());
+        final int refreshes = blockhashCalls();
+        await(() -> blockhashCalls() > refreshes + 2);
+
+        assertThat(expiring).containsExactly("first");
+        assertThat(provider.getBlockhash().getBlockhashBase58()).isEqualTo("first");
+    }
+
+    @Test
+    void shouldRefuseToServeExpiredBlockhash() throws Exception
+    {
+        provider = provider(FREQUENT_REFRESHES, 20);
+        provider.ready().get(5, TimeUnit.SECONDS);
+
+        blockHeight = 251;
+        await(() -> provider.getBlockHeight() == 251);
+
+        assertThrows(IllegalStateException.class, () -> provider.getBlockhash());
+    }
+
+    @Test
+    void shouldRefuseToServeBlockhashBeforeOneIsFetched()
+    {
+        failing = true;
+        provider = provider(ONE_REFRESH, 20);
+
+        assertThrows(IllegalStateException.class, () -> provider.getBlockhash());
+        assertThat(provider.ready().isDone()).isFalse();
+    }
+
+    @Test
+    void shouldFailReadinessWhenClosedBeforeBlockhashIsFetched()
+    {
+        failing = true;
+        provider = provider(ONE_REFRESH, 20);
+        final CompletableFuture<Blockhash> ready = provider.ready();
+
+        provider.close();
+
+        final ExecutionException exception = assertThrows(ExecutionException.class, () -> ready.get(5, TimeUnit.SECONDS));
+        assertThat(exception.getCause()).isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    void shouldKeepRefreshingAfterRefreshThrows() throws Exception
+    {
+        final AsyncSolanaApi asyncApi = new SolanaJsonRpcAsyncClient(httpClient, node.url());
+        final AtomicBoolean thrown = new AtomicBoolean();
+        final AsyncSolanaApi throwingOnce = (AsyncSolanaApi) Proxy.newProxyInstance(
+                AsyncSolanaApi.class.getClassLoader(),
+                new Class<?>[]{AsyncSolanaApi.class},
+                (proxy, method, args) ->
+                {
+                    if (method.getName().equals("getLatestBlockhash") && thrown.compareAndSet(false, true))
+                    {
+                        throw new IllegalStateException("refresh failed before sending");
+                    }
+                    return method.invoke(asyncApi, args);
+                });
+
+        provider = new SolanaJsonRpcBlockhashProvider(throwingOnce, FREQUENT_REFRESHES, 20, expiring(expiring));
+
+        assertThat(provider.ready().get(5, TimeUnit.SECONDS).getBlockhashBase58()).isEqualTo("first");
+        assertThat(thrown.get()).isTrue();
+    }
+
+    private BlockhashProvider provider(final Duration refreshInterval, final long expiryMarginBlocks)
+    {
+        return new SolanaJsonRpcBlockhashProvider(httpClient, node.url(), refreshInterval, expiryMarginBlocks, expiring(expiring));
+    }
+
+    private static Consumer<Blockhash> expiring(final List<String> expiring)
+    {
+        return expiringBlockhash -> expiring.add(expiringBlockhash.getBlockhashBase58());
+    }
+
+    private static void await(final BooleanSupplier condition) throws InterruptedException
+    {
+        final long deadline = System.nanoTime() + Duration.ofSeconds(5).toNanos();
+        while (!condition.getAsBoolean())
+        {
+            if (System.nanoTime() > deadline)
+            {
+                throw new AssertionError("Condition was never met.");
+            }
+            Thread.sleep(5);
+        }
+    }
+
+    private int blockhashCalls()
+    {
+        return node.calls("getLatestBlockhash");
+    }
+
+    private StandInRpcNode.Reply reply(final String method)
+    {
+        if (failing)
+        {
+            return StandInRpcNode.Reply.status(500);
+        }
+        return "getLatestBlockhash".equals(method)
+                ? StandInRpcNode.Reply.result("{\"context\": {\"slot\": 1}, \"value\": {\"blockhash\": \"" + blockhash + "\", \"lastValidBlockHeight\": " + lastValidBlockHeight + "}}")
+                : StandInRpcNode.Reply.result(blockHeight);
+    }
+}
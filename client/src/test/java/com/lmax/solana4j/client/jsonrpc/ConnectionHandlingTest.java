@@ -13,10 +13,13 @@ import org.mockito.Mock;
 import org.mockito.Mockito;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.io.InputStream;
 import java.net.http.HttpClient;
 import java.net.http.HttpRequest;
 import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
 import java.time.Duration;
 import java.time.temporal.ChronoUnit;
 
@@ -51,7 +54,7 @@ final class ConnectionHandlingTest
     {
         final SolanaApi solanaApi = SolanaClient.create(httpClient, DUMMY_API_URL);
         Mockito.when(httpResponse.statusCode()).thenReturn(200);
-        Mockito.when(httpResponse.body()).thenReturn(DUMMY_JSONRPC_RESPONSE);
+        Mockito.when(httpResponse.body()).thenReturn(body(DUMMY_JSONRPC_RESPONSE));
 
         final SolanaClientResponse<AccountInfo> response = solanaApi.getAccountInfo("abc123");
 
@@ -67,9 +70,9 @@ final class ConnectionHandlingTest
     {
         final SolanaApi solanaApi = SolanaClient.create(httpClient, DUMMY_API_URL);
         Mockito.when(httpResponse.statusCode()).thenReturn(200);
-        Mockito.when(httpResponse.body()).thenReturn(
+        Mockito.when(httpResponse.body()).thenReturn(body(
                 "{\"jsonrpc\": \"2.0\", \"id\": 1, \"error\": {" +
-                        "\"code\": \"9\", \"message\": \"Oh no!\", \"data\": \"123456\"}}");
+                        "\"code\": \"9\", \"message\": \"Oh no!\", \"data\": \"123456\"}}"));
 
         final SolanaClientResponse<AccountInfo> response = solanaApi.getAccountInfo("abc123");
 
@@ -92,13 +95,48 @@ final class ConnectionHandlingTest
         );
     }
 
+    @Test
+    void shouldTreatFailureReadingResponseBodyAsRecoverable()
+    {
+        final SolanaApi solanaApi = SolanaClient.create(httpClient, DUMMY_API_URL);
+        Mockito.when(httpResponse.statusCode()).thenReturn(200);
+        Mockito.when(httpResponse.body()).thenReturn(new InputStream()
+        {
+            @Override
+            public int read() throws IOException
+            {
+                throw new IOException("connection reset");
+            }
+        });
+
+        final SolanaJsonRpcClientException exception = assertThrows(SolanaJsonRpcClientException.class, () ->
+            solanaApi.getAccountInfo(DUMMY_ADDRESS)
+        );
+
+        assertThat(exception.isRecoverable()).isTrue();
+    }
+
+    @Test
+    void shouldNotTreatMalformedResponseBodyAsRecoverable()
+    {
+        final SolanaApi solanaApi = SolanaClient.create(httpClient, DUMMY_API_URL);
+        Mockito.when(httpResponse.statusCode()).thenReturn(200);
+        Mockito.when(httpResponse.body()).thenReturn(body("{\"jsonrpc\": \"2.0\", \"id\": 1, \"result\": {"));
+
+        final SolanaJsonRpcClientException exception = assertThrows(SolanaJsonRpcClientException.class, () ->
+            solanaApi.getAccountInfo(DUMMY_ADDRESS)
+        );
+
+        assertThat(exception.isRecoverable()).isFalse();
+    }
+
     @Test
     void shouldSetSocketTimeoutIfSpecified() throws SolanaJsonRpcClientException, IOException, InterruptedException
     {
         final Duration socketTimeout = Duration.of(10, ChronoUnit.SECONDS);
         final SolanaApi solanaApi = SolanaClient.create(httpClient, DUMMY_API_URL, socketTimeout);
         Mockito.when(httpResponse.statusCode()).thenReturn(200);
-        Mockito.when(httpResponse.body()).thenReturn(DUMMY_JSONRPC_RESPONSE);
+        Mockito.when(httpResponse.body()).thenReturn(body(DUMMY_JSONRPC_RESPONSE));
 
         solanaApi.getAccountInfo(DUMMY_ADDRESS);
 
@@ -114,7 +152,7 @@ final class ConnectionHandlingTest
     {
         final SolanaApi solanaApi = SolanaClient.create(httpClient, DUMMY_API_URL);
         Mockito.when(httpResponse.statusCode()).thenReturn(200);
-        Mockito.when(httpResponse.body()).thenReturn(DUMMY_JSONRPC_RESPONSE);
+        Mockito.when(httpResponse.body()).thenReturn(body(DUMMY_JSONRPC_RESPONSE));
 
         solanaApi.getAccountInfo(DUMMY_ADDRESS);
 
@@ -122,4 +160,9 @@ final class ConnectionHandlingTest
         assertThat(requestCaptor.getValue().timeout().isEmpty()).isTrue()
                 .describedAs("The timeout should not have been set");
     }
+
+    private static InputStream body(final String json)
+    {
+        return new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8));
+    }
 }
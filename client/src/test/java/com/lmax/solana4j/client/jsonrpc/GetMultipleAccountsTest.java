@@ -0,0 +1,180 @@
+package com.lmax.solana4j.client.jsonrpc;
+
+import com.lmax.solana4j.client.SolanaClient;
+import com.lmax.solana4j.client.api.AccountInfo;
+import com.lmax.solana4j.client.api.SolanaApi;
+import com.lmax.solana4j.client.api.SolanaClientResponse;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.http.HttpClient;
+import java.net.http.HttpResponse;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@ExtendWith(MockitoExtension.class)
+final class GetMultipleAccountsTest
+{
+    public static final String DUMMY_API_URL = "http://solana.test.org:8899";
+    public static final String DUMMY_ADDRESS = "83astBRguLMdt2h5U1Tpdq5tjFoJ6noeGwaY3mDLVcri";
+    public static final String DUMMY_OWNER = "TokenzQdBNbLqP5VEhdkAS6EPFLC1PHnBqCXEpPxuEb";
+
+    @Mock
+    HttpClient httpClient;
+
+    @Mock
+    HttpResponse httpResponse;
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void shouldExposeDecodedAccountDataAsByteBuffer() throws SolanaJsonRpcClientException, IOException, InterruptedException
+    {
+        final SolanaApi solanaApi = SolanaClient.create(httpClient, DUMMY_API_URL);
+        Mockito.when(httpClient.send(Mockito.any(), Mockito.any())).thenReturn(httpResponse);
+        Mockito.when(httpResponse.statusCode()).thenReturn(200);
+        Mockito.when(httpResponse.body()).thenReturn(body(
+                "{\"jsonrpc\": \"2.0\", \"id\": 1, \"result\": " + multipleAccountsResult(account(0) + ", null") + "}"));
+
+        final SolanaClientResponse<List<AccountInfo>> response = solanaApi.getMultipleAccounts(List.of(DUMMY_ADDRESS, DUMMY_ADDRESS));
+
+        assertThat(response.isSuccess()).isTrue();
+        assertThat(response.getResponse()).hasSize(2);
+
+        final AccountInfo accountInfo = response.getResponse().get(0);
+        assertThat(accountInfo.getLamports()).isEqualTo(0L);
+        assertThat(accountInfo.getOwner()).isEqualTo(DUMMY_OWNER);
+
+        final ByteBuffer accountInfoBytes = accountInfo.getData().getAccountInfoBytes();
+        assertThat(accountInfoBytes.isReadOnly()).isTrue();
+        assertThat(accountInfoBytes.remaining()).isEqualTo(4);
+        assertThat(accountInfoBytes.getInt()).isEqualTo(0);
+        assertThat(accountInfo.getData().getAccountInfoEncoded()).containsExactly(accountData(0), "base64");
+        assertThat(accountInfo.getData().getAccountInfoParsed()).isNull();
+
+        assertThat(response.getResponse().get(1)).isNull();
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void shouldSplitLargeRequestsIntoOneBatchOfChunks() throws SolanaJsonRpcClientException, IOException, InterruptedException
+    {
+        final SolanaApi solanaApi = SolanaClient.create(httpClient, DUMMY_API_URL);
+        Mockito.when(httpClient.send(Mockito.any(), Mockito.any())).thenReturn(httpResponse);
+        Mockito.when(httpResponse.statusCode()).thenReturn(200);
+        Mockito.when(httpResponse.body()).thenReturn(body(
+                "[" +
+                        "{\"jsonrpc\": \"2.0\", \"id\": 2, \"result\": " + multipleAccountsResult(100, 150) + "}," +
+                        "{\"jsonrpc\": \"2.0\", \"id\": 1, \"result\": " + multipleAccountsResult(0, 100) + "}" +
+                        "]"));
+
+        final List<String> addresses = IntStream.range(0, 150).mapToObj(i -> DUMMY_ADDRESS).collect(Collectors.toList());
+        final SolanaClientResponse<List<AccountInfo>> response = solanaApi.getMultipleAccounts(addresses);
+
+        Mockito.verify(httpClient, Mockito.times(1)).send(Mockito.any(), Mockito.any());
+        assertThat(response.isSuccess()).isTrue();
+        assertThat(response.getResponse()).hasSize(150);
+        for (int i = 0; i < 150; i++)
+        {
+            assertThat(response.getResponse().get(i).getLamports()).isEqualTo(i);
+            assertThat(response.getResponse().get(i).getData().getAccountInfoBytes().getInt()).isEqualTo(i);
+        }
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void shouldReturnErrorIfAnyChunkFails() throws SolanaJsonRpcClientException, IOException, InterruptedException
+    {
+        final SolanaApi solanaApi = SolanaClient.create(httpClient, DUMMY_API_URL);
+        Mockito.when(httpClient.send(Mockito.any(), Mockito.any())).thenReturn(httpResponse);
+        Mockito.when(httpResponse.statusCode()).thenReturn(200);
+        Mockito.when(httpResponse.body()).thenReturn(body(
+                "[" +
+                        "{\"jsonrpc\": \"2.0\", \"id\": 1, \"result\": " + multipleAccountsResult(0, 100) + "}," +
+                        "{\"jsonrpc\": \"2.0\", \"id\": 2, \"error\": {\"code\": -32602, \"message\": \"Invalid param\"}}" +
+                        "]"));
+
+        final List<String> addresses = IntStream.range(0, 101).mapToObj(i -> DUMMY_ADDRESS).collect(Collectors.toList());
+        final SolanaClientResponse<List<AccountInfo>> response = solanaApi.getMultipleAccounts(addresses);
+
+        assertThat(response.isSuccess()).isFalse();
+        assertThat(response.getError().getErrorCode()).isEqualTo(-32602L);
+    }
+
+    @Test
+    void shouldRequestEachAccountInTurnForImplementationsWithoutGetMultipleAccounts() throws SolanaJsonRpcClientException
+    {
+        final SolanaApi solanaApi = Mockito.mock(SolanaApi.class, Mockito.CALLS_REAL_METHODS);
+        final AccountInfo first = Mockito.mock(AccountInfo.class);
+        final AccountInfo second = Mockito.mock(AccountInfo.class);
+        Mockito.doReturn(SolanaJsonRpcClientResponse.createSuccessResponse(first)).when(solanaApi).getAccountInfo(Mockito.eq("first"), Mockito.any());
+        Mockito.doReturn(SolanaJsonRpcClientResponse.createSuccessResponse(second)).when(solanaApi).getAccountInfo(Mockito.eq("second"), Mockito.any());
+
+        final SolanaClientResponse<List<AccountInfo>> response = solanaApi.getMultipleAccounts(List.of("first", "second"));
+
+        assertThat(response.isSuccess()).isTrue();
+        assertThat(response.getResponse()).containsExactly(first, second);
+        Mockito.verify(solanaApi).getAccountInfo(Mockito.eq("first"), Mockito.argThat(params -> "base64".equals(params.getParams().get("encoding"))));
+    }
+
+    @Test
+    void shouldReturnFirstErrorForImplementationsWithoutGetMultipleAccounts() throws SolanaJsonRpcClientException
+    {
+        final SolanaApi solanaApi = Mockito.mock(SolanaApi.class, Mockito.CALLS_REAL_METHODS);
+        Mockito.doReturn(SolanaJsonRpcClientResponse.creatErrorResponse(new SolanaJsonRpcClientError(-32602, "Invalid param")))
+                .when(solanaApi).getAccountInfo(Mockito.eq("first"), Mockito.any());
+
+        final SolanaClientResponse<List<AccountInfo>> response = solanaApi.getMultipleAccounts(List.of("first", "second"));
+
+        assertThat(response.isSuccess()).isFalse();
+        assertThat(response.getError().getErrorCode()).isEqualTo(-32602L);
+        Mockito.verify(solanaApi, Mockito.never()).getAccountInfo(Mockito.eq("second"), Mockito.any());
+    }
+
+    @Test
+    void shouldNotAllowMoreThanOneChunkInASingleBatchCall()
+    {
+        final SolanaApi solanaApi = SolanaClient.create(httpClient, DUMMY_API_URL);
+        final List<String> addresses = IntStream.range(0, 101).mapToObj(i -> DUMMY_ADDRESS).collect(Collectors.toList());
+
+        assertThrows(IllegalArgumentException.class, () -> solanaApi.batch().getMultipleAccounts(addresses));
+    }
+
+    private static String multipleAccountsResult(final int from, final int to)
+    {
+        return multipleAccountsResult(IntStream.range(from, to).mapToObj(GetMultipleAccountsTest::account).collect(Collectors.joining(",")));
+    }
+
+    private static String multipleAccountsResult(final String accounts)
+    {
+        return "{\"context\": {\"apiVersion\": \"2.0.15\", \"slot\": 341197053}, \"value\": [" + accounts + "]}";
+    }
+
+    private static String account(final int index)
+    {
+        return "{\"data\": [\"" + accountData(index) + "\", \"base64\"], \"executable\": false, \"lamports\": " + index + ", " +
+               "\"owner\": \"" + DUMMY_OWNER + "\", \"rentEpoch\": 18446744073709551615, \"space\": 4}";
+    }
+
+    private static String accountData(final int value)
+    {
+        return Base64.getEncoder().encodeToString(ByteBuffer.allocate(4).putInt(value).array());
+    }
+
+    private static InputStream body(final String json)
+    {
+        return new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8));
+    }
+}
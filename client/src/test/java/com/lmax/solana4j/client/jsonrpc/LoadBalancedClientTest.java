@@ -0,0 +1,355 @@
+package com.lmax.solana4j.client.jsonrpc;
+
+import com.lmax.solana4j.client.api.AsyncSolanaApi;
+import com.lmax.solana4j.client.api.LoadBalancedSolanaApi;
+import com.lmax.solana4j.client.api.SolanaBatch;
+import com.lmax.solana4j.client.api.SolanaClientResponse;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.lang.reflect.Proxy;
+import java.net.http.HttpClient;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+final class LoadBalancedClientTest
+{
+    private static final Duration FREQUENT_PROBES = Duration.ofMillis(200);
+    private static final Duration ONE_PROBE = Duration.ofHours(1);
+
+    private final HttpClient httpClient = HttpClient.newHttpClient();
+    private final List<StandInNode> nodes = new ArrayList<>();
+    private LoadBalancedSolanaApi api;
+
+    @AfterEach
+    void tearDown()
+    {
+        if (api != null)
+        {
+            api.close();
+        }
+        nodes.forEach(StandInNode::stop);
+    }
+
+    @Test
+    void shouldRouteReadsAwayFromLaggingAndUnhealthyNodes() throws Exception
+    {
+        final StandInNode leader = node(1_000);
+        final StandInNode lagging = node(900);
+        final StandInNode unhealthy = node(1_010);
+        unhealthy.healthy = false;
+
+        api = loadBalanced(50, ONE_PROBE);
+        awaitEndpoints(endpoints -> endpoints.get(0).getSlot() == 1_000 && endpoints.get(1).getSlot() == 900 && !endpoints.get(2).isHealthy());
+
+        for (int i = 0; i < 10; i++)
+        {
+            assertThat(api.getBalance("account").getResponse()).isEqualTo(leader.id());
+        }
+        assertThat(lagging.calls("getBalance")).isEqualTo(0);
+        assertThat(unhealthy.calls("getBalance")).isEqualTo(0);
+    }
+
+    @Test
+    void shouldSpreadReadsAcrossNodesWithinSlotLag() throws Exception
+    {
+        final StandInNode first = node(1_000);
+        final StandInNode second = node(990);
+
+        api = loadBalanced(50, ONE_PROBE);
+        awaitEndpoints(endpoints -> endpoints.get(0).getSlot() == 1_000 && endpoints.get(1).getSlot() == 990);
+
+        for (int i = 0; i < 10; i++)
+        {
+            api.getBalance("account");
+        }
+        assertThat(first.calls("getBalance")).isEqualTo(5);
+        assertThat(second.calls("getBalance")).isEqualTo(5);
+    }
+
+    @Test
+    void shouldSendTransactionsToEveryNode() throws Exception
+    {
+        final StandInNode first = node(1_000);
+        final StandInNode second = node(1_000);
+        final StandInNode failing = node(1_000);
+        failing.failing = true;
+
+        api = loadBalanced(50, ONE_PROBE);
+        awaitEndpoints(endpoints -> endpoints.stream().allMatch(endpoint -> endpoint.getSlot() == 1_000));
+
+        final SolanaClientResponse<String> response = api.sendTransaction("transaction");
+
+        assertThat(response.isSuccess()).isTrue();
+        assertThat(response.getResponse()).isEqualTo("signature");
+        awaitEndpoints(endpoints -> endpoints.stream().allMatch(endpoint -> endpoint.getInFlight() == 0));
+        assertThat(first.calls("sendTransaction")).isEqualTo(1);
+        assertThat(second.calls("sendTransaction")).isEqualTo(1);
+        assertThat(failing.calls("sendTransaction")).isEqualTo(1);
+        assertThat(api.endpoints().get(2).isHealthy()).isFalse();
+    }
+
+    @Test
+    void shouldFailSendingTransactionOnlyWhenEveryNodeFails() throws Exception
+    {
+        node(1_000).failing = true;
+        node(1_000).failing = true;
+
+        api = loadBalanced(50, ONE_PROBE);
+        awaitEndpoints(endpoints -> endpoints.stream().allMatch(endpoint -> endpoint.getSlot() == 1_000));
+
+        assertThrows(SolanaJsonRpcClientException.class, () -> api.sendTransaction("transaction"));
+    }
+
+    @Test
+    void shouldReturnErrorOnceHealthyNodesHaveAnsweredWithoutWaitingForUnhealthyNode() throws Exception
+    {
+        node(1_000).rejecting = true;
+        node(1_000).rejecting = true;
+        final StandInNode unresponsive = node(1_000);
+        unresponsive.unresponsive = true;
+        unresponsive.healthy = false;
+
+        api = loadBalanced(50, ONE_PROBE);
+        awaitEndpoints(endpoints -> endpoints.get(1).getSlot() == 1_000 && !endpoints.get(2).isHealthy());
+        final long start = System.nanoTime();
+
+        final SolanaClientResponse<String> response = api.sendTransaction("transaction");
+
+        assertThat(response.isSuccess()).isFalse();
+        assertThat(response.getError().getErrorCode()).isEqualTo(-32002L);
+        assertThat(Duration.ofNanos(System.nanoTime() - start)).isLessThan(Duration.ofSeconds(2));
+    }
+
+    @Test
+    void shouldStopWaitingForNodesAtSocketTimeout() throws Exception
+    {
+        node(1_000).rejecting = true;
+        node(1_000).unresponsive = true;
+
+        api = new SolanaJsonRpcLoadBalancedClient(httpClient, urls(), 50, ONE_PROBE, Duration.ofMillis(500));
+        awaitEndpoints(endpoints -> endpoints.stream().allMatch(endpoint -> endpoint.getSlot() == 1_000));
+        final long start = System.nanoTime();
+
+        final SolanaClientResponse<String> response = api.sendTransaction("transaction");
+
+        assertThat(response.isSuccess()).isFalse();
+        assertThat(response.getError().getErrorCode()).isEqualTo(-32002L);
+        assertThat(Duration.ofNanos(System.nanoTime() - start)).isLessThan(Duration.ofSeconds(3));
+    }
+
+    @Test
+    void shouldStopRoutingToNodeThatFailsUntilProbedHealthy() throws Exception
+    {
+        final StandInNode failing = node(1_000);
+        final StandInNode healthy = node(1_000);
+        failing.failing = true;
+
+        api = loadBalanced(50, ONE_PROBE);
+        awaitEndpoints(endpoints -> endpoints.stream().allMatch(endpoint -> endpoint.getSlot() == 1_000));
+
+        assertThrows(SolanaJsonRpcClientException.class, () -> api.getBalance("account"));
+        for (int i = 0; i < 5; i++)
+        {
+            assertThat(api.getBalance("account").getResponse()).isEqualTo(healthy.id());
+        }
+        assertThat(failing.calls("getBalance")).isEqualTo(1);
+    }
+
+    @Test
+    void shouldStopRoutingBatchesToNodeThatFailsUntilProbedHealthy() throws Exception
+    {
+        final StandInNode failing = node(1_000);
+        final StandInNode healthy = node(1_000);
+        failing.failing = true;
+
+        api = loadBalanced(50, ONE_PROBE);
+        awaitEndpoints(endpoints -> endpoints.stream().allMatch(endpoint -> endpoint.getSlot() == 1_000));
+
+        final SolanaBatch failed = api.batch();
+        failed.getBalance("account");
+        assertThrows(SolanaJsonRpcClientException.class, failed::execute);
+        for (int i = 0; i < 5; i++)
+        {
+            final SolanaBatch batch = api.batch();
+            final SolanaBatch.Call<Long> balance = batch.getBalance("account");
+            batch.execute();
+            assertThat(balance.getResponse().getResponse()).isEqualTo(healthy.id());
+        }
+        assertThat(failing.calls("getBalance")).isEqualTo(1);
+        awaitEndpoints(endpoints -> endpoints.stream().allMatch(endpoint -> endpoint.getInFlight() == 0));
+    }
+
+    @Test
+    void shouldRouteToNodeAgainOnceProbedHealthy() throws Exception
+    {
+        final StandInNode recovering = node(1_000);
+        recovering.failing = true;
+
+        api = loadBalanced(50, FREQUENT_PROBES);
+        awaitEndpoints(endpoints -> endpoints.get(0).getSlot() == 1_000);
+
+        assertThrows(SolanaJsonRpcClientException.class, () -> api.getBalance("account"));
+        assertThat(api.endpoints().get(0).isHealthy()).isFalse();
+
+        recovering.failing = false;
+        awaitEndpoints(endpoints -> endpoints.get(0).isHealthy());
+
+        assertThat(api.getBalance("account").getResponse()).isEqualTo(recovering.id());
+    }
+
+    @Test
+    void shouldKeepProbingAfterProbeThrows() throws Exception
+    {
+        final StandInNode only = node(1_000);
+        final AsyncSolanaApi asyncApi = new SolanaJsonRpcAsyncClient(httpClient, only.url());
+        final AtomicBoolean thrown = new AtomicBoolean();
+        final AsyncSolanaApi throwingOnce = (AsyncSolanaApi) Proxy.newProxyInstance(
+                AsyncSolanaApi.class.getClassLoader(),
+                new Class<?>[]{AsyncSolanaApi.class},
+                (proxy, method, args) ->
+                {
+                    if (method.getName().equals("getHealth") && thrown.compareAndSet(false, true))
+                    {
+                        throw new IllegalStateException("probe failed before sending");
+                    }
+                    return method.invoke(asyncApi, args);
+                });
+        final SolanaJsonRpcLoadBalancedClient.Node node = new SolanaJsonRpcLoadBalancedClient.Node(
+                only.url(), new SolanaJsonRpcClient(httpClient, only.url()), throwingOnce);
+
+        api = new SolanaJsonRpcLoadBalancedClient(List.of(node), 50, FREQUENT_PROBES, Duration.ofSeconds(5));
+
+        awaitEndpoints(endpoints -> thrown.get() && endpoints.get(0).isHealthy() && endpoints.get(0).getSlot() == 1_000);
+    }
+
+    @Test
+    void shouldRouteToLeastLoadedNodeWhenNoneIsHealthy() throws Exception
+    {
+        final StandInNode only = node(1_000);
+        only.healthy = false;
+
+        api = loadBalanced(50, ONE_PROBE);
+        awaitEndpoints(endpoints -> !endpoints.get(0).isHealthy());
+
+        assertThat(api.getBalance("account").getResponse()).isEqualTo(only.id());
+    }
+
+    private StandInNode node(final long slot) throws IOException
+    {
+        final StandInNode node = new StandInNode(slot);
+        nodes.add(node);
+        return node;
+    }
+
+    private LoadBalancedSolanaApi loadBalanced(final long maxSlotLag, final Duration probeInterval)
+    {
+        return new SolanaJsonRpcLoadBalancedClient(httpClient, urls(), maxSlotLag, probeInterval);
+    }
+
+    private List<String> urls()
+    {
+        return nodes.stream().map(StandInNode::url).collect(Collectors.toList());
+    }
+
+    private void awaitEndpoints(final Predicate<List<LoadBalancedSolanaApi.Endpoint>> condition) throws InterruptedException
+    {
+        final long deadline = System.nanoTime() + Duration.ofSeconds(5).toNanos();
+        while (!condition.test(api.endpoints()))
+        {
+            if (System.nanoTime() > deadline)
+            {
+                throw new AssertionError("Endpoints never reached the expected state: " + api.endpoints());
+            }
+            Thread.sleep(5);
+        }
+    }
+
+    /**
+     * A stand-in node with a slot and health of its own, which reports its own port as every balance.
+     */
+    private static final class StandInNode
+    {
+        private final StandInRpcNode rpcNode;
+        private volatile long slot;
+        private volatile boolean healthy = true;
+        private volatile boolean failing;
+        private volatile boolean rejecting;
+        private volatile boolean unresponsive;
+
+        StandInNode(final long slot) throws IOException
+        {
+            this.slot = slot;
+            this.rpcNode = new StandInRpcNode(this::reply);
+        }
+
+        String url()
+        {
+            return rpcNode.url();
+        }
+
+        long id()
+        {
+            return rpcNode.port();
+        }
+
+        int calls(final String method)
+        {
+            return rpcNode.calls(method);
+        }
+
+        void stop()
+        {
+            rpcNode.close();
+        }
+
+        private StandInRpcNode.Reply reply(final String method)
+        {
+            final boolean probe = "getHealth".equals(method) || "getSlot".equals(method);
+            if (failing && !probe)
+            {
+                return StandInRpcNode.Reply.status(500);
+            }
+
+            switch (method)
+            {
+                case "getHealth":
+                    return healthy ? StandInRpcNode.Reply.result("\"ok\"") : StandInRpcNode.Reply.error(-32005, "Node is unhealthy");
+                case "getSlot":
+                    return StandInRpcNode.Reply.result(slot);
+                case "getBalance":
+                    return StandInRpcNode.Reply.result("{\"context\": {\"slot\": " + slot + "}, \"value\": " + id() + "}");
+                case "sendTransaction":
+                    return sendTransaction();
+                default:
+                    return StandInRpcNode.Reply.error(-32601, "Method not found");
+            }
+        }
+
+        private StandInRpcNode.Reply sendTransaction()
+        {
+            if (unresponsive)
+            {
+                try
+                {
+                    Thread.sleep(10_000);
+                }
+                catch (final InterruptedException e)
+                {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            return rejecting
+                    ? StandInRpcNode.Reply.error(-32002, "Transaction simulation failed")
+                    : StandInRpcNode.Reply.result("\"signature\"");
+        }
+    }
+}
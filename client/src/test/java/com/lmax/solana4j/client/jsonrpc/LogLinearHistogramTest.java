@@ -0,0 +1,64 @@
+package com.lmax.solana4j.client.jsonrpc;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+final class LogLinearHistogramTest
+{
+    @Test
+    void shouldCountSmallValuesExactly()
+    {
+        final LogLinearHistogram histogram = new LogLinearHistogram();
+        for (int value = 1; value <= 10; value++)
+        {
+            histogram.record(value);
+        }
+
+        assertThat(histogram.getCount()).isEqualTo(10L);
+        assertThat(histogram.getMax()).isEqualTo(10L);
+        assertThat(histogram.getMean()).isEqualTo(5.5);
+        assertThat(histogram.getValueAtPercentile(0.5)).isEqualTo(5L);
+        assertThat(histogram.getValueAtPercentile(1)).isEqualTo(10L);
+    }
+
+    @Test
+    void shouldPlaceEveryValueInBucketCoveringIt()
+    {
+        final Random random = new Random(24);
+        for (int i = 0; i < 100_000; i++)
+        {
+            final long value = random.nextLong() >>> 1 + random.nextInt(63);
+            final int index = LogLinearHistogram.indexOf(value);
+
+            assertThat(LogLinearHistogram.highestValueAt(index)).isGreaterThanOrEqualTo(value);
+            assertThat(index == 0 || LogLinearHistogram.highestValueAt(index - 1) < value).isTrue();
+        }
+        assertThat(LogLinearHistogram.indexOf(Long.MAX_VALUE)).isEqualTo(LogLinearHistogram.indexOf(Long.MAX_VALUE - 1));
+    }
+
+    @Test
+    void shouldReportPercentilesToWithinOneSixteenth()
+    {
+        final LogLinearHistogram histogram = new LogLinearHistogram();
+        for (long value = 1; value <= 100_000; value++)
+        {
+            histogram.record(value * 1_000);
+        }
+
+        assertThat((double) histogram.getValueAtPercentile(0.5)).isBetween(50_000_000.0, 50_000_000.0 * 17 / 16);
+        assertThat((double) histogram.getValueAtPercentile(0.99)).isBetween(99_000_000.0, 99_000_000.0 * 17 / 16);
+        assertThat(histogram.getValueAtPercentile(1)).isEqualTo(100_000_000L);
+    }
+
+    @Test
+    void shouldReportZeroWhenEmpty()
+    {
+        final LogLinearHistogram histogram = new LogLinearHistogram();
+
+        assertThat(histogram.getValueAtPercentile(0.99)).isEqualTo(0L);
+        assertThat(histogram.getMean()).isEqualTo(0.0);
+    }
+}
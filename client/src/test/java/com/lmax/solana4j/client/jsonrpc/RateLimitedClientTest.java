@@ -0,0 +1,51 @@
+package com.lmax.solana4j.client.jsonrpc;
+
+import com.lmax.solana4j.client.api.RateLimitPolicy;
+import com.lmax.solana4j.client.api.SolanaApi;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Proxy;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+final class RateLimitedClientTest
+{
+    private static final RateLimitPolicy TWO_TOKENS = RateLimitPolicy.of(0.1)
+            .withBurst(2)
+            .withMaxQueueTime(Duration.ofMillis(50));
+
+    private final SolanaApi answering = (SolanaApi) Proxy.newProxyInstance(
+            SolanaApi.class.getClassLoader(),
+            new Class<?>[]{SolanaApi.class},
+            (proxy, method, args) -> null);
+
+    @Test
+    void shouldChargeMultipleAccountsRequestForEachCallItIsSplitInto() throws Exception
+    {
+        final SolanaApi api = new SolanaJsonRpcRateLimitedClient(answering, TWO_TOKENS);
+
+        api.getMultipleAccounts(addresses(MultipleAccountsRequest.MAX_ACCOUNTS_PER_REQUEST + 1));
+
+        final SolanaJsonRpcClientException exception = assertThrows(SolanaJsonRpcClientException.class, () -> api.getBalance("account"));
+        assertThat(exception.isRecoverable()).isTrue();
+    }
+
+    @Test
+    void shouldChargeMultipleAccountsRequestThatFitsInOneCallOnce() throws Exception
+    {
+        final SolanaApi api = new SolanaJsonRpcRateLimitedClient(answering, TWO_TOKENS);
+
+        api.getMultipleAccounts(addresses(MultipleAccountsRequest.MAX_ACCOUNTS_PER_REQUEST));
+
+        api.getBalance("account");
+    }
+
+    private static List<String> addresses(final int count)
+    {
+        return Collections.nCopies(count, "83astBRguLMdt2h5U1Tpdq5tjFoJ6noeGwaY3mDLVcri");
+    }
+}
@@ -0,0 +1,189 @@
+package com.lmax.solana4j.client.jsonrpc;
+
+import com.lmax.solana4j.client.api.RateLimitPolicy;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+final class RequestSchedulerTest
+{
+    private final ExecutorService executor = Executors.newCachedThreadPool();
+    private final List<String> sent = new CopyOnWriteArrayList<>();
+
+    @AfterEach
+    void tearDown()
+    {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void shouldSendQueuedRequestsInOrderOfPriority() throws Exception
+    {
+        final RequestScheduler scheduler = new RequestScheduler(RateLimitPolicy.of(2).withBurst(1));
+        scheduler.acquire("getBalance", 1, RequestScheduler.Priority.NORMAL);
+
+        final Future<?> low = send(scheduler, "getSignaturesForAddress", RequestScheduler.Priority.LOW);
+        awaitQueued(scheduler, 1);
+        final Future<?> normal = send(scheduler, "getAccountInfo", RequestScheduler.Priority.NORMAL);
+        awaitQueued(scheduler, 2);
+        final Future<?> high = send(scheduler, "sendTransaction", RequestScheduler.Priority.HIGH);
+        low.get();
+        normal.get();
+        high.get();
+
+        assertThat(sent).containsExactly("sendTransaction", "getAccountInfo", "getSignaturesForAddress");
+    }
+
+    @Test
+    void shouldRefuseRequestsOnceQueueIsFull() throws Exception
+    {
+        final RequestScheduler scheduler = new RequestScheduler(RateLimitPolicy.of(1).withQueueCapacity(1));
+        scheduler.acquire("getBalance", 1, RequestScheduler.Priority.NORMAL);
+        send(scheduler, "getBalance", RequestScheduler.Priority.NORMAL);
+        awaitQueued(scheduler, 1);
+
+        final SolanaJsonRpcClientException exception = assertThrows(
+                SolanaJsonRpcClientException.class,
+                () -> scheduler.acquire("getBalance", 1, RequestScheduler.Priority.NORMAL));
+        assertThat(exception.isRecoverable()).isTrue();
+        assertThat(scheduler.queued()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldFailNewestOfLeastUrgentQueuedRequestsToMakeRoomForMoreUrgentOne() throws Exception
+    {
+        final RequestScheduler scheduler = new RequestScheduler(RateLimitPolicy.of(10).withBurst(1).withQueueCapacity(2));
+        scheduler.acquire("getBalance", 1, RequestScheduler.Priority.NORMAL);
+        final Future<?> older = send(scheduler, "getTransaction", RequestScheduler.Priority.LOW);
+        awaitQueued(scheduler, 1);
+        final Future<?> newer = send(scheduler, "getSignaturesForAddress", RequestScheduler.Priority.LOW);
+        awaitQueued(scheduler, 2);
+
+        scheduler.acquire("sendTransaction", 1, RequestScheduler.Priority.HIGH);
+
+        final ExecutionException exception = assertThrows(ExecutionException.class, newer::get);
+        assertThat(exception.getCause()).isInstanceOf(SolanaJsonRpcClientException.class);
+        assertThat(((SolanaJsonRpcClientException) exception.getCause()).isRecoverable()).isTrue();
+        older.get();
+        assertThat(sent).containsExactly("getTransaction");
+    }
+
+    @Test
+    void shouldRefuseRequestHeavierThanBurst()
+    {
+        final RequestScheduler scheduler = new RequestScheduler(RateLimitPolicy.of(10).withBurst(4));
+
+        final SolanaJsonRpcClientException exception = assertThrows(
+                SolanaJsonRpcClientException.class,
+                () -> scheduler.acquire("getMultipleAccounts", 5, RequestScheduler.Priority.NORMAL));
+        assertThat(exception.isRecoverable()).isFalse();
+        assertThat(scheduler.queued()).isEqualTo(0);
+    }
+
+    @Test
+    void shouldChargeEachCallOfBatchToItsMethodLimit() throws Exception
+    {
+        final RequestScheduler scheduler = new RequestScheduler(RateLimitPolicy.of(100)
+                .withMethodLimit("getTransaction", 0.1)
+                .withMaxQueueTime(Duration.ofMillis(50)));
+        scheduler.acquire("batch", List.of("getBalance", "getTransaction"), 2, RequestScheduler.Priority.NORMAL);
+
+        final SolanaJsonRpcClientException exception = assertThrows(
+                SolanaJsonRpcClientException.class,
+                () -> scheduler.acquire("getTransaction", 1, RequestScheduler.Priority.NORMAL));
+        assertThat(exception.isRecoverable()).isTrue();
+        scheduler.acquire("getBalance", 1, RequestScheduler.Priority.NORMAL);
+    }
+
+    @Test
+    void shouldRefuseBatchCallingMethodMoreOftenThanItsLimitCanSaveUp()
+    {
+        final RequestScheduler scheduler = new RequestScheduler(RateLimitPolicy.of(100).withMethodLimit("getTransaction", 0.1));
+
+        final SolanaJsonRpcClientException exception = assertThrows(
+                SolanaJsonRpcClientException.class,
+                () -> scheduler.acquire("batch", List.of("getTransaction", "getTransaction"), 2, RequestScheduler.Priority.NORMAL));
+        assertThat(exception.isRecoverable()).isFalse();
+    }
+
+    @Test
+    void shouldRefuseRequestsThatWaitLongerThanMaxQueueTime() throws Exception
+    {
+        final RequestScheduler scheduler = new RequestScheduler(RateLimitPolicy.of(0.1).withMaxQueueTime(Duration.ofMillis(50)));
+        scheduler.acquire("getBalance", 1, RequestScheduler.Priority.NORMAL);
+
+        final SolanaJsonRpcClientException exception = assertThrows(
+                SolanaJsonRpcClientException.class,
+                () -> scheduler.acquire("getBalance", 1, RequestScheduler.Priority.NORMAL));
+        assertThat(exception.isRecoverable()).isTrue();
+        assertThat(scheduler.queued()).isEqualTo(0);
+    }
+
+    @Test
+    void shouldNotHoldUpOtherMethodsBehindRequestLimitedByItsOwnMethod() throws Exception
+    {
+        final RequestScheduler scheduler = new RequestScheduler(RateLimitPolicy.of(100)
+                .withMethodLimit("getSignaturesForAddress", 0.1)
+                .withMaxQueueTime(Duration.ofSeconds(1)));
+        scheduler.acquire("getSignaturesForAddress", 1, RequestScheduler.Priority.HIGH);
+        send(scheduler, "getSignaturesForAddress", RequestScheduler.Priority.HIGH);
+        awaitQueued(scheduler, 1);
+
+        scheduler.acquire("getBalance", 1, RequestScheduler.Priority.LOW);
+
+        assertThat(scheduler.queued()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldHoldUpLighterRequestsBehindHeavierRequestWaitingForSharedTokens() throws Exception
+    {
+        final RequestScheduler scheduler = new RequestScheduler(RateLimitPolicy.of(10).withBurst(4));
+        scheduler.acquire("getBalance", 3, RequestScheduler.Priority.NORMAL);
+
+        final Future<?> heavy = send(scheduler, "getMultipleAccounts", 4, RequestScheduler.Priority.HIGH);
+        awaitQueued(scheduler, 1);
+        final Future<?> light = send(scheduler, "getBalance", 1, RequestScheduler.Priority.NORMAL);
+        heavy.get();
+        light.get();
+
+        assertThat(sent).containsExactly("getMultipleAccounts", "getBalance");
+    }
+
+    private Future<?> send(final RequestScheduler scheduler, final String method, final RequestScheduler.Priority priority)
+    {
+        return send(scheduler, method, 1, priority);
+    }
+
+    private Future<?> send(final RequestScheduler scheduler, final String method, final int weight, final RequestScheduler.Priority priority)
+    {
+        return executor.submit(() ->
+        {
+            scheduler.acquire(method, weight, priority);
+            sent.add(method);
+            return null;
+        });
+    }
+
+    private static void awaitQueued(final RequestScheduler scheduler, final int queued) throws InterruptedException
+    {
+        final long deadline = System.nanoTime() + Duration.ofSeconds(5).toNanos();
+        while (scheduler.queued() != queued)
+        {
+            if (System.nanoTime() > deadline)
+            {
+                throw new AssertionError("Expected " + queued + " queued requests but there were " + scheduler.queued());
+            }
+            Thread.sleep(1);
+        }
+    }
+}
@@ -0,0 +1,201 @@
+package com.lmax.solana4j.client.jsonrpc;
+
+import com.lmax.solana4j.client.api.RetryPolicy;
+import com.lmax.solana4j.client.api.SolanaApi;
+import com.lmax.solana4j.client.api.SolanaClientMetrics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.net.http.HttpClient;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+final class RetryingClientTest
+{
+    private static final RetryPolicy QUICK_RETRIES = RetryPolicy.defaults()
+            .withoutHedging()
+            .withBackoff(Duration.ofMillis(1), Duration.ofMillis(10));
+
+    private final HttpClient httpClient = HttpClient.newHttpClient();
+    private final AtomicInteger calls = new AtomicInteger();
+    private volatile int dropFirst;
+    private volatile int delayFirstAfter = Integer.MAX_VALUE;
+    private volatile Duration delay = Duration.ofSeconds(5);
+    private volatile int dropFirstAfter = Integer.MAX_VALUE;
+    private volatile boolean failing;
+    private StandInRpcNode node;
+
+    @BeforeEach
+    void setUp() throws IOException
+    {
+        node = new StandInRpcNode(this::reply);
+    }
+
+    @AfterEach
+    void tearDown()
+    {
+        node.close();
+    }
+
+    @Test
+    void shouldRetryReadsThatFailRecoverably() throws Exception
+    {
+        dropFirst = 2;
+
+        final SolanaApi api = retrying(QUICK_RETRIES);
+
+        assertThat(api.getBalance("account").getResponse()).isEqualTo(10L);
+        assertThat(calls.get()).isEqualTo(3);
+    }
+
+    @Test
+    void shouldDecorateTheGivenClients() throws Exception
+    {
+        dropFirst = 2;
+        final List<SolanaClientMetrics.Outcome> outcomes = new CopyOnWriteArrayList<>();
+        final SolanaClientMetrics metrics = (endpoint, method, outcome, code, encodeNanos, httpNanos, decodeNanos, requestBytes, responseBytes) ->
+                outcomes.add(outcome);
+
+        final SolanaApi api = new SolanaJsonRpcRetryingClient(
+                new SolanaJsonRpcClient(httpClient, node.url(), metrics),
+                new SolanaJsonRpcAsyncClient(httpClient, node.url(), metrics),
+                QUICK_RETRIES);
+
+        assertThat(api.getBalance("account").getResponse()).isEqualTo(10L);
+        assertThat(outcomes).containsExactly(SolanaClientMetrics.Outcome.IO_FAILURE, SolanaClientMetrics.Outcome.IO_FAILURE, SolanaClientMetrics.Outcome.SUCCESS);
+    }
+
+    @Test
+    void shouldGiveUpAfterMaxAttempts() throws Exception
+    {
+        dropFirst = Integer.MAX_VALUE;
+
+        final SolanaApi api = retrying(QUICK_RETRIES.withMaxAttempts(3));
+
+        final SolanaJsonRpcClientException exception = assertThrows(SolanaJsonRpcClientException.class, () -> api.getBalance("account"));
+        assertThat(exception.isRecoverable()).isTrue();
+        assertThat(calls.get()).isEqualTo(3);
+    }
+
+    @Test
+    void shouldNotRetryFailuresThatAreNotRecoverable()
+    {
+        failing = true;
+
+        final SolanaApi api = retrying(QUICK_RETRIES);
+
+        assertThrows(SolanaJsonRpcClientException.class, () -> api.getBalance("account"));
+        assertThat(calls.get()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldNotRetryTransactions()
+    {
+        dropFirst = Integer.MAX_VALUE;
+
+        final SolanaApi api = retrying(QUICK_RETRIES);
+
+        assertThrows(SolanaJsonRpcClientException.class, () -> api.sendTransaction("transaction"));
+        assertThat(calls.get()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldStopRetryingOnceBudgetIsSpent()
+    {
+        dropFirst = Integer.MAX_VALUE;
+
+        final SolanaApi api = retrying(QUICK_RETRIES.withMaxAttempts(3).withRetryBudget(0, 2));
+
+        assertThrows(SolanaJsonRpcClientException.class, () -> api.getBalance("account"));
+        assertThat(calls.get()).isEqualTo(3);
+
+        assertThrows(SolanaJsonRpcClientException.class, () -> api.getBalance("account"));
+        assertThat(calls.get()).isEqualTo(4);
+    }
+
+    @Test
+    void shouldHedgeReadsSlowerThanRecentLatencies() throws Exception
+    {
+        final SolanaApi api = retrying(RetryPolicy.defaults()
+                .withHedging(0.9, Duration.ofMillis(50))
+                .withRetryBudget(1, 100));
+        for (int i = 0; i < 30; i++)
+        {
+            api.getBalance("account");
+        }
+
+        delayFirstAfter = calls.get();
+        final long start = System.nanoTime();
+
+        assertThat(api.getBalance("account").getResponse()).isEqualTo(10L);
+        assertThat(Duration.ofNanos(System.nanoTime() - start)).isLessThan(Duration.ofSeconds(2));
+        assertThat(calls.get()).isEqualTo(delayFirstAfter + 2);
+    }
+
+    @Test
+    void shouldNotHedgeReadWhoseFirstAttemptHasFailed() throws Exception
+    {
+        final SolanaApi api = retrying(RetryPolicy.defaults()
+                .withMaxAttempts(2)
+                .withHedging(0.9, Duration.ofMillis(100))
+                .withBackoff(Duration.ofSeconds(1), Duration.ofSeconds(1))
+                .withRetryBudget(1, 100));
+        for (int i = 0; i < 30; i++)
+        {
+            api.getBalance("account");
+        }
+
+        // the first attempt fails at once, and a second attempt is slow enough to still be outstanding when a third is due
+        dropFirstAfter = calls.get();
+        delayFirstAfter = dropFirstAfter + 1;
+        delay = Duration.ofMillis(700);
+
+        assertThat(api.getBalance("account").getResponse()).isEqualTo(10L);
+        Thread.sleep(1_000);
+        assertThat(calls.get()).isEqualTo(dropFirstAfter + 2);
+    }
+
+    private SolanaApi retrying(final RetryPolicy policy)
+    {
+        return new SolanaJsonRpcRetryingClient(httpClient, node.url(), policy);
+    }
+
+    private StandInRpcNode.Reply reply(final String method)
+    {
+        final int call = calls.incrementAndGet();
+        if (call <= dropFirst || call == dropFirstAfter + 1)
+        {
+            return StandInRpcNode.Reply.drop();
+        }
+        if (failing)
+        {
+            return StandInRpcNode.Reply.status(500);
+        }
+        if (call == delayFirstAfter + 1)
+        {
+            sleep(delay);
+        }
+        return "sendTransaction".equals(method)
+                ? StandInRpcNode.Reply.result("\"signature\"")
+                : StandInRpcNode.Reply.result("{\"context\": {\"slot\": 1}, \"value\": 10}");
+    }
+
+    private static void sleep(final Duration duration)
+    {
+        try
+        {
+            Thread.sleep(duration.toMillis());
+        }
+        catch (final InterruptedException e)
+        {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,67 @@
+package com.lmax.solana4j.client.jsonrpc;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+final class SolanaCodecTest
+{
+    private final SolanaCodec solanaCodec = new SolanaCodec(true);
+
+    @Test
+    void shouldEncodeRequestWithoutBuildingTree() throws IOException
+    {
+        final Map<String, Object> optionalParams = SolanaJsonRpcClientOptionalParams.defaultOptionalParams();
+
+        final byte[] request = solanaCodec.encodeRequest(
+                SolanaRpcMethod.GET_TOKEN_ACCOUNTS_BY_OWNER,
+                new Object[]{"owner", Map.entry("mint", "token"), optionalParams});
+
+        final JsonNode requestNode = solanaCodec.mapper.readTree(request);
+        assertThat(requestNode.get("jsonrpc").asText()).isEqualTo("2.0");
+        assertThat(requestNode.get("method").asText()).isEqualTo("getTokenAccountsByOwner");
+        assertThat(requestNode.get("id").asLong()).isEqualTo(1L);
+        assertThat(requestNode.get("params")).isEqualTo(solanaCodec.mapper.valueToTree(List.of("owner", Map.entry("mint", "token"), optionalParams)));
+    }
+
+    @Test
+    void shouldEncodeScalarParams() throws IOException
+    {
+        final byte[] request = solanaCodec.encodeRequest(SolanaRpcMethod.REQUEST_AIRDROP, new Object[]{"address", 1_000_000_000L, 7, null});
+
+        assertThat(new String(request, StandardCharsets.UTF_8))
+                .isEqualTo("{\"jsonrpc\":\"2.0\",\"method\":\"requestAirdrop\",\"params\":[\"address\",1000000000,7,null],\"id\":1}");
+    }
+
+    @Test
+    void shouldEncodeBatchRequestAsArrayOfRequests() throws IOException
+    {
+        final List<SolanaJsonRpcBatch.BatchCall<?, ?>> calls = List.of(
+                new SolanaJsonRpcBatch.BatchCall<>(3, SolanaRpcMethod.GET_SLOT, Function.identity(), new Object[0]),
+                new SolanaJsonRpcBatch.BatchCall<>(4, SolanaRpcMethod.GET_BALANCE, BalanceDTO::getValue, new Object[]{"address"}));
+
+        assertThat(new String(solanaCodec.encodeBatchRequest(calls), StandardCharsets.UTF_8))
+                .isEqualTo("[{\"jsonrpc\":\"2.0\",\"method\":\"getSlot\",\"params\":[],\"id\":3}," +
+                           "{\"jsonrpc\":\"2.0\",\"method\":\"getBalance\",\"params\":[\"address\"],\"id\":4}]");
+    }
+
+    @Test
+    void shouldDecodeSameResponseFromBytesAndStream() throws IOException
+    {
+        final byte[] response = "{\"jsonrpc\": \"2.0\", \"id\": 1, \"result\": {\"context\": {\"slot\": 9}, \"value\": 42}}".getBytes(StandardCharsets.UTF_8);
+
+        final RpcWrapperDTO<BalanceDTO> fromBytes = solanaCodec.decodeResponse(response, SolanaRpcMethod.GET_BALANCE);
+        final RpcWrapperDTO<BalanceDTO> fromStream = solanaCodec.decodeResponse(new ByteArrayInputStream(response), SolanaRpcMethod.GET_BALANCE);
+
+        assertThat(fromBytes.getResult().getValue()).isEqualTo(42L);
+        assertThat(fromStream.getResult().getValue()).isEqualTo(42L);
+    }
+}
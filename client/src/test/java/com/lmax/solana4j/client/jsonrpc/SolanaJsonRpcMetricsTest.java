@@ -0,0 +1,157 @@
+package com.lmax.solana4j.client.jsonrpc;
+
+import com.lmax.solana4j.client.api.MethodMetrics;
+import com.lmax.solana4j.client.api.SolanaClientMetrics;
+import com.lmax.solana4j.client.api.SolanaClientMetrics.Outcome;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.net.http.HttpClient;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+final class SolanaJsonRpcMetricsTest
+{
+    private static final String BALANCE = "{\"context\": {\"slot\": 1}, \"value\": 10}";
+    private static final long BALANCE_RESPONSE_BYTES = ("{\"jsonrpc\": \"2.0\", \"result\": " + BALANCE + ", \"id\": 0}").length();
+
+    private final HttpClient httpClient = HttpClient.newHttpClient();
+    private final SolanaJsonRpcMetrics metrics = new SolanaJsonRpcMetrics();
+    private StandInRpcNode node;
+    private String url;
+
+    @BeforeEach
+    void setUp() throws IOException
+    {
+        node = new StandInRpcNode(SolanaJsonRpcMetricsTest::reply);
+        url = node.url();
+    }
+
+    @AfterEach
+    void tearDown()
+    {
+        node.close();
+    }
+
+    @Test
+    void shouldRecordOutcomesCodesAndSizesOfEachMethod() throws Exception
+    {
+        final SolanaJsonRpcClient api = new SolanaJsonRpcClient(httpClient, url, metrics);
+
+        api.getBalance("account");
+        api.getBalance("account");
+        api.getAccountInfo("missing");
+        assertThrows(SolanaJsonRpcClientException.class, () -> api.getSlot());
+
+        final MethodMetrics balance = metricsOf("getBalance");
+        assertThat(balance.getEndpoint()).isEqualTo(url);
+        assertThat(balance.getCount(Outcome.SUCCESS)).isEqualTo(2L);
+        assertThat(balance.getHttpNanos().getCount()).isEqualTo(2L);
+        assertThat(balance.getRequestBytes().getMax()).isGreaterThan(0L);
+        assertThat(balance.getResponseBytes().getMax()).isGreaterThanOrEqualTo(BALANCE_RESPONSE_BYTES);
+
+        assertThat(metricsOf("getAccountInfo").getCount(Outcome.ERROR_RESPONSE)).isEqualTo(1L);
+        assertThat(metricsOf("getAccountInfo").getCodeCounts()).isEqualTo(Map.of(-32602, 1L));
+        assertThat(metricsOf("getSlot").getCount(Outcome.HTTP_STATUS)).isEqualTo(1L);
+        assertThat(metricsOf("getSlot").getCodeCounts()).isEqualTo(Map.of(503, 1L));
+    }
+
+    @Test
+    void shouldCompleteCallsWhoseMetricsFailToRecord() throws Exception
+    {
+        final SolanaClientMetrics failing = (endpoint, method, outcome, code, encodeNanos, httpNanos, decodeNanos, requestBytes, responseBytes) ->
+        {
+            throw new IllegalStateException("metrics are unavailable");
+        };
+
+        assertThat(new SolanaJsonRpcClient(httpClient, url, failing).getBalance("account").getResponse()).isEqualTo(10L);
+        assertThat(new SolanaJsonRpcAsyncClient(httpClient, url, failing).getBalance("account").get(5, TimeUnit.SECONDS).getResponse()).isEqualTo(10L);
+    }
+
+    @Test
+    void shouldRecordAsyncCallsAndBatches() throws Exception
+    {
+        new SolanaJsonRpcAsyncClient(httpClient, url, metrics).getBalance("account").get();
+        final var batch = new SolanaJsonRpcClient(httpClient, url, metrics).batch();
+        batch.getBalance("account");
+        batch.execute();
+
+        assertThat(metricsOf("getBalance").getCount(Outcome.SUCCESS)).isEqualTo(1L);
+        assertThat(metricsOf("getBalance").getResponseBytes().getMax()).isGreaterThanOrEqualTo(BALANCE_RESPONSE_BYTES);
+        assertThat(metricsOf("batch").getCount(Outcome.SUCCESS)).isEqualTo(1L);
+    }
+
+    @Test
+    void shouldExportMetricsOfEveryMethod() throws Exception
+    {
+        final SolanaJsonRpcClient api = new SolanaJsonRpcClient(httpClient, url, metrics);
+        api.getBalance("account");
+        api.getAccountInfo("missing");
+
+        final List<String> exported = new ArrayList<>();
+        metrics.exportTo(all -> all.forEach(method -> exported.add(method.getMethod())));
+
+        assertThat(exported).containsExactlyInAnyOrder("getBalance", "getAccountInfo");
+    }
+
+    @Test
+    void shouldCommitFlightRecorderEventForEachCall() throws Exception
+    {
+        final Path file = Files.createTempFile("rpc-calls", ".jfr");
+        try (Recording recording = new Recording())
+        {
+            recording.enable("com.lmax.solana4j.RpcCall");
+            recording.start();
+
+            final SolanaJsonRpcClient api = new SolanaJsonRpcClient(httpClient, url);
+            api.getBalance("account");
+            api.getAccountInfo("missing");
+
+            recording.stop();
+            recording.dump(file);
+        }
+
+        final List<RecordedEvent> events = RecordingFile.readAllEvents(file).stream()
+                .filter(event -> event.getEventType().getName().equals("com.lmax.solana4j.RpcCall"))
+                .collect(Collectors.toList());
+        Files.delete(file);
+
+        assertThat(events).hasSize(2);
+        assertThat(events.get(0).getString("method")).isEqualTo("getBalance");
+        assertThat(events.get(0).getString("outcome")).isEqualTo("SUCCESS");
+        assertThat(events.get(0).getLong("responseBytes")).isGreaterThanOrEqualTo(BALANCE_RESPONSE_BYTES);
+        assertThat(events.get(1).getString("outcome")).isEqualTo("ERROR_RESPONSE");
+        assertThat(events.get(1).getInt("code")).isEqualTo(-32602);
+    }
+
+    private MethodMetrics metricsOf(final String method)
+    {
+        return metrics.getMetrics().stream().filter(metrics -> metrics.getMethod().equals(method)).findFirst().orElseThrow();
+    }
+
+    private static StandInRpcNode.Reply reply(final String method)
+    {
+        switch (method)
+        {
+            case "getSlot":
+                return StandInRpcNode.Reply.status(503);
+            case "getAccountInfo":
+                return StandInRpcNode.Reply.error(-32602, "Invalid param");
+            default:
+                return StandInRpcNode.Reply.result(BALANCE);
+        }
+    }
+}
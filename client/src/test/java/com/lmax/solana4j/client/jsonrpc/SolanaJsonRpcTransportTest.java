@@ -0,0 +1,96 @@
+package com.lmax.solana4j.client.jsonrpc;
+
+import com.lmax.solana4j.client.api.SolanaBatch;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.net.http.HttpClient;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+final class SolanaJsonRpcTransportTest
+{
+    private static final Function<String, String> THROWING_MAPPER = signature ->
+    {
+        throw new IllegalArgumentException("Illegal base64 character");
+    };
+
+    private final HttpClient httpClient = HttpClient.newHttpClient();
+    private StandInRpcNode node;
+
+    @BeforeEach
+    void setUp() throws IOException
+    {
+        node = new StandInRpcNode(method -> StandInRpcNode.Reply.result("\"signature\""));
+    }
+
+    @AfterEach
+    void tearDown()
+    {
+        node.close();
+    }
+
+    @Test
+    void shouldCompleteEveryCallOfBatchBeforeReportingCallsThatCouldNotBeCompleted() throws IOException
+    {
+        node.close();
+        // the stand-in answers a batch with the one reply, to the first call, so the second is left without a response
+        node = new StandInRpcNode(method -> StandInRpcNode.Reply.result(null));
+        final SolanaBatch batch = new SolanaJsonRpcClient(httpClient, node.url()).batch();
+        final SolanaBatch.Call<Long> unmappable = batch.getBalance("account");
+        final SolanaBatch.Call<Long> missing = batch.getSlot();
+
+        final SolanaJsonRpcClientException exception = assertThrows(SolanaJsonRpcClientException.class, batch::execute);
+
+        assertThat(exception.getCause()).isInstanceOf(NullPointerException.class);
+        final IllegalStateException unmapped = assertThrows(IllegalStateException.class, unmappable::getResponse);
+        assertThat(unmapped.getCause()).isSameAs(exception);
+        final IllegalStateException unanswered = assertThrows(IllegalStateException.class, missing::getResponse);
+        assertThat(unanswered.getMessage()).contains("No response for request id");
+        assertThrows(IllegalStateException.class, batch::execute);
+    }
+
+    @Test
+    void shouldLeaveEveryCallOfFailedBatchHoldingTheFailure() throws IOException
+    {
+        node.close();
+        node = new StandInRpcNode(method -> StandInRpcNode.Reply.status(503));
+        final SolanaBatch batch = new SolanaJsonRpcClient(httpClient, node.url()).batch();
+        final SolanaBatch.Call<Long> balance = batch.getBalance("account");
+        final SolanaBatch.Call<Long> slot = batch.getSlot();
+
+        final SolanaJsonRpcClientException exception = assertThrows(SolanaJsonRpcClientException.class, batch::execute);
+
+        assertThat(assertThrows(IllegalStateException.class, balance::getResponse).getCause()).isSameAs(exception);
+        assertThat(assertThrows(IllegalStateException.class, slot::getResponse).getCause()).isSameAs(exception);
+    }
+
+    @Test
+    void shouldFailAsyncCallWhoseResultCannotBeMapped()
+    {
+        final SolanaJsonRpcTransport transport = new SolanaJsonRpcTransport(httpClient, node.url(), null, false);
+
+        final ExecutionException exception = assertThrows(
+                ExecutionException.class,
+                () -> transport.queryForObjectAsync(SolanaRpcMethod.SEND_TRANSACTION, THROWING_MAPPER, "transaction").get(5, TimeUnit.SECONDS));
+        assertThat(exception.getCause()).isInstanceOf(SolanaJsonRpcClientException.class);
+        assertThat(exception.getCause().getCause()).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void shouldFailCallWhoseResultCannotBeMapped()
+    {
+        final SolanaJsonRpcTransport transport = new SolanaJsonRpcTransport(httpClient, node.url(), null, false);
+
+        final SolanaJsonRpcClientException exception = assertThrows(
+                SolanaJsonRpcClientException.class,
+                () -> transport.queryForObject(SolanaRpcMethod.SEND_TRANSACTION, THROWING_MAPPER, "transaction"));
+        assertThat(exception.getCause()).isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,196 @@
+package com.lmax.solana4j.client.jsonrpc;
+
+import com.lmax.solana4j.client.api.SignatureNotification;
+import com.lmax.solana4j.client.api.SlotNotification;
+import com.lmax.solana4j.client.api.SolanaRpcResponse;
+import com.lmax.solana4j.client.api.SolanaSubscriptionClient;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.WebSocket;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@ExtendWith(MockitoExtension.class)
+final class SolanaSubscriptionClientTest
+{
+    public static final String DUMMY_WS_URL = "ws://solana.test.org:8900";
+
+    @Mock
+    HttpClient httpClient;
+
+    @Mock
+    WebSocket.Builder webSocketBuilder;
+
+    @Mock
+    WebSocket webSocket;
+
+    private final ArgumentCaptor<WebSocket.Listener> listener = ArgumentCaptor.forClass(WebSocket.Listener.class);
+    private SolanaSubscriptionClient subscriptionClient;
+
+    @BeforeEach
+    void setUp()
+    {
+        Mockito.when(httpClient.newWebSocketBuilder()).thenReturn(webSocketBuilder);
+        Mockito.when(webSocketBuilder.buildAsync(Mockito.any(), listener.capture())).thenReturn(CompletableFuture.completedFuture(webSocket));
+        Mockito.lenient().when(webSocket.sendText(Mockito.any(), Mockito.anyBoolean())).thenReturn(CompletableFuture.completedFuture(webSocket));
+        Mockito.lenient().when(webSocket.sendClose(Mockito.anyInt(), Mockito.any())).thenReturn(CompletableFuture.completedFuture(webSocket));
+
+        subscriptionClient = new SolanaJsonRpcSubscriptionClient(httpClient, DUMMY_WS_URL, Duration.ofMillis(10), true);
+    }
+
+    @AfterEach
+    void tearDown()
+    {
+        subscriptionClient.close();
+    }
+
+    @Test
+    void shouldSubscribeAndDeliverNotifications() throws Exception
+    {
+        final List<SlotNotification> slots = new ArrayList<>();
+
+        final CompletableFuture<SolanaSubscriptionClient.Subscription> subscription = subscriptionClient.slotSubscribe(slots::add);
+        Mockito.verify(webSocket).sendText("{\"jsonrpc\":\"2.0\",\"method\":\"slotSubscribe\",\"params\":[],\"id\":1}", true);
+
+        receive("{\"jsonrpc\": \"2.0\", \"result\": 5, \"id\": 1}");
+        receive("{\"jsonrpc\": \"2.0\", \"method\": \"slotNotification\", \"params\": {\"result\": {\"parent\": 75, \"root\": 44, \"slot\": 76}, \"subscription\": 5}}");
+
+        assertThat(subscription.get()).isNotNull();
+        assertThat(slots).hasSize(1);
+        assertThat(slots.get(0).getSlot()).isEqualTo(76L);
+        assertThat(slots.get(0).getParent()).isEqualTo(75L);
+        assertThat(slots.get(0).getRoot()).isEqualTo(44L);
+    }
+
+    @Test
+    void shouldMultiplexSubscriptionsOverOneConnection()
+    {
+        final List<String> received = new ArrayList<>();
+
+        subscriptionClient.slotSubscribe(slot -> received.add("slot " + slot.getSlot()));
+        subscriptionClient.accountSubscribe("83astBRguLMdt2h5U1Tpdq5tjFoJ6noeGwaY3mDLVcri", account -> received.add("account " + account.getValue().getLamports()));
+
+        receive("{\"jsonrpc\": \"2.0\", \"result\": 5, \"id\": 1}");
+        receive("{\"jsonrpc\": \"2.0\", \"result\": 6, \"id\": 2}");
+        receive("{\"jsonrpc\": \"2.0\", \"method\": \"accountNotification\", \"params\": {\"result\": {\"context\": {\"slot\": 5199307}, " +
+                "\"value\": {\"data\": [\"\", \"base64\"], \"executable\": false, \"lamports\": 33594, " +
+                "\"owner\": \"11111111111111111111111111111111\", \"rentEpoch\": 635, \"space\": 0}}, \"subscription\": 6}}");
+        receive("{\"jsonrpc\": \"2.0\", \"method\": \"slotNotification\", \"params\": {\"result\": {\"parent\": 75, \"root\": 44, \"slot\": 76}, \"subscription\": 5}}");
+
+        Mockito.verify(webSocketBuilder, Mockito.times(1)).buildAsync(Mockito.eq(URI.create(DUMMY_WS_URL)), Mockito.any());
+        assertThat(received).containsExactly("account 33594", "slot 76");
+    }
+
+    @Test
+    void shouldReassembleNotificationSplitAcrossFrames()
+    {
+        final List<SlotNotification> slots = new ArrayList<>();
+
+        subscriptionClient.slotSubscribe(slots::add);
+        receive("{\"jsonrpc\": \"2.0\", \"result\": 5, \"id\": 1}");
+
+        listener.getValue().onText(webSocket, "{\"jsonrpc\": \"2.0\", \"method\": \"slotNotification\", \"params\": {\"result\": {\"parent\": 75, ", false);
+        listener.getValue().onText(webSocket, "\"root\": 44, \"slot\": 76}, \"subscription\": 5}}", true);
+
+        assertThat(slots).hasSize(1);
+        assertThat(slots.get(0).getSlot()).isEqualTo(76L);
+    }
+
+    @Test
+    void shouldFailSubscriptionRejectedByNode()
+    {
+        final CompletableFuture<SolanaSubscriptionClient.Subscription> subscription = subscriptionClient.signatureSubscribe("iamnotarealsignature", notification ->
+        {
+        });
+
+        receive("{\"jsonrpc\": \"2.0\", \"error\": {\"code\": -32602, \"message\": \"Invalid Request: Invalid signature\"}, \"id\": 1}");
+
+        final ExecutionException exception = assertThrows(ExecutionException.class, subscription::get);
+        assertThat(exception.getCause()).isInstanceOf(SolanaJsonRpcClientException.class);
+    }
+
+    @Test
+    void shouldOnlyDeliverSingleSignatureNotification()
+    {
+        final List<SolanaRpcResponse<SignatureNotification>> notifications = new ArrayList<>();
+
+        subscriptionClient.signatureSubscribe("2EBVM6cB8vAAD93Ktr6Vd8p67XPbQzCJX47MpReuiCXJAtcjaxpvWpcg9Ege1Nr5Tk3a2GFrByT7WPBjdsTycY9b", notifications::add);
+        Mockito.verify(webSocket).sendText(
+                "{\"jsonrpc\":\"2.0\",\"method\":\"signatureSubscribe\",\"params\":" +
+                        "[\"2EBVM6cB8vAAD93Ktr6Vd8p67XPbQzCJX47MpReuiCXJAtcjaxpvWpcg9Ege1Nr5Tk3a2GFrByT7WPBjdsTycY9b\",{\"commitment\":\"finalized\"}],\"id\":1}",
+                true);
+
+        receive("{\"jsonrpc\": \"2.0\", \"result\": 0, \"id\": 1}");
+        receive("{\"jsonrpc\": \"2.0\", \"method\": \"signatureNotification\", \"params\": {\"result\": {\"context\": {\"slot\": 5207624}, \"value\": {\"err\": null}}, \"subscription\": 0}}");
+        receive("{\"jsonrpc\": \"2.0\", \"method\": \"signatureNotification\", \"params\": {\"result\": {\"context\": {\"slot\": 5207625}, \"value\": {\"err\": null}}, \"subscription\": 0}}");
+
+        assertThat(notifications).hasSize(1);
+        assertThat(notifications.get(0).getContext().getSlot()).isEqualTo(5207624L);
+        assertThat(notifications.get(0).getValue().getErr()).isNull();
+    }
+
+    @Test
+    void shouldReconnectAndResubscribeWhenConnectionIsLost()
+    {
+        final List<SlotNotification> slots = new ArrayList<>();
+
+        subscriptionClient.slotSubscribe(slots::add);
+        receive("{\"jsonrpc\": \"2.0\", \"result\": 5, \"id\": 1}");
+
+        listener.getValue().onClose(webSocket, WebSocket.NORMAL_CLOSURE, "going away");
+
+        Mockito.verify(webSocketBuilder, Mockito.timeout(1000).times(2)).buildAsync(Mockito.any(), Mockito.any());
+        Mockito.verify(webSocket, Mockito.timeout(1000)).sendText("{\"jsonrpc\":\"2.0\",\"method\":\"slotSubscribe\",\"params\":[],\"id\":2}", true);
+
+        receive("{\"jsonrpc\": \"2.0\", \"result\": 9, \"id\": 2}");
+        receive("{\"jsonrpc\": \"2.0\", \"method\": \"slotNotification\", \"params\": {\"result\": {\"parent\": 75, \"root\": 44, \"slot\": 76}, \"subscription\": 9}}");
+
+        assertThat(slots).hasSize(1);
+    }
+
+    @Test
+    void shouldStopDeliveringNotificationsAfterUnsubscribe() throws Exception
+    {
+        final List<SlotNotification> slots = new ArrayList<>();
+
+        final CompletableFuture<SolanaSubscriptionClient.Subscription> subscription = subscriptionClient.slotSubscribe(slots::add);
+        receive("{\"jsonrpc\": \"2.0\", \"result\": 5, \"id\": 1}");
+
+        subscription.get().unsubscribe();
+        subscription.get().unsubscribe();
+        receive("{\"jsonrpc\": \"2.0\", \"method\": \"slotNotification\", \"params\": {\"result\": {\"parent\": 75, \"root\": 44, \"slot\": 76}, \"subscription\": 5}}");
+
+        Mockito.verify(webSocket, Mockito.times(1)).sendText("{\"jsonrpc\":\"2.0\",\"method\":\"slotUnsubscribe\",\"params\":[5],\"id\":2}", true);
+        assertThat(slots).isEmpty();
+    }
+
+    @Test
+    void shouldNotAllowSubscribingAfterClose()
+    {
+        subscriptionClient.close();
+
+        assertThrows(ExecutionException.class, () -> subscriptionClient.slotSubscribe(slot ->
+        {
+        }).get());
+    }
+
+    private void receive(final String message)
+    {
+        listener.getValue().onText(webSocket, message, true);
+    }
+}
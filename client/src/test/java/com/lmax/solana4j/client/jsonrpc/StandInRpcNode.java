@@ -0,0 +1,144 @@
+package com.lmax.solana4j.client.jsonrpc;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * A local http server standing in for a solana node, answering each JSON RPC request with the reply its handler chooses for
+ * the request's method. A batch is answered with a batch of that one reply, which is all the tests send.
+ */
+final class StandInRpcNode implements AutoCloseable
+{
+    private static final Pattern METHOD = Pattern.compile("\"method\"\\s*:\\s*\"(\\w+)\"");
+    private static final Pattern ID = Pattern.compile("\"id\"\\s*:\\s*(\\d+)");
+
+    private final Handler handler;
+    private final HttpServer server;
+    private final ExecutorService executor = Executors.newCachedThreadPool();
+    private final Map<String, AtomicInteger> calls = new ConcurrentHashMap<>();
+
+    StandInRpcNode(final Handler handler) throws IOException
+    {
+        this.handler = handler;
+        this.server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+        this.server.createContext("/", this::handle);
+        // requests are handled concurrently so that a slow reply does not hold up the others
+        this.server.setExecutor(executor);
+        this.server.start();
+    }
+
+    String url()
+    {
+        return "http://" + server.getAddress().getHostString() + ":" + server.getAddress().getPort();
+    }
+
+    int port()
+    {
+        return server.getAddress().getPort();
+    }
+
+    int calls(final String method)
+    {
+        return calls.getOrDefault(method, new AtomicInteger()).get();
+    }
+
+    @Override
+    public void close()
+    {
+        server.stop(0);
+        executor.shutdownNow();
+    }
+
+    private void handle(final HttpExchange exchange) throws IOException
+    {
+        final String request;
+        try (InputStream body = exchange.getRequestBody())
+        {
+            request = new String(body.readAllBytes(), StandardCharsets.UTF_8);
+        }
+        final String method = find(METHOD, request, "");
+        calls.computeIfAbsent(method, ignored -> new AtomicInteger()).incrementAndGet();
+
+        final Reply reply = handler.reply(method);
+        if (reply.status == 0)
+        {
+            // closing the exchange without responding drops the connection
+            exchange.close();
+            return;
+        }
+
+        final String body = reply.member == null ? "" : "{\"jsonrpc\": \"2.0\", " + reply.member + ", \"id\": " + find(ID, request, "0") + "}";
+        respond(exchange, reply.status, request.startsWith("[") && !body.isEmpty() ? "[" + body + "]" : body);
+    }
+
+    private static void respond(final HttpExchange exchange, final int status, final String body) throws IOException
+    {
+        final byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        exchange.sendResponseHeaders(status, bytes.length == 0 ? -1 : bytes.length);
+        try (OutputStream output = exchange.getResponseBody())
+        {
+            output.write(bytes);
+        }
+    }
+
+    private static String find(final Pattern pattern, final String request, final String otherwise)
+    {
+        final Matcher matcher = pattern.matcher(request);
+        return matcher.find() ? matcher.group(1) : otherwise;
+    }
+
+    /**
+     * Chooses the reply to a request of the given method.
+     */
+    @FunctionalInterface
+    interface Handler
+    {
+        Reply reply(String method);
+    }
+
+    static final class Reply
+    {
+        private final int status;
+        private final String member;
+
+        private Reply(final int status, final String member)
+        {
+            this.status = status;
+            this.member = member;
+        }
+
+        static Reply result(final Object result)
+        {
+            return new Reply(200, "\"result\": " + result);
+        }
+
+        static Reply error(final int code, final String message)
+        {
+            return new Reply(200, "\"error\": {\"code\": " + code + ", \"message\": \"" + message + "\"}");
+        }
+
+        static Reply status(final int status)
+        {
+            return new Reply(status, null);
+        }
+
+        static Reply drop()
+        {
+            return new Reply(0, null);
+        }
+    }
+}
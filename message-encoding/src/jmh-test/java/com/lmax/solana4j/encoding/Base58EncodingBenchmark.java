@@ -6,13 +6,16 @@ import org.openjdk.jmh.annotations.Fork;
 import org.openjdk.jmh.annotations.Measurement;
 import org.openjdk.jmh.annotations.Mode;
 import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
 import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
 import org.openjdk.jmh.annotations.State;
 import org.openjdk.jmh.annotations.Threads;
 import org.openjdk.jmh.annotations.Warmup;
 import org.openjdk.jmh.infra.Blackhole;
 
-import java.nio.charset.StandardCharsets;
+import java.nio.ByteBuffer;
+import java.util.Random;
 import java.util.concurrent.TimeUnit;
 
 @BenchmarkMode(Mode.Throughput)
@@ -24,30 +27,71 @@ import java.util.concurrent.TimeUnit;
 @State(Scope.Thread)
 public class Base58EncodingBenchmark
 {
-    private static final String BASE58_STRING = "123456789ABCDEFGHJKLMNPQRSTUVWXYZabcdefghijkmnopqrstuvwxyz";
-    private static final byte[] BYTES = BASE58_STRING.getBytes(StandardCharsets.UTF_8);
+    // 32 bytes is a public key or blockhash, 64 bytes a signature
+    @Param({"32", "64"})
+    private int length;
+
+    private byte[] bytes;
+    private ByteBuffer buffer;
+    private String base58;
+    private char[] chars;
+    private StringBuilder builder;
+    private ByteBuffer decoded;
+
+    @Setup
+    public void setUp()
+    {
+        bytes = new byte[length];
+        new Random(58).nextBytes(bytes);
+        buffer = ByteBuffer.wrap(bytes);
+        base58 = Base58.encode(bytes);
+        chars = new char[Base58.maxEncodedLength(length)];
+        builder = new StringBuilder(chars.length);
+        decoded = ByteBuffer.allocate(length);
+    }
 
     @Benchmark
     public void base58DecodeSolana4jImplementation(final Blackhole bh)
     {
-        bh.consume(Base58.decode(BASE58_STRING));
+        bh.consume(Base58.decode(base58));
+    }
+
+    @Benchmark
+    public void base58DecodeIntoBufferSolana4jImplementation(final Blackhole bh)
+    {
+        decoded.clear();
+        bh.consume(Base58.decode(base58, decoded));
     }
 
     @Benchmark
     public void base58EncodeSolana4jImplementation(final Blackhole bh)
     {
-        bh.consume(Base58.encode(BYTES));
+        bh.consume(Base58.encode(bytes));
+    }
+
+    @Benchmark
+    public void base58EncodeIntoCharArraySolana4jImplementation(final Blackhole bh)
+    {
+        bh.consume(Base58.encode(bytes, chars, 0));
+    }
+
+    @Benchmark
+    public void base58EncodeBufferIntoBuilderSolana4jImplementation(final Blackhole bh)
+    {
+        builder.setLength(0);
+        Base58.encode(buffer, builder);
+        bh.consume(builder);
     }
 
     @Benchmark
     public void base58DecodeBitcoinjImplementation(final Blackhole bh)
     {
-        bh.consume(org.bitcoinj.core.Base58.decode(BASE58_STRING));
+        bh.consume(org.bitcoinj.core.Base58.decode(base58));
     }
 
     @Benchmark
     public void base58EncodeBitcoinjImplementation(final Blackhole bh)
     {
-        bh.consume(org.bitcoinj.core.Base58.encode(BYTES));
+        bh.consume(org.bitcoinj.core.Base58.encode(bytes));
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,91 @@
+package com.lmax.solana4j.encoding;
+
+import com.lmax.solana4j.Solana;
+import com.lmax.solana4j.api.PublicKey;
+import org.bouncycastle.math.ec.rfc8032.Ed25519;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.nio.ByteBuffer;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Signatures per second on one core for a transaction of typical size, through each engine of the signer, from heap and
+ * direct buffers, against BouncyCastle's signing as the test support signer calls it, which derives the public key again for
+ * every signature.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@Threads(1)
+@State(Scope.Thread)
+public class Ed25519SignerBenchmark
+{
+    private static final int TRANSACTION_LENGTH = 250;
+
+    @Param({"heap", "direct"})
+    private String buffers;
+
+    private byte[] secretKey;
+    private byte[] transactionBytes;
+    private ByteBuffer transaction;
+    private ByteBuffer signature;
+    private SolanaEd25519Signer jdk;
+    private SolanaEd25519Signer bouncyCastle;
+
+    @Setup
+    public void setUp()
+    {
+        final Random random = new Random(16);
+        secretKey = new byte[32];
+        random.nextBytes(secretKey);
+        final byte[] publicKey = new byte[32];
+        Ed25519.generatePublicKey(secretKey, 0, publicKey, 0);
+        final PublicKey account = Solana.account(publicKey);
+
+        transactionBytes = new byte[TRANSACTION_LENGTH];
+        random.nextBytes(transactionBytes);
+        final boolean direct = "direct".equals(buffers);
+        transaction = (direct ? ByteBuffer.allocateDirect(TRANSACTION_LENGTH) : ByteBuffer.allocate(TRANSACTION_LENGTH)).put(transactionBytes).flip();
+        signature = direct ? ByteBuffer.allocateDirect(64) : ByteBuffer.allocate(64);
+
+        jdk = new SolanaEd25519Signer((SolanaAccount) account, SolanaEd25519Signer.Jdk.create(secretKey, account));
+        bouncyCastle = new SolanaEd25519Signer((SolanaAccount) account, SolanaEd25519Signer.BouncyCastle.create(secretKey, account));
+    }
+
+    @Benchmark
+    public void signWithJdk(final Blackhole bh)
+    {
+        jdk.sign(transaction, signature);
+        bh.consume(signature);
+    }
+
+    @Benchmark
+    public void signWithBouncyCastle(final Blackhole bh)
+    {
+        bouncyCastle.sign(transaction, signature);
+        bh.consume(signature);
+    }
+
+    @Benchmark
+    public void signWithBouncyCastleDerivingPublicKey(final Blackhole bh)
+    {
+        final byte[] output = new byte[64];
+        Ed25519.sign(secretKey, 0, transactionBytes, 0, TRANSACTION_LENGTH, output, 0);
+        bh.consume(output);
+    }
+}
@@ -49,6 +49,18 @@ public class EddsaPointOnCurveBenchmark
         bh.consume(Ed25519.isOnCurve(POINT_NOT_ON_CURVE));
     }
 
+    @Benchmark
+    public void pointOnCurveBigIntegerImplementation(final Blackhole bh)
+    {
+        bh.consume(BigIntegerEd25519.isOnCurve(POINT_ON_CURVE));
+    }
+
+    @Benchmark
+    public void pointNotOnCurveBigIntegerImplementation(final Blackhole bh)
+    {
+        bh.consume(BigIntegerEd25519.isOnCurve(POINT_NOT_ON_CURVE));
+    }
+
     @Benchmark
     public void pointOnCurveEddsaImplementation(final Blackhole bh)
     {
@@ -0,0 +1,135 @@
+package com.lmax.solana4j.encoding;
+
+import com.lmax.solana4j.Solana;
+import com.lmax.solana4j.api.AddressLookupTable;
+import com.lmax.solana4j.api.PublicKey;
+import com.lmax.solana4j.api.TransactionBuilder;
+import com.lmax.solana4j.api.TransactionInstruction;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * Seals a V0 message of 64 accounts, half of them in an address lookup table, referenced by 20 instructions.
+ * The reference benchmarks isolate resolving each instruction's accounts, by the index built when the accounts are
+ * created and by scanning the flattened account list as the message writers used to.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@Threads(1)
+@State(Scope.Thread)
+public class MessageSealingBenchmark
+{
+    private static final int ACCOUNT_COUNT = 64;
+    private static final int INSTRUCTION_COUNT = 20;
+    private static final int ACCOUNTS_PER_INSTRUCTION = 12;
+
+    private final ByteBuffer buffer = ByteBuffer.allocate(Solana.MAX_MESSAGE_SIZE * 2);
+
+    private PublicKey payer;
+    private SolanaBlockhash blockhash;
+    private List<AddressLookupTable> lookupTables;
+    private List<TransactionInstruction> instructions;
+    private Consumer<TransactionBuilder> appendInstructions;
+    private SolanaAccounts accounts;
+
+    @Setup
+    public void setUp()
+    {
+        final Random random = new Random(64);
+        final List<SolanaAccount> keys = new ArrayList<>();
+        for (int i = 0; i < ACCOUNT_COUNT + 1; i++)
+        {
+            final byte[] bytes = new byte[32];
+            random.nextBytes(bytes);
+            keys.add(new SolanaAccount(bytes));
+        }
+
+        payer = keys.get(0);
+        final byte[] blockhashBytes = new byte[32];
+        random.nextBytes(blockhashBytes);
+        blockhash = new SolanaBlockhash(blockhashBytes);
+        lookupTables = List.of(new SolanaAddressLookupTable(keys.get(ACCOUNT_COUNT), new ArrayList<>(keys.subList(ACCOUNT_COUNT / 2, ACCOUNT_COUNT))));
+
+        instructions = new ArrayList<>();
+        for (int i = 0; i < INSTRUCTION_COUNT; i++)
+        {
+            final List<SolanaAccountReference> references = new ArrayList<>();
+            for (int j = 0; j < ACCOUNTS_PER_INSTRUCTION; j++)
+            {
+                final int index = 5 + (i * 7 + j * 5) % (ACCOUNT_COUNT - 5);
+                final boolean signer = index < 8;
+                references.add(new SolanaAccountReference(keys.get(index), signer, j % 2 == 0, false));
+            }
+            instructions.add(new SolanaTransactionInstruction(references, keys.get(1 + i % 4), 8, bb -> bb.putLong(42L)));
+        }
+        appendInstructions = tb -> instructions.forEach(tb::append);
+        accounts = SolanaAccounts.create(instructions, payer, lookupTables);
+    }
+
+    @Benchmark
+    public void sealV0Message(final Blackhole bh)
+    {
+        buffer.clear();
+        Solana.builder(buffer)
+                .v0()
+                .payer(payer)
+                .recent(blockhash)
+                .instructions(appendInstructions)
+                .lookups(lookupTables)
+                .seal();
+        bh.consume(buffer);
+    }
+
+    @Benchmark
+    public void createAccounts(final Blackhole bh)
+    {
+        bh.consume(SolanaAccounts.create(instructions, payer, lookupTables));
+    }
+
+    @Benchmark
+    public void resolveReferencesByIndex(final Blackhole bh)
+    {
+        for (final TransactionInstruction instruction : instructions)
+        {
+            bh.consume(accounts.indexOfAccount(instruction.program()));
+            for (final TransactionInstruction.AccountReference reference : instruction.accountReferences())
+            {
+                bh.consume(accounts.indexOfAccount(reference.account()));
+            }
+        }
+    }
+
+    @Benchmark
+    public void resolveReferencesByListScan(final Blackhole bh)
+    {
+        final List<PublicKey> flattenedAccounts = new ArrayList<>(accounts.getFlattenedAccountList());
+        for (final TransactionInstruction instruction : instructions)
+        {
+            bh.consume(flattenedAccounts.indexOf(instruction.program()));
+            for (final TransactionInstruction.AccountReference reference : instruction.accountReferences())
+            {
+                bh.consume(flattenedAccounts.indexOf(reference.account()));
+            }
+        }
+    }
+}
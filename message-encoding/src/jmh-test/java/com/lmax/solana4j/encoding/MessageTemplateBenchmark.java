@@ -0,0 +1,103 @@
+package com.lmax.solana4j.encoding;
+
+import com.lmax.solana4j.Solana;
+import com.lmax.solana4j.api.Blockhash;
+import com.lmax.solana4j.api.MessageTemplate;
+import com.lmax.solana4j.api.PublicKey;
+import com.lmax.solana4j.programs.ComputeBudgetProgram;
+import com.lmax.solana4j.programs.SystemProgram;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.nio.ByteBuffer;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Produces a compute budget and transfer message for a new blockhash, destination and amount, by sealing it from scratch
+ * and by patching a template sealed once.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@Threads(1)
+@State(Scope.Thread)
+public class MessageTemplateBenchmark
+{
+    private static final int TRANSFER = 2;
+    private static final int LAMPORTS_OFFSET = 4;
+
+    private final ByteBuffer buffer = ByteBuffer.allocate(Solana.MAX_MESSAGE_SIZE);
+
+    private PublicKey payer;
+    private PublicKey destination;
+    private Blockhash blockhash;
+    private MessageTemplate template;
+    private int destinationIndex;
+    private long lamports;
+
+    @Setup
+    public void setUp()
+    {
+        final Random random = new Random(15);
+        payer = Solana.account(randomBytes(random));
+        destination = Solana.account(randomBytes(random));
+        blockhash = Solana.blockhash(randomBytes(random));
+
+        final ByteBuffer templateBuffer = ByteBuffer.allocate(Solana.MAX_MESSAGE_SIZE);
+        seal(templateBuffer);
+        template = Solana.template(templateBuffer);
+        destinationIndex = template.indexOfAccount(destination);
+    }
+
+    @Benchmark
+    public void sealFromScratch(final Blackhole bh)
+    {
+        lamports++;
+        buffer.clear();
+        seal(buffer);
+        bh.consume(buffer);
+    }
+
+    @Benchmark
+    public void patchTemplate(final Blackhole bh)
+    {
+        lamports++;
+        bh.consume(template
+                .blockhash(blockhash)
+                .account(destinationIndex, destination)
+                .putLong(TRANSFER, LAMPORTS_OFFSET, lamports));
+    }
+
+    private void seal(final ByteBuffer target)
+    {
+        Solana.builder(target)
+                .legacy()
+                .payer(payer)
+                .recent(blockhash)
+                .instructions(tb -> ComputeBudgetProgram.factory(tb)
+                        .setComputeUnitLimit(300)
+                        .setComputeUnitPrice(1_000L))
+                .instructions(tb -> SystemProgram.factory(tb).transfer(payer, destination, lamports))
+                .seal();
+    }
+
+    private static byte[] randomBytes(final Random random)
+    {
+        final byte[] bytes = new byte[32];
+        random.nextBytes(bytes);
+        return bytes;
+    }
+}
@@ -0,0 +1,115 @@
+package com.lmax.solana4j.encoding;
+
+import com.lmax.solana4j.Solana;
+import com.lmax.solana4j.api.Blockhash;
+import com.lmax.solana4j.api.MessageVisitor;
+import com.lmax.solana4j.api.PublicKey;
+import com.lmax.solana4j.programs.ComputeBudgetProgram;
+import com.lmax.solana4j.programs.SystemProgram;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.nio.ByteBuffer;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Reads a sealed compute budget and transfer message through {@link MessageVisitor}, taking only the fee payer, only the
+ * first signature, or every account index of every instruction, and finds its transaction id through the view and through
+ * {@link Solana#transactionId(ByteBuffer)}.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@Threads(1)
+@State(Scope.Thread)
+public class MessageViewBenchmark
+{
+    private static final MessageVisitor<PublicKey> FEE_PAYER = MessageVisitor.MessageView::feePayer;
+    private static final MessageVisitor<ByteBuffer> FIRST_SIGNATURE = message -> message.signature(message.feePayer());
+    private static final MessageVisitor<String> TRANSACTION_ID = message -> SolanaEncoding.encodeBase58(message.signature(message.feePayer()));
+    private static final MessageVisitor<Integer> ACCOUNT_INDEXES = message ->
+    {
+        int sum = 0;
+        for (final MessageVisitor.InstructionView instruction : ((MessageVisitor.LegacyMessageView) message).instructions())
+        {
+            for (int i = 0; i < instruction.countAccountIndexes(); i++)
+            {
+                sum += instruction.accountIndex(i);
+            }
+        }
+        return sum;
+    };
+
+    private final ByteBuffer buffer = ByteBuffer.allocate(Solana.MAX_MESSAGE_SIZE);
+
+    @Setup
+    public void setUp()
+    {
+        final Random random = new Random(19);
+        final PublicKey payer = Solana.account(randomBytes(random));
+        final PublicKey destination = Solana.account(randomBytes(random));
+        final Blockhash blockhash = Solana.blockhash(randomBytes(random));
+
+        Solana.builder(buffer)
+                .legacy()
+                .payer(payer)
+                .recent(blockhash)
+                .instructions(tb -> ComputeBudgetProgram.factory(tb)
+                        .setComputeUnitLimit(300)
+                        .setComputeUnitPrice(1_000L))
+                .instructions(tb -> SystemProgram.factory(tb).transfer(payer, destination, 1_000L))
+                .seal()
+                .unsigned()
+                .build();
+    }
+
+    @Benchmark
+    public void readFeePayer(final Blackhole bh)
+    {
+        bh.consume(Solana.read(buffer).accept(FEE_PAYER));
+    }
+
+    @Benchmark
+    public void readFirstSignature(final Blackhole bh)
+    {
+        bh.consume(Solana.read(buffer).accept(FIRST_SIGNATURE));
+    }
+
+    @Benchmark
+    public void transactionIdThroughView(final Blackhole bh)
+    {
+        bh.consume(Solana.read(buffer).accept(TRANSACTION_ID));
+    }
+
+    @Benchmark
+    public void transactionId(final Blackhole bh)
+    {
+        bh.consume(Solana.transactionId(buffer));
+    }
+
+    @Benchmark
+    public void readAccountIndexes(final Blackhole bh)
+    {
+        bh.consume(Solana.read(buffer).accept(ACCOUNT_INDEXES));
+    }
+
+    private static byte[] randomBytes(final Random random)
+    {
+        final byte[] bytes = new byte[32];
+        random.nextBytes(bytes);
+        return bytes;
+    }
+}
@@ -0,0 +1,75 @@
+package com.lmax.solana4j.encoding;
+
+import com.lmax.solana4j.api.ProgramDerivedAddressDeriver;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@Threads(1)
+@State(Scope.Thread)
+public class ProgramDerivedAddressBenchmark
+{
+    private final ProgramDerivedAddressDeriver deriver = SolanaEncoding.programDerivedAddressDeriver();
+    private final ByteBuffer address = ByteBuffer.allocate(32);
+
+    private SolanaAccount program;
+    private List<byte[]> seeds;
+    private int bump;
+
+    @Setup
+    public void setUp()
+    {
+        program = new SolanaAccount(Base58.decode("FTCuVnzaBZQXGz7D5mweRnWgY4fbS8rg42SD6envtoUD"));
+        seeds = List.of(
+                "aString".getBytes(StandardCharsets.UTF_8),
+                "anotherString".getBytes(StandardCharsets.UTF_8),
+                Base58.decode("Wd4UqPtgrnYAH6pxMrzr6aNv4CmTFgwDfPQi9BYjPt7"));
+        bump = deriver.findProgramAddress(seeds, program).nonce();
+    }
+
+    @Benchmark
+    public void findProgramAddress(final Blackhole bh)
+    {
+        bh.consume(deriver.findProgramAddress(seeds, program));
+    }
+
+    @Benchmark
+    public void findProgramAddressIntoBuffer(final Blackhole bh)
+    {
+        address.clear();
+        bh.consume(deriver.findProgramAddress(seeds, program, address));
+    }
+
+    @Benchmark
+    public void createProgramAddressWithKnownBump(final Blackhole bh)
+    {
+        address.clear();
+        deriver.createProgramAddress(seeds, bump, program, address);
+        bh.consume(address);
+    }
+
+    @Benchmark
+    public void deriveProgramAddressOriginalEntryPoint(final Blackhole bh)
+    {
+        bh.consume(SolanaProgramDerivedAddress.deriveProgramAddress(seeds, program));
+    }
+}
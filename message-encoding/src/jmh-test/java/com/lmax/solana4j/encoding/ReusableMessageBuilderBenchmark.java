@@ -0,0 +1,96 @@
+package com.lmax.solana4j.encoding;
+
+import com.lmax.solana4j.Solana;
+import com.lmax.solana4j.api.InstructionBuilderBase;
+import com.lmax.solana4j.api.MessageBuilder;
+import com.lmax.solana4j.api.PublicKey;
+import com.lmax.solana4j.api.TransactionBuilder;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.nio.ByteBuffer;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * Seals the same legacy transfer again and again, with a new builder for each message and with one reusable builder.
+ * Run with {@code -prof gc} to compare the allocation rate of the two.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@Threads(1)
+@State(Scope.Thread)
+public class ReusableMessageBuilderBenchmark
+{
+    private final ByteBuffer buffer = ByteBuffer.allocate(Solana.MAX_MESSAGE_SIZE);
+    private final MessageBuilder reusableBuilder = Solana.reusableBuilder(buffer);
+
+    private PublicKey payer;
+    private SolanaBlockhash blockhash;
+    private Consumer<TransactionBuilder> appendInstructions;
+
+    @Setup
+    public void setUp()
+    {
+        final Random random = new Random(14);
+        final PublicKey from = randomAccount(random);
+        final PublicKey to = randomAccount(random);
+        final PublicKey systemProgram = new SolanaAccount(new byte[32]);
+        payer = from;
+        final byte[] blockhashBytes = new byte[32];
+        random.nextBytes(blockhashBytes);
+        blockhash = new SolanaBlockhash(blockhashBytes);
+
+        final Consumer<ByteBuffer> transferData = bb -> bb.putInt(2).putLong(1_000_000L);
+        final Consumer<InstructionBuilderBase> transfer = ib -> ib
+                .program(systemProgram)
+                .account(from, true, true)
+                .account(to, false, true)
+                .data(12, transferData);
+        appendInstructions = tb -> tb.append(transfer);
+    }
+
+    @Benchmark
+    public void sealWithNewBuilder(final Blackhole bh)
+    {
+        buffer.clear();
+        bh.consume(seal(Solana.builder(buffer)));
+    }
+
+    @Benchmark
+    public void sealWithReusableBuilder(final Blackhole bh)
+    {
+        buffer.clear();
+        bh.consume(seal(reusableBuilder));
+    }
+
+    private Object seal(final MessageBuilder builder)
+    {
+        return builder.legacy()
+                .payer(payer)
+                .recent(blockhash)
+                .instructions(appendInstructions)
+                .seal();
+    }
+
+    private static PublicKey randomAccount(final Random random)
+    {
+        final byte[] bytes = new byte[32];
+        random.nextBytes(bytes);
+        return new SolanaAccount(bytes);
+    }
+}
@@ -0,0 +1,105 @@
+package com.lmax.solana4j.encoding;
+
+import com.lmax.solana4j.Solana;
+import com.lmax.solana4j.api.AccountSigner;
+import com.lmax.solana4j.api.PublicKey;
+import com.lmax.solana4j.programs.ComputeBudgetProgram;
+import com.lmax.solana4j.programs.SystemProgram;
+import org.bouncycastle.math.ec.rfc8032.Ed25519;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Messages verified per second on one core, for compute budget and transfer messages all paid for by the same account, one
+ * at a time through each engine of the verifier, and as a batch, which decodes the payer's public key once for all of them.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@Threads(1)
+@State(Scope.Thread)
+public class SignatureVerifierBenchmark
+{
+    private static final int MESSAGE_COUNT = 64;
+
+    @Param({"heap", "direct"})
+    private String buffers;
+
+    private final List<ByteBuffer> messages = new ArrayList<>();
+    private final SolanaSignatureVerifier jdk = new SolanaSignatureVerifier(new SolanaSignatureVerifier.Jdk());
+    private final SolanaSignatureVerifier bouncyCastle = new SolanaSignatureVerifier(new SolanaSignatureVerifier.BouncyCastle());
+    private int next;
+
+    @Setup
+    public void setUp()
+    {
+        final byte[] secretKey = new byte[32];
+        secretKey[0] = 18;
+        final byte[] publicKey = new byte[32];
+        Ed25519.generatePublicKey(secretKey, 0, publicKey, 0);
+        final PublicKey payer = Solana.account(publicKey);
+        final AccountSigner signer = Solana.signer(payer, secretKey);
+
+        for (int i = 0; i < MESSAGE_COUNT; i++)
+        {
+            final long lamports = 1_000L + i;
+            final ByteBuffer message = "direct".equals(buffers) ? ByteBuffer.allocateDirect(Solana.MAX_MESSAGE_SIZE) : ByteBuffer.allocate(Solana.MAX_MESSAGE_SIZE);
+            Solana.builder(message)
+                    .legacy()
+                    .payer(payer)
+                    .recent(Solana.blockhash(new byte[32]))
+                    .instructions(tb -> ComputeBudgetProgram.factory(tb)
+                            .setComputeUnitLimit(300)
+                            .setComputeUnitPrice(1_000L))
+                    .instructions(tb -> SystemProgram.factory(tb).transfer(payer, Solana.account(new byte[32]), lamports))
+                    .seal()
+                    .signed()
+                    .by(payer, signer)
+                    .build();
+            messages.add(message);
+        }
+    }
+
+    @Benchmark
+    public boolean verifyWithJdk()
+    {
+        return jdk.verify(nextMessage());
+    }
+
+    @Benchmark
+    public boolean verifyWithBouncyCastle()
+    {
+        return bouncyCastle.verify(nextMessage());
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(MESSAGE_COUNT)
+    public boolean[] verifyAllWithBouncyCastle()
+    {
+        return bouncyCastle.verifyAll(messages);
+    }
+
+    private ByteBuffer nextMessage()
+    {
+        next = (next + 1) % MESSAGE_COUNT;
+        return messages.get(next);
+    }
+}
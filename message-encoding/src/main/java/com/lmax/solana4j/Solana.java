@@ -1,13 +1,18 @@
 package com.lmax.solana4j;
 
+import com.lmax.solana4j.api.AccountSigner;
 import com.lmax.solana4j.api.AddressLookupTable;
 import com.lmax.solana4j.api.Blockhash;
 import com.lmax.solana4j.api.Destination;
 import com.lmax.solana4j.api.InstructionBuilderBase;
 import com.lmax.solana4j.api.Message;
 import com.lmax.solana4j.api.MessageBuilder;
+import com.lmax.solana4j.api.MessageTemplate;
 import com.lmax.solana4j.api.ProgramDerivedAddress;
+import com.lmax.solana4j.api.ProgramDerivedAddressCache;
+import com.lmax.solana4j.api.ProgramDerivedAddressDeriver;
 import com.lmax.solana4j.api.PublicKey;
+import com.lmax.solana4j.api.SignatureVerifier;
 import com.lmax.solana4j.api.SignedMessageBuilder;
 import com.lmax.solana4j.api.Slot;
 import com.lmax.solana4j.api.TransactionInstruction;
@@ -50,6 +55,23 @@ public final class Solana
         return SolanaEncoding.builder(buffer);
     }
 
+    /**
+     * Creates a message builder for the given buffer that can be used for message after message, recycling the
+     * instructions and account references of each message when the next one is started.
+     * <p>
+     * Each call to {@link MessageBuilder#legacy()} or {@link MessageBuilder#v0()} starts a new message; the caller remains
+     * responsible for clearing the buffer between messages. Instructions appended through the builder are only valid until
+     * the next message is started. The builder is not thread-safe.
+     * </p>
+     *
+     * @param buffer the {@link ByteBuffer} to use for building messages
+     * @return a new reusable instance of {@link MessageBuilder}
+     */
+    public static MessageBuilder reusableBuilder(final ByteBuffer buffer)
+    {
+        return SolanaEncoding.reusableBuilder(buffer);
+    }
+
     /**
      * Creates a new transaction instruction using the builder provided.
      *
@@ -72,6 +94,55 @@ public final class Solana
         return SolanaEncoding.forSigning(message);
     }
 
+    /**
+     * Creates a template over the sealed message in the given buffer, for patching the blockhash, accounts and instruction
+     * data of the message in place before signing it again.
+     * <p>
+     * The template shares its content with the buffer, from its position to its limit, as left by sealing the message.
+     * </p>
+     *
+     * @param message the {@link ByteBuffer} containing the sealed message
+     * @return a new instance of {@link MessageTemplate}
+     */
+    public static MessageTemplate template(final ByteBuffer message)
+    {
+        return SolanaEncoding.template(message);
+    }
+
+    /**
+     * Creates an Ed25519 signer for the given account, which signs from heap or direct buffers and may be shared between
+     * threads.
+     * <p>
+     * BouncyCastle is used if it is on the class path, otherwise the JDK's own, slower, EdDSA implementation (15 and
+     * later).
+     * </p>
+     *
+     * @param account   the {@link PublicKey} of the account
+     * @param secretKey the account's 32 byte secret key, or its 64 byte key pair of secret key followed by public key
+     * @return a new instance of {@link AccountSigner}
+     * @throws IllegalArgumentException if the secret key is malformed or does not belong to the account
+     * @throws IllegalStateException    if no Ed25519 implementation is available
+     */
+    public static AccountSigner signer(final PublicKey account, final byte[] secretKey)
+    {
+        return SolanaEncoding.signer(account, secretKey);
+    }
+
+    /**
+     * Creates a verifier of the Ed25519 signatures of sealed messages, which may be shared between threads.
+     * <p>
+     * BouncyCastle is used if it is on the class path, otherwise the JDK's own, slower, EdDSA implementation (15 and
+     * later).
+     * </p>
+     *
+     * @return a new instance of {@link SignatureVerifier}
+     * @throws IllegalStateException if no Ed25519 implementation is available
+     */
+    public static SignatureVerifier verifier()
+    {
+        return SolanaEncoding.verifier();
+    }
+
     /**
      * Reads a message from the given buffer.
      *
@@ -83,6 +154,36 @@ public final class Solana
         return SolanaEncoding.read(message);
     }
 
+    /**
+     * Returns the id of the sealed message between the buffer's position and limit: the Base58 encoding of its first
+     * signature, which is the fee payer's. Only the signature count and the first signature are read, and the buffer's
+     * position is not changed.
+     * <p>
+     * An unsigned message has an id of all '1's, so the id is only meaningful once the fee payer has signed.
+     * </p>
+     *
+     * @param message the {@link ByteBuffer} containing the message
+     * @return the transaction id
+     * @throws IllegalArgumentException if the message has no signatures or is too short to hold the first of them
+     */
+    public static String transactionId(final ByteBuffer message)
+    {
+        return SolanaEncoding.transactionId(message);
+    }
+
+    /**
+     * Returns the id of the sealed message held in the whole of the given array: the Base58 encoding of its first
+     * signature, which is the fee payer's. Only the signature count and the first signature are read.
+     *
+     * @param message the byte array containing the message
+     * @return the transaction id
+     * @throws IllegalArgumentException if the message has no signatures or is too short to hold the first of them
+     */
+    public static String transactionId(final byte[] message)
+    {
+        return SolanaEncoding.transactionId(message);
+    }
+
     /**
      * Creates a new public key from the given byte array.
      *
@@ -105,6 +206,18 @@ public final class Solana
         return SolanaEncoding.account(accountBase58);
     }
 
+    /**
+     * Reads a public key from the buffer's position without copying it into an intermediate array.
+     *
+     * @param buffer the buffer to read the 32 bytes of the public key from, advancing its position
+     * @return a new instance of {@link PublicKey}
+     * @throws java.nio.BufferUnderflowException if fewer than 32 bytes remain in the buffer
+     */
+    public static PublicKey account(final ByteBuffer buffer)
+    {
+        return SolanaEncoding.account(buffer);
+    }
+
     /**
      * Creates an address lookup table for the given lookup table address and list of addresses.
      *
@@ -129,6 +242,29 @@ public final class Solana
         return SolanaEncoding.deriveProgramAddress(seeds, programId);
     }
 
+    /**
+     * Returns a deriver of program addresses that reuses its digest and hash buffer between derivations,
+     * can write the derived address into a caller-supplied buffer, and can derive directly from a known bump seed.
+     *
+     * @return the shared, thread-safe {@link ProgramDerivedAddressDeriver}
+     */
+    public static ProgramDerivedAddressDeriver programDerivedAddressDeriver()
+    {
+        return SolanaEncoding.programDerivedAddressDeriver();
+    }
+
+    /**
+     * Creates a bounded, thread-safe cache of found program derived addresses, evicting the least recently used
+     * address once it holds {@code maximumSize} of them.
+     *
+     * @param maximumSize the maximum number of addresses to hold
+     * @return a new {@link ProgramDerivedAddressCache}
+     */
+    public static ProgramDerivedAddressCache programDerivedAddressCache(final int maximumSize)
+    {
+        return SolanaEncoding.programDerivedAddressCache(maximumSize);
+    }
+
     /**
      * Creates a new Blockhash from the given byte array.
      *
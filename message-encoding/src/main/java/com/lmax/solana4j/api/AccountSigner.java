@@ -0,0 +1,39 @@
+package com.lmax.solana4j.api;
+
+import java.nio.ByteBuffer;
+import java.util.List;
+
+/**
+ * Interface for a {@link ByteBufferSigner} that holds the secret key of one account.
+ * <p>
+ * Implementations sign from heap or direct buffers alike and are safe for use by many threads at once.
+ * </p>
+ */
+public interface AccountSigner extends ByteBufferSigner
+{
+
+    /**
+     * Returns the account whose signatures this signer produces.
+     *
+     * @return the {@link PublicKey} of the account
+     */
+    PublicKey account();
+
+    /**
+     * Signs the transaction between the position and limit of {@code transaction}, writing the 64 byte signature at the
+     * position of {@code signature}. Neither buffer's position is moved.
+     *
+     * @param transaction the bytes to sign
+     * @param signature   the buffer to write the signature into
+     */
+    @Override
+    void sign(ByteBuffer transaction, ByteBuffer signature);
+
+    /**
+     * Signs each of the sealed messages, writing this account's signature into its slot in each message, in place.
+     *
+     * @param messages buffers each holding a sealed message between their position and limit
+     * @throws IllegalArgumentException if the account is not one of the signers of a message
+     */
+    void signAll(List<ByteBuffer> messages);
+}
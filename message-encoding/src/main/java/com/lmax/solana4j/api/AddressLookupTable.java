@@ -21,4 +21,19 @@ public interface AddressLookupTable
      * @return a list of {@link PublicKey} objects representing the address lookups
      */
     List<PublicKey> getAddresses();
+
+    /**
+     * Returns the index of the given address in the lookup table, the position it is referenced by from a V0 message.
+     * <p>
+     * The default implementation scans {@link #getAddresses()}; implementations are encouraged to index their addresses
+     * instead, as this is called for every account of every message compiled against the table.
+     * </p>
+     *
+     * @param address the {@link PublicKey} to find
+     * @return the index of the first occurrence of the address in the lookup table, or -1 if it is not present
+     */
+    default int indexOf(final PublicKey address)
+    {
+        return getAddresses().indexOf(address);
+    }
 }
@@ -0,0 +1,26 @@
+package com.lmax.solana4j.api;
+
+import java.nio.ByteBuffer;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Interface representing an entity that signs transactions represented as {@link ByteBuffer} asynchronously, such as a
+ * remote signing service.
+ */
+public interface AsyncByteBufferSigner
+{
+
+    /**
+     * Starts signing the given transaction, returning a future that completes once the signature has been written to the
+     * provided buffer.
+     * <p>
+     * The signature buffer holds exactly the 64 bytes of this signer's slot in the message, and no other signer is given
+     * a view of them, so it may be written from any thread. Neither buffer may be used once the future has completed.
+     * </p>
+     *
+     * @param transaction the {@link ByteBuffer} containing the transaction to be signed
+     * @param signature   the {@link ByteBuffer} where the generated signature will be written
+     * @return a {@link CompletableFuture} that completes when the signature is written, or exceptionally if signing failed
+     */
+    CompletableFuture<Void> sign(ByteBuffer transaction, ByteBuffer signature);
+}
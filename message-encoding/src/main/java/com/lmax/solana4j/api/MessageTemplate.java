@@ -0,0 +1,145 @@
+package com.lmax.solana4j.api;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Interface for patching a sealed message in place, for transactions that are sent again and again with the same shape.
+ * <p>
+ * A template records the byte offsets of the signatures, static accounts, recent blockhash and instruction data of a
+ * message once, so that only the fields that differ between transactions need to be written before the message is signed
+ * again. Every change to the message invalidates any signatures already in it. Patching never changes the length or the
+ * layout of the message; a template is not safe for use by more than one thread at a time.
+ * </p>
+ */
+public interface MessageTemplate
+{
+
+    /**
+     * Returns a view of the whole message, signatures included, sharing its content with the template.
+     *
+     * @return a {@link ByteBuffer} positioned at the start of the message and limited to its end
+     */
+    ByteBuffer buffer();
+
+    /**
+     * Returns the number of signatures in the message.
+     *
+     * @return the number of signatures
+     */
+    int signatureCount();
+
+    /**
+     * Returns the number of static accounts in the message, which excludes accounts loaded from address lookup tables.
+     *
+     * @return the number of static accounts
+     */
+    int accountCount();
+
+    /**
+     * Returns the number of instructions in the message.
+     *
+     * @return the number of instructions
+     */
+    int instructionCount();
+
+    /**
+     * Returns the index of the given account amongst the static accounts of the message.
+     *
+     * @param account the {@link PublicKey} to look for
+     * @return the index of the account, or -1 if it is not a static account of the message
+     */
+    int indexOfAccount(PublicKey account);
+
+    /**
+     * Returns the offset, from the start of the message, of the signature at the given index.
+     *
+     * @param index the index of the signature
+     * @return the offset of the signature
+     */
+    int signatureOffset(int index);
+
+    /**
+     * Returns the offset, from the start of the message, of the static account at the given index.
+     *
+     * @param index the index of the account
+     * @return the offset of the account
+     */
+    int accountOffset(int index);
+
+    /**
+     * Returns the offset, from the start of the message, of the recent blockhash.
+     *
+     * @return the offset of the blockhash
+     */
+    int blockhashOffset();
+
+    /**
+     * Returns the offset, from the start of the message, of the data of the instruction at the given index.
+     *
+     * @param instruction the index of the instruction
+     * @return the offset of the instruction data
+     */
+    int dataOffset(int instruction);
+
+    /**
+     * Returns the length of the data of the instruction at the given index.
+     *
+     * @param instruction the index of the instruction
+     * @return the length of the instruction data
+     */
+    int dataLength(int instruction);
+
+    /**
+     * Overwrites the recent blockhash of the message.
+     *
+     * @param blockhash the new {@link Blockhash}
+     * @return this {@code MessageTemplate} instance for method chaining
+     */
+    MessageTemplate blockhash(Blockhash blockhash);
+
+    /**
+     * Overwrites the static account at the given index, keeping its signing and writable permissions.
+     *
+     * @param index   the index of the account
+     * @param account the new {@link PublicKey}
+     * @return this {@code MessageTemplate} instance for method chaining
+     */
+    MessageTemplate account(int index, PublicKey account);
+
+    /**
+     * Overwrites eight bytes of the data of an instruction with a little-endian long, as Solana programs expect.
+     *
+     * @param instruction the index of the instruction
+     * @param offset      the offset within the instruction data
+     * @param value       the value to write
+     * @return this {@code MessageTemplate} instance for method chaining
+     */
+    MessageTemplate putLong(int instruction, int offset, long value);
+
+    /**
+     * Overwrites four bytes of the data of an instruction with a little-endian int, as Solana programs expect.
+     *
+     * @param instruction the index of the instruction
+     * @param offset      the offset within the instruction data
+     * @param value       the value to write
+     * @return this {@code MessageTemplate} instance for method chaining
+     */
+    MessageTemplate putInt(int instruction, int offset, int value);
+
+    /**
+     * Overwrites one byte of the data of an instruction.
+     *
+     * @param instruction the index of the instruction
+     * @param offset      the offset within the instruction data
+     * @param value       the value to write
+     * @return this {@code MessageTemplate} instance for method chaining
+     */
+    MessageTemplate put(int instruction, int offset, byte value);
+
+    /**
+     * Creates a builder that signs the message as it currently stands, as {@code Solana.forSigning} would.
+     *
+     * @return a {@link SignedMessageBuilder} over the message
+     */
+    SignedMessageBuilder signed();
+}
@@ -54,6 +54,27 @@ public interface MessageVisitor<T>
          */
         List<PublicKey> staticAccounts();
 
+        /**
+         * Returns the number of static accounts in the message, without building the list of them.
+         *
+         * @return the number of static accounts
+         */
+        default int countStaticAccounts()
+        {
+            return staticAccounts().size();
+        }
+
+        /**
+         * Returns the static account at the given index, decoding only that account.
+         *
+         * @param index the index of the account, from zero
+         * @return the {@link PublicKey} of the account
+         */
+        default PublicKey staticAccount(final int index)
+        {
+            return staticAccounts().get(index);
+        }
+
         /**
          * Returns a duplicate of the transaction data as a {@link ByteBuffer}.
          * <p>
@@ -210,6 +231,27 @@ public interface MessageVisitor<T>
          */
         List<Integer> accountIndexes();
 
+        /**
+         * Returns the number of account indexes for the instruction, without boxing them.
+         *
+         * @return the number of account indexes
+         */
+        default int countAccountIndexes()
+        {
+            return accountIndexes().size();
+        }
+
+        /**
+         * Returns the account index at the given position in the instruction, without boxing it.
+         *
+         * @param index the position of the account index, from zero
+         * @return the account index
+         */
+        default int accountIndex(final int index)
+        {
+            return accountIndexes().get(index);
+        }
+
         /**
          * Returns a duplicate of the instruction data as a {@link ByteBuffer}.
          * <p>
@@ -294,6 +336,27 @@ public interface MessageVisitor<T>
          */
         List<Integer> readWriteTableIndexes();
 
+        /**
+         * Returns the number of read-write table indexes, without boxing them.
+         *
+         * @return the number of read-write table indexes
+         */
+        default int countReadWriteTableIndexes()
+        {
+            return readWriteTableIndexes().size();
+        }
+
+        /**
+         * Returns the read-write table index at the given position, without boxing it.
+         *
+         * @param index the position of the table index, from zero
+         * @return the read-write table index
+         */
+        default int readWriteTableIndex(final int index)
+        {
+            return readWriteTableIndexes().get(index);
+        }
+
         /**
          * Returns the list of read-only table indexes.
          *
@@ -301,6 +364,27 @@ public interface MessageVisitor<T>
          */
         List<Integer> readOnlyTableIndexes();
 
+        /**
+         * Returns the number of read-only table indexes, without boxing them.
+         *
+         * @return the number of read-only table indexes
+         */
+        default int countReadOnlyTableIndexes()
+        {
+            return readOnlyTableIndexes().size();
+        }
+
+        /**
+         * Returns the read-only table index at the given position, without boxing it.
+         *
+         * @param index the position of the table index, from zero
+         * @return the read-only table index
+         */
+        default int readOnlyTableIndex(final int index)
+        {
+            return readOnlyTableIndexes().get(index);
+        }
+
         /**
          * Finds the address lookup table used in the message from a list of given address lookup tables.
          *
@@ -0,0 +1,45 @@
+package com.lmax.solana4j.api;
+
+/**
+ * A {@link ProgramDerivedAddressDeriver} that remembers the addresses it has found, so that finding the same
+ * seeds and program id again is a lookup rather than a search over bump seeds.
+ * <p>
+ * The cache is bounded, evicting the least recently used address once full, and is safe to share between threads.
+ * Creating an address from a known bump seed costs a single hash and is never cached.
+ * </p>
+ */
+public interface ProgramDerivedAddressCache extends ProgramDerivedAddressDeriver
+{
+    /**
+     * Returns the number of finds answered from the cache.
+     *
+     * @return the number of cache hits
+     */
+    long hits();
+
+    /**
+     * Returns the number of finds that had to search for an address.
+     *
+     * @return the number of cache misses
+     */
+    long misses();
+
+    /**
+     * Returns the number of addresses currently held.
+     *
+     * @return the current size of the cache
+     */
+    int size();
+
+    /**
+     * Returns the number of addresses the cache holds before it starts evicting.
+     *
+     * @return the maximum size of the cache
+     */
+    int maximumSize();
+
+    /**
+     * Removes all addresses from the cache, leaving the hit and miss counts as they are.
+     */
+    void clear();
+}
@@ -0,0 +1,55 @@
+package com.lmax.solana4j.api;
+
+import java.nio.ByteBuffer;
+import java.util.List;
+
+/**
+ * Interface for deriving program derived addresses without per-attempt allocation.
+ * <p>
+ * An address is the SHA-256 hash of the seeds, a single bump seed, the program id and the "ProgramDerivedAddress" marker,
+ * and is only valid if it does not lie on the Ed25519 curve. Implementations are safe to share between threads.
+ * </p>
+ */
+public interface ProgramDerivedAddressDeriver
+{
+    /**
+     * Finds the program derived address for the given seeds, trying bump seeds from 255 downwards until the address is off the curve.
+     *
+     * @param seeds     the list of byte arrays representing the seeds
+     * @param programId the public key of the program id
+     * @return the {@link ProgramDerivedAddress} with the first bump seed that produced a valid address
+     */
+    ProgramDerivedAddress findProgramAddress(List<byte[]> seeds, PublicKey programId);
+
+    /**
+     * Finds the program derived address for the given seeds, writing its 32 bytes into the given buffer.
+     *
+     * @param seeds     the list of byte arrays representing the seeds
+     * @param programId the public key of the program id
+     * @param address   the {@link ByteBuffer} to write the address to, advancing its position by 32 bytes
+     * @return the bump seed that produced a valid address
+     */
+    int findProgramAddress(List<byte[]> seeds, PublicKey programId, ByteBuffer address);
+
+    /**
+     * Creates the program derived address for seeds whose bump seed is already known, hashing only once.
+     *
+     * @param seeds     the list of byte arrays representing the seeds
+     * @param bump      the bump seed, as previously returned by {@link ProgramDerivedAddress#nonce()}
+     * @param programId the public key of the program id
+     * @return the {@link ProgramDerivedAddress} for the seeds and bump seed
+     * @throws IllegalArgumentException if the seeds and bump seed produce an address on the curve
+     */
+    ProgramDerivedAddress createProgramAddress(List<byte[]> seeds, int bump, PublicKey programId);
+
+    /**
+     * Creates the program derived address for seeds whose bump seed is already known, writing its 32 bytes into the given buffer.
+     *
+     * @param seeds     the list of byte arrays representing the seeds
+     * @param bump      the bump seed, as previously returned by {@link ProgramDerivedAddress#nonce()}
+     * @param programId the public key of the program id
+     * @param address   the {@link ByteBuffer} to write the address to, advancing its position by 32 bytes
+     * @throws IllegalArgumentException if the seeds and bump seed produce an address on the curve, in which case nothing is written
+     */
+    void createProgramAddress(List<byte[]> seeds, int bump, PublicKey programId, ByteBuffer address);
+}
@@ -0,0 +1,34 @@
+package com.lmax.solana4j.api;
+
+import java.nio.ByteBuffer;
+import java.util.List;
+
+/**
+ * Interface for verifying the Ed25519 signatures of sealed messages, such as those received already signed, before they
+ * are sent on.
+ * <p>
+ * Implementations read the message in place, without moving the buffer's position, and are safe for use by many threads
+ * at once.
+ * </p>
+ */
+public interface SignatureVerifier
+{
+
+    /**
+     * Verifies every signature of the sealed message between the position and limit of the buffer.
+     *
+     * @param message the buffer holding the sealed message
+     * @return true if each of the message's signatories has signed its transaction, false if any signature is missing or
+     *         invalid, or the message is malformed
+     */
+    boolean verify(ByteBuffer message);
+
+    /**
+     * Verifies every signature of each of the sealed messages, decoding the public key of an account that signs more than
+     * one of them only once.
+     *
+     * @param messages buffers each holding a sealed message between their position and limit
+     * @return for each message, in order, whether {@link #verify(ByteBuffer)} would return true for it
+     */
+    boolean[] verifyAll(List<ByteBuffer> messages);
+}
@@ -1,5 +1,7 @@
 package com.lmax.solana4j.api;
 
+import java.util.concurrent.CompletableFuture;
+
 /**
  * Interface for building signed messages.
  */
@@ -16,9 +18,51 @@ public interface SignedMessageBuilder
     SignedMessageBuilder by(PublicKey account, ByteBufferSigner signer);
 
     /**
-     * Builds and returns the signed message.
+     * Specifies an asynchronous signer for the message, which is started alongside the message's other asynchronous signers
+     * when the message is built.
+     * <p>
+     * The default implementation waits for the signer on the building thread, as if it were given to
+     * {@link #by(PublicKey, ByteBufferSigner)}.
+     * </p>
+     *
+     * @param account the {@link PublicKey} of the account signing the message
+     * @param signer  the {@link AsyncByteBufferSigner} that performs the signing
+     * @return this {@code SignedMessageBuilder} instance for method chaining
+     */
+    default SignedMessageBuilder byAsync(final PublicKey account, final AsyncByteBufferSigner signer)
+    {
+        return by(account, (transaction, signature) -> signer.sign(transaction, signature).join());
+    }
+
+    /**
+     * Builds and returns the signed message, waiting for any asynchronous signers to finish.
      *
      * @return the built {@link Message}
      */
     Message build();
+
+    /**
+     * Starts every asynchronous signer of the message at once, each writing into its own signature slot, then signs with the
+     * message's other signers on the calling thread.
+     * <p>
+     * The returned future completes exceptionally if any signer fails, but not before every
+     * asynchronous signer has finished with the message.
+     * </p>
+     * <p>
+     * The default implementation builds the message on the calling thread with {@link #build()}.
+     * </p>
+     *
+     * @return a {@link CompletableFuture} of the built {@link Message}, completing when every signature has been written
+     */
+    default CompletableFuture<Message> buildAsync()
+    {
+        try
+        {
+            return CompletableFuture.completedFuture(build());
+        }
+        catch (final RuntimeException e)
+        {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
 }
@@ -35,36 +35,32 @@ final class AccountLookups
 
         for (final AccountReference accountReference : accountReferences)
         {
+            final PublicKey account = accountReference.account();
+            if (accountReference.isSigner() || addressesFoundInLookupTables.contains(account))
+            {
+                continue;
+            }
+
             for (final AddressLookupTable addressLookupTable : addressLookupTables)
             {
-                if (addressesFoundInLookupTables.contains(accountReference.account()))
+                final int index = addressLookupTable.indexOf(account);
+                if (index != -1)
                 {
-                    break;
-                }
+                    addressesFoundInLookupTables.add(account);
 
-                final List<PublicKey> addresses = addressLookupTable.getAddresses();
-                for (int i = 0; i < addresses.size(); i++)
-                {
-                    final PublicKey addressInLookupTable = addresses.get(i);
-                    if (addressInLookupTable.equals(accountReference.account()) && !accountReference.isSigner())
-                    {
+                    final AccountLookupEntry accountLookupTableIndex = addressLookupTableEntrys.computeIfAbsent(
+                            addressLookupTable.getLookupTableAddress(),
+                            SolanaAccountLookupEntry::new);
 
-                        addressesFoundInLookupTables.add(addressInLookupTable);
-
-                        final AccountLookupEntry accountLookupTableIndex = addressLookupTableEntrys.computeIfAbsent(
-                                addressLookupTable.getLookupTableAddress(),
-                                SolanaAccountLookupEntry::new);
-
-                        if (accountReference.isWriter())
-                        {
-                            accountLookupTableIndex.addReadWriteEntry(accountReference.account(), i);
-                        }
-                        else
-                        {
-                            accountLookupTableIndex.addReadOnlyEntry(accountReference.account(), i);
-                        }
-                        break;
+                    if (accountReference.isWriter())
+                    {
+                        accountLookupTableIndex.addReadWriteEntry(account, index);
                     }
+                    else
+                    {
+                        accountLookupTableIndex.addReadOnlyEntry(account, index);
+                    }
+                    break;
                 }
             }
         }
@@ -1,6 +1,10 @@
 package com.lmax.solana4j.encoding;
 
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
 import java.util.Arrays;
+import java.util.Objects;
 
 /**
  * Utility class for encoding and decoding base58.
@@ -8,6 +12,12 @@ import java.util.Arrays;
  * Base58 is commonly used in cryptocurrency systems like Bitcoin to encode large numbers into a shorter, human-readable string format.
  * It avoids characters that can cause confusion, such as '0' (zero), 'O' (capital o), 'l' (lowercase L), and 'I' (capital I).
  * </p>
+ * <p>
+ * Rather than dividing the whole number by 58 one byte at a time, the conversion works on word-sized limbs: the binary side in
+ * 32-bit limbs and the base58 side in limbs of five base58 digits (58^5 fits in 30 bits), so each step moves 32 bits or five
+ * digits at once. Scratch space is held per thread and sized up front for 64-byte signatures, so the overloads writing into a
+ * caller-supplied destination do not allocate.
+ * </p>
  */
 final class Base58
 {
@@ -15,6 +25,18 @@ final class Base58
     private static final char ENCODED_ZERO = ALPHABET[0];
     private static final int[] INDEXES = new int[128];
 
+    private static final int DIGITS_PER_LIMB = 5;
+    private static final long[] POWERS_OF_58 = {1L, 58L, 58L * 58, 58L * 58 * 58, 58L * 58 * 58 * 58, 58L * 58 * 58 * 58 * 58};
+    private static final long BASE58_LIMB = POWERS_OF_58[DIGITS_PER_LIMB];
+    private static final long BINARY_LIMB_MASK = 0xFFFFFFFFL;
+
+    private static final int SIGNATURE_LENGTH = 64;
+    private static final int SIGNATURE_HALF_WORDS = SIGNATURE_LENGTH / 2;
+    // row i holds the base 58^5 limbs of 2^(16 * i), least significant first; each product of a limb and a half word is
+    // under 2^46, so a sum of all 32 rows cannot overflow a long
+    private static final int[][] POWERS_OF_2_16 = powersOf216(SIGNATURE_HALF_WORDS);
+    private static final ThreadLocal<Scratch> SCRATCH = ThreadLocal.withInitial(() -> new Scratch(SIGNATURE_LENGTH));
+
     static
     {
         Arrays.fill(INDEXES, -1);
@@ -28,6 +50,26 @@ final class Base58
     {
     }
 
+    private static int[][] powersOf216(final int count)
+    {
+        final int[][] powers = new int[count][];
+        int[] limbs = {1};
+        for (int i = 0; i < count; i++)
+        {
+            powers[i] = limbs;
+            final int[] next = Arrays.copyOf(limbs, limbs.length + 1);
+            long carry = 0;
+            for (int j = 0; j < next.length; j++)
+            {
+                final long value = ((long) next[j] << 16) + carry;
+                next[j] = (int) (value % BASE58_LIMB);
+                carry = value / BASE58_LIMB;
+            }
+            limbs = next[next.length - 1] == 0 ? Arrays.copyOf(next, next.length - 1) : next;
+        }
+        return powers;
+    }
+
     /**
      * Encodes the given byte array as a Base58 string.
      * <p>
@@ -45,37 +87,146 @@ final class Base58
             return "";
         }
 
-        int zeros = 0;
-        while (zeros < input.length && input[zeros] == 0)
+        final Scratch scratch = SCRATCH.get();
+        final int start = encode(scratch, input, 0, input.length);
+
+        return new String(scratch.chars, start, scratch.chars.length - start);
+    }
+
+    /**
+     * Encodes the remaining bytes of the given buffer as a Base58 string, without changing the buffer's position.
+     *
+     * @param input the bytes to encode
+     * @return the Base58-encoded string
+     */
+    static String encode(final ByteBuffer input)
+    {
+        if (!input.hasRemaining())
         {
-            ++zeros;
+            return "";
         }
 
-        final byte[] inputCopy = Arrays.copyOf(input, input.length);
+        final Scratch scratch = SCRATCH.get();
+        final int start = encode(scratch, input, input.position(), input.remaining());
+
+        return new String(scratch.chars, start, scratch.chars.length - start);
+    }
+
+    /**
+     * Encodes the remaining bytes of the given buffer as Base58, appending the characters to the given builder.
+     * The buffer's position is not changed.
+     *
+     * @param input  the bytes to encode
+     * @param output the builder to append the Base58 characters to
+     */
+    static void encode(final ByteBuffer input, final StringBuilder output)
+    {
+        if (input.hasRemaining())
+        {
+            final Scratch scratch = SCRATCH.get();
+            final int start = encode(scratch, input, input.position(), input.remaining());
 
-        char[] encoded = new char[inputCopy.length * 2];
-        int outputStart = encoded.length;
+            output.append(scratch.chars, start, scratch.chars.length - start);
+        }
+    }
 
-        for (int inputStart = zeros; inputStart < inputCopy.length; )
+    /**
+     * Encodes the given byte array as Base58 into the given character array.
+     *
+     * @param input  the bytes to encode
+     * @param output the array to write the Base58 characters into
+     * @param offset the index in {@code output} of the first character written
+     * @return the number of characters written
+     * @throws IndexOutOfBoundsException if {@code output} does not have room for the encoded characters, in which case nothing is written
+     */
+    static int encode(final byte[] input, final char[] output, final int offset)
+    {
+        if (input.length == 0)
         {
-            encoded[--outputStart] = ALPHABET[divmod(inputCopy, inputStart, 256, 58)];
-            if (inputCopy[inputStart] == 0)
-            {
-                ++inputStart;
-            }
+            return 0;
         }
 
-        while (outputStart < encoded.length && encoded[outputStart] == ENCODED_ZERO)
+        final Scratch scratch = SCRATCH.get();
+        final int start = encode(scratch, input, 0, input.length);
+        final int length = scratch.chars.length - start;
+        System.arraycopy(scratch.chars, start, output, offset, length);
+
+        return length;
+    }
+
+    /**
+     * Encodes the 64 byte signature starting at the given index of the buffer as a Base58 string, without changing the
+     * buffer's position.
+     * <p>
+     * The signature is read a 32-bit word at a time in the buffer's own byte order, and rather than dividing by 58^5 for
+     * every word, each half word is multiplied into the base 58^5 limbs through a table of the powers of 2^16, leaving a
+     * single pass of carries at the end.
+     * </p>
+     *
+     * @param input  the buffer holding the signature
+     * @param offset the index in {@code input} of the signature's first byte
+     * @return the Base58-encoded string
+     * @throws IndexOutOfBoundsException if the buffer's limit is less than 64 bytes after the offset
+     */
+    static String encodeSignature(final ByteBuffer input, final int offset)
+    {
+        final boolean bigEndian = input.order() == ByteOrder.BIG_ENDIAN;
+        final Scratch scratch = SCRATCH.get();
+        scratch.prepareForSignature();
+        for (int i = 0; i < SIGNATURE_LENGTH; i += 4)
+        {
+            final int word = input.getInt(offset + i);
+            scratch.addSignatureWord(i, bigEndian ? word : Integer.reverseBytes(word));
+        }
+        scratch.carrySignature();
+        int zeros = 0;
+        while (zeros < SIGNATURE_LENGTH && input.get(offset + zeros) == 0)
         {
-            ++outputStart;
+            ++zeros;
         }
+        final int start = scratch.writeEncoded(zeros);
 
-        while (--zeros >= 0)
+        return new String(scratch.chars, start, scratch.chars.length - start);
+    }
+
+    /**
+     * Encodes the 64 byte signature starting at the given index of the array as a Base58 string.
+     *
+     * @param input  the array holding the signature
+     * @param offset the index in {@code input} of the signature's first byte
+     * @return the Base58-encoded string
+     * @throws IndexOutOfBoundsException if the array has fewer than 64 bytes after the offset
+     */
+    static String encodeSignature(final byte[] input, final int offset)
+    {
+        Objects.checkFromIndexSize(offset, SIGNATURE_LENGTH, input.length);
+        final Scratch scratch = SCRATCH.get();
+        scratch.prepareForSignature();
+        for (int i = 0; i < SIGNATURE_LENGTH; i += 4)
+        {
+            final int at = offset + i;
+            scratch.addSignatureWord(i, input[at] << 24 | (input[at + 1] & 0xFF) << 16 | (input[at + 2] & 0xFF) << 8 | input[at + 3] & 0xFF);
+        }
+        scratch.carrySignature();
+        int zeros = 0;
+        while (zeros < SIGNATURE_LENGTH && input[offset + zeros] == 0)
         {
-            encoded[--outputStart] = ENCODED_ZERO;
+            ++zeros;
         }
+        final int start = scratch.writeEncoded(zeros);
+
+        return new String(scratch.chars, start, scratch.chars.length - start);
+    }
 
-        return new String(encoded, outputStart, encoded.length - outputStart);
+    /**
+     * The most characters that encoding the given number of bytes can produce, each byte being worth log(256)/log(58) characters.
+     *
+     * @param length the number of bytes to encode
+     * @return the upper bound on the number of Base58 characters
+     */
+    static int maxEncodedLength(final int length)
+    {
+        return (length * 1366 + 999) / 1000;
     }
 
     /**
@@ -88,61 +239,336 @@ final class Base58
      * @return the decoded byte array
      * @throws IllegalArgumentException if the input contains invalid Base58 characters
      */
-    static byte[] decode(final String input) throws IllegalArgumentException
+    static byte[] decode(final CharSequence input) throws IllegalArgumentException
     {
-        if (input.isEmpty())
+        if (input.length() == 0)
         {
             return new byte[0];
         }
 
-        byte[] input58 = new byte[input.length()];
-        for (int i = 0; i < input.length(); i++)
+        final Scratch scratch = SCRATCH.get();
+        final int zeros = decode(scratch, input);
+        final byte[] decoded = new byte[zeros + scratch.decodedLength()];
+        scratch.writeDecoded(decoded, zeros);
+
+        return decoded;
+    }
+
+    /**
+     * Decodes the given Base58 characters into the given buffer, starting at its position and advancing it past the decoded bytes.
+     *
+     * @param input  the Base58 characters to decode
+     * @param output the buffer to write the decoded bytes into
+     * @return the number of bytes written
+     * @throws IllegalArgumentException if the input contains invalid Base58 characters
+     * @throws BufferOverflowException  if {@code output} does not have room for the decoded bytes, in which case nothing is written
+     */
+    static int decode(final CharSequence input, final ByteBuffer output) throws IllegalArgumentException
+    {
+        if (input.length() == 0)
+        {
+            return 0;
+        }
+
+        final Scratch scratch = SCRATCH.get();
+        final int zeros = decode(scratch, input);
+        final int length = zeros + scratch.decodedLength();
+        if (output.remaining() < length)
         {
-            char c = input.charAt(i);
-            int digit = (c < 128) ? INDEXES[c] : -1;
-            if (digit < 0)
+            throw new BufferOverflowException();
+        }
+
+        for (int i = 0; i < zeros; i++)
+        {
+            output.put((byte) 0);
+        }
+        scratch.writeDecoded(output);
+
+        return length;
+    }
+
+    private static int encode(final Scratch scratch, final byte[] input, final int offset, final int length)
+    {
+        int zeros = 0;
+        while (zeros < length && input[offset + zeros] == 0)
+        {
+            ++zeros;
+        }
+
+        scratch.prepareForEncoding(length);
+        int limb = 0;
+        for (int i = zeros; i < length; i++)
+        {
+            limb = limb << 8 | input[offset + i] & 0xFF;
+            if ((length - i - 1) % 4 == 0)
             {
-                throw new IllegalArgumentException("Invalid character " + c + " at index " + i);
+                scratch.pushBinaryLimb(limb);
+                limb = 0;
             }
-            input58[i] = (byte) digit;
         }
 
+        return scratch.writeEncoded(zeros);
+    }
+
+    private static int encode(final Scratch scratch, final ByteBuffer input, final int offset, final int length)
+    {
         int zeros = 0;
-        while (zeros < input58.length && input58[zeros] == 0)
+        while (zeros < length && input.get(offset + zeros) == 0)
         {
             ++zeros;
         }
 
-        byte[] decoded = new byte[input.length()];
-        int outputStart = decoded.length;
-
-        for (int inputStart = zeros; inputStart < input58.length; )
+        scratch.prepareForEncoding(length);
+        int limb = 0;
+        for (int i = zeros; i < length; i++)
         {
-            decoded[--outputStart] = divmod(input58, inputStart, 58, 256);
-            if (input58[inputStart] == 0)
+            limb = limb << 8 | input.get(offset + i) & 0xFF;
+            if ((length - i - 1) % 4 == 0)
             {
-                ++inputStart;
+                scratch.pushBinaryLimb(limb);
+                limb = 0;
             }
         }
 
-        while (outputStart < decoded.length && decoded[outputStart] == 0)
+        return scratch.writeEncoded(zeros);
+    }
+
+    private static int decode(final Scratch scratch, final CharSequence input)
+    {
+        final int length = input.length();
+
+        int zeros = 0;
+        while (zeros < length && input.charAt(zeros) == ENCODED_ZERO)
+        {
+            ++zeros;
+        }
+
+        scratch.prepareForDecoding(length);
+        int limb = 0;
+        int digits = 0;
+        for (int i = zeros; i < length; i++)
         {
-            ++outputStart;
+            final char c = input.charAt(i);
+            final int digit = (c < 128) ? INDEXES[c] : -1;
+            if (digit < 0)
+            {
+                throw new IllegalArgumentException("Invalid character " + c + " at index " + i);
+            }
+
+            limb = limb * 58 + digit;
+            ++digits;
+            if ((length - i - 1) % DIGITS_PER_LIMB == 0)
+            {
+                scratch.pushBase58Limb(limb, digits);
+                limb = 0;
+                digits = 0;
+            }
         }
 
-        return Arrays.copyOfRange(decoded, outputStart - zeros, decoded.length);
+        return zeros;
     }
 
-    private static byte divmod(final byte[] number, final int firstDigit, final int base, final int divisor)
+    /**
+     * Per-thread working space. Limbs are held least significant first and {@code used} counts the non-zero ones,
+     * so each step only multiplies through the part of the number that has been built so far.
+     */
+    private static final class Scratch
     {
-        int remainder = 0;
-        for (int i = firstDigit; i < number.length; i++)
+        private int[] limbs;
+        private int used;
+        private char[] chars;
+        private final long[] wideLimbs = new long[base58LimbCount(SIGNATURE_LENGTH)];
+
+        Scratch(final int length)
+        {
+            this.limbs = new int[0];
+            this.chars = new char[0];
+            prepareForEncoding(length);
+            prepareForDecoding(maxEncodedLength(length));
+        }
+
+        void prepareForEncoding(final int length)
+        {
+            final int limbCount = base58LimbCount(length);
+            if (limbs.length < limbCount)
+            {
+                limbs = new int[limbCount];
+            }
+            // each limb is written as five characters, and every leading zero byte as one more
+            final int charCount = limbCount * DIGITS_PER_LIMB + length;
+            if (chars.length < charCount)
+            {
+                chars = new char[charCount];
+            }
+            used = 0;
+        }
+
+        void prepareForDecoding(final int length)
+        {
+            // 58^5 is less than 2^30, so five characters never need more than 30 bits
+            final int limbCount = (length * 30 / DIGITS_PER_LIMB + 31) / 32 + 1;
+            if (limbs.length < limbCount)
+            {
+                limbs = new int[limbCount];
+            }
+            used = 0;
+        }
+
+        void prepareForSignature()
+        {
+            prepareForEncoding(SIGNATURE_LENGTH);
+            Arrays.fill(wideLimbs, 0L);
+        }
+
+        /**
+         * Adds the given 32 bits, found at the given byte index of the signature, to the base 58^5 limbs without carrying.
+         */
+        void addSignatureWord(final int byteIndex, final int word)
+        {
+            final int halfWord = (SIGNATURE_LENGTH - 4 - byteIndex) / 2;
+            addSignatureHalfWord(POWERS_OF_2_16[halfWord], word & 0xFFFF);
+            addSignatureHalfWord(POWERS_OF_2_16[halfWord + 1], word >>> 16);
+        }
+
+        private void addSignatureHalfWord(final int[] power, final long halfWord)
+        {
+            if (halfWord != 0)
+            {
+                for (int j = 0; j < power.length; j++)
+                {
+                    wideLimbs[j] += halfWord * power[j];
+                }
+            }
+        }
+
+        /**
+         * Carries the signature's limbs into range, ready to be written by {@link #writeEncoded(int)}.
+         */
+        void carrySignature()
+        {
+            long carry = 0;
+            for (int j = 0; j < wideLimbs.length; j++)
+            {
+                final long value = wideLimbs[j] + carry;
+                limbs[j] = (int) (value % BASE58_LIMB);
+                carry = value / BASE58_LIMB;
+                if (limbs[j] != 0)
+                {
+                    used = j + 1;
+                }
+            }
+        }
+
+        /**
+         * Multiplies the base 58^5 number held in the limbs by 2^32 and adds the given 32 bits.
+         */
+        void pushBinaryLimb(final int binaryLimb)
+        {
+            long carry = binaryLimb & BINARY_LIMB_MASK;
+            for (int i = 0; i < used; i++)
+            {
+                final long value = (long) limbs[i] << 32 | carry;
+                limbs[i] = (int) (value % BASE58_LIMB);
+                carry = value / BASE58_LIMB;
+            }
+            while (carry != 0)
+            {
+                limbs[used++] = (int) (carry % BASE58_LIMB);
+                carry /= BASE58_LIMB;
+            }
+        }
+
+        /**
+         * Multiplies the base 2^32 number held in the limbs by 58^digits and adds the given value of those digits.
+         */
+        void pushBase58Limb(final int base58Limb, final int digits)
+        {
+            final long multiplier = POWERS_OF_58[digits];
+            long carry = base58Limb;
+            for (int i = 0; i < used; i++)
+            {
+                final long value = (limbs[i] & BINARY_LIMB_MASK) * multiplier + carry;
+                limbs[i] = (int) value;
+                carry = value >>> 32;
+            }
+            while (carry != 0)
+            {
+                limbs[used++] = (int) carry;
+                carry >>>= 32;
+            }
+        }
+
+        /**
+         * Writes the encoded number, preceded by a '1' for each leading zero byte, to the end of {@code chars}.
+         *
+         * @return the index of the first character
+         */
+        int writeEncoded(final int zeros)
+        {
+            int position = chars.length;
+            for (int i = 0; i < used; i++)
+            {
+                int limb = limbs[i];
+                for (int digit = 0; digit < DIGITS_PER_LIMB; digit++)
+                {
+                    chars[--position] = ALPHABET[limb % 58];
+                    limb /= 58;
+                }
+            }
+
+            // the most significant limb is padded out to five characters
+            while (position < chars.length && chars[position] == ENCODED_ZERO)
+            {
+                ++position;
+            }
+            for (int i = 0; i < zeros; i++)
+            {
+                chars[--position] = ENCODED_ZERO;
+            }
+
+            return position;
+        }
+
+        int decodedLength()
+        {
+            if (used == 0)
+            {
+                return 0;
+            }
+            return (used - 1) * 4 + (4 - Integer.numberOfLeadingZeros(limbs[used - 1]) / 8);
+        }
+
+        void writeDecoded(final byte[] output, final int offset)
+        {
+            int position = offset + decodedLength();
+            for (int i = 0; i < used; i++)
+            {
+                int limb = limbs[i];
+                for (int b = 0; b < 4 && position > offset; b++)
+                {
+                    output[--position] = (byte) limb;
+                    limb >>>= 8;
+                }
+            }
+        }
+
+        void writeDecoded(final ByteBuffer output)
+        {
+            for (int i = used - 1; i >= 0; i--)
+            {
+                final int limb = limbs[i];
+                final int bytes = i == used - 1 ? 4 - Integer.numberOfLeadingZeros(limb) / 8 : 4;
+                for (int b = bytes - 1; b >= 0; b--)
+                {
+                    output.put((byte) (limb >>> (b * 8)));
+                }
+            }
+        }
+
+        private static int base58LimbCount(final int length)
         {
-            int digit = (int) number[i] & 0xFF;
-            int temp = remainder * base + digit;
-            number[i] = (byte) (temp / divisor);
-            remainder = temp % divisor;
+            // a base 58^5 limb holds a little over 29 bits
+            return length * 8 / 29 + 1;
         }
-        return (byte) remainder;
     }
 }
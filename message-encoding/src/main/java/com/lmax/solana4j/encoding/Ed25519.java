@@ -1,6 +1,5 @@
 package com.lmax.solana4j.encoding;
 
-import java.math.BigInteger;
 import java.nio.ByteBuffer;
 
 /**
@@ -12,12 +11,22 @@ import java.nio.ByteBuffer;
  * </p>
  * The Ed25519 curve equation is:
  * dx^2y^2 + x^2 = y^2 - 1 (mod P), where d is a curve constant.
+ * <p>
+ * Field elements of GF(2^255 - 19) are held as ten signed limbs in radix 2^25.5, alternating 26 and 25 bits, so that
+ * every limb product fits in a long. Working space is held per thread, so a check allocates nothing.
+ * </p>
  */
 final class Ed25519
 {
-    private static final BigInteger P = new BigInteger("7fffffffffffffffffffffffffffffffffffffffffffffffffffffffffffffed", 16);
-    private static final BigInteger D = new BigInteger("52036cee2b6ffe738cc740797779e89800700a4d4141d8ab75eb4dca135978a3", 16);
-    private static final BigInteger PM5D8 = P.subtract(BigInteger.valueOf(5)).divide(BigInteger.valueOf(8));
+    private static final int LIMBS = 10;
+
+    // d = -121665/121666 (mod P)
+    private static final int[] D = {
+            -10913610, 13857413, -15372611, 6949391, 114729, -8787816, -6275908, -3247719, -18696448, -12055116
+    };
+    private static final int[] ONE = {1, 0, 0, 0, 0, 0, 0, 0, 0, 0};
+
+    private static final ThreadLocal<Workspace> WORKSPACE = ThreadLocal.withInitial(Workspace::new);
 
     private Ed25519()
     {
@@ -37,54 +46,43 @@ final class Ed25519
             throw new IllegalArgumentException("Public key must be 32 bytes long");
         }
 
+        final Workspace w = WORKSPACE.get();
+
         // Elliptic curve equation: dx^2y^2 + x^2 = y^2 - 1 (mod P)
         // Let x^2 = u/v where u = y^2 - 1 and v = dy^2 + 1 (mod P)
-        byte[] yBytes = publicKeyBytes.clone();
-        yBytes[31] &= 0x7F; // Mask the most significant bit to ensure y is positive
-
-        // publicKey is in little endian encoding, so we must reverse the byte array before we "math"
-        final BigInteger y = new BigInteger(1, reverse(yBytes));
-        final BigInteger y2 = y.multiply(y).mod(P);
-
-        final BigInteger u = y2.subtract(BigInteger.ONE).mod(P);
-        final BigInteger v = D.multiply(y2).add(BigInteger.ONE).mod(P);
-
-        final BigInteger x1 = calculateCandidateRoot(u, v);
-
-        return isCandidateRootValid(x1, v, u);
-    }
-
-    private static BigInteger calculateCandidateRoot(final BigInteger u, final BigInteger v)
-    {
-        final BigInteger v3 = v.multiply(v).multiply(v).mod(P);
-        final BigInteger v7 = v3.multiply(v3).multiply(v).mod(P);
-
-        final BigInteger uv3 = u.multiply(v3).mod(P);
-
-        final BigInteger uv7 = u.multiply(v7).mod(P);
-        final BigInteger uv7Pm5d8 = uv7.modPow(PM5D8, P);
+        // the most significant bit of the little endian encoding is the sign of x, which plays no part in whether y is on the curve
+        fromBytes(w.y, publicKeyBytes);
+        square(w.y2, w.y);
+        subtract(w.u, w.y2, ONE);
+        multiply(w.v, D, w.y2);
+        add(w.v, w.v, ONE);
 
         // after some transformations, given the properties of the ed25519 curve we can say
         // x^2 = (u/v)
         // x1 = (u/v)^(P+3/8) where x1 is the candidate root
         // x1 = uv^3(uv^7)^(P-5/8)
-        return uv3.multiply(uv7Pm5d8).mod(P);
-    }
+        square(w.v3, w.v);
+        multiply(w.v3, w.v3, w.v);
+        square(w.x, w.v3);
+        multiply(w.x, w.x, w.v);
+        multiply(w.x, w.x, w.u);
+        w.powPm5d8(w.x, w.x);
+        multiply(w.x, w.x, w.v3);
+        multiply(w.x, w.x, w.u);
 
-    private static boolean isCandidateRootValid(final BigInteger x1, final BigInteger v, final BigInteger u)
-    {
         // given x1 = uv^3(uv^7)^(P-5/8) we can check to see if the candidate root satisfies
         // vx^2 = u (mod P) for x = x1 is a candidate root
         // vx^2 = -u (mod P) for x = x1 is a candidate root
         // if no roots then the point does not lie on the curve
-        final BigInteger vx12 = v.multiply(x1).multiply(x1).mod(P);
-
-        if (vx12.equals(u))
+        square(w.vx2, w.x);
+        multiply(w.vx2, w.vx2, w.v);
+        if (equal(w.vx2, w.u, w.canonicalA, w.canonicalB))
         {
             return true;
         }
 
-        return vx12.equals(u.negate().mod(P));
+        negate(w.u, w.u);
+        return equal(w.vx2, w.u, w.canonicalA, w.canonicalB);
     }
 
     static byte[] reverse(final byte[] array)
@@ -100,4 +98,439 @@ final class Ed25519
 
         return buffer.array();
     }
+
+    /**
+     * Reads the low 255 bits of a little endian encoding. Values between P and 2^255 are not reduced here, but behave as their residue.
+     */
+    private static void fromBytes(final int[] h, final byte[] s)
+    {
+        long h0 = load4(s, 0);
+        long h1 = load3(s, 4) << 6;
+        long h2 = load3(s, 7) << 5;
+        long h3 = load3(s, 10) << 3;
+        long h4 = load3(s, 13) << 2;
+        long h5 = load4(s, 16);
+        long h6 = load3(s, 20) << 7;
+        long h7 = load3(s, 23) << 5;
+        long h8 = load3(s, 26) << 4;
+        long h9 = (load3(s, 29) & 0x7FFFFF) << 2;
+
+        final long carry9 = (h9 + (1L << 24)) >> 25;
+        h0 += carry9 * 19;
+        h9 -= carry9 << 25;
+        final long carry1 = (h1 + (1L << 24)) >> 25;
+        h2 += carry1;
+        h1 -= carry1 << 25;
+        final long carry3 = (h3 + (1L << 24)) >> 25;
+        h4 += carry3;
+        h3 -= carry3 << 25;
+        final long carry5 = (h5 + (1L << 24)) >> 25;
+        h6 += carry5;
+        h5 -= carry5 << 25;
+        final long carry7 = (h7 + (1L << 24)) >> 25;
+        h8 += carry7;
+        h7 -= carry7 << 25;
+
+        final long carry0 = (h0 + (1L << 25)) >> 26;
+        h1 += carry0;
+        h0 -= carry0 << 26;
+        final long carry2 = (h2 + (1L << 25)) >> 26;
+        h3 += carry2;
+        h2 -= carry2 << 26;
+        final long carry4 = (h4 + (1L << 25)) >> 26;
+        h5 += carry4;
+        h4 -= carry4 << 26;
+        final long carry6 = (h6 + (1L << 25)) >> 26;
+        h7 += carry6;
+        h6 -= carry6 << 26;
+        final long carry8 = (h8 + (1L << 25)) >> 26;
+        h9 += carry8;
+        h8 -= carry8 << 26;
+
+        h[0] = (int) h0;
+        h[1] = (int) h1;
+        h[2] = (int) h2;
+        h[3] = (int) h3;
+        h[4] = (int) h4;
+        h[5] = (int) h5;
+        h[6] = (int) h6;
+        h[7] = (int) h7;
+        h[8] = (int) h8;
+        h[9] = (int) h9;
+    }
+
+    private static long load3(final byte[] s, final int offset)
+    {
+        return (s[offset] & 0xFF) | (s[offset + 1] & 0xFF) << 8 | (s[offset + 2] & 0xFF) << 16;
+    }
+
+    private static long load4(final byte[] s, final int offset)
+    {
+        return load3(s, offset) | (long) (s[offset + 3] & 0xFF) << 24;
+    }
+
+    private static void add(final int[] h, final int[] f, final int[] g)
+    {
+        for (int i = 0; i < LIMBS; i++)
+        {
+            h[i] = f[i] + g[i];
+        }
+    }
+
+    private static void subtract(final int[] h, final int[] f, final int[] g)
+    {
+        for (int i = 0; i < LIMBS; i++)
+        {
+            h[i] = f[i] - g[i];
+        }
+    }
+
+    private static void negate(final int[] h, final int[] f)
+    {
+        for (int i = 0; i < LIMBS; i++)
+        {
+            h[i] = -f[i];
+        }
+    }
+
+    private static boolean equal(final int[] f, final int[] g, final int[] canonicalF, final int[] canonicalG)
+    {
+        canonicalise(canonicalF, f);
+        canonicalise(canonicalG, g);
+        for (int i = 0; i < LIMBS; i++)
+        {
+            if (canonicalF[i] != canonicalG[i])
+            {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Fully reduces f modulo P into limbs that are all non-negative and within their 26 or 25 bits, a representation that is unique
+     * for each residue and so can be compared limb by limb.
+     */
+    private static void canonicalise(final int[] h, final int[] f)
+    {
+        int h0 = f[0];
+        int h1 = f[1];
+        int h2 = f[2];
+        int h3 = f[3];
+        int h4 = f[4];
+        int h5 = f[5];
+        int h6 = f[6];
+        int h7 = f[7];
+        int h8 = f[8];
+        int h9 = f[9];
+
+        // q is 1 when the value is at least P and 0 otherwise
+        int q = (19 * h9 + (1 << 24)) >> 25;
+        q = (h0 + q) >> 26;
+        q = (h1 + q) >> 25;
+        q = (h2 + q) >> 26;
+        q = (h3 + q) >> 25;
+        q = (h4 + q) >> 26;
+        q = (h5 + q) >> 25;
+        q = (h6 + q) >> 26;
+        q = (h7 + q) >> 25;
+        q = (h8 + q) >> 26;
+        q = (h9 + q) >> 25;
+
+        h0 += 19 * q;
+
+        int carry = h0 >> 26;
+        h1 += carry;
+        h0 -= carry << 26;
+        carry = h1 >> 25;
+        h2 += carry;
+        h1 -= carry << 25;
+        carry = h2 >> 26;
+        h3 += carry;
+        h2 -= carry << 26;
+        carry = h3 >> 25;
+        h4 += carry;
+        h3 -= carry << 25;
+        carry = h4 >> 26;
+        h5 += carry;
+        h4 -= carry << 26;
+        carry = h5 >> 25;
+        h6 += carry;
+        h5 -= carry << 25;
+        carry = h6 >> 26;
+        h7 += carry;
+        h6 -= carry << 26;
+        carry = h7 >> 25;
+        h8 += carry;
+        h7 -= carry << 25;
+        carry = h8 >> 26;
+        h9 += carry;
+        h8 -= carry << 26;
+        carry = h9 >> 25;
+        h9 -= carry << 25;
+
+        h[0] = h0;
+        h[1] = h1;
+        h[2] = h2;
+        h[3] = h3;
+        h[4] = h4;
+        h[5] = h5;
+        h[6] = h6;
+        h[7] = h7;
+        h[8] = h8;
+        h[9] = h9;
+    }
+
+    /**
+     * h = f * g (mod P). Limb i of f and limb j of g land in limb i + j, wrapping past the top with a factor of 19 as
+     * 2^255 = 19 (mod P), and doubled when both are odd as two 25-bit limbs make up a 51 rather than 50 bit offset.
+     * h may be the same array as f or g.
+     */
+    private static void multiply(final int[] h, final int[] f, final int[] g)
+    {
+        final long f0 = f[0];
+        final long f1 = f[1];
+        final long f2 = f[2];
+        final long f3 = f[3];
+        final long f4 = f[4];
+        final long f5 = f[5];
+        final long f6 = f[6];
+        final long f7 = f[7];
+        final long f8 = f[8];
+        final long f9 = f[9];
+        final long g0 = g[0];
+        final long g1 = g[1];
+        final long g2 = g[2];
+        final long g3 = g[3];
+        final long g4 = g[4];
+        final long g5 = g[5];
+        final long g6 = g[6];
+        final long g7 = g[7];
+        final long g8 = g[8];
+        final long g9 = g[9];
+        final long f1x2 = 2 * f1;
+        final long f3x2 = 2 * f3;
+        final long f5x2 = 2 * f5;
+        final long f7x2 = 2 * f7;
+        final long f9x2 = 2 * f9;
+        final long g1x19 = 19 * g1;
+        final long g2x19 = 19 * g2;
+        final long g3x19 = 19 * g3;
+        final long g4x19 = 19 * g4;
+        final long g5x19 = 19 * g5;
+        final long g6x19 = 19 * g6;
+        final long g7x19 = 19 * g7;
+        final long g8x19 = 19 * g8;
+        final long g9x19 = 19 * g9;
+
+        long h0 = f0 * g0 + f1x2 * g9x19 + f2 * g8x19 + f3x2 * g7x19 + f4 * g6x19 + f5x2 * g5x19 + f6 * g4x19 + f7x2 * g3x19 + f8 * g2x19 + f9x2 * g1x19;
+        long h1 = f0 * g1 + f1 * g0 + f2 * g9x19 + f3 * g8x19 + f4 * g7x19 + f5 * g6x19 + f6 * g5x19 + f7 * g4x19 + f8 * g3x19 + f9 * g2x19;
+        long h2 = f0 * g2 + f1x2 * g1 + f2 * g0 + f3x2 * g9x19 + f4 * g8x19 + f5x2 * g7x19 + f6 * g6x19 + f7x2 * g5x19 + f8 * g4x19 + f9x2 * g3x19;
+        long h3 = f0 * g3 + f1 * g2 + f2 * g1 + f3 * g0 + f4 * g9x19 + f5 * g8x19 + f6 * g7x19 + f7 * g6x19 + f8 * g5x19 + f9 * g4x19;
+        long h4 = f0 * g4 + f1x2 * g3 + f2 * g2 + f3x2 * g1 + f4 * g0 + f5x2 * g9x19 + f6 * g8x19 + f7x2 * g7x19 + f8 * g6x19 + f9x2 * g5x19;
+        long h5 = f0 * g5 + f1 * g4 + f2 * g3 + f3 * g2 + f4 * g1 + f5 * g0 + f6 * g9x19 + f7 * g8x19 + f8 * g7x19 + f9 * g6x19;
+        long h6 = f0 * g6 + f1x2 * g5 + f2 * g4 + f3x2 * g3 + f4 * g2 + f5x2 * g1 + f6 * g0 + f7x2 * g9x19 + f8 * g8x19 + f9x2 * g7x19;
+        long h7 = f0 * g7 + f1 * g6 + f2 * g5 + f3 * g4 + f4 * g3 + f5 * g2 + f6 * g1 + f7 * g0 + f8 * g9x19 + f9 * g8x19;
+        long h8 = f0 * g8 + f1x2 * g7 + f2 * g6 + f3x2 * g5 + f4 * g4 + f5x2 * g3 + f6 * g2 + f7x2 * g1 + f8 * g0 + f9x2 * g9x19;
+        long h9 = f0 * g9 + f1 * g8 + f2 * g7 + f3 * g6 + f4 * g5 + f5 * g4 + f6 * g3 + f7 * g2 + f8 * g1 + f9 * g0;
+
+        long carry;
+        carry = (h0 + (1L << 25)) >> 26;
+        h1 += carry;
+        h0 -= carry << 26;
+        carry = (h4 + (1L << 25)) >> 26;
+        h5 += carry;
+        h4 -= carry << 26;
+        carry = (h1 + (1L << 24)) >> 25;
+        h2 += carry;
+        h1 -= carry << 25;
+        carry = (h5 + (1L << 24)) >> 25;
+        h6 += carry;
+        h5 -= carry << 25;
+        carry = (h2 + (1L << 25)) >> 26;
+        h3 += carry;
+        h2 -= carry << 26;
+        carry = (h6 + (1L << 25)) >> 26;
+        h7 += carry;
+        h6 -= carry << 26;
+        carry = (h3 + (1L << 24)) >> 25;
+        h4 += carry;
+        h3 -= carry << 25;
+        carry = (h7 + (1L << 24)) >> 25;
+        h8 += carry;
+        h7 -= carry << 25;
+        carry = (h4 + (1L << 25)) >> 26;
+        h5 += carry;
+        h4 -= carry << 26;
+        carry = (h8 + (1L << 25)) >> 26;
+        h9 += carry;
+        h8 -= carry << 26;
+        carry = (h9 + (1L << 24)) >> 25;
+        h0 += carry * 19;
+        h9 -= carry << 25;
+        carry = (h0 + (1L << 25)) >> 26;
+        h1 += carry;
+        h0 -= carry << 26;
+
+        h[0] = (int) h0;
+        h[1] = (int) h1;
+        h[2] = (int) h2;
+        h[3] = (int) h3;
+        h[4] = (int) h4;
+        h[5] = (int) h5;
+        h[6] = (int) h6;
+        h[7] = (int) h7;
+        h[8] = (int) h8;
+        h[9] = (int) h9;
+    }
+
+    /**
+     * h = f * f (mod P), as {@link #multiply} but with each cross term computed once and doubled.
+     */
+    private static void square(final int[] h, final int[] f)
+    {
+        final long f0 = f[0];
+        final long f1 = f[1];
+        final long f2 = f[2];
+        final long f3 = f[3];
+        final long f4 = f[4];
+        final long f5 = f[5];
+        final long f6 = f[6];
+        final long f7 = f[7];
+        final long f8 = f[8];
+        final long f9 = f[9];
+        final long f0x2 = 2 * f0;
+        final long f1x2 = 2 * f1;
+        final long f2x2 = 2 * f2;
+        final long f3x2 = 2 * f3;
+        final long f4x2 = 2 * f4;
+        final long f5x2 = 2 * f5;
+        final long f5x38 = 38 * f5;
+        final long f6x2 = 2 * f6;
+        final long f6x19 = 19 * f6;
+        final long f7x2 = 2 * f7;
+        final long f7x19 = 19 * f7;
+        final long f7x38 = 38 * f7;
+        final long f8x2 = 2 * f8;
+        final long f8x19 = 19 * f8;
+        final long f9x19 = 19 * f9;
+        final long f9x38 = 38 * f9;
+
+        long h0 = f0 * f0 + f1x2 * f9x38 + f2x2 * f8x19 + f3x2 * f7x38 + f4x2 * f6x19 + f5 * f5x38;
+        long h1 = f0x2 * f1 + f2x2 * f9x19 + f3x2 * f8x19 + f4x2 * f7x19 + f5x2 * f6x19;
+        long h2 = f0x2 * f2 + f1 * f1x2 + f3x2 * f9x38 + f4x2 * f8x19 + f5x2 * f7x38 + f6 * f6x19;
+        long h3 = f0x2 * f3 + f1x2 * f2 + f4x2 * f9x19 + f5x2 * f8x19 + f6x2 * f7x19;
+        long h4 = f0x2 * f4 + f1x2 * f3x2 + f2 * f2 + f5x2 * f9x38 + f6x2 * f8x19 + f7 * f7x38;
+        long h5 = f0x2 * f5 + f1x2 * f4 + f2x2 * f3 + f6x2 * f9x19 + f7x2 * f8x19;
+        long h6 = f0x2 * f6 + f1x2 * f5x2 + f2x2 * f4 + f3 * f3x2 + f7x2 * f9x38 + f8 * f8x19;
+        long h7 = f0x2 * f7 + f1x2 * f6 + f2x2 * f5 + f3x2 * f4 + f8x2 * f9x19;
+        long h8 = f0x2 * f8 + f1x2 * f7x2 + f2x2 * f6 + f3x2 * f5x2 + f4 * f4 + f9 * f9x38;
+        long h9 = f0x2 * f9 + f1x2 * f8 + f2x2 * f7 + f3x2 * f6 + f4x2 * f5;
+
+        long carry;
+        carry = (h0 + (1L << 25)) >> 26;
+        h1 += carry;
+        h0 -= carry << 26;
+        carry = (h4 + (1L << 25)) >> 26;
+        h5 += carry;
+        h4 -= carry << 26;
+        carry = (h1 + (1L << 24)) >> 25;
+        h2 += carry;
+        h1 -= carry << 25;
+        carry = (h5 + (1L << 24)) >> 25;
+        h6 += carry;
+        h5 -= carry << 25;
+        carry = (h2 + (1L << 25)) >> 26;
+        h3 += carry;
+        h2 -= carry << 26;
+        carry = (h6 + (1L << 25)) >> 26;
+        h7 += carry;
+        h6 -= carry << 26;
+        carry = (h3 + (1L << 24)) >> 25;
+        h4 += carry;
+        h3 -= carry << 25;
+        carry = (h7 + (1L << 24)) >> 25;
+        h8 += carry;
+        h7 -= carry << 25;
+        carry = (h4 + (1L << 25)) >> 26;
+        h5 += carry;
+        h4 -= carry << 26;
+        carry = (h8 + (1L << 25)) >> 26;
+        h9 += carry;
+        h8 -= carry << 26;
+        carry = (h9 + (1L << 24)) >> 25;
+        h0 += carry * 19;
+        h9 -= carry << 25;
+        carry = (h0 + (1L << 25)) >> 26;
+        h1 += carry;
+        h0 -= carry << 26;
+
+        h[0] = (int) h0;
+        h[1] = (int) h1;
+        h[2] = (int) h2;
+        h[3] = (int) h3;
+        h[4] = (int) h4;
+        h[5] = (int) h5;
+        h[6] = (int) h6;
+        h[7] = (int) h7;
+        h[8] = (int) h8;
+        h[9] = (int) h9;
+    }
+
+    /**
+     * Per-thread field elements.
+     */
+    private static final class Workspace
+    {
+        private final int[] y = new int[LIMBS];
+        private final int[] y2 = new int[LIMBS];
+        private final int[] u = new int[LIMBS];
+        private final int[] v = new int[LIMBS];
+        private final int[] v3 = new int[LIMBS];
+        private final int[] x = new int[LIMBS];
+        private final int[] vx2 = new int[LIMBS];
+        private final int[] t0 = new int[LIMBS];
+        private final int[] t1 = new int[LIMBS];
+        private final int[] t2 = new int[LIMBS];
+        private final int[] canonicalA = new int[LIMBS];
+        private final int[] canonicalB = new int[LIMBS];
+
+        /**
+         * h = z^((P - 5) / 8) = z^(2^252 - 3), using the addition chain from the ref10 implementation.
+         */
+        void powPm5d8(final int[] h, final int[] z)
+        {
+            squareRepeatedly(t0, z, 1);
+            squareRepeatedly(t1, t0, 2);
+            multiply(t1, z, t1);
+            multiply(t0, t0, t1);
+            squareRepeatedly(t0, t0, 1);
+            multiply(t0, t1, t0);
+            squareRepeatedly(t1, t0, 5);
+            multiply(t0, t1, t0);
+            squareRepeatedly(t1, t0, 10);
+            multiply(t1, t1, t0);
+            squareRepeatedly(t2, t1, 20);
+            multiply(t1, t2, t1);
+            squareRepeatedly(t1, t1, 10);
+            multiply(t0, t1, t0);
+            squareRepeatedly(t1, t0, 50);
+            multiply(t1, t1, t0);
+            squareRepeatedly(t2, t1, 100);
+            multiply(t1, t2, t1);
+            squareRepeatedly(t1, t1, 50);
+            multiply(t0, t1, t0);
+            squareRepeatedly(t0, t0, 2);
+            multiply(h, t0, z);
+        }
+
+        private static void squareRepeatedly(final int[] h, final int[] f, final int times)
+        {
+            square(h, f);
+            for (int i = 1; i < times; i++)
+            {
+                square(h, h);
+            }
+        }
+    }
 }
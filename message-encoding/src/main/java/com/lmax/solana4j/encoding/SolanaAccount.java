@@ -2,15 +2,33 @@ package com.lmax.solana4j.encoding;
 
 import com.lmax.solana4j.api.PublicKey;
 
+import java.nio.BufferOverflowException;
+import java.nio.BufferUnderflowException;
 import java.nio.ByteBuffer;
-import java.util.Arrays;
+import java.nio.ByteOrder;
 
 import static java.util.Objects.requireNonNull;
 
+/**
+ * A public key held as four big-endian longs, so that equality, ordering and writing are a handful of primitive operations
+ * rather than array walks, and the hash code is computed once.
+ * <p>
+ * The hash code is the same as {@link java.util.Arrays#hashCode(byte[])} of the key's bytes, which keeps the iteration order
+ * of hashed collections of accounts, and so the layout of messages built from them, the same as when keys were held as arrays.
+ * The byte array form is only materialised when asked for, for keys read straight from a buffer, and is never handed out
+ * itself, so that no caller can change the key out from under its equality and encoding.
+ * </p>
+ */
 final class SolanaAccount implements PublicKey, Comparable<SolanaAccount>
 {
     private static final int PUBLIC_KEY_LENGTH = 32;
-    final byte[] bytes;
+
+    private final long word0;
+    private final long word1;
+    private final long word2;
+    private final long word3;
+    private final int hashCode;
+    private volatile byte[] bytes;
 
     SolanaAccount(final byte[] bytes)
     {
@@ -19,40 +37,132 @@ final class SolanaAccount implements PublicKey, Comparable<SolanaAccount>
             throw new IllegalArgumentException("invalid public key length. Expected length: " + PUBLIC_KEY_LENGTH);
         }
         this.bytes = bytes.clone();
+        this.word0 = readLong(this.bytes, 0);
+        this.word1 = readLong(this.bytes, 8);
+        this.word2 = readLong(this.bytes, 16);
+        this.word3 = readLong(this.bytes, 24);
+        this.hashCode = hash(word0, word1, word2, word3);
+    }
+
+    private SolanaAccount(final long word0, final long word1, final long word2, final long word3)
+    {
+        this.word0 = word0;
+        this.word1 = word1;
+        this.word2 = word2;
+        this.word3 = word3;
+        this.hashCode = hash(word0, word1, word2, word3);
+    }
+
+    /**
+     * Reads a public key from the buffer's position without an intermediate array, advancing the position by 32 bytes.
+     *
+     * @param buffer the buffer to read from, in any byte order
+     * @return the public key
+     * @throws BufferUnderflowException if fewer than 32 bytes remain, in which case the position is unchanged
+     */
+    static SolanaAccount read(final ByteBuffer buffer)
+    {
+        if (buffer.remaining() < PUBLIC_KEY_LENGTH)
+        {
+            throw new BufferUnderflowException();
+        }
+        final boolean bigEndian = buffer.order() == ByteOrder.BIG_ENDIAN;
+        final long word0 = buffer.getLong();
+        final long word1 = buffer.getLong();
+        final long word2 = buffer.getLong();
+        final long word3 = buffer.getLong();
+
+        return bigEndian
+                ? new SolanaAccount(word0, word1, word2, word3)
+                : new SolanaAccount(Long.reverseBytes(word0), Long.reverseBytes(word1), Long.reverseBytes(word2), Long.reverseBytes(word3));
     }
 
     @Override
     public String base58()
     {
-        return Base58.encode(bytes);
+        return Base58.encode(array());
     }
 
     @Override
     public byte[] bytes()
     {
+        return array().clone();
+    }
+
+    private byte[] array()
+    {
+        byte[] bytes = this.bytes;
+        if (bytes == null)
+        {
+            // racing threads build identical arrays, so whichever is published last is as good as any other
+            bytes = new byte[PUBLIC_KEY_LENGTH];
+            writeLong(bytes, 0, word0);
+            writeLong(bytes, 8, word1);
+            writeLong(bytes, 16, word2);
+            writeLong(bytes, 24, word3);
+            this.bytes = bytes;
+        }
         return bytes;
     }
 
     @Override
     public void write(final ByteBuffer buffer)
     {
-        buffer.put(bytes);
+        if (buffer.remaining() < PUBLIC_KEY_LENGTH)
+        {
+            throw new BufferOverflowException();
+        }
+        if (buffer.order() == ByteOrder.BIG_ENDIAN)
+        {
+            buffer.putLong(word0).putLong(word1).putLong(word2).putLong(word3);
+        }
+        else
+        {
+            buffer.putLong(Long.reverseBytes(word0))
+                    .putLong(Long.reverseBytes(word1))
+                    .putLong(Long.reverseBytes(word2))
+                    .putLong(Long.reverseBytes(word3));
+        }
+    }
+
+    /**
+     * Compares this key with the 32 bytes at the given index of the buffer, in any byte order, without reading them into
+     * a new key or moving the buffer's position.
+     *
+     * @param buffer the buffer to compare against
+     * @param index  the absolute index of the first byte of the key in the buffer
+     * @return true if the bytes at the index are this key
+     */
+    boolean isAt(final ByteBuffer buffer, final int index)
+    {
+        final boolean bigEndian = buffer.order() == ByteOrder.BIG_ENDIAN;
+        return word(buffer, index, bigEndian) == word0
+               && word(buffer, index + 8, bigEndian) == word1
+               && word(buffer, index + 16, bigEndian) == word2
+               && word(buffer, index + 24, bigEndian) == word3;
+    }
+
+    private static long word(final ByteBuffer buffer, final int index, final boolean bigEndian)
+    {
+        final long word = buffer.getLong(index);
+        return bigEndian ? word : Long.reverseBytes(word);
     }
 
     @Override
     public int compareTo(final SolanaAccount other)
     {
-        final var otherBytes = requireNonNull(other).bytes;
+        requireNonNull(other);
 
-        for (int i = 0; i < PUBLIC_KEY_LENGTH; i++)
+        int result = Long.compareUnsigned(word0, other.word0);
+        if (result == 0)
         {
-            final int diff = (bytes[i] & 0xff) - (otherBytes[i] & 0xff);
-            if (diff != 0)
-            {
-                return diff;
-            }
+            result = Long.compareUnsigned(word1, other.word1);
         }
-        return 0;
+        if (result == 0)
+        {
+            result = Long.compareUnsigned(word2, other.word2);
+        }
+        return result == 0 ? Long.compareUnsigned(word3, other.word3) : result;
     }
 
     @Override
@@ -67,13 +177,13 @@ final class SolanaAccount implements PublicKey, Comparable<SolanaAccount>
             return false;
         }
         final SolanaAccount that = (SolanaAccount) o;
-        return Arrays.equals(bytes, that.bytes);
+        return hashCode == that.hashCode && word0 == that.word0 && word1 == that.word1 && word2 == that.word2 && word3 == that.word3;
     }
 
     @Override
     public int hashCode()
     {
-        return Arrays.hashCode(bytes);
+        return hashCode;
     }
 
     @Override
@@ -81,4 +191,41 @@ final class SolanaAccount implements PublicKey, Comparable<SolanaAccount>
     {
         return "SolanaAccount{'" + base58() + "'}";
     }
+
+    private static long readLong(final byte[] bytes, final int offset)
+    {
+        long value = 0;
+        for (int i = 0; i < Long.BYTES; i++)
+        {
+            value = (value << 8) | (bytes[offset + i] & 0xFF);
+        }
+        return value;
+    }
+
+    private static void writeLong(final byte[] bytes, final int offset, final long value)
+    {
+        for (int i = 0; i < Long.BYTES; i++)
+        {
+            bytes[offset + i] = (byte) (value >>> (56 - 8 * i));
+        }
+    }
+
+    private static int hash(final long word0, final long word1, final long word2, final long word3)
+    {
+        int hash = 1;
+        hash = hash(hash, word0);
+        hash = hash(hash, word1);
+        hash = hash(hash, word2);
+        return hash(hash, word3);
+    }
+
+    private static int hash(final int hash, final long word)
+    {
+        int result = hash;
+        for (int shift = 56; shift >= 0; shift -= 8)
+        {
+            result = 31 * result + (byte) (word >>> shift);
+        }
+        return result;
+    }
 }
@@ -0,0 +1,88 @@
+package com.lmax.solana4j.encoding;
+
+import com.lmax.solana4j.api.PublicKey;
+
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.util.AbstractList;
+import java.util.Objects;
+import java.util.RandomAccess;
+
+/**
+ * The static accounts of a message, read where they lie in the message, each decoded the first time it is asked for.
+ * <p>
+ * Looking an account up compares it against the bytes of the message, so does not decode the accounts it passes over.
+ * </p>
+ */
+final class SolanaAccountList extends AbstractList<PublicKey> implements RandomAccess
+{
+    private final ByteBuffer message;
+    private final int offset;
+    private final PublicKey[] accounts;
+
+    private SolanaAccountList(final ByteBuffer message, final int offset, final int count)
+    {
+        this.message = message;
+        this.offset = offset;
+        this.accounts = new PublicKey[count];
+    }
+
+    /**
+     * Reads the accounts at the reader's position, leaving the position after the last of them.
+     *
+     * @throws BufferUnderflowException if the reader holds fewer accounts than the message says it has
+     */
+    static SolanaAccountList read(final ByteBuffer reader)
+    {
+        final int count = SolanaShortVec.readInt(reader);
+        final int offset = reader.position();
+        if (reader.remaining() < count * PublicKey.PUBLIC_KEY_LENGTH)
+        {
+            throw new BufferUnderflowException();
+        }
+        reader.position(offset + count * PublicKey.PUBLIC_KEY_LENGTH);
+        return new SolanaAccountList(reader, offset, count);
+    }
+
+    @Override
+    public PublicKey get(final int index)
+    {
+        Objects.checkIndex(index, accounts.length);
+        PublicKey account = accounts[index];
+        if (account == null)
+        {
+            account = SolanaAccount.read(message.duplicate().position(offset + index * PublicKey.PUBLIC_KEY_LENGTH));
+            accounts[index] = account;
+        }
+        return account;
+    }
+
+    @Override
+    public int size()
+    {
+        return accounts.length;
+    }
+
+    @Override
+    public int indexOf(final Object o)
+    {
+        if (o instanceof SolanaAccount)
+        {
+            final SolanaAccount account = (SolanaAccount) o;
+            for (int index = 0; index < accounts.length; index++)
+            {
+                if (account.isAt(message, offset + index * PublicKey.PUBLIC_KEY_LENGTH))
+                {
+                    return index;
+                }
+            }
+        }
+        return -1;
+    }
+
+    @Override
+    public boolean contains(final Object o)
+    {
+        return indexOf(o) != -1;
+    }
+}
@@ -4,43 +4,92 @@ import com.lmax.solana4j.api.AddressLookupTable;
 import com.lmax.solana4j.api.MessageVisitor;
 import com.lmax.solana4j.api.PublicKey;
 
+import java.nio.ByteBuffer;
 import java.util.List;
 import java.util.Optional;
 
 final class SolanaAccountLookupView implements MessageVisitor.AccountLookupView
 {
-    private final PublicKey accountLookup;
-    private final List<Integer> readWriteTableIndexes;
-    private final List<Integer> readOnlyTableIndexes;
+    private final ByteBuffer message;
+    private final int accountLookupOffset;
+    private final SolanaIndexes readWriteTableIndexes;
+    private final SolanaIndexes readOnlyTableIndexes;
+    private PublicKey accountLookup;
 
-    SolanaAccountLookupView(final PublicKey accountLookup, final List<Integer> readWriteTableIndexes, final List<Integer> readOnlyTableIndexes)
+    private SolanaAccountLookupView(
+            final ByteBuffer message,
+            final int accountLookupOffset,
+            final SolanaIndexes readWriteTableIndexes,
+            final SolanaIndexes readOnlyTableIndexes)
     {
-        this.accountLookup = accountLookup;
+        this.message = message;
+        this.accountLookupOffset = accountLookupOffset;
         this.readWriteTableIndexes = readWriteTableIndexes;
         this.readOnlyTableIndexes = readOnlyTableIndexes;
     }
 
+    /**
+     * Reads the account lookup at the reader's position, leaving the position after it.
+     */
+    static SolanaAccountLookupView read(final ByteBuffer reader)
+    {
+        final int accountLookupOffset = reader.position();
+        reader.position(accountLookupOffset + PublicKey.PUBLIC_KEY_LENGTH);
+        final SolanaIndexes readWriteTableIndexes = SolanaIndexes.read(reader);
+        final SolanaIndexes readOnlyTableIndexes = SolanaIndexes.read(reader);
+        return new SolanaAccountLookupView(reader, accountLookupOffset, readWriteTableIndexes, readOnlyTableIndexes);
+    }
+
     @Override
     public PublicKey accountLookup()
     {
+        if (accountLookup == null)
+        {
+            accountLookup = SolanaAccount.read(message.duplicate().position(accountLookupOffset));
+        }
         return accountLookup;
     }
 
     @Override
     public List<Integer> readWriteTableIndexes()
     {
-        return readWriteTableIndexes;
+        return readWriteTableIndexes.asList();
     }
 
     @Override
     public List<Integer> readOnlyTableIndexes()
     {
-        return readOnlyTableIndexes;
+        return readOnlyTableIndexes.asList();
+    }
+
+    @Override
+    public int countReadWriteTableIndexes()
+    {
+        return readWriteTableIndexes.count();
+    }
+
+    @Override
+    public int readWriteTableIndex(final int index)
+    {
+        return readWriteTableIndexes.get(index);
+    }
+
+    @Override
+    public int countReadOnlyTableIndexes()
+    {
+        return readOnlyTableIndexes.count();
+    }
+
+    @Override
+    public int readOnlyTableIndex(final int index)
+    {
+        return readOnlyTableIndexes.get(index);
     }
 
     @Override
     public Optional<AddressLookupTable> findAddressLookupTable(final List<AddressLookupTable> addressLookupTables)
     {
+        final PublicKey accountLookup = accountLookup();
         return addressLookupTables
                 .stream()
                 .filter(addressLookupTable -> addressLookupTable.getLookupTableAddress().equals(accountLookup))
@@ -4,50 +4,63 @@ import com.lmax.solana4j.api.AccountLookupEntry;
 import com.lmax.solana4j.api.Accounts;
 import com.lmax.solana4j.api.AddressLookupTable;
 import com.lmax.solana4j.api.PublicKey;
+import com.lmax.solana4j.api.References;
 import com.lmax.solana4j.api.TransactionInstruction;
 
+import java.util.AbstractList;
 import java.util.ArrayList;
-import java.util.Comparator;
-import java.util.LinkedHashMap;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
-import java.util.stream.Collectors;
-import java.util.stream.Stream;
+import java.util.RandomAccess;
+import java.util.Set;
 
-final class SolanaAccounts implements Accounts
+/**
+ * The accounts of a message, which also serve as the {@link References} instructions are written against.
+ * <p>
+ * The flattened account list and the index of each account in it are built once, when the accounts are compiled, so
+ * resolving each account reference while writing instructions is a hash lookup rather than a scan of the list.
+ * </p>
+ * <p>
+ * An instance can be compiled again for each message a builder seals, reusing its lists, index and reference holders, so
+ * that compiling messages without address lookup tables does not allocate once it has grown to fit them.
+ * </p>
+ */
+final class SolanaAccounts implements Accounts, References
 {
-    private final List<PublicKey> staticAccounts;
-    private final List<AccountLookupEntry> accountLookups;
-    private final int countSigned;
-    private final int countSignedReadOnly;
-    private final int countUnsignedReadOnly;
-
-    private SolanaAccounts(
-            final List<PublicKey> staticAccounts,
-            final List<AccountLookupEntry> accountLookups,
-            final int countSigned,
-            final int countSignedReadOnly,
-            final int countUnsignedReadOnly)
-    {
-        this.staticAccounts = staticAccounts;
-        this.accountLookups = accountLookups;
-        this.countSigned = countSigned;
-        this.countSignedReadOnly = countSignedReadOnly;
-        this.countUnsignedReadOnly = countUnsignedReadOnly;
-    }
+    private static final int SIGNER_WRITER = 0;
+    private static final int UNSIGNED_READ_ONLY = 3;
+
+    private final AccountIndex mergedIndexes = new AccountIndex();
+    private final MergedReferences mergedReferences = new MergedReferences();
+
+    private final List<PublicKey> staticAccounts = new ArrayList<>();
+    private final List<PublicKey> flattenedAccounts = new ArrayList<>();
+    private final List<PublicKey> staticAccountsView = Collections.unmodifiableList(staticAccounts);
+    private final List<PublicKey> flattenedAccountsView = Collections.unmodifiableList(flattenedAccounts);
+    private final AccountIndex accountIndexes = new AccountIndex();
+
+    private List<AccountLookupEntry> accountLookups = List.of();
+    private int countSigned;
+    private int countSignedReadOnly;
+    private int countUnsignedReadOnly;
 
     @Override
     public List<PublicKey> getFlattenedAccountList()
     {
-        return Stream.concat(staticAccounts.stream(), accountLookups.stream()
-                                                                    .flatMap(lookupTable -> lookupTable.getAddresses()
-                                                                                                       .stream()))
-                     .collect(Collectors.toList());
+        return flattenedAccountsView;
+    }
+
+    @Override
+    public int indexOfAccount(final PublicKey account)
+    {
+        return accountIndexes.get(account);
     }
 
     @Override
     public List<PublicKey> getStaticAccounts()
     {
-        return staticAccounts;
+        return staticAccountsView;
     }
 
     @Override
@@ -74,31 +87,57 @@ final class SolanaAccounts implements Accounts
         return countUnsignedReadOnly;
     }
 
-    static Accounts create(final List<TransactionInstruction> instructions, final PublicKey payer)
+    static SolanaAccounts create(final List<TransactionInstruction> instructions, final PublicKey payer)
     {
         return create(instructions, payer, List.of());
     }
 
-    static Accounts create(
+    static SolanaAccounts create(
             final List<TransactionInstruction> instructions,
             final PublicKey payer,
             final List<AddressLookupTable> addressLookupTables)
     {
-        final var payerReference = new SolanaAccountReference(payer, true, true, false);
-        final var allAccountReferences = mergeAccountReferences(payerReference, instructions);
+        return new SolanaAccounts().compile(instructions, payer, addressLookupTables);
+    }
 
-        final var accountLookups = AccountLookups.create(allAccountReferences, addressLookupTables);
+    /**
+     * Replaces the accounts with those of the given message.
+     *
+     * @return this instance, now describing the given message
+     */
+    SolanaAccounts compile(
+            final List<TransactionInstruction> instructions,
+            final PublicKey payer,
+            final List<AddressLookupTable> addressLookupTables)
+    {
+        mergeAccountReferences(payer, instructions);
 
-        final var staticAccountReferences = allAccountReferences
-                .stream()
-                .filter(accountReference -> !accountLookups.getAccountsInLookupTables().contains(accountReference.account()))
-                .collect(Collectors.toList());
+        final Set<PublicKey> accountsInLookupTables;
+        if (addressLookupTables.isEmpty())
+        {
+            accountLookups = List.of();
+            accountsInLookupTables = Set.of();
+        }
+        else
+        {
+            final AccountLookups lookups = AccountLookups.create(mergedReferences, addressLookupTables);
+            accountLookups = lookups.getAccountLookupEntrys();
+            accountsInLookupTables = lookups.getAccountsInLookupTables();
+        }
 
-        int countSigned = 0;
-        int countSignedReadOnly = 0;
-        int countUnsignedReadOnly = 0;
-        for (final var accountReference : staticAccountReferences)
+        staticAccounts.clear();
+        countSigned = 0;
+        countSignedReadOnly = 0;
+        countUnsignedReadOnly = 0;
+        for (int i = 0; i < mergedReferences.size(); i++)
         {
+            final MergedReference accountReference = mergedReferences.get(i);
+            if (accountsInLookupTables.contains(accountReference.account()))
+            {
+                continue;
+            }
+            staticAccounts.add(accountReference.account());
+
             if (accountReference.isSigner())
             {
                 countSigned += 1;
@@ -113,67 +152,246 @@ final class SolanaAccounts implements Accounts
             }
         }
 
-        return new SolanaAccounts(
-                staticAccountReferences
-                        .stream()
-                        .map(TransactionInstruction.AccountReference::account)
-                        .collect(Collectors.toList()),
-                accountLookups.getAccountLookupEntrys(),
-                countSigned,
-                countSignedReadOnly,
-                countUnsignedReadOnly
-        );
+        flattenedAccounts.clear();
+        for (int i = 0; i < staticAccounts.size(); i++)
+        {
+            flattenedAccounts.add(staticAccounts.get(i));
+        }
+        for (int i = 0; i < accountLookups.size(); i++)
+        {
+            flattenedAccounts.addAll(accountLookups.get(i).getAddresses());
+        }
+
+        accountIndexes.clear();
+        for (int i = 0; i < flattenedAccounts.size(); i++)
+        {
+            // first occurrence wins, as it would for a scan of the flattened list
+            accountIndexes.putIfAbsent(flattenedAccounts.get(i), i);
+        }
+
+        return this;
     }
 
-    private static List<TransactionInstruction.AccountReference> mergeAccountReferences(
-            final TransactionInstruction.AccountReference payerReference,
-            final List<TransactionInstruction> instructions)
+    /**
+     * Merges the payer and every program and account reference into one reference per account, in the order each account
+     * is first seen once the references are stably sorted into signing writers, signing readers, writers and then readers.
+     * The payer always comes first, and programs are unsigned readers.
+     */
+    private void mergeAccountReferences(final PublicKey payer, final List<TransactionInstruction> instructions)
     {
-        final List<TransactionInstruction.AccountReference> allAccountReferences = concatAccountReferences(payerReference, instructions);
+        mergedIndexes.clear();
+        mergedReferences.clear();
 
-        final LinkedHashMap<PublicKey, TransactionInstruction.AccountReference> staticAccountReferences = new LinkedHashMap<>();
-        for (final var accountReference : allAccountReferences)
+        merge(payer, true, true);
+        for (int group = SIGNER_WRITER; group <= UNSIGNED_READ_ONLY; group++)
         {
-            if (staticAccountReferences.containsKey(accountReference.account()))
+            for (int i = 0; i < instructions.size(); i++)
             {
-                staticAccountReferences.merge(accountReference.account(), accountReference, SolanaAccounts::merge);
+                final TransactionInstruction instruction = instructions.get(i);
+                if (group == UNSIGNED_READ_ONLY)
+                {
+                    merge(instruction.program(), false, false);
+                }
+
+                final List<TransactionInstruction.AccountReference> accountReferences = instruction.accountReferences();
+                for (int j = 0; j < accountReferences.size(); j++)
+                {
+                    final TransactionInstruction.AccountReference accountReference = accountReferences.get(j);
+                    if (group(accountReference.isSigner(), accountReference.isWriter()) == group)
+                    {
+                        merge(accountReference.account(), accountReference.isSigner(), accountReference.isWriter());
+                    }
+                }
             }
-            else
+        }
+    }
+
+    private void merge(final PublicKey account, final boolean isSigner, final boolean isWriter)
+    {
+        final int index = mergedIndexes.get(account);
+        if (index == -1)
+        {
+            mergedIndexes.putIfAbsent(account, mergedReferences.size());
+            mergedReferences.add(account, isSigner, isWriter);
+        }
+        else
+        {
+            mergedReferences.get(index).merge(isSigner, isWriter);
+        }
+    }
+
+    private static int group(final boolean isSigner, final boolean isWriter)
+    {
+        return (isSigner ? 0 : 2) + (isWriter ? 0 : 1);
+    }
+
+    /**
+     * Open addressing map from account to index, which can be cleared and refilled without allocating.
+     */
+    private static final class AccountIndex
+    {
+        private static final int INITIAL_CAPACITY = 16;
+
+        private PublicKey[] keys = new PublicKey[INITIAL_CAPACITY];
+        private int[] values = new int[INITIAL_CAPACITY];
+        private int size;
+
+        int get(final PublicKey key)
+        {
+            final int mask = keys.length - 1;
+            int slot = slot(key, mask);
+            PublicKey candidate;
+            while ((candidate = keys[slot]) != null)
             {
-                staticAccountReferences.put(accountReference.account(), accountReference);
+                if (candidate.equals(key))
+                {
+                    return values[slot];
+                }
+                slot = (slot + 1) & mask;
             }
+            return -1;
         }
 
-        return new ArrayList<>(staticAccountReferences.values());
+        void putIfAbsent(final PublicKey key, final int value)
+        {
+            if (2 * (size + 1) > keys.length)
+            {
+                grow();
+            }
+
+            final int mask = keys.length - 1;
+            int slot = slot(key, mask);
+            PublicKey candidate;
+            while ((candidate = keys[slot]) != null)
+            {
+                if (candidate.equals(key))
+                {
+                    return;
+                }
+                slot = (slot + 1) & mask;
+            }
+            keys[slot] = key;
+            values[slot] = value;
+            size++;
+        }
+
+        void clear()
+        {
+            if (size != 0)
+            {
+                Arrays.fill(keys, null);
+                size = 0;
+            }
+        }
+
+        private void grow()
+        {
+            final PublicKey[] oldKeys = keys;
+            final int[] oldValues = values;
+            keys = new PublicKey[oldKeys.length * 2];
+            values = new int[oldValues.length * 2];
+            size = 0;
+            for (int i = 0; i < oldKeys.length; i++)
+            {
+                if (oldKeys[i] != null)
+                {
+                    putIfAbsent(oldKeys[i], oldValues[i]);
+                }
+            }
+        }
+
+        private static int slot(final PublicKey key, final int mask)
+        {
+            final int hash = key.hashCode();
+            return (hash ^ (hash >>> 16)) & mask;
+        }
     }
 
-    private static List<TransactionInstruction.AccountReference> concatAccountReferences(
-            final TransactionInstruction.AccountReference payerReference,
-            final List<TransactionInstruction> instructions)
+    /**
+     * The merged references, held in place and exposed as a list for matching against address lookup tables.
+     */
+    private static final class MergedReferences extends AbstractList<TransactionInstruction.AccountReference> implements RandomAccess
     {
-        final var cmp = Comparator
-                .<TransactionInstruction.AccountReference, Integer>comparing(r1 -> r1.isSigner() ? -1 : 1)
-                .thenComparing(r -> r.isWriter() ? -1 : 1);
+        private final List<MergedReference> holders = new ArrayList<>();
+        private int size;
+
+        void add(final PublicKey account, final boolean isSigner, final boolean isWriter)
+        {
+            if (size == holders.size())
+            {
+                holders.add(new MergedReference());
+            }
+            holders.get(size++).set(account, isSigner, isWriter);
+        }
 
-        return Stream.concat(
-                Stream.of(payerReference),
-                instructions.stream()
-                            .flatMap(instruction -> Stream.concat(
-                                    Stream.of(new SolanaAccountReference(instruction.program(), false, false, true)),
-                                    instruction.accountReferences().stream())
-                            )
-                            .sorted(cmp)).collect(Collectors.toList());
+        @Override
+        public void clear()
+        {
+            for (int i = 0; i < size; i++)
+            {
+                holders.get(i).set(null, false, false);
+            }
+            size = 0;
+        }
+
+        @Override
+        public MergedReference get(final int index)
+        {
+            if (index >= size)
+            {
+                throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+            }
+            return holders.get(index);
+        }
+
+        @Override
+        public int size()
+        {
+            return size;
+        }
     }
 
-    private static TransactionInstruction.AccountReference merge(
-            final TransactionInstruction.AccountReference accountReference,
-            final TransactionInstruction.AccountReference accountReference2)
+    private static final class MergedReference implements TransactionInstruction.AccountReference
     {
-        return new SolanaAccountReference(
-                accountReference.account(),
-                accountReference.isSigner() || accountReference2.isSigner(),
-                accountReference.isWriter() || accountReference2.isWriter(),
-                accountReference.isExecutable() || accountReference2.isExecutable()
-        );
+        private PublicKey account;
+        private boolean isSigner;
+        private boolean isWriter;
+
+        void set(final PublicKey account, final boolean isSigner, final boolean isWriter)
+        {
+            this.account = account;
+            this.isSigner = isSigner;
+            this.isWriter = isWriter;
+        }
+
+        void merge(final boolean isSigner, final boolean isWriter)
+        {
+            this.isSigner |= isSigner;
+            this.isWriter |= isWriter;
+        }
+
+        @Override
+        public PublicKey account()
+        {
+            return account;
+        }
+
+        @Override
+        public boolean isSigner()
+        {
+            return isSigner;
+        }
+
+        @Override
+        public boolean isWriter()
+        {
+            return isWriter;
+        }
+
+        @Override
+        public boolean isExecutable()
+        {
+            return false;
+        }
     }
 }
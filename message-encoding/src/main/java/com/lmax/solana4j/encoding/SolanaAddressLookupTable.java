@@ -3,17 +3,32 @@ package com.lmax.solana4j.encoding;
 import com.lmax.solana4j.api.AddressLookupTable;
 import com.lmax.solana4j.api.PublicKey;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
+/**
+ * An immutable address lookup table that indexes its addresses when created, so that it can be shared between threads and
+ * reused across messages with each account resolved by a hash lookup rather than a scan of the table.
+ */
 final class SolanaAddressLookupTable implements AddressLookupTable
 {
     private final PublicKey lookupTableAddress;
     private final List<PublicKey> addresses;
+    private final Map<PublicKey, Integer> indexes;
 
     SolanaAddressLookupTable(final PublicKey lookupTableAddress, final List<PublicKey> addresses)
     {
         this.lookupTableAddress = lookupTableAddress;
-        this.addresses = addresses;
+        this.addresses = Collections.unmodifiableList(new ArrayList<>(addresses));
+        this.indexes = new HashMap<>(addresses.size() * 2);
+        for (int i = 0; i < this.addresses.size(); i++)
+        {
+            // a table may hold the same address twice, the first slot is the one a scan would have found
+            indexes.putIfAbsent(this.addresses.get(i), i);
+        }
     }
 
     @Override
@@ -27,4 +42,11 @@ final class SolanaAddressLookupTable implements AddressLookupTable
     {
         return addresses;
     }
+
+    @Override
+    public int indexOf(final PublicKey address)
+    {
+        final Integer index = indexes.get(address);
+        return index == null ? -1 : index;
+    }
 }
@@ -0,0 +1,329 @@
+package com.lmax.solana4j.encoding;
+
+import com.lmax.solana4j.api.AccountSigner;
+import com.lmax.solana4j.api.PublicKey;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.nio.ByteBuffer;
+import java.security.GeneralSecurityException;
+import java.security.KeyFactory;
+import java.security.NoSuchAlgorithmException;
+import java.security.PrivateKey;
+import java.security.Signature;
+import java.security.spec.PKCS8EncodedKeySpec;
+import java.security.spec.X509EncodedKeySpec;
+import java.util.Arrays;
+import java.util.List;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Signs with the secret key of one account, through BouncyCastle where it is on the class path, or otherwise through the
+ * JDK's own EdDSA implementation (15 and later), which needs no dependency but signs an order of magnitude more slowly.
+ * <p>
+ * Each engine holds the key in the form that is costly to derive: the JDK's parsed {@link PrivateKey} and an initialised
+ * {@link Signature} per thread, or for BouncyCastle the public key, which it would otherwise recompute from the secret key
+ * for every signature. BouncyCastle is reached through method handles so that it is never a dependency of this library.
+ * </p>
+ */
+final class SolanaEd25519Signer implements AccountSigner
+{
+    static final int SECRET_KEY_LENGTH = 32;
+    private static final int KEY_PAIR_LENGTH = 64;
+    private static final int SIGNATURE_LENGTH = SolanaSignatureSlots.SIGNATURE_LENGTH;
+    private static final byte[] PROBE = {'s', 'o', 'l', 'a', 'n', 'a', '4', 'j'};
+
+    private final SolanaAccount account;
+    private final Engine engine;
+
+    SolanaEd25519Signer(final SolanaAccount account, final Engine engine)
+    {
+        this.account = account;
+        this.engine = engine;
+    }
+
+    static AccountSigner create(final PublicKey account, final byte[] secretKey)
+    {
+        final byte[] seed = seed(requireNonNull(account), requireNonNull(secretKey));
+        final Engine engine;
+        if (BouncyCastle.AVAILABLE)
+        {
+            engine = BouncyCastle.create(seed, account);
+        }
+        else if (Jdk.AVAILABLE)
+        {
+            engine = Jdk.create(seed, account);
+        }
+        else
+        {
+            throw new IllegalStateException("No Ed25519 implementation found; add BouncyCastle to the class path, or run on JDK 15 or later.");
+        }
+        return new SolanaEd25519Signer((SolanaAccount) account, engine);
+    }
+
+    @Override
+    public PublicKey account()
+    {
+        return account;
+    }
+
+    @Override
+    public void sign(final ByteBuffer transaction, final ByteBuffer signature)
+    {
+        if (signature.remaining() < SIGNATURE_LENGTH)
+        {
+            throw new IllegalArgumentException("signature buffer has fewer than " + SIGNATURE_LENGTH + " bytes remaining");
+        }
+        engine.sign(transaction.duplicate(), signature.duplicate());
+    }
+
+    @Override
+    public void signAll(final List<ByteBuffer> messages)
+    {
+        for (int i = 0; i < messages.size(); i++)
+        {
+            signInPlace(messages.get(i));
+        }
+    }
+
+    private void signInPlace(final ByteBuffer message)
+    {
+        final SolanaSignatureSlots slots = SolanaSignatureSlots.of(message);
+        final int slot = slots.indexOf(account);
+        if (slot < 0)
+        {
+            throw new IllegalArgumentException("account " + account.base58() + " is not a signer of the message");
+        }
+        engine.sign(slots.transaction(), slots.signature(slot));
+    }
+
+    private static byte[] seed(final PublicKey account, final byte[] secretKey)
+    {
+        if (secretKey.length == SECRET_KEY_LENGTH)
+        {
+            return secretKey.clone();
+        }
+        if (secretKey.length == KEY_PAIR_LENGTH && Arrays.equals(secretKey, SECRET_KEY_LENGTH, KEY_PAIR_LENGTH, account.bytes(), 0, PublicKey.PUBLIC_KEY_LENGTH))
+        {
+            return Arrays.copyOf(secretKey, SECRET_KEY_LENGTH);
+        }
+        throw new IllegalArgumentException("invalid secret key. Expected a " + SECRET_KEY_LENGTH + " byte seed or a " + KEY_PAIR_LENGTH + " byte key pair of the account");
+    }
+
+    /**
+     * Writes the signature of the bytes between the transaction's position and limit at the signature's position, free to
+     * move the position of either buffer.
+     */
+    interface Engine
+    {
+        void sign(ByteBuffer transaction, ByteBuffer signature);
+    }
+
+    static final class Jdk implements Engine
+    {
+        static final boolean AVAILABLE = isAvailable();
+
+        static final String ALGORITHM = "Ed25519";
+        // DER encodings of an Ed25519 key, up to the raw key bytes, from RFC 8410
+        private static final byte[] PKCS8_PREFIX = {0x30, 0x2e, 0x02, 0x01, 0x00, 0x30, 0x05, 0x06, 0x03, 0x2b, 0x65, 0x70, 0x04, 0x22, 0x04, 0x20};
+        static final byte[] X509_PREFIX = {0x30, 0x2a, 0x30, 0x05, 0x06, 0x03, 0x2b, 0x65, 0x70, 0x03, 0x21, 0x00};
+
+        private final PrivateKey privateKey;
+        private final ThreadLocal<Workspace> workspaces = ThreadLocal.withInitial(this::newWorkspace);
+
+        private Jdk(final PrivateKey privateKey)
+        {
+            this.privateKey = privateKey;
+        }
+
+        static Jdk create(final byte[] seed, final PublicKey account)
+        {
+            try
+            {
+                final KeyFactory keyFactory = KeyFactory.getInstance(ALGORITHM);
+                final Jdk engine = new Jdk(keyFactory.generatePrivate(new PKCS8EncodedKeySpec(concat(PKCS8_PREFIX, seed))));
+
+                // the JDK cannot derive the public key from the secret key, so check the pair by signing once
+                final byte[] probeSignature = new byte[SIGNATURE_LENGTH];
+                engine.sign(ByteBuffer.wrap(PROBE), ByteBuffer.wrap(probeSignature));
+                final Signature verifier = Signature.getInstance(ALGORITHM);
+                verifier.initVerify(keyFactory.generatePublic(new X509EncodedKeySpec(concat(X509_PREFIX, account.bytes()))));
+                verifier.update(PROBE);
+                if (!verifier.verify(probeSignature))
+                {
+                    throw new IllegalArgumentException("secret key does not belong to account " + account.base58());
+                }
+                return engine;
+            }
+            catch (final NoSuchAlgorithmException e)
+            {
+                // no provider before JDK 15, which is not the caller's key's fault
+                throw new IllegalStateException("the JDK has no " + ALGORITHM + " provider", e);
+            }
+            catch (final GeneralSecurityException e)
+            {
+                throw new IllegalArgumentException("invalid secret key", e);
+            }
+        }
+
+        @Override
+        public void sign(final ByteBuffer transaction, final ByteBuffer signature)
+        {
+            final Workspace workspace = workspaces.get();
+            try
+            {
+                workspace.signature.update(transaction);
+                workspace.signature.sign(workspace.output, 0, SIGNATURE_LENGTH);
+            }
+            catch (final GeneralSecurityException e)
+            {
+                throw new IllegalStateException("failed to sign", e);
+            }
+            signature.put(workspace.output);
+        }
+
+        private Workspace newWorkspace()
+        {
+            try
+            {
+                final Signature signature = Signature.getInstance(ALGORITHM);
+                signature.initSign(privateKey);
+                return new Workspace(signature);
+            }
+            catch (final GeneralSecurityException e)
+            {
+                throw new IllegalStateException("failed to initialise signature", e);
+            }
+        }
+
+        private static boolean isAvailable()
+        {
+            try
+            {
+                KeyFactory.getInstance(ALGORITHM);
+                Signature.getInstance(ALGORITHM);
+                return true;
+            }
+            catch (final GeneralSecurityException e)
+            {
+                return false;
+            }
+        }
+
+        static byte[] concat(final byte[] prefix, final byte[] key)
+        {
+            final byte[] encoded = Arrays.copyOf(prefix, prefix.length + key.length);
+            System.arraycopy(key, 0, encoded, prefix.length, key.length);
+            return encoded;
+        }
+
+        private static final class Workspace
+        {
+            private final Signature signature;
+            private final byte[] output = new byte[SIGNATURE_LENGTH];
+
+            private Workspace(final Signature signature)
+            {
+                this.signature = signature;
+            }
+        }
+    }
+
+    static final class BouncyCastle implements Engine
+    {
+        static final String ED25519_CLASS = "org.bouncycastle.math.ec.rfc8032.Ed25519";
+        private static final MethodHandle GENERATE_PUBLIC_KEY = findStatic("generatePublicKey", MethodType.methodType(
+                void.class, byte[].class, int.class, byte[].class, int.class));
+        private static final MethodHandle SIGN = findStatic("sign", MethodType.methodType(
+                void.class, byte[].class, int.class, byte[].class, int.class, byte[].class, int.class, int.class, byte[].class, int.class));
+        static final boolean AVAILABLE = GENERATE_PUBLIC_KEY != null && SIGN != null;
+
+        private final byte[] secretKey;
+        private final byte[] publicKey;
+        private final ThreadLocal<Workspace> workspaces = ThreadLocal.withInitial(Workspace::new);
+
+        private BouncyCastle(final byte[] secretKey, final byte[] publicKey)
+        {
+            this.secretKey = secretKey;
+            this.publicKey = publicKey;
+        }
+
+        static BouncyCastle create(final byte[] seed, final PublicKey account)
+        {
+            final byte[] publicKey = new byte[PublicKey.PUBLIC_KEY_LENGTH];
+            try
+            {
+                GENERATE_PUBLIC_KEY.invokeExact(seed, 0, publicKey, 0);
+            }
+            catch (final Throwable e)
+            {
+                throw new IllegalArgumentException("invalid secret key", e);
+            }
+            if (!Arrays.equals(publicKey, account.bytes()))
+            {
+                throw new IllegalArgumentException("secret key does not belong to account " + account.base58());
+            }
+            return new BouncyCastle(seed, publicKey);
+        }
+
+        @Override
+        public void sign(final ByteBuffer transaction, final ByteBuffer signature)
+        {
+            final Workspace workspace = workspaces.get();
+            final int length = transaction.remaining();
+            final byte[] message;
+            final int messageOffset;
+            if (transaction.hasArray())
+            {
+                message = transaction.array();
+                messageOffset = transaction.arrayOffset() + transaction.position();
+            }
+            else
+            {
+                message = workspace.message(length);
+                messageOffset = 0;
+                transaction.get(message, 0, length);
+            }
+
+            final byte[] output = workspace.output;
+            try
+            {
+                SIGN.invokeExact(secretKey, 0, publicKey, 0, message, messageOffset, length, output, 0);
+            }
+            catch (final Throwable e)
+            {
+                throw new IllegalStateException("failed to sign", e);
+            }
+            signature.put(output);
+        }
+
+        private static MethodHandle findStatic(final String name, final MethodType type)
+        {
+            try
+            {
+                return MethodHandles.publicLookup().findStatic(Class.forName(ED25519_CLASS), name, type);
+            }
+            catch (final ReflectiveOperationException | LinkageError e)
+            {
+                return null;
+            }
+        }
+
+        private static final class Workspace
+        {
+            private final byte[] output = new byte[SIGNATURE_LENGTH];
+            private byte[] message = new byte[SolanaEncoding.MAX_MESSAGE_SIZE];
+
+            byte[] message(final int length)
+            {
+                if (message.length < length)
+                {
+                    message = new byte[length];
+                }
+                return message;
+            }
+        }
+    }
+}
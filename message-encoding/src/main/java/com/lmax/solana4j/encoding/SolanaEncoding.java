@@ -1,14 +1,19 @@
 package com.lmax.solana4j.encoding;
 
 
+import com.lmax.solana4j.api.AccountSigner;
 import com.lmax.solana4j.api.AddressLookupTable;
 import com.lmax.solana4j.api.Blockhash;
 import com.lmax.solana4j.api.Destination;
 import com.lmax.solana4j.api.InstructionBuilderBase;
 import com.lmax.solana4j.api.Message;
 import com.lmax.solana4j.api.MessageBuilder;
+import com.lmax.solana4j.api.MessageTemplate;
 import com.lmax.solana4j.api.ProgramDerivedAddress;
+import com.lmax.solana4j.api.ProgramDerivedAddressCache;
+import com.lmax.solana4j.api.ProgramDerivedAddressDeriver;
 import com.lmax.solana4j.api.PublicKey;
+import com.lmax.solana4j.api.SignatureVerifier;
 import com.lmax.solana4j.api.SignedMessageBuilder;
 import com.lmax.solana4j.api.Slot;
 import com.lmax.solana4j.api.TransactionInstruction;
@@ -44,6 +49,23 @@ public final class SolanaEncoding
         return new SolanaMessageBuilder(buffer);
     }
 
+    /**
+     * Creates a message builder for the given buffer that can be used for message after message, recycling the
+     * instructions and account references of each message when the next one is started.
+     * <p>
+     * Each call to {@link MessageBuilder#legacy()} or {@link MessageBuilder#v0()} starts a new message, resetting the
+     * builder it returns; the caller remains responsible for clearing the buffer between messages. Instructions appended
+     * through the builder are only valid until the next message is started. The builder is not thread-safe.
+     * </p>
+     *
+     * @param buffer the {@link ByteBuffer} to use for building messages
+     * @return a new reusable instance of {@link MessageBuilder}
+     */
+    public static MessageBuilder reusableBuilder(final ByteBuffer buffer)
+    {
+        return new SolanaReusableMessageBuilder(buffer);
+    }
+
     /**
      * Creates a new transaction instructions using the builder provided.
      *
@@ -68,6 +90,55 @@ public final class SolanaEncoding
         return new SolanaSignedMessageBuilder(message);
     }
 
+    /**
+     * Creates a template over the sealed message in the given buffer, for patching the blockhash, accounts and instruction
+     * data of the message in place before signing it again.
+     * <p>
+     * The template shares its content with the buffer, from its position to its limit, as left by sealing the message.
+     * </p>
+     *
+     * @param message the {@link ByteBuffer} containing the sealed message
+     * @return a new instance of {@link MessageTemplate}
+     */
+    public static MessageTemplate template(final ByteBuffer message)
+    {
+        return new SolanaMessageTemplate(message);
+    }
+
+    /**
+     * Creates an Ed25519 signer for the given account, which signs from heap or direct buffers and may be shared between
+     * threads.
+     * <p>
+     * BouncyCastle is used if it is on the class path, otherwise the JDK's own, slower, EdDSA implementation (15 and
+     * later).
+     * </p>
+     *
+     * @param account   the {@link PublicKey} of the account
+     * @param secretKey the account's 32 byte secret key, or its 64 byte key pair of secret key followed by public key
+     * @return a new instance of {@link AccountSigner}
+     * @throws IllegalArgumentException if the secret key is malformed or does not belong to the account
+     * @throws IllegalStateException    if no Ed25519 implementation is available
+     */
+    public static AccountSigner signer(final PublicKey account, final byte[] secretKey)
+    {
+        return SolanaEd25519Signer.create(account, secretKey);
+    }
+
+    /**
+     * Creates a verifier of the Ed25519 signatures of sealed messages, which may be shared between threads.
+     * <p>
+     * BouncyCastle is used if it is on the class path, otherwise the JDK's own, slower, EdDSA implementation (15 and
+     * later).
+     * </p>
+     *
+     * @return a new instance of {@link SignatureVerifier}
+     * @throws IllegalStateException if no Ed25519 implementation is available
+     */
+    public static SignatureVerifier verifier()
+    {
+        return SolanaSignatureVerifier.create();
+    }
+
     /**
      * Reads a message from the given buffer.
      *
@@ -79,6 +150,36 @@ public final class SolanaEncoding
         return new SolanaMessageReader(message).read();
     }
 
+    /**
+     * Returns the id of the sealed message between the buffer's position and limit: the Base58 encoding of its first
+     * signature, which is the fee payer's. Only the signature count and the first signature are read, and the buffer's
+     * position is not changed.
+     * <p>
+     * An unsigned message has an id of all '1's, so the id is only meaningful once the fee payer has signed.
+     * </p>
+     *
+     * @param message the {@link ByteBuffer} containing the message
+     * @return the transaction id
+     * @throws IllegalArgumentException if the message has no signatures or is too short to hold the first of them
+     */
+    public static String transactionId(final ByteBuffer message)
+    {
+        return SolanaTransactionId.of(message);
+    }
+
+    /**
+     * Returns the id of the sealed message held in the whole of the given array: the Base58 encoding of its first
+     * signature, which is the fee payer's. Only the signature count and the first signature are read.
+     *
+     * @param message the byte array containing the message
+     * @return the transaction id
+     * @throws IllegalArgumentException if the message has no signatures or is too short to hold the first of them
+     */
+    public static String transactionId(final byte[] message)
+    {
+        return SolanaTransactionId.of(message);
+    }
+
     /**
      * Creates a new public key from the given byte array.
      *
@@ -101,6 +202,18 @@ public final class SolanaEncoding
         return new SolanaAccount(Base58.decode(accountBase58));
     }
 
+    /**
+     * Reads a public key from the buffer's position without copying it into an intermediate array.
+     *
+     * @param buffer the buffer to read the 32 bytes of the public key from, advancing its position
+     * @return a new instance of {@link PublicKey}
+     * @throws java.nio.BufferUnderflowException if fewer than 32 bytes remain in the buffer
+     */
+    public static PublicKey account(final ByteBuffer buffer)
+    {
+        return SolanaAccount.read(buffer);
+    }
+
     /**
      * Derives a program address from the given seeds and program id.
      *
@@ -113,6 +226,29 @@ public final class SolanaEncoding
         return SolanaProgramDerivedAddress.deriveProgramAddress(seeds, programId);
     }
 
+    /**
+     * Returns a deriver of program addresses that reuses its digest and hash buffer between derivations,
+     * and can derive directly from a known bump seed.
+     *
+     * @return the shared, thread-safe {@link ProgramDerivedAddressDeriver}
+     */
+    public static ProgramDerivedAddressDeriver programDerivedAddressDeriver()
+    {
+        return SolanaProgramDerivedAddressDeriver.INSTANCE;
+    }
+
+    /**
+     * Creates a bounded, thread-safe cache of found program derived addresses, evicting the least recently used
+     * address once it holds {@code maximumSize} of them.
+     *
+     * @param maximumSize the maximum number of addresses to hold
+     * @return a new {@link ProgramDerivedAddressCache}
+     */
+    public static ProgramDerivedAddressCache programDerivedAddressCache(final int maximumSize)
+    {
+        return new SolanaProgramDerivedAddressCache(SolanaProgramDerivedAddressDeriver.INSTANCE, maximumSize);
+    }
+
     /**
      * Creates a new blockhash from the given byte array.
      *
@@ -197,6 +333,71 @@ public final class SolanaEncoding
         return Base58.encode(bytes);
     }
 
+    /**
+     * Encodes the remaining bytes of a {@link ByteBuffer} into a base58-encoded string.
+     * The position of the buffer is not modified.
+     *
+     * @param bytes the buffer whose remaining bytes to encode into a base58 string
+     * @return a base58-encoded string representing the remaining bytes of the buffer
+     */
+    public static String encodeBase58(final ByteBuffer bytes)
+    {
+        return Base58.encode(bytes);
+    }
+
+    /**
+     * Encodes the remaining bytes of a {@link ByteBuffer} as base58, appending the characters to the given builder.
+     * The position of the buffer is not modified, and nothing is allocated beyond any growth of the builder.
+     *
+     * @param bytes  the buffer whose remaining bytes to encode as base58
+     * @param output the builder to append the base58 characters to
+     */
+    public static void encodeBase58(final ByteBuffer bytes, final StringBuilder output)
+    {
+        Base58.encode(bytes, output);
+    }
+
+    /**
+     * Encodes a byte array as base58 into the given character array without allocating.
+     * The array must have room for {@link #maxEncodedBase58Length(int)} characters from the offset.
+     *
+     * @param bytes  the byte array to encode as base58
+     * @param output the character array to write the base58 characters into
+     * @param offset the index in the character array of the first character written
+     * @return the number of characters written
+     * @throws IndexOutOfBoundsException if the character array does not have room for the encoded characters
+     */
+    public static int encodeBase58(final byte[] bytes, final char[] output, final int offset)
+    {
+        return Base58.encode(bytes, output, offset);
+    }
+
+    /**
+     * Returns the most characters that base58 encoding the given number of bytes can produce,
+     * for example 44 for a public key and 88 for a signature.
+     *
+     * @param length the number of bytes to encode
+     * @return the upper bound on the length of the base58 encoding
+     */
+    public static int maxEncodedBase58Length(final int length)
+    {
+        return Base58.maxEncodedLength(length);
+    }
+
+    /**
+     * Decodes base58-encoded characters into a {@link ByteBuffer}, writing from its position and advancing it past the decoded bytes.
+     *
+     * @param base58 the base58-encoded characters to decode
+     * @param output the buffer to write the decoded bytes into
+     * @return the number of bytes written
+     * @throws IllegalArgumentException if the input is not a valid base58 encoded string
+     * @throws java.nio.BufferOverflowException if the buffer does not have room for the decoded bytes, in which case nothing is written
+     */
+    public static int decodeBase58(final CharSequence base58, final ByteBuffer output)
+    {
+        return Base58.decode(base58, output);
+    }
+
 
     /**
      * Copies the contents of a {@link ByteBuffer} into a new byte array.
@@ -0,0 +1,95 @@
+package com.lmax.solana4j.encoding;
+
+import java.nio.ByteBuffer;
+import java.util.AbstractList;
+import java.util.List;
+import java.util.Objects;
+import java.util.RandomAccess;
+
+/**
+ * A compact array of indexes, each encoded as a short vec, read where it lies in a message.
+ * <p>
+ * Indexes below 128 take one byte, so an array of them, which is almost every array in practice, is read by position;
+ * otherwise the array is walked from its start.
+ * </p>
+ */
+final class SolanaIndexes
+{
+    private final ByteBuffer message;
+    private final int offset;
+    private final int count;
+    private final boolean oneBytePerIndex;
+
+    private SolanaIndexes(final ByteBuffer message, final int offset, final int count, final boolean oneBytePerIndex)
+    {
+        this.message = message;
+        this.offset = offset;
+        this.count = count;
+        this.oneBytePerIndex = oneBytePerIndex;
+    }
+
+    /**
+     * Reads the array at the reader's position, leaving the position after its last index.
+     */
+    static SolanaIndexes read(final ByteBuffer reader)
+    {
+        final int count = SolanaShortVec.readInt(reader);
+        final int offset = reader.position();
+        skipIndexes(reader, count);
+        return new SolanaIndexes(reader, offset, count, reader.position() - offset == count);
+    }
+
+    /**
+     * Moves the reader's position past the array at its position.
+     */
+    static void skip(final ByteBuffer reader)
+    {
+        skipIndexes(reader, SolanaShortVec.readInt(reader));
+    }
+
+    int count()
+    {
+        return count;
+    }
+
+    int get(final int index)
+    {
+        Objects.checkIndex(index, count);
+        if (oneBytePerIndex)
+        {
+            return message.get(offset + index);
+        }
+
+        final ByteBuffer reader = message.duplicate().position(offset);
+        skipIndexes(reader, index);
+        return SolanaShortVec.readInt(reader);
+    }
+
+    List<Integer> asList()
+    {
+        return new IndexList();
+    }
+
+    private static void skipIndexes(final ByteBuffer reader, final int count)
+    {
+        for (int i = 0; i < count; i++)
+        {
+            SolanaShortVec.readInt(reader);
+        }
+    }
+
+    private final class IndexList extends AbstractList<Integer> implements RandomAccess
+    {
+        @Override
+        public Integer get(final int index)
+        {
+            return SolanaIndexes.this.get(index);
+        }
+
+        @Override
+        public int size()
+        {
+            return count;
+        }
+    }
+}
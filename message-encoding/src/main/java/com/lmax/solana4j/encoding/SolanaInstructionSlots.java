@@ -0,0 +1,204 @@
+package com.lmax.solana4j.encoding;
+
+import com.lmax.solana4j.api.InstructionBuilderBase;
+import com.lmax.solana4j.api.MessageBuilder;
+import com.lmax.solana4j.api.MessageInstructionBuilder;
+import com.lmax.solana4j.api.PublicKey;
+import com.lmax.solana4j.api.TransactionInstruction;
+
+import java.nio.ByteBuffer;
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.RandomAccess;
+import java.util.function.Consumer;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Instructions, and the account references within them, that are handed out while building one message and taken back
+ * when the next message is started, so that building messages of the same shape stops allocating once the pool has grown
+ * to fit them.
+ */
+final class SolanaInstructionSlots
+{
+    private final MessageBuilder messageBuilder;
+    private final List<Slot> slots = new ArrayList<>();
+    private int used;
+
+    SolanaInstructionSlots(final MessageBuilder messageBuilder)
+    {
+        this.messageBuilder = messageBuilder;
+    }
+
+    Slot acquire()
+    {
+        if (used == slots.size())
+        {
+            slots.add(new Slot());
+        }
+        return slots.get(used++);
+    }
+
+    void recycle()
+    {
+        for (int i = 0; i < used; i++)
+        {
+            slots.get(i).clear();
+        }
+        used = 0;
+    }
+
+    /**
+     * A mutable instruction, valid until the slots are next recycled.
+     */
+    final class Slot implements TransactionInstruction, MessageInstructionBuilder
+    {
+        private final References references = new References();
+        private SolanaAccount program;
+        private int datasize;
+        private Consumer<ByteBuffer> data;
+
+        @Override
+        public InstructionBuilderBase account(final PublicKey account, final boolean signs, final boolean writes)
+        {
+            requireNonNull(account);
+            references.add(account, signs, writes);
+            return this;
+        }
+
+        @Override
+        public InstructionBuilderBase program(final PublicKey account)
+        {
+            program = (SolanaAccount) account;
+            return this;
+        }
+
+        @Override
+        public InstructionBuilderBase data(final int datasize, final Consumer<ByteBuffer> writer)
+        {
+            this.datasize = datasize;
+            data = writer;
+            return this;
+        }
+
+        @Override
+        public MessageBuilder build()
+        {
+            return messageBuilder;
+        }
+
+        @Override
+        public List<AccountReference> accountReferences()
+        {
+            return references;
+        }
+
+        @Override
+        public SolanaAccount program()
+        {
+            return program;
+        }
+
+        @Override
+        public int datasize()
+        {
+            return datasize;
+        }
+
+        @Override
+        public Consumer<ByteBuffer> data()
+        {
+            return data;
+        }
+
+        private void clear()
+        {
+            references.reset();
+            program = null;
+            datasize = 0;
+            data = null;
+        }
+    }
+
+    /**
+     * A read only view of the account references of a slot, over holders that are reused in place.
+     */
+    private static final class References extends AbstractList<TransactionInstruction.AccountReference> implements RandomAccess
+    {
+        private final List<Reference> holders = new ArrayList<>();
+        private int size;
+
+        void add(final PublicKey account, final boolean signs, final boolean writes)
+        {
+            if (size == holders.size())
+            {
+                holders.add(new Reference());
+            }
+            holders.get(size++).set(account, signs, writes);
+        }
+
+        void reset()
+        {
+            for (int i = 0; i < size; i++)
+            {
+                holders.get(i).set(null, false, false);
+            }
+            size = 0;
+        }
+
+        @Override
+        public TransactionInstruction.AccountReference get(final int index)
+        {
+            if (index >= size)
+            {
+                throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+            }
+            return holders.get(index);
+        }
+
+        @Override
+        public int size()
+        {
+            return size;
+        }
+    }
+
+    private static final class Reference implements TransactionInstruction.AccountReference
+    {
+        private PublicKey account;
+        private boolean isSigner;
+        private boolean isWriter;
+
+        void set(final PublicKey account, final boolean isSigner, final boolean isWriter)
+        {
+            this.account = account;
+            this.isSigner = isSigner;
+            this.isWriter = isWriter;
+        }
+
+        @Override
+        public PublicKey account()
+        {
+            return account;
+        }
+
+        @Override
+        public boolean isSigner()
+        {
+            return isSigner;
+        }
+
+        @Override
+        public boolean isWriter()
+        {
+            return isWriter;
+        }
+
+        @Override
+        public boolean isExecutable()
+        {
+            return false;
+        }
+    }
+}
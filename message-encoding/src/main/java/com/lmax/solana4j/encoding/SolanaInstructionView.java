@@ -7,16 +7,39 @@ import java.util.List;
 
 class SolanaInstructionView implements InstructionView
 {
+    private final ByteBuffer message;
     private final int program;
-    private final List<Integer> accountIndexes;
+    private final SolanaIndexes accountIndexes;
+    private final int dataOffset;
+    private final int dataLength;
 
-    private final ByteBuffer data;
+    SolanaInstructionView(final ByteBuffer message, final int offset)
+    {
+        final ByteBuffer reader = message.duplicate().position(offset);
+        this.message = message;
+        this.program = SolanaShortVec.readInt(reader);
+        this.accountIndexes = SolanaIndexes.read(reader);
+        this.dataLength = SolanaShortVec.readInt(reader);
+        this.dataOffset = reader.position();
+    }
 
-    SolanaInstructionView(final int program, final List<Integer> accounts, final ByteBuffer data)
+    /**
+     * Moves the reader's position past the instruction at its position, without reading it into a view.
+     */
+    static void skip(final ByteBuffer reader)
     {
-        this.program = program;
-        this.accountIndexes = accounts;
-        this.data = data;
+        SolanaShortVec.readInt(reader);
+        SolanaIndexes.skip(reader);
+        final int dataLength = SolanaShortVec.readInt(reader);
+        reader.position(reader.position() + dataLength);
+    }
+
+    /**
+     * Returns the index of the message just after this instruction.
+     */
+    int end()
+    {
+        return dataOffset + dataLength;
     }
 
     @Override
@@ -28,12 +51,24 @@ class SolanaInstructionView implements InstructionView
     @Override
     public List<Integer> accountIndexes()
     {
-        return accountIndexes;
+        return accountIndexes.asList();
+    }
+
+    @Override
+    public int countAccountIndexes()
+    {
+        return accountIndexes.count();
+    }
+
+    @Override
+    public int accountIndex(final int index)
+    {
+        return accountIndexes.get(index);
     }
 
     @Override
     public ByteBuffer data()
     {
-        return data.duplicate();
+        return message.asReadOnlyBuffer().limit(dataOffset + dataLength).position(dataOffset).slice();
     }
 }
@@ -4,30 +4,32 @@ import com.lmax.solana4j.api.MessageVisitor;
 import com.lmax.solana4j.api.PublicKey;
 
 import java.nio.ByteBuffer;
+import java.util.ArrayList;
 import java.util.List;
-import java.util.stream.Collectors;
 
 final class SolanaLegacyInstructionView extends SolanaInstructionView implements MessageVisitor.LegacyInstructionView
 {
     private final MessageVisitor.LegacyAccountsView accountsView;
 
     SolanaLegacyInstructionView(
-            final int program,
-            final List<Integer> accounts,
-            final ByteBuffer data,
+            final ByteBuffer message,
+            final int offset,
             final MessageVisitor.LegacyAccountsView accountsView)
     {
-        super(program, accounts, data);
+        super(message, offset);
         this.accountsView = accountsView;
     }
 
     @Override
     public List<PublicKey> accounts()
     {
-        return accountIndexes()
-                .stream()
-                .map(idx -> accountsView.staticAccounts().get(idx))
-                .collect(Collectors.toList());
+        final List<PublicKey> staticAccounts = accountsView.staticAccounts();
+        final List<PublicKey> accounts = new ArrayList<>(countAccountIndexes());
+        for (int i = 0; i < countAccountIndexes(); i++)
+        {
+            accounts.add(staticAccounts.get(accountIndex(i)));
+        }
+        return accounts;
     }
 
     @Override
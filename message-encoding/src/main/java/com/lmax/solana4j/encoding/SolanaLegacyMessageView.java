@@ -1,46 +1,42 @@
 package com.lmax.solana4j.encoding;
 
-import com.lmax.solana4j.api.Blockhash;
 import com.lmax.solana4j.api.MessageVisitor;
 import com.lmax.solana4j.api.MessageVisitor.LegacyMessageView;
 import com.lmax.solana4j.api.PublicKey;
 
 import java.nio.ByteBuffer;
+import java.util.ArrayList;
 import java.util.List;
-import java.util.stream.Collectors;
 
 final class SolanaLegacyMessageView extends SolanaMessageView implements LegacyMessageView
 {
     private final MessageVisitor.LegacyAccountsView accountsView;
-    private final List<MessageVisitor.InstructionView> instructions;
 
     SolanaLegacyMessageView(
+            final ByteBuffer message,
+            final int countSignatures,
+            final int signaturesOffset,
+            final ByteBuffer transaction,
             final int countAccountsSigned,
             final int countAccountsSignedReadOnly,
             final int countAccountsUnsignedReadOnly,
-            final MessageVisitor.LegacyAccountsView accountsView,
-            final ByteBuffer transaction,
-            final List<ByteBuffer> signatures,
-            final PublicKey feePayer,
-            final Blockhash recentBlockHash,
-            final List<MessageVisitor.InstructionView> instructions)
+            final SolanaAccountList staticAccounts,
+            final int blockhashOffset)
     {
-        super(countAccountsSigned, countAccountsSignedReadOnly, countAccountsUnsignedReadOnly, accountsView, transaction, signatures, feePayer, recentBlockHash);
-        this.accountsView = accountsView;
-        this.instructions = instructions;
+        super(message, countSignatures, signaturesOffset, transaction, countAccountsSigned, countAccountsSignedReadOnly, countAccountsUnsignedReadOnly, staticAccounts, blockhashOffset);
+        this.accountsView = new SolanaLegacyAccountsView(staticAccounts);
     }
 
     @Override
     public List<MessageVisitor.LegacyInstructionView> instructions()
     {
-        return instructions.stream()
-                .map(instructionView ->
-                        new SolanaLegacyInstructionView(
-                                instructionView.programIndex(),
-                                instructionView.accountIndexes(),
-                                instructionView.data(),
-                                accountsView)
-                ).collect(Collectors.toList());
+        final int[] offsets = instructionOffsets();
+        final List<MessageVisitor.LegacyInstructionView> instructions = new ArrayList<>(offsets.length - 1);
+        for (int i = 0; i < offsets.length - 1; i++)
+        {
+            instructions.add(new SolanaLegacyInstructionView(message(), offsets[i], accountsView));
+        }
+        return instructions;
     }
 
     @Override
@@ -1,6 +1,7 @@
 package com.lmax.solana4j.encoding;
 
 import com.lmax.solana4j.api.Blockhash;
+import com.lmax.solana4j.api.MessageBuilder;
 import com.lmax.solana4j.api.MessageBuilderLegacy;
 import com.lmax.solana4j.api.PublicKey;
 import com.lmax.solana4j.api.SealedMessageBuilder;
@@ -17,17 +18,25 @@ import static java.util.Objects.requireNonNull;
 
 final class SolanaMessageBuilderLegacy implements MessageBuilderLegacy
 {
-    private final SolanaMessageBuilder parent;
     private final ByteBuffer buffer;
+    private final SolanaTransactionBuilder transactionBuilder;
     private SolanaAccount payer;
     private SolanaBlockhash recent;
 
     private final List<TransactionInstruction> instructions = new ArrayList<>();
+    private final SolanaAccounts accounts = new SolanaAccounts();
+    private final SolanaSealedMessageBuilder reusableSealedMessageBuilder;
 
-    SolanaMessageBuilderLegacy(final SolanaMessageBuilder parent, final ByteBuffer buffer)
+    SolanaMessageBuilderLegacy(final MessageBuilder parent, final ByteBuffer buffer)
+    {
+        this(parent, buffer, null);
+    }
+
+    SolanaMessageBuilderLegacy(final MessageBuilder parent, final ByteBuffer buffer, final SolanaInstructionSlots slots)
     {
-        this.parent = requireNonNull(parent);
         this.buffer = buffer;
+        this.transactionBuilder = new SolanaTransactionBuilder(requireNonNull(parent), instructions, slots);
+        this.reusableSealedMessageBuilder = slots == null ? null : new SolanaSealedMessageBuilder(buffer.duplicate());
     }
 
     @Override
@@ -47,7 +56,7 @@ final class SolanaMessageBuilderLegacy implements MessageBuilderLegacy
     @Override
     public MessageBuilderLegacy instructions(final Consumer<TransactionBuilder> builder)
     {
-        builder.accept(new SolanaTransactionBuilder(parent, instructions));
+        builder.accept(transactionBuilder);
         return this;
     }
 
@@ -58,6 +67,16 @@ final class SolanaMessageBuilderLegacy implements MessageBuilderLegacy
         return this;
     }
 
+    /**
+     * Forgets the payer, blockhash and instructions of the previous message, so the builder can be reused.
+     */
+    void reset()
+    {
+        payer = null;
+        recent = null;
+        instructions.clear();
+    }
+
     /**
      * Writes the ordered accounts and instructions into {@link this.buffer}, then flips the buffer (i.e, prepares it for reading).
      * Normally, flipping the buffer is the responsibility of the caller that passed it in, we decided to do it in here for convenience.
@@ -70,14 +89,15 @@ final class SolanaMessageBuilderLegacy implements MessageBuilderLegacy
             throw new IllegalStateException("Solana transaction incomplete; payer has not been specified.");
         }
 
-        final var accounts = SolanaAccounts.create(instructions, payer);
+        accounts.compile(instructions, payer, List.of());
 
         final var writer = new SolanaMessageWriterLegacy(accounts, this.recent, this.instructions);
 
         writer.write(buffer);
         buffer.flip();
 
-        final ByteBuffer sealedBuffer = buffer.duplicate();
-        return new SolanaSealedMessageBuilder(sealedBuffer);
+        return reusableSealedMessageBuilder == null
+                ? new SolanaSealedMessageBuilder(buffer.duplicate())
+                : reusableSealedMessageBuilder.viewing(buffer);
     }
 }
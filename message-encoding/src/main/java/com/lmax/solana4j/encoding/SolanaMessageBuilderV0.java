@@ -1,6 +1,5 @@
 package com.lmax.solana4j.encoding;
 
-import com.lmax.solana4j.api.Accounts;
 import com.lmax.solana4j.api.AddressLookupTable;
 import com.lmax.solana4j.api.Blockhash;
 import com.lmax.solana4j.api.MessageBuilder;
@@ -20,24 +19,32 @@ import static java.util.Objects.requireNonNull;
 
 final class SolanaMessageBuilderV0 implements MessageBuilderV0
 {
-    private final MessageBuilder parent;
     private final ByteBuffer buffer;
+    private final SolanaTransactionBuilder transactionBuilder;
     private SolanaAccount payer;
     private SolanaBlockhash recentBlockhash;
 
     private final List<TransactionInstruction> instructions = new ArrayList<>();
+    private final SolanaAccounts accounts = new SolanaAccounts();
+    private final SolanaSealedMessageBuilder reusableSealedMessageBuilder;
     private List<AddressLookupTable> accountLookups = new ArrayList<>();
 
     SolanaMessageBuilderV0(final MessageBuilder parent, final ByteBuffer buffer)
     {
-        this.parent = requireNonNull(parent);
+        this(parent, buffer, null);
+    }
+
+    SolanaMessageBuilderV0(final MessageBuilder parent, final ByteBuffer buffer, final SolanaInstructionSlots slots)
+    {
         this.buffer = buffer;
+        this.transactionBuilder = new SolanaTransactionBuilder(requireNonNull(parent), instructions, slots);
+        this.reusableSealedMessageBuilder = slots == null ? null : new SolanaSealedMessageBuilder(buffer.duplicate());
     }
 
     @Override
     public MessageBuilderV0 instructions(final Consumer<TransactionBuilder> builder)
     {
-        builder.accept(new SolanaTransactionBuilder((SolanaMessageBuilder) parent, instructions));
+        builder.accept(transactionBuilder);
         return this;
     }
 
@@ -69,6 +76,17 @@ final class SolanaMessageBuilderV0 implements MessageBuilderV0
         return this;
     }
 
+    /**
+     * Forgets the payer, blockhash, instructions and lookup tables of the previous message, so the builder can be reused.
+     */
+    void reset()
+    {
+        payer = null;
+        recentBlockhash = null;
+        instructions.clear();
+        accountLookups = List.of();
+    }
+
     @Override
     public SealedMessageBuilder seal() throws BufferOverflowException
     {
@@ -77,15 +95,15 @@ final class SolanaMessageBuilderV0 implements MessageBuilderV0
             throw new IllegalStateException("Solana transaction incomplete; payer has not been specified.");
         }
 
-        final Accounts accounts = SolanaAccounts.create(instructions, payer, accountLookups);
+        accounts.compile(instructions, payer, accountLookups);
 
         final var writer = new SolanaMessageWriterV0(recentBlockhash, instructions, accounts);
 
         writer.write(buffer);
         buffer.flip();
 
-        final ByteBuffer sealedBuffer = buffer.duplicate();
-
-        return new SolanaSealedMessageBuilder(sealedBuffer);
+        return reusableSealedMessageBuilder == null
+                ? new SolanaSealedMessageBuilder(buffer.duplicate())
+                : reusableSealedMessageBuilder.viewing(buffer);
     }
 }
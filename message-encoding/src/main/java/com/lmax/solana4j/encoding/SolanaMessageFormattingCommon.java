@@ -56,9 +56,9 @@ final class SolanaMessageFormattingCommon
     void writeInstructions(final List<TransactionInstruction> transaction, final References references)
     {
         SolanaShortVec.write(transaction.size(), buffer);
-        for (final var instruction : transaction)
+        for (int i = 0; i < transaction.size(); i++)
         {
-            writeInstruction(instruction, references);
+            writeInstruction(transaction.get(i), references);
         }
     }
 
@@ -68,9 +68,10 @@ final class SolanaMessageFormattingCommon
 
         SolanaShortVec.write(instruction.accountReferences().size(), buffer);
 
-        for (final var accref : instruction.accountReferences())
+        final List<TransactionInstruction.AccountReference> accountReferences = instruction.accountReferences();
+        for (int i = 0; i < accountReferences.size(); i++)
         {
-            final int indexOfAccount = references.indexOfAccount(accref.account());
+            final int indexOfAccount = references.indexOfAccount(accountReferences.get(i).account());
             if (indexOfAccount == -1)
             {
                 throw new RuntimeException("Should have found the account.");
@@ -96,21 +97,9 @@ final class SolanaMessageFormattingCommon
 
     private InstructionView readInstruction()
     {
-        final var program = SolanaShortVec.readInt(buffer);
-        final var countAccRefs = SolanaShortVec.readInt(buffer);
-        final var accRefs = new ArrayList<Integer>();
-        for (int i = 0; i < countAccRefs; i++)
-        {
-            accRefs.add(SolanaShortVec.readInt(buffer));
-        }
-        final var countData = SolanaShortVec.readInt(buffer);
-        final var ro = buffer.asReadOnlyBuffer();
-        ro.limit(ro.position() + countData);
-        final var data = ro.slice();
-
-        buffer.position(buffer.position() + countData);
-
-        return new SolanaInstructionView(program, accRefs, data);
+        final var instruction = new SolanaInstructionView(buffer, buffer.position());
+        buffer.position(instruction.end());
+        return instruction;
     }
 
     void writeBlockHash(final SolanaBlockhash blockHash)
@@ -128,9 +117,9 @@ final class SolanaMessageFormattingCommon
     void writeAccountLookups(final List<AccountLookupEntry> accountLookups)
     {
         SolanaShortVec.write(accountLookups.size(), buffer);
-        for (final var accountLookup : accountLookups)
+        for (int i = 0; i < accountLookups.size(); i++)
         {
-            writeAccountLookup(accountLookup);
+            writeAccountLookup(accountLookups.get(i));
         }
     }
 
@@ -159,26 +148,11 @@ final class SolanaMessageFormattingCommon
     List<MessageVisitor.AccountLookupView> readAccountLookups()
     {
         final var count = SolanaShortVec.readInt(buffer);
-        final List<MessageVisitor.AccountLookupView> entries = new ArrayList<>();
+        final List<MessageVisitor.AccountLookupView> entries = new ArrayList<>(count);
 
         for (int i = 0; i < count; i++)
         {
-            final byte[] bytes = new byte[32];
-            buffer.get(bytes);
-            final SolanaAccount accountLookup = new SolanaAccount(bytes);
-            final var countReadWrite = SolanaShortVec.readInt(buffer);
-            final List<Integer> readWriteIndexes = new ArrayList<>();
-            for (int j = 0; j < countReadWrite; j++)
-            {
-                readWriteIndexes.add(SolanaShortVec.readInt(buffer));
-            }
-            final var countReadoOnly = SolanaShortVec.readInt(buffer);
-            final List<Integer> readOnlyIndexes = new ArrayList<>();
-            for (int j = 0; j < countReadoOnly; j++)
-            {
-                readOnlyIndexes.add(SolanaShortVec.readInt(buffer));
-            }
-            entries.add(new SolanaAccountLookupView(accountLookup, readWriteIndexes, readOnlyIndexes));
+            entries.add(SolanaAccountLookupView.read(buffer));
         }
 
         return entries;
@@ -207,9 +181,9 @@ final class SolanaMessageFormattingCommon
     {
         SolanaShortVec.write(accounts.size(), buffer);
 
-        for (final var account : accounts)
+        for (int i = 0; i < accounts.size(); i++)
         {
-            account.write(buffer);
+            accounts.get(i).write(buffer);
         }
     }
 
@@ -219,9 +193,7 @@ final class SolanaMessageFormattingCommon
         final List<PublicKey> publicKeys = new ArrayList<>(count);
         for (int i = 0; i < count; i++)
         {
-            final byte[] bytes = new byte[32];
-            buffer.get(bytes);
-            publicKeys.add(new SolanaAccount(bytes));
+            publicKeys.add(SolanaAccount.read(buffer));
         }
         return publicKeys;
     }
@@ -0,0 +1,210 @@
+package com.lmax.solana4j.encoding;
+
+import com.lmax.solana4j.api.Blockhash;
+import com.lmax.solana4j.api.MessageTemplate;
+import com.lmax.solana4j.api.PublicKey;
+import com.lmax.solana4j.api.SignedMessageBuilder;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Objects;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Walks a sealed message once to find where each patchable field lives, then writes fields with absolute puts into the
+ * buffer the message was sealed into.
+ */
+final class SolanaMessageTemplate implements MessageTemplate
+{
+    private static final int SIGNATURE_LENGTH = 64;
+    private static final int BLOCKHASH_LENGTH = 32;
+
+    private final ByteBuffer message;
+    private final ByteBuffer littleEndian;
+    private final ByteBuffer cursor;
+
+    private final int signatureCount;
+    private final int signaturesOffset;
+    private final int accountCount;
+    private final int accountsOffset;
+    private final int blockhashOffset;
+    private final int[] dataOffsets;
+    private final int[] dataLengths;
+
+    SolanaMessageTemplate(final ByteBuffer sealed)
+    {
+        this.message = requireNonNull(sealed).slice();
+        this.littleEndian = message.duplicate().order(ByteOrder.LITTLE_ENDIAN);
+        this.cursor = message.duplicate();
+
+        final ByteBuffer reader = message.duplicate();
+        signatureCount = SolanaShortVec.readInt(reader);
+        signaturesOffset = reader.position();
+        skip(reader, signatureCount * SIGNATURE_LENGTH);
+
+        final byte first = reader.get();
+        if (first == (byte) 0x80)
+        {
+            reader.get();
+        }
+        else if ((first & 0x80) != 0x00)
+        {
+            throw new IllegalArgumentException("unsupported message format");
+        }
+        // signed read only and unsigned read only account counts
+        skip(reader, 2);
+
+        accountCount = SolanaShortVec.readInt(reader);
+        accountsOffset = reader.position();
+        skip(reader, accountCount * PublicKey.PUBLIC_KEY_LENGTH);
+
+        blockhashOffset = reader.position();
+        skip(reader, BLOCKHASH_LENGTH);
+
+        final int instructionCount = SolanaShortVec.readInt(reader);
+        dataOffsets = new int[instructionCount];
+        dataLengths = new int[instructionCount];
+        for (int i = 0; i < instructionCount; i++)
+        {
+            SolanaShortVec.readInt(reader);
+            final int accountReferenceCount = SolanaShortVec.readInt(reader);
+            for (int j = 0; j < accountReferenceCount; j++)
+            {
+                SolanaShortVec.readInt(reader);
+            }
+            dataLengths[i] = SolanaShortVec.readInt(reader);
+            dataOffsets[i] = reader.position();
+            skip(reader, dataLengths[i]);
+        }
+    }
+
+    @Override
+    public ByteBuffer buffer()
+    {
+        return message.duplicate();
+    }
+
+    @Override
+    public int signatureCount()
+    {
+        return signatureCount;
+    }
+
+    @Override
+    public int accountCount()
+    {
+        return accountCount;
+    }
+
+    @Override
+    public int instructionCount()
+    {
+        return dataOffsets.length;
+    }
+
+    @Override
+    public int indexOfAccount(final PublicKey account)
+    {
+        requireNonNull(account);
+        for (int i = 0; i < accountCount; i++)
+        {
+            if (account.equals(SolanaAccount.read(at(accountOffset(i), PublicKey.PUBLIC_KEY_LENGTH))))
+            {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    @Override
+    public int signatureOffset(final int index)
+    {
+        return signaturesOffset + Objects.checkIndex(index, signatureCount) * SIGNATURE_LENGTH;
+    }
+
+    @Override
+    public int accountOffset(final int index)
+    {
+        return accountsOffset + Objects.checkIndex(index, accountCount) * PublicKey.PUBLIC_KEY_LENGTH;
+    }
+
+    @Override
+    public int blockhashOffset()
+    {
+        return blockhashOffset;
+    }
+
+    @Override
+    public int dataOffset(final int instruction)
+    {
+        return dataOffsets[Objects.checkIndex(instruction, dataOffsets.length)];
+    }
+
+    @Override
+    public int dataLength(final int instruction)
+    {
+        return dataLengths[Objects.checkIndex(instruction, dataLengths.length)];
+    }
+
+    @Override
+    public MessageTemplate blockhash(final Blockhash blockhash)
+    {
+        blockhash.write(at(blockhashOffset, BLOCKHASH_LENGTH));
+        return this;
+    }
+
+    @Override
+    public MessageTemplate account(final int index, final PublicKey account)
+    {
+        account.write(at(accountOffset(index), PublicKey.PUBLIC_KEY_LENGTH));
+        return this;
+    }
+
+    @Override
+    public MessageTemplate putLong(final int instruction, final int offset, final long value)
+    {
+        littleEndian.putLong(dataIndex(instruction, offset, Long.BYTES), value);
+        return this;
+    }
+
+    @Override
+    public MessageTemplate putInt(final int instruction, final int offset, final int value)
+    {
+        littleEndian.putInt(dataIndex(instruction, offset, Integer.BYTES), value);
+        return this;
+    }
+
+    @Override
+    public MessageTemplate put(final int instruction, final int offset, final byte value)
+    {
+        message.put(dataIndex(instruction, offset, Byte.BYTES), value);
+        return this;
+    }
+
+    @Override
+    public SignedMessageBuilder signed()
+    {
+        return new SolanaSignedMessageBuilder(message.duplicate());
+    }
+
+    private int dataIndex(final int instruction, final int offset, final int size)
+    {
+        return dataOffset(instruction) + Objects.checkFromIndexSize(offset, size, dataLengths[instruction]);
+    }
+
+    /**
+     * Positions the reusable cursor over one field, limited to its length so a write cannot run into the next field.
+     */
+    private ByteBuffer at(final int offset, final int length)
+    {
+        cursor.limit(offset + length);
+        cursor.position(offset);
+        return cursor;
+    }
+
+    private static void skip(final ByteBuffer reader, final int length)
+    {
+        reader.position(reader.position() + length);
+    }
+}
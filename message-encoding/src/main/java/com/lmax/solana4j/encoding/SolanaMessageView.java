@@ -1,7 +1,6 @@
 package com.lmax.solana4j.encoding;
 
 import com.lmax.solana4j.api.Blockhash;
-import com.lmax.solana4j.api.MessageVisitor;
 import com.lmax.solana4j.api.MessageVisitor.MessageView;
 import com.lmax.solana4j.api.PublicKey;
 
@@ -9,62 +8,73 @@ import java.nio.ByteBuffer;
 import java.util.List;
 import java.util.NoSuchElementException;
 
+/**
+ * A view of a message that reads each field from the message's buffer when it is asked for.
+ * <p>
+ * Reading the view finds where the signatures, the static accounts and the instructions start, so that the fee payer or a
+ * signature can be read without decoding anything else. The instructions are walked once, the first time an instruction
+ * or, for V0 messages, an account lookup is asked for.
+ * </p>
+ */
 abstract class SolanaMessageView implements MessageView
 {
+    private static final int SIGNATURE_LENGTH = 64;
+    private static final int BLOCKHASH_LENGTH = 32;
+
+    private final ByteBuffer message;
+    private final int countSignatures;
+    private final int signaturesOffset;
+    private final ByteBuffer transaction;
     private final int countAccountsSigned;
     private final int countAccountsSignedReadOnly;
     private final int countAccountsUnsignedReadOnly;
-
-    private final MessageVisitor.AccountsView accountsView;
-    private final List<ByteBuffer> signatures;
-    private final PublicKey feePayer;
-    private final Blockhash recentBlockHash;
-
-    private final ByteBuffer transaction;
+    private final SolanaAccountList staticAccounts;
+    private final int blockhashOffset;
+    private int[] instructionOffsets;
 
     SolanaMessageView(
+            final ByteBuffer message,
+            final int countSignatures,
+            final int signaturesOffset,
+            final ByteBuffer transaction,
             final int countAccountsSigned,
             final int countAccountsSignedReadOnly,
             final int countAccountsUnsignedReadOnly,
-            final MessageVisitor.AccountsView accountsView,
-            final ByteBuffer transaction,
-            final List<ByteBuffer> signatures,
-            final PublicKey feePayer,
-            final Blockhash recentBlockHash)
+            final SolanaAccountList staticAccounts,
+            final int blockhashOffset)
     {
+        this.message = message;
+        this.countSignatures = countSignatures;
+        this.signaturesOffset = signaturesOffset;
+        this.transaction = transaction;
         this.countAccountsSigned = countAccountsSigned;
         this.countAccountsSignedReadOnly = countAccountsSignedReadOnly;
         this.countAccountsUnsignedReadOnly = countAccountsUnsignedReadOnly;
-        this.accountsView = accountsView;
-        this.transaction = transaction;
-        this.signatures = signatures;
-        this.feePayer = feePayer;
-        this.recentBlockHash = recentBlockHash;
+        this.staticAccounts = staticAccounts;
+        this.blockhashOffset = blockhashOffset;
     }
 
     static MessageView fromBuffer(final ByteBuffer buffer)
     {
-        final var formatter = new SolanaMessageFormattingCommon(buffer);
+        final ByteBuffer reader = buffer.duplicate();
 
-        final var signatures = formatter.readSignatures();
-        final var transaction = buffer.slice();
-        final var first = formatter.readByte();
+        final int countSignatures = SolanaShortVec.readInt(reader);
+        final int signaturesOffset = reader.position();
+        reader.position(signaturesOffset + countSignatures * SIGNATURE_LENGTH);
+        final var transaction = reader.slice();
+        final var first = reader.get();
 
-        boolean v0Format = false;
-        boolean legacyFormat = false;
-
-        final int version;
+        final boolean v0Format;
         final int countAccountsSigned;
 
         if (first == (byte) 0x80)
         {
             v0Format = true;
-            version = 0;
-            countAccountsSigned = formatter.readByte() & 0xff;
+            countAccountsSigned = reader.get() & 0xff;
         }
         else if ((first & 0x80) == 0x00)
         {
-            legacyFormat = true;
+            v0Format = false;
             countAccountsSigned = first & 0xff;
         }
         else
@@ -72,48 +82,35 @@ abstract class SolanaMessageView implements MessageView
             throw new RuntimeException("unsupported message format");
         }
 
-        final int countAccountsSignedReadOnly = formatter.readByte() & 0xff; //convert ignoring the sign bit
-        final int countAccountsUnsignedReadOnly = formatter.readByte() & 0xff;
-
-        final var staticAccounts = formatter.readStaticAccounts();
+        final int countAccountsSignedReadOnly = reader.get() & 0xff; //convert ignoring the sign bit
+        final int countAccountsUnsignedReadOnly = reader.get() & 0xff;
 
-        final var blockhash = formatter.readBlockHash();
+        final var staticAccounts = SolanaAccountList.read(reader);
+        final int blockhashOffset = reader.position();
 
-        final var instructions = formatter.readInstructions();
-
-        if (legacyFormat)
+        if (v0Format)
         {
-            return new SolanaLegacyMessageView(
-                    countAccountsSigned,
-                    countAccountsSignedReadOnly,
-                    countAccountsUnsignedReadOnly,
-                    new SolanaLegacyAccountsView(staticAccounts),
-                    transaction,
-                    signatures,
-                    staticAccounts.get(0),
-                    blockhash,
-                    instructions);
-        }
-        else if (v0Format)
-        {
-            final var accountLookups = formatter.readAccountLookups();
-
             return new SolanaV0MessageView(
+                    reader,
+                    countSignatures,
+                    signaturesOffset,
+                    transaction,
                     countAccountsSigned,
                     countAccountsSignedReadOnly,
                     countAccountsUnsignedReadOnly,
-                    new SolanaV0AccountsView(staticAccounts, accountLookups),
-                    transaction,
-                    signatures,
-                    staticAccounts.get(0),
-                    blockhash,
-                    instructions,
-                    accountLookups);
-        }
-        else
-        {
-            throw new RuntimeException("unsupported message format");
+                    staticAccounts,
+                    blockhashOffset);
         }
+        return new SolanaLegacyMessageView(
+                reader,
+                countSignatures,
+                signaturesOffset,
+                transaction,
+                countAccountsSigned,
+                countAccountsSignedReadOnly,
+                countAccountsUnsignedReadOnly,
+                staticAccounts,
+                blockhashOffset);
     }
 
     @Override
@@ -143,34 +140,34 @@ abstract class SolanaMessageView implements MessageView
     @Override
     public ByteBuffer signature(final PublicKey account)
     {
-        int index = 0;
-        for (final var signature : signatures)
+        final int index = staticAccounts.indexOf(account);
+        if (index == -1 || index >= countSignatures)
         {
-            if (accountsView.staticAccounts().get(index).equals(account))
-            {
-                return signature;
-            }
-            index++;
+            throw new NoSuchElementException();
         }
-        throw new NoSuchElementException();
+        final byte[] signature = new byte[SIGNATURE_LENGTH];
+        message.duplicate().position(signaturesOffset + index * SIGNATURE_LENGTH).get(signature);
+        return ByteBuffer.wrap(signature);
     }
 
     @Override
     public PublicKey feePayer()
     {
-        return feePayer;
+        return staticAccounts.get(0);
     }
 
     @Override
     public Blockhash recentBlockHash()
     {
-        return recentBlockHash;
+        final byte[] blockhash = new byte[BLOCKHASH_LENGTH];
+        message.duplicate().position(blockhashOffset).get(blockhash);
+        return new SolanaBlockhash(blockhash);
     }
 
     @Override
     public boolean isSigner(final PublicKey account)
     {
-        final var index = accountsView.staticAccounts().indexOf(account);
+        final var index = staticAccounts.indexOf(account);
 
         if (index == -1)
         {
@@ -183,13 +180,50 @@ abstract class SolanaMessageView implements MessageView
     @Override
     public List<PublicKey> signers()
     {
-        return accountsView.staticAccounts().subList(0, countAccountsSigned);
+        return staticAccounts.subList(0, countAccountsSigned);
     }
 
     @Override
     public List<PublicKey> staticAccounts()
     {
-        return accountsView.staticAccounts();
+        return staticAccounts;
+    }
+
+    @Override
+    public int countStaticAccounts()
+    {
+        return staticAccounts.size();
+    }
+
+    @Override
+    public PublicKey staticAccount(final int index)
+    {
+        return staticAccounts.get(index);
+    }
+
+    final ByteBuffer message()
+    {
+        return message;
     }
 
+    /**
+     * Returns the index in the message of each instruction, followed by the index just after the last of them.
+     */
+    final int[] instructionOffsets()
+    {
+        if (instructionOffsets == null)
+        {
+            final ByteBuffer reader = message.duplicate().position(blockhashOffset + BLOCKHASH_LENGTH);
+            final int count = SolanaShortVec.readInt(reader);
+            final int[] offsets = new int[count + 1];
+            for (int i = 0; i < count; i++)
+            {
+                offsets[i] = reader.position();
+                SolanaInstructionView.skip(reader);
+            }
+            offsets[count] = reader.position();
+            instructionOffsets = offsets;
+        }
+        return instructionOffsets;
+    }
 }
@@ -1,6 +1,5 @@
 package com.lmax.solana4j.encoding;
 
-import com.lmax.solana4j.api.Accounts;
 import com.lmax.solana4j.api.TransactionInstruction;
 
 import java.nio.ByteBuffer;
@@ -8,12 +7,12 @@ import java.util.List;
 
 final class SolanaMessageWriterLegacy
 {
-    private final Accounts accounts;
+    private final SolanaAccounts accounts;
     private final SolanaBlockhash recentBlockHash;
     private final List<TransactionInstruction> instructions;
 
     SolanaMessageWriterLegacy(
-            final Accounts accounts,
+            final SolanaAccounts accounts,
             final SolanaBlockhash recentBlockHash,
             final List<TransactionInstruction> instructions)
     {
@@ -41,7 +40,7 @@ final class SolanaMessageWriterLegacy
         formatter.writeBlockHash(recentBlockHash);
 
         // write transaction instructions
-        formatter.writeInstructions(instructions, accounts.getFlattenedAccountList()::indexOf);
+        formatter.writeInstructions(instructions, accounts);
     }
 
 }
@@ -1,6 +1,5 @@
 package com.lmax.solana4j.encoding;
 
-import com.lmax.solana4j.api.Accounts;
 import com.lmax.solana4j.api.TransactionInstruction;
 
 import java.nio.ByteBuffer;
@@ -10,12 +9,12 @@ final class SolanaMessageWriterV0
 {
     private final SolanaBlockhash recentBlockHash;
     private final List<TransactionInstruction> instructions;
-    private final Accounts accounts;
+    private final SolanaAccounts accounts;
 
     SolanaMessageWriterV0(
             final SolanaBlockhash recentBlockHash,
             final List<TransactionInstruction> instructions,
-            final Accounts accounts
+            final SolanaAccounts accounts
     )
     {
         this.recentBlockHash = recentBlockHash;
@@ -43,7 +42,7 @@ final class SolanaMessageWriterV0
         formatter.writeBlockHash(recentBlockHash);
 
         // write transaction instructions
-        formatter.writeInstructions(instructions, accounts.getFlattenedAccountList()::indexOf);
+        formatter.writeInstructions(instructions, accounts);
 
         // write lookup accounts
         formatter.writeAccountLookups(accounts.getAccountLookups());
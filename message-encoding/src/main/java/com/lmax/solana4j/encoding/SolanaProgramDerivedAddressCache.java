@@ -0,0 +1,184 @@
+package com.lmax.solana4j.encoding;
+
+import com.lmax.solana4j.api.ProgramDerivedAddress;
+import com.lmax.solana4j.api.ProgramDerivedAddressCache;
+import com.lmax.solana4j.api.ProgramDerivedAddressDeriver;
+import com.lmax.solana4j.api.PublicKey;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+import static com.lmax.solana4j.api.PublicKey.PUBLIC_KEY_LENGTH;
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Least recently used cache of found program derived addresses in front of a {@link ProgramDerivedAddressDeriver}.
+ * <p>
+ * Lookups take a single lock for the duration of the map access only; a miss searches for the address outside the lock,
+ * so two threads missing on the same seeds may both search, and the second simply replaces the first's entry.
+ * </p>
+ */
+final class SolanaProgramDerivedAddressCache implements ProgramDerivedAddressCache
+{
+    private final ProgramDerivedAddressDeriver deriver;
+    private final int maximumSize;
+    private final Map<Key, ProgramDerivedAddress> addresses;
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    SolanaProgramDerivedAddressCache(final ProgramDerivedAddressDeriver deriver, final int maximumSize)
+    {
+        if (maximumSize <= 0)
+        {
+            throw new IllegalArgumentException("The maximum size must be positive, but was " + maximumSize);
+        }
+        this.deriver = requireNonNull(deriver);
+        this.maximumSize = maximumSize;
+        this.addresses = new LinkedHashMap<>(16, 0.75f, true)
+        {
+            @Override
+            protected boolean removeEldestEntry(final Map.Entry<Key, ProgramDerivedAddress> eldest)
+            {
+                return size() > SolanaProgramDerivedAddressCache.this.maximumSize;
+            }
+        };
+    }
+
+    @Override
+    public ProgramDerivedAddress findProgramAddress(final List<byte[]> seeds, final PublicKey programId)
+    {
+        final Key key = new Key(seeds, programId);
+
+        ProgramDerivedAddress address;
+        synchronized (addresses)
+        {
+            address = addresses.get(key);
+        }
+        if (address != null)
+        {
+            hits.increment();
+            return address;
+        }
+
+        misses.increment();
+        address = deriver.findProgramAddress(seeds, programId);
+        synchronized (addresses)
+        {
+            addresses.put(key, address);
+        }
+        return address;
+    }
+
+    @Override
+    public int findProgramAddress(final List<byte[]> seeds, final PublicKey programId, final ByteBuffer address)
+    {
+        final ProgramDerivedAddress programDerivedAddress = findProgramAddress(seeds, programId);
+        programDerivedAddress.address().write(address);
+
+        return programDerivedAddress.nonce();
+    }
+
+    @Override
+    public ProgramDerivedAddress createProgramAddress(final List<byte[]> seeds, final int bump, final PublicKey programId)
+    {
+        return deriver.createProgramAddress(seeds, bump, programId);
+    }
+
+    @Override
+    public void createProgramAddress(final List<byte[]> seeds, final int bump, final PublicKey programId, final ByteBuffer address)
+    {
+        deriver.createProgramAddress(seeds, bump, programId, address);
+    }
+
+    @Override
+    public long hits()
+    {
+        return hits.sum();
+    }
+
+    @Override
+    public long misses()
+    {
+        return misses.sum();
+    }
+
+    @Override
+    public int size()
+    {
+        synchronized (addresses)
+        {
+            return addresses.size();
+        }
+    }
+
+    @Override
+    public int maximumSize()
+    {
+        return maximumSize;
+    }
+
+    @Override
+    public void clear()
+    {
+        synchronized (addresses)
+        {
+            addresses.clear();
+        }
+    }
+
+    @Override
+    public String toString()
+    {
+        return "SolanaProgramDerivedAddressCache{" +
+                "size=" + size() +
+                ", maximumSize=" + maximumSize +
+                ", hits=" + hits() +
+                ", misses=" + misses() +
+                '}';
+    }
+
+    /**
+     * The program id followed by each seed prefixed with its length, so that seeds split differently never share a key.
+     */
+    private static final class Key
+    {
+        private final byte[] bytes;
+        private final int hashCode;
+
+        Key(final List<byte[]> seeds, final PublicKey programId)
+        {
+            int length = PUBLIC_KEY_LENGTH;
+            for (int i = 0; i < seeds.size(); i++)
+            {
+                length += Integer.BYTES + seeds.get(i).length;
+            }
+
+            final ByteBuffer buffer = ByteBuffer.allocate(length);
+            programId.write(buffer);
+            for (int i = 0; i < seeds.size(); i++)
+            {
+                final byte[] seed = seeds.get(i);
+                buffer.putInt(seed.length).put(seed);
+            }
+
+            this.bytes = buffer.array();
+            this.hashCode = Arrays.hashCode(bytes);
+        }
+
+        @Override
+        public boolean equals(final Object o)
+        {
+            return this == o || o instanceof Key && Arrays.equals(bytes, ((Key) o).bytes);
+        }
+
+        @Override
+        public int hashCode()
+        {
+            return hashCode;
+        }
+    }
+}
@@ -0,0 +1,142 @@
+package com.lmax.solana4j.encoding;
+
+import com.lmax.solana4j.api.ProgramDerivedAddress;
+import com.lmax.solana4j.api.ProgramDerivedAddressDeriver;
+import com.lmax.solana4j.api.PublicKey;
+
+import java.nio.ByteBuffer;
+import java.security.DigestException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.List;
+
+import static com.lmax.solana4j.api.PublicKey.PUBLIC_KEY_LENGTH;
+import static com.lmax.solana4j.encoding.SolanaProgramDerivedAddress.PROGRAM_DERIVED_ADDRESS_BYTES;
+
+/**
+ * Derives program addresses with a digest and hash buffer held per thread, feeding the seeds to the digest directly rather
+ * than copying them into an intermediate buffer for each bump seed.
+ */
+final class SolanaProgramDerivedAddressDeriver implements ProgramDerivedAddressDeriver
+{
+    static final SolanaProgramDerivedAddressDeriver INSTANCE = new SolanaProgramDerivedAddressDeriver();
+
+    private static final int MAX_BUMP_SEED = 255;
+
+    private static final ThreadLocal<Workspace> WORKSPACE = ThreadLocal.withInitial(Workspace::new);
+
+    private SolanaProgramDerivedAddressDeriver()
+    {
+    }
+
+    @Override
+    public ProgramDerivedAddress findProgramAddress(final List<byte[]> seeds, final PublicKey programId)
+    {
+        final Workspace workspace = WORKSPACE.get();
+        final int bump = findBumpSeed(workspace, seeds, programId);
+
+        return new SolanaProgramDerivedAddress(new SolanaAccount(workspace.hash), programId, bump);
+    }
+
+    @Override
+    public int findProgramAddress(final List<byte[]> seeds, final PublicKey programId, final ByteBuffer address)
+    {
+        final Workspace workspace = WORKSPACE.get();
+        final int bump = findBumpSeed(workspace, seeds, programId);
+        address.put(workspace.hash);
+
+        return bump;
+    }
+
+    @Override
+    public ProgramDerivedAddress createProgramAddress(final List<byte[]> seeds, final int bump, final PublicKey programId)
+    {
+        final Workspace workspace = WORKSPACE.get();
+        createAddress(workspace, seeds, bump, programId);
+
+        return new SolanaProgramDerivedAddress(new SolanaAccount(workspace.hash), programId, bump);
+    }
+
+    @Override
+    public void createProgramAddress(final List<byte[]> seeds, final int bump, final PublicKey programId, final ByteBuffer address)
+    {
+        final Workspace workspace = WORKSPACE.get();
+        createAddress(workspace, seeds, bump, programId);
+
+        address.put(workspace.hash);
+    }
+
+    private static int findBumpSeed(final Workspace workspace, final List<byte[]> seeds, final PublicKey programId)
+    {
+        int bumpSeed = MAX_BUMP_SEED;
+        while (bumpSeed > 0)
+        {
+            if (workspace.hashOffCurve(seeds, bumpSeed, programId))
+            {
+                return bumpSeed;
+            }
+            bumpSeed--;
+        }
+        throw new RuntimeException("Could not find a program address off the curve.");
+    }
+
+    private static void createAddress(final Workspace workspace, final List<byte[]> seeds, final int bump, final PublicKey programId)
+    {
+        if (bump < 0 || bump > MAX_BUMP_SEED)
+        {
+            throw new IllegalArgumentException("The bump seed must be between 0 and " + MAX_BUMP_SEED + ", but was " + bump);
+        }
+        if (!workspace.hashOffCurve(seeds, bump, programId))
+        {
+            throw new IllegalArgumentException("The seeds and bump seed " + bump + " produce an address on the curve.");
+        }
+    }
+
+    /**
+     * Per-thread digest and the buffer the most recent hash is written to.
+     */
+    private static final class Workspace
+    {
+        private final MessageDigest digest;
+        private final byte[] hash = new byte[PUBLIC_KEY_LENGTH];
+        private final ByteBuffer programIdBytes = ByteBuffer.allocate(PUBLIC_KEY_LENGTH);
+
+        Workspace()
+        {
+            try
+            {
+                this.digest = MessageDigest.getInstance("SHA-256");
+            }
+            catch (final NoSuchAlgorithmException e)
+            {
+                throw new RuntimeException(e);
+            }
+        }
+
+        boolean hashOffCurve(final List<byte[]> seeds, final int bumpSeed, final PublicKey programId)
+        {
+            // a previous derivation may have been abandoned part way through, for example on a null seed
+            digest.reset();
+            for (int i = 0; i < seeds.size(); i++)
+            {
+                digest.update(seeds.get(i));
+            }
+            digest.update((byte) bumpSeed);
+            // written rather than taken from bytes(), which copies the key for every bump tried
+            programId.write(programIdBytes.clear());
+            digest.update(programIdBytes.array());
+            digest.update(PROGRAM_DERIVED_ADDRESS_BYTES);
+
+            try
+            {
+                digest.digest(hash, 0, PUBLIC_KEY_LENGTH);
+            }
+            catch (final DigestException e)
+            {
+                throw new RuntimeException(e);
+            }
+
+            return !Ed25519.isOnCurve(hash);
+        }
+    }
+}
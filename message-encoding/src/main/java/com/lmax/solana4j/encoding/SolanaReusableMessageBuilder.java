@@ -0,0 +1,47 @@
+package com.lmax.solana4j.encoding;
+
+import com.lmax.solana4j.api.MessageBuilder;
+import com.lmax.solana4j.api.MessageBuilderLegacy;
+import com.lmax.solana4j.api.MessageBuilderV0;
+
+import java.nio.ByteBuffer;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * A message builder that hands back the same legacy and V0 builders each time, reset, and takes the instructions and
+ * account references of the previous message back into its pool rather than leaving them for the garbage collector.
+ * <p>
+ * Starting a message recycles the previous one, so instructions appended through a {@link com.lmax.solana4j.api.TransactionBuilder}
+ * must not be held on to beyond sealing the message they were built for. Not safe for use by more than one thread at a time.
+ * </p>
+ */
+final class SolanaReusableMessageBuilder implements MessageBuilder
+{
+    private final SolanaInstructionSlots slots = new SolanaInstructionSlots(this);
+    private final SolanaMessageBuilderLegacy legacy;
+    private final SolanaMessageBuilderV0 v0;
+
+    SolanaReusableMessageBuilder(final ByteBuffer buffer)
+    {
+        requireNonNull(buffer);
+        this.legacy = new SolanaMessageBuilderLegacy(this, buffer, slots);
+        this.v0 = new SolanaMessageBuilderV0(this, buffer, slots);
+    }
+
+    @Override
+    public MessageBuilderLegacy legacy()
+    {
+        slots.recycle();
+        legacy.reset();
+        return legacy;
+    }
+
+    @Override
+    public MessageBuilderV0 v0()
+    {
+        slots.recycle();
+        v0.reset();
+        return v0;
+    }
+}
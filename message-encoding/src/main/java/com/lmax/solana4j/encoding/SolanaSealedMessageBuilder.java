@@ -15,6 +15,16 @@ final class SolanaSealedMessageBuilder implements SealedMessageBuilder
         this.buffer = buffer;
     }
 
+    /**
+     * Moves this builder's view of the buffer it shares content with onto the message just sealed into that buffer,
+     * for builders that seal one message after another into the same buffer.
+     */
+    SolanaSealedMessageBuilder viewing(final ByteBuffer sealed)
+    {
+        buffer.limit(sealed.limit()).position(sealed.position());
+        return this;
+    }
+
     @Override
     public SignedMessageBuilder signed()
     {
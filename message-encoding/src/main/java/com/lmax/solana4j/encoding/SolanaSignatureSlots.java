@@ -0,0 +1,142 @@
+package com.lmax.solana4j.encoding;
+
+import com.lmax.solana4j.api.PublicKey;
+
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+
+/**
+ * The signature slots of a sealed message and the accounts they belong to, found by reading no further than the header and
+ * the signing accounts, rather than reading the whole message into a view.
+ */
+final class SolanaSignatureSlots
+{
+    static final int SIGNATURE_LENGTH = 64;
+
+    private final ByteBuffer message;
+    private final int count;
+    private final int signaturesOffset;
+    private final int transactionOffset;
+    private final int accountsOffset;
+
+    private SolanaSignatureSlots(final ByteBuffer message, final int count, final int signaturesOffset, final int transactionOffset, final int accountsOffset)
+    {
+        this.message = message;
+        this.count = count;
+        this.signaturesOffset = signaturesOffset;
+        this.transactionOffset = transactionOffset;
+        this.accountsOffset = accountsOffset;
+    }
+
+    /**
+     * Reads the slots of the sealed message between the buffer's position and limit, without moving its position.
+     *
+     * @throws IllegalStateException if the message is not in a supported format, is truncated, or has a signature slot for
+     *                               other than each of its signing accounts
+     */
+    static SolanaSignatureSlots of(final ByteBuffer message)
+    {
+        try
+        {
+            return read(message);
+        }
+        catch (final BufferUnderflowException e)
+        {
+            throw new IllegalStateException("message is malformed", e);
+        }
+    }
+
+    private static SolanaSignatureSlots read(final ByteBuffer message)
+    {
+        final ByteBuffer reader = message.duplicate();
+        final int count = SolanaShortVec.readInt(reader);
+        final int signaturesOffset = reader.position();
+        final int transactionOffset = signaturesOffset + count * SIGNATURE_LENGTH;
+        if (transactionOffset >= reader.limit())
+        {
+            throw new IllegalStateException("message is malformed");
+        }
+        reader.position(transactionOffset);
+
+        final byte first = reader.get();
+        final int countAccountsSigned;
+        if (first == (byte) 0x80)
+        {
+            countAccountsSigned = reader.get() & 0xff;
+        }
+        else if ((first & 0x80) == 0x00)
+        {
+            countAccountsSigned = first & 0xff;
+        }
+        else
+        {
+            throw new IllegalStateException("unsupported message format");
+        }
+        reader.get();
+        reader.get();
+        final int countAccounts = SolanaShortVec.readInt(reader);
+        if (countAccountsSigned != count || countAccounts < count || reader.remaining() < count * PublicKey.PUBLIC_KEY_LENGTH)
+        {
+            throw new IllegalStateException("message is malformed");
+        }
+        return new SolanaSignatureSlots(message, count, signaturesOffset, transactionOffset, reader.position());
+    }
+
+    int count()
+    {
+        return count;
+    }
+
+    SolanaAccount signatory(final int slot)
+    {
+        return SolanaAccount.read(message.duplicate().position(signatoryOffset(slot)));
+    }
+
+    int transactionOffset()
+    {
+        return transactionOffset;
+    }
+
+    int signatureOffset(final int slot)
+    {
+        return signaturesOffset + slot * SIGNATURE_LENGTH;
+    }
+
+    int signatoryOffset(final int slot)
+    {
+        return accountsOffset + slot * PublicKey.PUBLIC_KEY_LENGTH;
+    }
+
+    /**
+     * Returns the slot of the account's signature, or -1 if the account is not one of the message's signatories.
+     */
+    int indexOf(final SolanaAccount account)
+    {
+        for (int slot = 0; slot < count; slot++)
+        {
+            if (account.isAt(message, signatoryOffset(slot)))
+            {
+                return slot;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Returns a view of exactly the slot's 64 bytes, sharing content with the message.
+     */
+    ByteBuffer signature(final int slot)
+    {
+        final int offset = signatureOffset(slot);
+        return message.duplicate().limit(offset + SIGNATURE_LENGTH).position(offset).slice();
+    }
+
+    /**
+     * Returns a view of the signed part of the message, from the header to the message's limit, sharing content with the
+     * message.
+     */
+    ByteBuffer transaction()
+    {
+        return message.duplicate().position(transactionOffset).slice();
+    }
+}
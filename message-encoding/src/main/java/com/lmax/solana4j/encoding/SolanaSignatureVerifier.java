@@ -0,0 +1,267 @@
+package com.lmax.solana4j.encoding;
+
+import com.lmax.solana4j.api.PublicKey;
+import com.lmax.solana4j.api.SignatureVerifier;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.nio.ByteBuffer;
+import java.security.GeneralSecurityException;
+import java.security.KeyFactory;
+import java.security.NoSuchAlgorithmException;
+import java.security.Signature;
+import java.security.spec.X509EncodedKeySpec;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Verifies the signatures of sealed messages where they lie in the message, through BouncyCastle where it is on the class
+ * path, or otherwise through the JDK's own EdDSA implementation (15 and later).
+ * <p>
+ * The signatures, the public keys of the signatories and the signed transaction are all read from the message's backing
+ * array, so a heap buffer is verified without copying; any other buffer is copied once, to a per-thread array, for all of
+ * its signatures. When verifying many messages at once, each distinct public key is decoded once, for all of the messages
+ * it signs.
+ * </p>
+ */
+final class SolanaSignatureVerifier implements SignatureVerifier
+{
+    private static final Object INVALID_KEY = new Object();
+
+    private final Engine engine;
+    private final ThreadLocal<Workspace> workspaces = ThreadLocal.withInitial(Workspace::new);
+
+    SolanaSignatureVerifier(final Engine engine)
+    {
+        this.engine = engine;
+    }
+
+    static SignatureVerifier create()
+    {
+        if (BouncyCastle.AVAILABLE)
+        {
+            return new SolanaSignatureVerifier(new BouncyCastle());
+        }
+        if (Jdk.AVAILABLE)
+        {
+            return new SolanaSignatureVerifier(new Jdk());
+        }
+        throw new IllegalStateException("No Ed25519 implementation found; add BouncyCastle to the class path, or run on JDK 15 or later.");
+    }
+
+    @Override
+    public boolean verify(final ByteBuffer message)
+    {
+        return verify(message, null);
+    }
+
+    @Override
+    public boolean[] verifyAll(final List<ByteBuffer> messages)
+    {
+        final Map<SolanaAccount, Object> keys = new HashMap<>();
+        final boolean[] verified = new boolean[messages.size()];
+        for (int i = 0; i < verified.length; i++)
+        {
+            verified[i] = verify(messages.get(i), keys);
+        }
+        return verified;
+    }
+
+    private boolean verify(final ByteBuffer message, final Map<SolanaAccount, Object> keys)
+    {
+        final SolanaSignatureSlots slots = slotsOf(message);
+        if (slots == null || slots.count() == 0)
+        {
+            return false;
+        }
+
+        // maps an index into the message buffer to an index into the bytes
+        final byte[] bytes;
+        final int base;
+        if (message.hasArray())
+        {
+            bytes = message.array();
+            base = message.arrayOffset();
+        }
+        else
+        {
+            bytes = workspaces.get().copyOf(message);
+            base = -message.position();
+        }
+
+        final int transactionOffset = base + slots.transactionOffset();
+        final int transactionLength = message.limit() - slots.transactionOffset();
+        for (int slot = 0; slot < slots.count(); slot++)
+        {
+            final int publicKeyOffset = base + slots.signatoryOffset(slot);
+            final Object key = keys == null ? decode(bytes, publicKeyOffset) : keys.computeIfAbsent(slots.signatory(slot), account -> decode(bytes, publicKeyOffset));
+            if (key == INVALID_KEY || !engine.verify(key, bytes, base + slots.signatureOffset(slot), transactionOffset, transactionLength))
+            {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private Object decode(final byte[] bytes, final int publicKeyOffset)
+    {
+        final Object key = engine.decode(bytes, publicKeyOffset);
+        return key == null ? INVALID_KEY : key;
+    }
+
+    private static SolanaSignatureSlots slotsOf(final ByteBuffer message)
+    {
+        try
+        {
+            return SolanaSignatureSlots.of(message);
+        }
+        catch (final IllegalStateException e)
+        {
+            return null;
+        }
+    }
+
+    /**
+     * Verifies signatures held in arrays, against public keys decoded into whatever form the engine verifies with.
+     */
+    interface Engine
+    {
+        /**
+         * Returns the public key at the offset in the engine's own form, or null if it is not a valid Ed25519 public key.
+         */
+        Object decode(byte[] bytes, int publicKeyOffset);
+
+        boolean verify(Object key, byte[] bytes, int signatureOffset, int transactionOffset, int transactionLength);
+    }
+
+    static final class Jdk implements Engine
+    {
+        static final boolean AVAILABLE = SolanaEd25519Signer.Jdk.AVAILABLE;
+
+        private final ThreadLocal<Signature> signatures = ThreadLocal.withInitial(Jdk::newSignature);
+
+        @Override
+        public Object decode(final byte[] bytes, final int publicKeyOffset)
+        {
+            final byte[] publicKey = Arrays.copyOfRange(bytes, publicKeyOffset, publicKeyOffset + PublicKey.PUBLIC_KEY_LENGTH);
+            try
+            {
+                return KeyFactory.getInstance(SolanaEd25519Signer.Jdk.ALGORITHM)
+                        .generatePublic(new X509EncodedKeySpec(SolanaEd25519Signer.Jdk.concat(SolanaEd25519Signer.Jdk.X509_PREFIX, publicKey)));
+            }
+            catch (final NoSuchAlgorithmException e)
+            {
+                // a missing provider would otherwise reject every signature as if its key were invalid
+                throw new IllegalStateException("the JDK has no " + SolanaEd25519Signer.Jdk.ALGORITHM + " provider", e);
+            }
+            catch (final GeneralSecurityException e)
+            {
+                return null;
+            }
+        }
+
+        @Override
+        public boolean verify(final Object key, final byte[] bytes, final int signatureOffset, final int transactionOffset, final int transactionLength)
+        {
+            final Signature signature = signatures.get();
+            try
+            {
+                signature.initVerify((java.security.PublicKey) key);
+                signature.update(bytes, transactionOffset, transactionLength);
+                return signature.verify(bytes, signatureOffset, SolanaSignatureSlots.SIGNATURE_LENGTH);
+            }
+            catch (final GeneralSecurityException e)
+            {
+                return false;
+            }
+        }
+
+        private static Signature newSignature()
+        {
+            try
+            {
+                return Signature.getInstance(SolanaEd25519Signer.Jdk.ALGORITHM);
+            }
+            catch (final GeneralSecurityException e)
+            {
+                throw new IllegalStateException("failed to create signature", e);
+            }
+        }
+    }
+
+    static final class BouncyCastle implements Engine
+    {
+        private static final MethodHandle DECODE;
+        private static final MethodHandle VERIFY;
+        static final boolean AVAILABLE;
+
+        static
+        {
+            MethodHandle decode;
+            MethodHandle verify;
+            try
+            {
+                final Class<?> ed25519 = Class.forName(SolanaEd25519Signer.BouncyCastle.ED25519_CLASS);
+                final Class<?> publicPoint = Class.forName(SolanaEd25519Signer.BouncyCastle.ED25519_CLASS + "$PublicPoint");
+                final MethodHandles.Lookup lookup = MethodHandles.publicLookup();
+                decode = lookup.findStatic(ed25519, "validatePublicKeyPartialExport", MethodType.methodType(publicPoint, byte[].class, int.class))
+                        .asType(MethodType.methodType(Object.class, byte[].class, int.class));
+                verify = lookup.findStatic(ed25519, "verify", MethodType.methodType(
+                                boolean.class, byte[].class, int.class, publicPoint, byte[].class, int.class, int.class))
+                        .asType(MethodType.methodType(boolean.class, byte[].class, int.class, Object.class, byte[].class, int.class, int.class));
+            }
+            catch (final ReflectiveOperationException | LinkageError e)
+            {
+                decode = null;
+                verify = null;
+            }
+            DECODE = decode;
+            VERIFY = verify;
+            AVAILABLE = decode != null && verify != null;
+        }
+
+        @Override
+        public Object decode(final byte[] bytes, final int publicKeyOffset)
+        {
+            try
+            {
+                return (Object) DECODE.invokeExact(bytes, publicKeyOffset);
+            }
+            catch (final Throwable e)
+            {
+                throw new IllegalStateException("failed to decode public key", e);
+            }
+        }
+
+        @Override
+        public boolean verify(final Object key, final byte[] bytes, final int signatureOffset, final int transactionOffset, final int transactionLength)
+        {
+            try
+            {
+                return (boolean) VERIFY.invokeExact(bytes, signatureOffset, key, bytes, transactionOffset, transactionLength);
+            }
+            catch (final Throwable e)
+            {
+                throw new IllegalStateException("failed to verify", e);
+            }
+        }
+    }
+
+    private static final class Workspace
+    {
+        private byte[] message = new byte[SolanaEncoding.MAX_MESSAGE_SIZE];
+
+        byte[] copyOf(final ByteBuffer buffer)
+        {
+            if (message.length < buffer.remaining())
+            {
+                message = new byte[buffer.remaining()];
+            }
+            buffer.duplicate().get(message, 0, buffer.remaining());
+            return message;
+        }
+    }
+}
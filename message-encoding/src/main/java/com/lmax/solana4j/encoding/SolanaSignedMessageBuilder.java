@@ -1,22 +1,27 @@
 package com.lmax.solana4j.encoding;
 
+import com.lmax.solana4j.api.AsyncByteBufferSigner;
 import com.lmax.solana4j.api.ByteBufferSigner;
 import com.lmax.solana4j.api.Message;
 import com.lmax.solana4j.api.PublicKey;
 import com.lmax.solana4j.api.SignedMessageBuilder;
 
 import java.nio.ByteBuffer;
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+import static java.util.Objects.requireNonNull;
 
 
 final class SolanaSignedMessageBuilder implements SignedMessageBuilder
 {
-    private static final int SIGNATURE_LENGTH = 64;
-
     private final ByteBuffer buffer;
     private final Map<PublicKey, ByteBufferSigner> signers = new HashMap<>();
+    private final Map<PublicKey, AsyncByteBufferSigner> asyncSigners = new HashMap<>();
 
     SolanaSignedMessageBuilder(final ByteBuffer buffer)
     {
@@ -26,55 +31,108 @@ final class SolanaSignedMessageBuilder implements SignedMessageBuilder
     @Override
     public SignedMessageBuilder by(final PublicKey account, final ByteBufferSigner signer)
     {
+        asyncSigners.remove(account);
         signers.put(account, signer);
         return this;
     }
 
+    @Override
+    public SignedMessageBuilder byAsync(final PublicKey account, final AsyncByteBufferSigner signer)
+    {
+        signers.remove(account);
+        asyncSigners.put(account, signer);
+        return this;
+    }
+
     @Override
     public Message build()
     {
-        class SigningInfo
+        if (!asyncSigners.isEmpty())
         {
-            final List<PublicKey> signatories;
-            final ByteBuffer transaction;
-
-            SigningInfo(final List<PublicKey> signatories, final ByteBuffer transaction)
+            try
             {
-                this.signatories = signatories;
-                this.transaction = transaction;
+                return buildAsync().join();
+            }
+            catch (final CompletionException e)
+            {
+                throw e.getCause() instanceof RuntimeException ? (RuntimeException) e.getCause() : e;
             }
         }
-        final var message = new SolanaMessageReader(buffer.duplicate()).read();
 
-        final var info = message.accept(
-                message1 -> new SigningInfo(
-                        message1.staticAccounts().subList(0, message1.countAccountsSigned()),
-                        message1.transaction()));
-        final ByteBuffer signingBufferView = this.buffer.duplicate();
-        final SolanaMessageFormattingCommon formatter = new SolanaMessageFormattingCommon(signingBufferView);
-        final int expectedSignatureCount = formatter.readInt();
-        if (expectedSignatureCount != info.signatories.size())
+        final SolanaSignatureSlots slots = SolanaSignatureSlots.of(buffer);
+        for (int slot = 0; slot < slots.count(); slot++)
         {
-            throw new IllegalStateException("message is malformed");
+            final var signer = signers.get(slots.signatory(slot));
+            if (signer != null)
+            {
+                signer.sign(slots.transaction(), slots.signature(slot));
+            }
         }
-        for (final var account : info.signatories)
+        return new SolanaMessage(buffer);
+    }
+
+    @Override
+    public CompletableFuture<Message> buildAsync()
+    {
+        final SolanaSignatureSlots slots = SolanaSignatureSlots.of(buffer);
+        final List<PublicKey> signatories = new ArrayList<>(slots.count());
+        final List<CompletableFuture<Void>> pending = new ArrayList<>(asyncSigners.size());
+        for (int slot = 0; slot < slots.count(); slot++)
         {
-            final var signer = signers.get(account);
+            final PublicKey signatory = slots.signatory(slot);
+            signatories.add(signatory);
+            final var signer = asyncSigners.get(signatory);
             if (signer != null)
             {
-                final ByteBuffer signatureBuffer = signingBufferView.duplicate();
-                final int nextSignature = signatureBuffer.position() + SIGNATURE_LENGTH;
-                signatureBuffer.limit(nextSignature);
-                final ByteBuffer writableSignatureView = signatureBuffer.slice();
-                final ByteBuffer transactionView = info.transaction.duplicate();
-                signer.sign(transactionView, writableSignatureView);
-                signingBufferView.position(nextSignature);
+                pending.add(start(signer, slots.transaction(), slots.signature(slot)));
             }
-            else
+        }
+
+        // the synchronous signers run while the asynchronous ones are in flight
+        RuntimeException failure = null;
+        for (int slot = 0; slot < slots.count() && failure == null; slot++)
+        {
+            final var signer = signers.get(signatories.get(slot));
+            if (signer != null)
             {
-                signingBufferView.position(signingBufferView.position() + SIGNATURE_LENGTH);
+                try
+                {
+                    signer.sign(slots.transaction(), slots.signature(slot));
+                }
+                catch (final RuntimeException e)
+                {
+                    failure = e;
+                }
             }
         }
-        return new SolanaMessage(buffer);
+
+        final RuntimeException synchronousFailure = failure;
+        return CompletableFuture.allOf(pending.toArray(new CompletableFuture<?>[0]))
+                .handle((ignored, asynchronousFailure) ->
+                {
+                    if (synchronousFailure != null)
+                    {
+                        throw synchronousFailure;
+                    }
+                    if (asynchronousFailure != null)
+                    {
+                        throw asynchronousFailure instanceof CompletionException
+                                ? (CompletionException) asynchronousFailure
+                                : new CompletionException(asynchronousFailure);
+                    }
+                    return new SolanaMessage(buffer);
+                });
+    }
+
+    private static CompletableFuture<Void> start(final AsyncByteBufferSigner signer, final ByteBuffer transaction, final ByteBuffer signature)
+    {
+        try
+        {
+            return requireNonNull(signer.sign(transaction, signature), "signer returned no future");
+        }
+        catch (final RuntimeException e)
+        {
+            return CompletableFuture.failedFuture(e);
+        }
     }
 }
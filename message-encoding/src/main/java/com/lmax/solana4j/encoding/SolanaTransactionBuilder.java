@@ -18,18 +18,40 @@ import static java.util.Objects.requireNonNull;
 
 final class SolanaTransactionBuilder implements TransactionBuilder
 {
-    private final SolanaMessageBuilder messageBuilder;
+    private final MessageBuilder messageBuilder;
     private final List<TransactionInstruction> instructions;
+    private final SolanaInstructionSlots slots;
 
-    SolanaTransactionBuilder(final SolanaMessageBuilder messageBuilder, final List<TransactionInstruction> instructions)
+    SolanaTransactionBuilder(final MessageBuilder messageBuilder, final List<TransactionInstruction> instructions)
+    {
+        this(messageBuilder, instructions, null);
+    }
+
+    /**
+     * @param slots where to take instructions from rather than allocating them, or {@code null} to allocate a new instruction
+     *              for each one appended
+     */
+    SolanaTransactionBuilder(
+            final MessageBuilder messageBuilder,
+            final List<TransactionInstruction> instructions,
+            final SolanaInstructionSlots slots)
     {
         this.messageBuilder = messageBuilder;
         this.instructions = instructions;
+        this.slots = slots;
     }
 
     @Override
     public TransactionBuilder append(final Consumer<InstructionBuilderBase> consumer)
     {
+        if (slots != null)
+        {
+            final SolanaInstructionSlots.Slot slot = slots.acquire();
+            consumer.accept(slot);
+            instructions.add(slot);
+            return this;
+        }
+
         final MessageInstructionBuilder ib = new SolanaMessageInstructionBuilderBase();
         consumer.accept(ib);
         ib.build();
@@ -0,0 +1,84 @@
+package com.lmax.solana4j.encoding;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Reads the id of a transaction, the Base58 encoding of its first signature, from nothing more of the message than the
+ * signature count in front of it, rather than reading the whole message into a view.
+ */
+final class SolanaTransactionId
+{
+    private static final int SIGNATURE_LENGTH = SolanaSignatureSlots.SIGNATURE_LENGTH;
+    private static final int MAX_SHORT_VEC_LENGTH = 3;
+
+    private SolanaTransactionId()
+    {
+    }
+
+    /**
+     * Returns the id of the message between the buffer's position and limit, without moving its position.
+     *
+     * @throws IllegalArgumentException if the message has no signature slots or is too short to hold the first
+     */
+    static String of(final ByteBuffer message)
+    {
+        final int start = message.position();
+        final int limit = message.limit();
+
+        int count = 0;
+        int offset = start;
+        byte b;
+        do
+        {
+            if (offset == limit || offset - start == MAX_SHORT_VEC_LENGTH)
+            {
+                throw new IllegalArgumentException("message is malformed");
+            }
+            b = message.get(offset);
+            count |= (b & 0x7f) << (7 * (offset - start));
+            offset++;
+        }
+        while ((b & 0x80) != 0);
+
+        checkFirstSignature(count, limit - offset);
+        return Base58.encodeSignature(message, offset);
+    }
+
+    /**
+     * Returns the id of the message held in the whole of the array.
+     *
+     * @throws IllegalArgumentException if the message has no signature slots or is too short to hold the first
+     */
+    static String of(final byte[] message)
+    {
+        int count = 0;
+        int offset = 0;
+        byte b;
+        do
+        {
+            if (offset == message.length || offset == MAX_SHORT_VEC_LENGTH)
+            {
+                throw new IllegalArgumentException("message is malformed");
+            }
+            b = message[offset];
+            count |= (b & 0x7f) << (7 * offset);
+            offset++;
+        }
+        while ((b & 0x80) != 0);
+
+        checkFirstSignature(count, message.length - offset);
+        return Base58.encodeSignature(message, offset);
+    }
+
+    private static void checkFirstSignature(final int count, final int remaining)
+    {
+        if (count == 0)
+        {
+            throw new IllegalArgumentException("message has no signatures");
+        }
+        if (remaining < SIGNATURE_LENGTH)
+        {
+            throw new IllegalArgumentException("message is malformed");
+        }
+    }
+}
@@ -39,13 +39,14 @@ final class SolanaV0AccountsView implements MessageVisitor.V0AccountsView
                         "The address lookup tables provided do not contain an address" +
                                 "lookup table present in the message.");
             }
-            for (final int readWriteIndex : accountLookup.readWriteTableIndexes())
+            final List<PublicKey> addresses = addressLookupTable.get().getAddresses();
+            for (int i = 0; i < accountLookup.countReadWriteTableIndexes(); i++)
             {
-                allAccounts.add(addressLookupTable.get().getAddresses().get(readWriteIndex));
+                allAccounts.add(addresses.get(accountLookup.readWriteTableIndex(i)));
             }
-            for (final int readOnlyIndex : accountLookup.readOnlyTableIndexes())
+            for (int i = 0; i < accountLookup.countReadOnlyTableIndexes(); i++)
             {
-                allAccounts.add(addressLookupTable.get().getAddresses().get(readOnlyIndex));
+                allAccounts.add(addresses.get(accountLookup.readOnlyTableIndex(i)));
             }
         }
         return allAccounts;
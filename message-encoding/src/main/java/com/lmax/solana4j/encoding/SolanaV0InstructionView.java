@@ -5,30 +5,32 @@ import com.lmax.solana4j.api.MessageVisitor;
 import com.lmax.solana4j.api.PublicKey;
 
 import java.nio.ByteBuffer;
+import java.util.ArrayList;
 import java.util.List;
-import java.util.stream.Collectors;
 
 final class SolanaV0InstructionView extends SolanaInstructionView implements MessageVisitor.V0InstructionView
 {
     private final MessageVisitor.V0AccountsView accountsView;
 
     SolanaV0InstructionView(
-            final int program,
-            final List<Integer> accountIndexes,
-            final ByteBuffer data,
+            final ByteBuffer message,
+            final int offset,
             final MessageVisitor.V0AccountsView accountsView)
     {
-        super(program, accountIndexes, data);
+        super(message, offset);
         this.accountsView = accountsView;
     }
 
     @Override
     public List<PublicKey> accounts(final List<AddressLookupTable> addressLookupTables) throws IllegalArgumentException
     {
-        return accountIndexes()
-                .stream()
-                .map(idx -> accountsView.accounts(addressLookupTables).get(idx))
-                .collect(Collectors.toList());
+        final List<PublicKey> allAccounts = accountsView.accounts(addressLookupTables);
+        final List<PublicKey> accounts = new ArrayList<>(countAccountIndexes());
+        for (int i = 0; i < countAccountIndexes(); i++)
+        {
+            accounts.add(allAccounts.get(accountIndex(i)));
+        }
+        return accounts;
     }
 
     @Override
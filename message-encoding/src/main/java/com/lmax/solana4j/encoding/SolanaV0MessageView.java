@@ -1,38 +1,32 @@
 package com.lmax.solana4j.encoding;
 
 import com.lmax.solana4j.api.AddressLookupTable;
-import com.lmax.solana4j.api.Blockhash;
 import com.lmax.solana4j.api.MessageVisitor;
 import com.lmax.solana4j.api.PublicKey;
 
 import java.nio.ByteBuffer;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
-import java.util.stream.Collectors;
 
 final class SolanaV0MessageView extends SolanaMessageView implements MessageVisitor.Version0MessageView
 {
     private final int version = 0;
-    private final MessageVisitor.V0AccountsView accountsView;
-    private final List<MessageVisitor.InstructionView> instructions;
-    private final List<MessageVisitor.AccountLookupView> accountLookups;
+    private List<MessageVisitor.AccountLookupView> accountLookups;
+    private MessageVisitor.V0AccountsView accountsView;
 
     SolanaV0MessageView(
+            final ByteBuffer message,
+            final int countSignatures,
+            final int signaturesOffset,
+            final ByteBuffer transaction,
             final int countAccountsSigned,
             final int countAccountsSignedReadOnly,
             final int countAccountsUnsignedReadOnly,
-            final MessageVisitor.V0AccountsView accountsView,
-            final ByteBuffer transaction,
-            final List<ByteBuffer> signatures,
-            final PublicKey feePayer,
-            final Blockhash recentBlockHash,
-            final List<MessageVisitor.InstructionView> instructions,
-            final List<MessageVisitor.AccountLookupView> accountLookups)
+            final SolanaAccountList staticAccounts,
+            final int blockhashOffset)
     {
-        super(countAccountsSigned, countAccountsSignedReadOnly, countAccountsUnsignedReadOnly, accountsView, transaction, signatures, feePayer, recentBlockHash);
-        this.accountsView = accountsView;
-        this.instructions = instructions;
-        this.accountLookups = accountLookups;
+        super(message, countSignatures, signaturesOffset, transaction, countAccountsSigned, countAccountsSignedReadOnly, countAccountsUnsignedReadOnly, staticAccounts, blockhashOffset);
     }
 
     @Override
@@ -44,24 +38,36 @@ final class SolanaV0MessageView extends SolanaMessageView implements MessageVisi
     @Override
     public List<MessageVisitor.AccountLookupView> accountLookups()
     {
+        if (accountLookups == null)
+        {
+            final int[] instructionOffsets = instructionOffsets();
+            final ByteBuffer reader = message().duplicate().position(instructionOffsets[instructionOffsets.length - 1]);
+            final int count = SolanaShortVec.readInt(reader);
+            final List<MessageVisitor.AccountLookupView> lookups = new ArrayList<>(count);
+            for (int i = 0; i < count; i++)
+            {
+                lookups.add(SolanaAccountLookupView.read(reader));
+            }
+            accountLookups = lookups;
+        }
         return accountLookups;
     }
 
     @Override
     public List<PublicKey> allAccounts(final List<AddressLookupTable> addressLookupTables) throws IllegalArgumentException
     {
-        return accountsView.accounts(addressLookupTables);
+        return accountsView().accounts(addressLookupTables);
     }
 
     @Override
     public boolean isWriter(final PublicKey account, final List<AddressLookupTable> addressLookupTables) throws IllegalArgumentException
     {
-        final var index = accountsView.accounts(addressLookupTables).indexOf(account);
+        final var index = accountsView().accounts(addressLookupTables).indexOf(account);
         if (index == -1)
         {
             return false;
         }
-        else if (index < accountsView.staticAccounts().size())
+        else if (index < countStaticAccounts())
         {
             return isWriterStaticAccount(index);
         }
@@ -74,14 +80,23 @@ final class SolanaV0MessageView extends SolanaMessageView implements MessageVisi
     @Override
     public List<MessageVisitor.V0InstructionView> instructions()
     {
-        return instructions.stream()
-                .map(instructionView ->
-                        new SolanaV0InstructionView(
-                                instructionView.programIndex(),
-                                instructionView.accountIndexes(),
-                                instructionView.data(),
-                                accountsView)
-                ).collect(Collectors.toList());
+        final MessageVisitor.V0AccountsView accountsView = accountsView();
+        final int[] offsets = instructionOffsets();
+        final List<MessageVisitor.V0InstructionView> instructions = new ArrayList<>(offsets.length - 1);
+        for (int i = 0; i < offsets.length - 1; i++)
+        {
+            instructions.add(new SolanaV0InstructionView(message(), offsets[i], accountsView));
+        }
+        return instructions;
+    }
+
+    private MessageVisitor.V0AccountsView accountsView()
+    {
+        if (accountsView == null)
+        {
+            accountsView = new SolanaV0AccountsView(staticAccounts(), accountLookups());
+        }
+        return accountsView;
     }
 
     private boolean isWriterStaticAccount(final int index)
@@ -90,14 +105,14 @@ final class SolanaV0MessageView extends SolanaMessageView implements MessageVisi
         final var isSignerWriter = index < signedWriterStaticAccountsCount;
         final var isNonSignerWriter =
                 (index >= countAccountsSigned() &&
-                (index < (accountsView.staticAccounts().size() - countAccountsUnsignedReadOnly())));
+                (index < (countStaticAccounts() - countAccountsUnsignedReadOnly())));
 
         return isSignerWriter || isNonSignerWriter;
     }
 
     private boolean isWriterLookupAccount(final PublicKey account, final List<AddressLookupTable> addressLookupTables) throws IllegalArgumentException
     {
-        for (final MessageVisitor.AccountLookupView accountLookup : accountLookups)
+        for (final MessageVisitor.AccountLookupView accountLookup : accountLookups())
         {
             final Optional<AddressLookupTable> maybeAddressLookupTable = accountLookup.findAddressLookupTable(addressLookupTables);
 
@@ -107,9 +122,9 @@ final class SolanaV0MessageView extends SolanaMessageView implements MessageVisi
                         "The address lookup tables provided do not contain an address" +
                                 "lookup table present in the message.");
             }
-            for (final int readWriteIndex : accountLookup.readWriteTableIndexes())
+            for (int i = 0; i < accountLookup.countReadWriteTableIndexes(); i++)
             {
-                final PublicKey lookupAccount = maybeAddressLookupTable.get().getAddresses().get(readWriteIndex);
+                final PublicKey lookupAccount = maybeAddressLookupTable.get().getAddresses().get(accountLookup.readWriteTableIndex(i));
                 if (lookupAccount.equals(account))
                 {
                     return true;
@@ -206,10 +206,7 @@ public final class AddressLookupTableProgram
         final List<PublicKey> addresses = new ArrayList<>();
         for (int i = 0; i < numberOfSerializedAddresses; i++)
         {
-            final byte[] account = new byte[32];
-            lookupTable.get(account, 0, 32);
-            final PublicKey address = Solana.account(account);
-            addresses.add(address);
+            addresses.add(Solana.account(lookupTable));
         }
 
         return SolanaEncoding.addressLookupTable(lookupTableAddress, addresses);
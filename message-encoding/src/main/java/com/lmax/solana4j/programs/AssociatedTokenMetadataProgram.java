@@ -2,6 +2,7 @@ package com.lmax.solana4j.programs;
 
 import com.lmax.solana4j.Solana;
 import com.lmax.solana4j.api.ProgramDerivedAddress;
+import com.lmax.solana4j.api.ProgramDerivedAddressDeriver;
 import com.lmax.solana4j.api.PublicKey;
 import com.lmax.solana4j.encoding.SolanaEncoding;
 
@@ -52,7 +53,20 @@ public final class AssociatedTokenMetadataProgram
      */
     public static ProgramDerivedAddress deriveAddress(final PublicKey mint)
     {
-        return SolanaEncoding.deriveProgramAddress(
+        return deriveAddress(mint, SolanaEncoding.programDerivedAddressDeriver());
+    }
+
+    /**
+     * Derives the program address for the given mint using the given deriver, typically a
+     * {@link com.lmax.solana4j.api.ProgramDerivedAddressCache} shared by callers that derive the same addresses repeatedly.
+     *
+     * @param mint    the public key of the token mint
+     * @param deriver the deriver to find the address with
+     * @return the derived program address as a {@link ProgramDerivedAddress}
+     */
+    public static ProgramDerivedAddress deriveAddress(final PublicKey mint, final ProgramDerivedAddressDeriver deriver)
+    {
+        return deriver.findProgramAddress(
                 List.of(METADATA_MAGIC_STRING, ASSOCIATED_TOKEN_METADATA_PROGRAM_ID, mint.bytes()),
                 ASSOCIATED_TOKEN_METADATA_PROGRAM_ACCOUNT
         );
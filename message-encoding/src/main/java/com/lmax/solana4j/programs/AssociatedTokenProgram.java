@@ -2,6 +2,7 @@ package com.lmax.solana4j.programs;
 
 import com.lmax.solana4j.Solana;
 import com.lmax.solana4j.api.ProgramDerivedAddress;
+import com.lmax.solana4j.api.ProgramDerivedAddressDeriver;
 import com.lmax.solana4j.api.PublicKey;
 import com.lmax.solana4j.api.TransactionBuilder;
 import com.lmax.solana4j.api.TransactionInstruction;
@@ -134,12 +135,33 @@ public final class AssociatedTokenProgram
      * @throws NullPointerException if the owner, tokenProgramAccount, or mint is null
      */
     public static ProgramDerivedAddress deriveAddress(final PublicKey owner, final PublicKey tokenProgramAccount, final PublicKey mint)
+    {
+        return deriveAddress(owner, tokenProgramAccount, mint, SolanaEncoding.programDerivedAddressDeriver());
+    }
+
+    /**
+     * Derives a program address for a given owner, token program account, and mint using the given deriver,
+     * typically a {@link com.lmax.solana4j.api.ProgramDerivedAddressCache} shared by callers that derive the same addresses repeatedly.
+     *
+     * @param owner               the owner's public key; must not be null
+     * @param tokenProgramAccount the token program account's public key; must not be null
+     * @param mint                the mint's public key; must not be null
+     * @param deriver             the deriver to find the address with; must not be null
+     * @return the derived program address based on the provided owner, token program account, and mint public keys
+     * @throws NullPointerException if the owner, tokenProgramAccount, mint or deriver is null
+     */
+    public static ProgramDerivedAddress deriveAddress(
+            final PublicKey owner,
+            final PublicKey tokenProgramAccount,
+            final PublicKey mint,
+            final ProgramDerivedAddressDeriver deriver)
     {
         requireNonNull(owner, "The owner public key must be specified, but was null");
         requireNonNull(tokenProgramAccount, "The token program public key must be specified, but was null");
         requireNonNull(mint, "The mint public key must be specified, but was null");
+        requireNonNull(deriver, "The program derived address deriver must be specified, but was null");
 
-        return SolanaEncoding.deriveProgramAddress(
+        return deriver.findProgramAddress(
                 List.of(owner.bytes(), tokenProgramAccount.bytes(), mint.bytes()),
                 ASSOCIATED_TOKEN_PROGRAM_ACCOUNT
         );
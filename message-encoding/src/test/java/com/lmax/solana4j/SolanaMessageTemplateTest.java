@@ -0,0 +1,184 @@
+package com.lmax.solana4j;
+
+import com.lmax.solana4j.api.Blockhash;
+import com.lmax.solana4j.api.ByteBufferSigner;
+import com.lmax.solana4j.api.PublicKey;
+import com.lmax.solana4j.programs.ComputeBudgetProgram;
+import com.lmax.solana4j.programs.SystemProgram;
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.List;
+
+import static com.lmax.solana4j.Solana4jTestHelper.ACCOUNT1;
+import static com.lmax.solana4j.Solana4jTestHelper.ACCOUNT2;
+import static com.lmax.solana4j.Solana4jTestHelper.ACCOUNT3;
+import static com.lmax.solana4j.Solana4jTestHelper.ACCOUNT4;
+import static com.lmax.solana4j.Solana4jTestHelper.ADDRESS_LOOK_TABLE1;
+import static com.lmax.solana4j.Solana4jTestHelper.BLOCKHASH;
+import static com.lmax.solana4j.Solana4jTestHelper.PAYER;
+import static com.lmax.solana4j.Solana4jTestHelper.generateBlockhash;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class SolanaMessageTemplateTest
+{
+    private static final PublicKey PAYER_ACCOUNT = Solana.account(PAYER);
+    private static final Blockhash OTHER_BLOCKHASH = generateBlockhash((byte) 99);
+
+    // a deterministic stand in for an Ed25519 signature, depending on every byte of the transaction
+    private static final ByteBufferSigner DIGEST_SIGNER = (transaction, signature) ->
+    {
+        try
+        {
+            final MessageDigest digest = MessageDigest.getInstance("SHA-512");
+            digest.update(transaction);
+            signature.put(digest.digest());
+        }
+        catch (final NoSuchAlgorithmException e)
+        {
+            throw new RuntimeException(e);
+        }
+    };
+
+    @Test
+    void patchesLegacyMessageToMatchMessageBuiltFromScratch()
+    {
+        final var template = Solana.template(writeLegacyTransfer(ByteBuffer.allocate(Solana.MAX_MESSAGE_SIZE), Solana.blockhash(BLOCKHASH), Solana.account(ACCOUNT1), 100L));
+        final int destination = template.indexOfAccount(Solana.account(ACCOUNT1));
+
+        template.blockhash(OTHER_BLOCKHASH)
+                .account(destination, Solana.account(ACCOUNT2))
+                .putLong(2, 4, 2_000_000L)
+                .putLong(1, 1, 5_000L);
+
+        final var expected = writeLegacyTransfer(ByteBuffer.allocate(Solana.MAX_MESSAGE_SIZE), OTHER_BLOCKHASH, Solana.account(ACCOUNT2), 2_000_000L, 5_000L);
+        assertThat(bytesOf(template.buffer())).isEqualTo(bytesOf(expected));
+    }
+
+    @Test
+    void patchesV0MessageToMatchMessageBuiltFromScratch()
+    {
+        final var template = Solana.template(writeV0Transfer(ByteBuffer.allocate(Solana.MAX_MESSAGE_SIZE), Solana.blockhash(BLOCKHASH), 100L));
+
+        template.blockhash(OTHER_BLOCKHASH)
+                .putLong(0, 4, 7L)
+                .putLong(1, 4, 7L);
+
+        final var expected = writeV0Transfer(ByteBuffer.allocate(Solana.MAX_MESSAGE_SIZE), OTHER_BLOCKHASH, 7L);
+        assertThat(bytesOf(template.buffer())).isEqualTo(bytesOf(expected));
+    }
+
+    @Test
+    void recordsOffsetsOfTheSealedMessage()
+    {
+        final var template = Solana.template(writeLegacyTransfer(ByteBuffer.allocate(Solana.MAX_MESSAGE_SIZE), Solana.blockhash(BLOCKHASH), Solana.account(ACCOUNT1), 100L));
+        final var buffer = template.buffer();
+
+        assertThat(template.signatureCount()).isEqualTo(1);
+        assertThat(template.signatureOffset(0)).isEqualTo(1);
+        assertThat(template.instructionCount()).isEqualTo(3);
+        assertThat(template.indexOfAccount(PAYER_ACCOUNT)).isEqualTo(0);
+        assertThat(Solana.account(buffer.duplicate().position(template.accountOffset(0)))).isEqualTo(PAYER_ACCOUNT);
+        assertThat(Solana.account(buffer.duplicate().position(template.blockhashOffset()))).isEqualTo(Solana.account(BLOCKHASH));
+        assertThat(template.dataLength(2)).isEqualTo(12);
+        assertThat(buffer.get(template.dataOffset(2))).isEqualTo((byte) SystemProgram.TRANSFER_INSTRUCTION);
+    }
+
+    @Test
+    void doesNotFindAccountsLoadedFromLookupTables()
+    {
+        final var template = Solana.template(writeV0Transfer(ByteBuffer.allocate(Solana.MAX_MESSAGE_SIZE), Solana.blockhash(BLOCKHASH), 100L));
+
+        // account3 is in the lookup table, so it is not one of the static accounts
+        assertThat(template.indexOfAccount(Solana.account(ACCOUNT3))).isEqualTo(-1);
+        assertThat(template.indexOfAccount(PAYER_ACCOUNT)).isEqualTo(0);
+    }
+
+    @Test
+    void rejectsPatchesOutsideTheField()
+    {
+        final var template = Solana.template(writeLegacyTransfer(ByteBuffer.allocate(Solana.MAX_MESSAGE_SIZE), Solana.blockhash(BLOCKHASH), Solana.account(ACCOUNT1), 100L));
+
+        assertThatThrownBy(() -> template.putLong(2, 5, 1L))
+                .isInstanceOf(IndexOutOfBoundsException.class);
+        assertThatThrownBy(() -> template.putInt(2, -1, 1))
+                .isInstanceOf(IndexOutOfBoundsException.class);
+        assertThatThrownBy(() -> template.put(3, 0, (byte) 1))
+                .isInstanceOf(IndexOutOfBoundsException.class);
+        assertThatThrownBy(() -> template.account(template.accountCount(), Solana.account(ACCOUNT2)))
+                .isInstanceOf(IndexOutOfBoundsException.class);
+    }
+
+    @Test
+    void signsThePatchedMessage()
+    {
+        final var template = Solana.template(writeLegacyTransfer(ByteBuffer.allocate(Solana.MAX_MESSAGE_SIZE), Solana.blockhash(BLOCKHASH), Solana.account(ACCOUNT1), 100L));
+        template.blockhash(OTHER_BLOCKHASH).putLong(2, 4, 250L);
+
+        template.signed().by(PAYER_ACCOUNT, DIGEST_SIGNER).build();
+
+        final var expected = writeLegacyTransfer(ByteBuffer.allocate(Solana.MAX_MESSAGE_SIZE), OTHER_BLOCKHASH, Solana.account(ACCOUNT1), 250L);
+        Solana.forSigning(expected).by(PAYER_ACCOUNT, DIGEST_SIGNER).build();
+        assertThat(bytesOf(template.buffer())).isEqualTo(bytesOf(expected));
+    }
+
+    @Test
+    void rejectsUnsupportedMessageVersion()
+    {
+        final var buffer = ByteBuffer.wrap(new byte[]{0, (byte) 0x81, 0, 0, 0});
+
+        assertThatThrownBy(() -> Solana.template(buffer))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static ByteBuffer writeLegacyTransfer(final ByteBuffer buffer, final Blockhash blockhash, final PublicKey destination, final long lamports)
+    {
+        return writeLegacyTransfer(buffer, blockhash, destination, lamports, 1_000L);
+    }
+
+    private static ByteBuffer writeLegacyTransfer(
+            final ByteBuffer buffer,
+            final Blockhash blockhash,
+            final PublicKey destination,
+            final long lamports,
+            final long computeUnitPrice)
+    {
+        Solana.builder(buffer)
+                .legacy()
+                .payer(PAYER_ACCOUNT)
+                .recent(blockhash)
+                .instructions(tb -> ComputeBudgetProgram.factory(tb)
+                        .setComputeUnitLimit(300)
+                        .setComputeUnitPrice(computeUnitPrice))
+                .instructions(tb -> SystemProgram.factory(tb).transfer(PAYER_ACCOUNT, destination, lamports))
+                .seal()
+                .unsigned()
+                .build();
+        return buffer;
+    }
+
+    private static ByteBuffer writeV0Transfer(final ByteBuffer buffer, final Blockhash blockhash, final long lamports)
+    {
+        Solana.builder(buffer)
+                .v0()
+                .payer(PAYER_ACCOUNT)
+                .recent(blockhash)
+                .instructions(tb -> SystemProgram.factory(tb).transfer(PAYER_ACCOUNT, Solana.account(ACCOUNT3), lamports))
+                .instructions(tb -> SystemProgram.factory(tb).transfer(PAYER_ACCOUNT, Solana.account(ACCOUNT4), lamports))
+                .lookups(List.of(ADDRESS_LOOK_TABLE1))
+                .seal()
+                .unsigned()
+                .build();
+        return buffer;
+    }
+
+    private static byte[] bytesOf(final ByteBuffer buffer)
+    {
+        final byte[] bytes = new byte[buffer.remaining()];
+        buffer.duplicate().get(bytes);
+        return bytes;
+    }
+}
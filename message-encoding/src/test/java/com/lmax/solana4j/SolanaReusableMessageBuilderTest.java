@@ -0,0 +1,248 @@
+package com.lmax.solana4j;
+
+import com.lmax.solana4j.api.MessageBuilder;
+import com.lmax.solana4j.api.TransactionBuilder;
+import com.lmax.solana4j.api.TransactionInstruction;
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.List;
+
+import static com.lmax.solana4j.Solana4jTestHelper.ACCOUNT1;
+import static com.lmax.solana4j.Solana4jTestHelper.ACCOUNT2;
+import static com.lmax.solana4j.Solana4jTestHelper.ACCOUNT3;
+import static com.lmax.solana4j.Solana4jTestHelper.ACCOUNT4;
+import static com.lmax.solana4j.Solana4jTestHelper.ACCOUNT5;
+import static com.lmax.solana4j.Solana4jTestHelper.ACCOUNT6;
+import static com.lmax.solana4j.Solana4jTestHelper.ACCOUNT8;
+import static com.lmax.solana4j.Solana4jTestHelper.ADDRESS_LOOK_TABLE1;
+import static com.lmax.solana4j.Solana4jTestHelper.ADDRESS_LOOK_TABLE2;
+import static com.lmax.solana4j.Solana4jTestHelper.BLOCKHASH;
+import static com.lmax.solana4j.Solana4jTestHelper.DATA1;
+import static com.lmax.solana4j.Solana4jTestHelper.DATA2;
+import static com.lmax.solana4j.Solana4jTestHelper.PAYER;
+import static com.lmax.solana4j.Solana4jTestHelper.PROGRAM1;
+import static com.lmax.solana4j.Solana4jTestHelper.PROGRAM2;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class SolanaReusableMessageBuilderTest
+{
+    @Test
+    void requiresByteBuffer()
+    {
+        assertThatThrownBy(() ->
+                Solana.reusableBuilder(null))
+            .isInstanceOf(NullPointerException.class);
+    }
+
+    @Test
+    void writesTheSameLegacyMessagesAsANewBuilderForEachMessage()
+    {
+        final var reusableBuffer = ByteBuffer.allocate(Solana.MAX_MESSAGE_SIZE);
+        final var reusable = Solana.reusableBuilder(reusableBuffer);
+
+        for (int i = 0; i < 4; i++)
+        {
+            final var expected = writeLegacyMessageWithNewBuilder(i);
+
+            clear(reusableBuffer);
+            final var actual = writeLegacyMessage(reusable, reusableBuffer, i);
+
+            assertThat(actual).isEqualTo(expected);
+        }
+    }
+
+    @Test
+    void writesTheSameV0MessagesAsANewBuilderForEachMessage()
+    {
+        final var reusableBuffer = ByteBuffer.allocate(Solana.MAX_MESSAGE_SIZE);
+        final var reusable = Solana.reusableBuilder(reusableBuffer);
+
+        for (int i = 0; i < 4; i++)
+        {
+            final var expected = writeV0MessageWithNewBuilder(i);
+
+            clear(reusableBuffer);
+            final var actual = writeV0Message(reusable, reusableBuffer, i);
+
+            assertThat(actual).isEqualTo(expected);
+        }
+    }
+
+    @Test
+    void writesTheSameMessagesWhenAlternatingBetweenLegacyAndV0()
+    {
+        final var reusableBuffer = ByteBuffer.allocate(Solana.MAX_MESSAGE_SIZE);
+        final var reusable = Solana.reusableBuilder(reusableBuffer);
+
+        for (int i = 0; i < 4; i++)
+        {
+            clear(reusableBuffer);
+            final var actualV0 = writeV0Message(reusable, reusableBuffer, i);
+            clear(reusableBuffer);
+            final var actualLegacy = writeLegacyMessage(reusable, reusableBuffer, i);
+
+            assertThat(actualV0).isEqualTo(writeV0MessageWithNewBuilder(i));
+            assertThat(actualLegacy).isEqualTo(writeLegacyMessageWithNewBuilder(i));
+        }
+    }
+
+    @Test
+    void forgetsThePayerOfThePreviousMessage()
+    {
+        final var buffer = ByteBuffer.allocate(Solana.MAX_MESSAGE_SIZE);
+        final var reusable = Solana.reusableBuilder(buffer);
+
+        writeLegacyMessage(reusable, buffer, 0);
+        clear(buffer);
+
+        assertThatThrownBy(() -> reusable
+                    .legacy()
+                    .recent(Solana.blockhash(BLOCKHASH))
+                    .seal()
+                    .unsigned()
+                    .build())
+                .isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    void forgetsTheInstructionsOfThePreviousMessage()
+    {
+        final var buffer = ByteBuffer.allocate(Solana.MAX_MESSAGE_SIZE);
+        final var reusable = Solana.reusableBuilder(buffer);
+
+        writeLegacyMessage(reusable, buffer, 3);
+        clear(buffer);
+
+        final var actual = writeLegacyMessage(reusable, buffer, 0);
+
+        assertThat(actual).isEqualTo(writeLegacyMessageWithNewBuilder(0));
+    }
+
+    @Test
+    void writesPrebuiltInstructionsAlongsideAppendedOnes()
+    {
+        final var prebuilt = Solana.instruction(ib -> ib
+                .program(Solana.account(PROGRAM2))
+                .account(Solana.account(ACCOUNT5), false, false)
+                .account(Solana.account(ACCOUNT1), true, true)
+                .data(DATA2.length, w -> w.put(DATA2)));
+
+        final var expectedBuffer = ByteBuffer.allocate(Solana.MAX_MESSAGE_SIZE);
+        final var expected = writeMixedMessage(Solana.builder(expectedBuffer), expectedBuffer, prebuilt);
+
+        final var reusableBuffer = ByteBuffer.allocate(Solana.MAX_MESSAGE_SIZE);
+        final var reusable = Solana.reusableBuilder(reusableBuffer);
+        for (int i = 0; i < 2; i++)
+        {
+            clear(reusableBuffer);
+            assertThat(writeMixedMessage(reusable, reusableBuffer, prebuilt)).isEqualTo(expected);
+        }
+    }
+
+    private static byte[] writeMixedMessage(final MessageBuilder builder, final ByteBuffer buffer, final TransactionInstruction prebuilt)
+    {
+        builder.legacy()
+                .payer(Solana.account(PAYER))
+                .recent(Solana.blockhash(BLOCKHASH))
+                .instructions(tb ->
+                {
+                    appendInstruction(tb, 0);
+                    tb.append(prebuilt);
+                    appendInstruction(tb, 1);
+                })
+                .seal()
+                .unsigned()
+                .build();
+        return bytesOf(buffer);
+    }
+
+    private static byte[] writeLegacyMessageWithNewBuilder(final int instructionCount)
+    {
+        final var buffer = ByteBuffer.allocate(Solana.MAX_MESSAGE_SIZE);
+        return writeLegacyMessage(Solana.builder(buffer), buffer, instructionCount);
+    }
+
+    private static byte[] writeV0MessageWithNewBuilder(final int instructionCount)
+    {
+        final var buffer = ByteBuffer.allocate(Solana.MAX_MESSAGE_SIZE);
+        return writeV0Message(Solana.builder(buffer), buffer, instructionCount);
+    }
+
+    private static byte[] writeLegacyMessage(final MessageBuilder builder, final ByteBuffer buffer, final int instructionCount)
+    {
+        builder.legacy()
+                .payer(Solana.account(PAYER))
+                .recent(Solana.blockhash(BLOCKHASH))
+                .instructions(tb ->
+                {
+                    for (int i = 0; i <= instructionCount; i++)
+                    {
+                        appendInstruction(tb, i);
+                    }
+                })
+                .seal()
+                .unsigned()
+                .build();
+        return bytesOf(buffer);
+    }
+
+    private static byte[] writeV0Message(final MessageBuilder builder, final ByteBuffer buffer, final int instructionCount)
+    {
+        builder.v0()
+                .payer(Solana.account(PAYER))
+                .recent(Solana.blockhash(BLOCKHASH))
+                .instructions(tb ->
+                {
+                    for (int i = 0; i <= instructionCount; i++)
+                    {
+                        appendInstruction(tb, i);
+                    }
+                })
+                // account3, account4 and account8 should be looked up rather than appear in the accounts section
+                .lookups(List.of(ADDRESS_LOOK_TABLE1, ADDRESS_LOOK_TABLE2))
+                .seal()
+                .unsigned()
+                .build();
+        return bytesOf(buffer);
+    }
+
+    private static void appendInstruction(final TransactionBuilder tb, final int i)
+    {
+        if (i % 2 == 0)
+        {
+            tb.append(ib -> ib
+                    .program(Solana.account(PROGRAM1))
+                    .account(Solana.account(ACCOUNT4), false, false)
+                    .account(Solana.account(ACCOUNT1), true, true)
+                    .account(Solana.account(ACCOUNT2), true, false)
+                    .account(Solana.account(ACCOUNT3), false, true)
+                    .data(DATA1.length, w -> w.put(DATA1)));
+        }
+        else
+        {
+            tb.append(ib -> ib
+                    .program(Solana.account(PROGRAM2))
+                    .account(Solana.account(ACCOUNT5), false, false)
+                    .account(Solana.account(ACCOUNT6), true, true)
+                    .account(Solana.account(ACCOUNT8), false, true)
+                    .data(DATA2.length, w -> w.put(DATA2)));
+        }
+    }
+
+    // unsigned messages leave the signature slots as they were, so clear what the previous message left behind
+    private static void clear(final ByteBuffer buffer)
+    {
+        buffer.clear();
+        Arrays.fill(buffer.array(), (byte) 0);
+    }
+
+    private static byte[] bytesOf(final ByteBuffer buffer)
+    {
+        final byte[] bytes = new byte[buffer.remaining()];
+        buffer.duplicate().get(bytes);
+        return bytes;
+    }
+}
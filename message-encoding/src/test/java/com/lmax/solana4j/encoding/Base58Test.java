@@ -3,7 +3,11 @@ package com.lmax.solana4j.encoding;
 import org.junit.jupiter.api.Disabled;
 import org.junit.jupiter.api.Test;
 
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
 import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
 import java.util.Random;
 
 import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
@@ -147,6 +151,122 @@ class Base58Test
         assertThat(new String(decode, StandardCharsets.UTF_8)).isEqualTo("测试");
     }
 
+    @Test
+    void shouldEncodeRemainingBytesOfBufferWithoutMovingPosition()
+    {
+        final var bytes = createRandomByteArray(40);
+        final var buffer = ByteBuffer.wrap(bytes);
+        buffer.position(8);
+
+        final var encode = Base58.encode(buffer);
+
+        assertThat(encode).isEqualTo(Base58.encode(Arrays.copyOfRange(bytes, 8, 40)));
+        assertThat(buffer.position()).isEqualTo(8);
+    }
+
+    @Test
+    void shouldAppendEncodingToStringBuilder()
+    {
+        final var signature = createRandomByteArray(64);
+        final var builder = new StringBuilder("signature=");
+
+        Base58.encode(ByteBuffer.wrap(signature), builder);
+
+        assertThat(builder.toString()).isEqualTo("signature=" + Base58.encode(signature));
+    }
+
+    @Test
+    void shouldEncodeSignaturesWordAtATimeInEitherByteOrder()
+    {
+        final Random random = new Random(20);
+        for (int i = 0; i < 200; i++)
+        {
+            final var bytes = new byte[70];
+            random.nextBytes(bytes);
+            Arrays.fill(bytes, 3, 3 + i % 9, (byte) 0);
+            final var expected = Base58.encode(Arrays.copyOfRange(bytes, 3, 67));
+
+            final var direct = ByteBuffer.allocateDirect(70).put(bytes).flip().order(ByteOrder.LITTLE_ENDIAN);
+
+            assertThat(Base58.encodeSignature(bytes, 3)).isEqualTo(expected);
+            assertThat(Base58.encodeSignature(ByteBuffer.wrap(bytes), 3)).isEqualTo(expected);
+            assertThat(Base58.encodeSignature(direct, 3)).isEqualTo(expected);
+        }
+        assertThat(Base58.encodeSignature(new byte[64], 0)).isEqualTo("1".repeat(64));
+        assertThrows(IndexOutOfBoundsException.class, () -> Base58.encodeSignature(new byte[64], 1));
+    }
+
+    @Test
+    void shouldEncodeIntoCharArrayAtOffset()
+    {
+        final var publicKey = createRandomByteArray(32);
+        final var chars = new char[Base58.maxEncodedLength(32) + 2];
+
+        final var written = Base58.encode(publicKey, chars, 2);
+
+        assertThat(new String(chars, 2, written)).isEqualTo(Base58.encode(publicKey));
+    }
+
+    @Test
+    void shouldNotWriteWhenCharArrayIsTooSmall()
+    {
+        final var chars = new char[10];
+
+        assertThrows(IndexOutOfBoundsException.class, () -> Base58.encode(createRandomByteArray(32), chars, 0));
+        assertThat(chars).isEqualTo(new char[10]);
+    }
+
+    @Test
+    void maxEncodedLengthShouldBoundPublicKeysAndSignatures()
+    {
+        final var largestPublicKey = new byte[32];
+        final var largestSignature = new byte[64];
+        Arrays.fill(largestPublicKey, (byte) 0xff);
+        Arrays.fill(largestSignature, (byte) 0xff);
+
+        assertThat(Base58.encode(largestPublicKey).length()).isEqualTo(Base58.maxEncodedLength(32));
+        assertThat(Base58.encode(largestSignature).length()).isEqualTo(Base58.maxEncodedLength(64));
+    }
+
+    @Test
+    void shouldDecodeIntoBufferAndAdvancePosition()
+    {
+        final var bytes = new byte[]{0, 0, 1, 2, 3};
+        final var buffer = ByteBuffer.allocate(8);
+        buffer.put((byte) 9);
+
+        final var written = Base58.decode(new StringBuilder(Base58.encode(bytes)), buffer);
+
+        assertThat(written).isEqualTo(5);
+        assertThat(buffer.position()).isEqualTo(6);
+        assertThat(Arrays.copyOfRange(buffer.array(), 1, 6)).isEqualTo(bytes);
+    }
+
+    @Test
+    void shouldNotWriteWhenBufferIsTooSmall()
+    {
+        final var buffer = ByteBuffer.allocate(31);
+
+        assertThrows(BufferOverflowException.class, () -> Base58.decode(Base58.encode(createRandomByteArray(32)), buffer));
+        assertThat(buffer.position()).isEqualTo(0);
+    }
+
+    @Test
+    void shouldRoundTripRandomLengthsWithLeadingZeros()
+    {
+        final Random random = new Random();
+        for (int i = 0; i < 1000; i++)
+        {
+            final var bytes = createRandomByteArray(random.nextInt(100));
+            for (int zero = 0; zero < Math.min(bytes.length, i % 4); zero++)
+            {
+                bytes[zero] = 0;
+            }
+
+            assertThat(Base58.decode(Base58.encode(bytes))).isEqualTo(bytes);
+        }
+    }
+
     @Test
     @Disabled("Just to check the implementations do provide the same results.")
     void solana4jImplementationBase58EncodeShouldMatchBitcoinjLibrary()
@@ -96,6 +96,49 @@ class Ed25519Test
         assertThat(result).containsExactly(reversedSample);
     }
 
+    @Test
+    void shouldMatchBigIntegerImplementationForRandomPoints()
+    {
+        for (int i = 0; i < 10000; i++)
+        {
+            final var randomByteArray = createRandomByteArray(32);
+
+            assertEquals(BigIntegerEd25519.isOnCurve(randomByteArray), Ed25519.isOnCurve(randomByteArray));
+        }
+    }
+
+    @Test
+    void shouldMatchBigIntegerImplementationForGeneratedPublicKeys()
+    {
+        for (int i = 0; i < 100; i++)
+        {
+            final var publicKey = TestKeyPairGenerator.generateTestKeyPair().getPublicKeyBytes();
+
+            assertTrue(BigIntegerEd25519.isOnCurve(publicKey));
+            assertTrue(Ed25519.isOnCurve(publicKey));
+        }
+    }
+
+    @Test
+    void shouldMatchBigIntegerImplementationAroundFieldBoundaries()
+    {
+        // y values either side of zero and P, including the non-canonical encodings of P to 2^255 - 1, with and without the sign bit
+        final var p = BigInteger.ONE.shiftLeft(255).subtract(BigInteger.valueOf(19));
+        final var largest = BigInteger.ONE.shiftLeft(255).subtract(BigInteger.ONE);
+        for (int k = 0; k < 64; k++)
+        {
+            final var offset = BigInteger.valueOf(k);
+            for (final BigInteger y : new BigInteger[]{offset, p.subtract(offset), p.add(offset).min(largest)})
+            {
+                final var encoded = littleEndian(y);
+                assertEquals(BigIntegerEd25519.isOnCurve(encoded), Ed25519.isOnCurve(encoded), "y = " + y);
+
+                encoded[31] |= (byte) 0x80;
+                assertEquals(BigIntegerEd25519.isOnCurve(encoded), Ed25519.isOnCurve(encoded), "y = " + y + " with sign bit");
+            }
+        }
+    }
+
     @Test
     @Disabled("Just to check the implementations do provide the same results.")
     void solana4jImplementationIsPointOnCurveShouldMatchEddsaLibrary()
@@ -122,6 +165,17 @@ class Ed25519Test
         return array;
     }
 
+    private static byte[] littleEndian(final BigInteger value)
+    {
+        final byte[] bigEndian = value.toByteArray();
+        final byte[] encoded = new byte[32];
+        for (int i = 0; i < Math.min(32, bigEndian.length); i++)
+        {
+            encoded[i] = bigEndian[bigEndian.length - 1 - i];
+        }
+        return encoded;
+    }
+
     private boolean isOnCurveEddsaLibrary(final byte[] publickKey)
     {
         try
@@ -3,7 +3,9 @@ package com.lmax.solana4j.encoding;
 import org.junit.jupiter.api.Test;
 
 import java.nio.BufferOverflowException;
+import java.nio.BufferUnderflowException;
 import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
 import java.util.Arrays;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -39,6 +41,22 @@ class SolanaAccountTest
                 .isInstanceOf(IllegalArgumentException.class);
     }
 
+    @Test
+    void isNotChangedByChangingItsBytes()
+    {
+        final byte[] key = new byte[32];
+        key[31] = 1;
+        final var account = new SolanaAccount(key);
+        final String base58 = account.base58();
+
+        account.bytes()[0] = 9;
+        key[0] = 9;
+
+        assertThat(account.bytes()[0]).isEqualTo((byte) 0);
+        assertThat(account.base58()).isEqualTo(base58);
+        assertThat(account).isEqualTo(SolanaAccount.read(ByteBuffer.wrap(account.bytes())));
+    }
+
     @Test
     void supportsNaturalOrdering()
     {
@@ -108,4 +126,70 @@ class SolanaAccountTest
 
         assertThatThrownBy(() -> a.write(buffer)).isInstanceOf(BufferOverflowException.class);
     }
+
+    @Test
+    void writesInNetworkOrderWhateverTheBufferOrder()
+    {
+        final var bytes = new byte[]{1, 2, 3, 4, 5, 6, 7, 8, 9, 10, 11, 12, 13, 14, 15, 16, 17, 18, 19, 20, 21, 22, 23, 24, 25, 26, 27, 28, 29, 30, 31, 32};
+        final var a = new SolanaAccount(bytes);
+
+        final var buffer = ByteBuffer.allocate(32).order(ByteOrder.LITTLE_ENDIAN);
+
+        a.write(buffer);
+
+        assertThat(buffer.array()).isEqualTo(bytes);
+    }
+
+    @Test
+    void doesNotWritePartiallyOnBufferOverflow()
+    {
+        final var a = new SolanaAccount(new byte[]{1, 2, 3, 4, 5, 6, 7, 8, 9, 10, 11, 12, 13, 14, 15, 16, 17, 18, 19, 20, 21, 22, 23, 24, 25, 26, 27, 28, 29, 30, 31, 32});
+
+        final var buffer = ByteBuffer.allocate(31);
+
+        assertThatThrownBy(() -> a.write(buffer)).isInstanceOf(BufferOverflowException.class);
+        assertThat(buffer.position()).isZero();
+    }
+
+    @Test
+    void readsFromByteBuffer()
+    {
+        final var bytes = new byte[]{-1, 2, 3, 4, 5, 6, 7, 8, 9, 10, 11, 12, 13, 14, 15, 16, 17, 18, 19, 20, 21, 22, 23, 24, 25, 26, 27, 28, 29, 30, 31, -128};
+        final var buffer = ByteBuffer.allocate(40).order(ByteOrder.LITTLE_ENDIAN);
+        buffer.put((byte) 55).put(bytes).flip().position(1);
+
+        final var a = SolanaAccount.read(buffer);
+
+        assertThat(buffer.position()).isEqualTo(33);
+        assertThat(a).isEqualTo(new SolanaAccount(bytes));
+        assertThat(a.bytes()).isEqualTo(bytes);
+        assertThat(a.hashCode()).isEqualTo(new SolanaAccount(bytes).hashCode());
+    }
+
+    @Test
+    void throwsOnBufferUnderflowWithoutConsumingBuffer()
+    {
+        final var buffer = ByteBuffer.allocate(31);
+
+        assertThatThrownBy(() -> SolanaAccount.read(buffer)).isInstanceOf(BufferUnderflowException.class);
+        assertThat(buffer.position()).isZero();
+    }
+
+    @Test
+    void hashCodeMatchesHashCodeOfBytes()
+    {
+        final var bytes = new byte[]{-1, 2, 3, 4, 5, 6, 7, 8, 9, 10, 11, 12, 13, 14, 15, 16, 17, 18, 19, 20, 21, 22, 23, 24, 25, 26, 27, 28, 29, 30, 31, -128};
+
+        assertThat(new SolanaAccount(bytes).hashCode()).isEqualTo(Arrays.hashCode(bytes));
+    }
+
+    @Test
+    void ordersBytesAsUnsigned()
+    {
+        final var a = new SolanaAccount(new byte[]{127, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0});
+        final var b = new SolanaAccount(new byte[]{-128, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0});
+
+        assertThat(a.compareTo(b)).isNegative();
+        assertThat(b.compareTo(a)).isPositive();
+    }
 }
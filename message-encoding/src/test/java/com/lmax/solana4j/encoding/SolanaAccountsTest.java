@@ -721,6 +721,43 @@ class SolanaAccountsTest
         );
     }
 
+    @Test
+    void indexOfAccountMatchesPositionInFlattenedAccountList()
+    {
+        final SolanaAccount rwUAccount1 = new SolanaAccount(ACCOUNT1);
+        final SolanaAccount roUAccount2 = new SolanaAccount(ACCOUNT2);
+        final SolanaAccount rwSAccount3 = new SolanaAccount(ACCOUNT3);
+        final SolanaAccount notReferenced = new SolanaAccount(ACCOUNT4);
+
+        final SolanaAccount lookupTableAddress1 = new SolanaAccount(LOOKUP_TABLE_ADDRESS1);
+        final AddressLookupTable addressLookupTable1 = new SolanaAddressLookupTable(lookupTableAddress1, List.of(rwUAccount1, roUAccount2));
+
+        final SolanaTransactionInstruction solanaTransactionInstruction = new SolanaTransactionInstruction(
+                List.of(
+                        new SolanaAccountReference(rwUAccount1, false, true, false),
+                        new SolanaAccountReference(roUAccount2, false, false, false),
+                        new SolanaAccountReference(rwSAccount3, true, true, false)
+                ),
+                RO_U_PROGRAM1_ACCOUNT,
+                10,
+                w -> w.put(DATA1));
+
+        final SolanaAccounts accounts = SolanaAccounts.create(
+                List.of(solanaTransactionInstruction),
+                RW_S_PAYER_ACCOUNT,
+                List.of(addressLookupTable1)
+        );
+
+        final List<PublicKey> flattenedAccounts = accounts.getFlattenedAccountList();
+        assertThat(flattenedAccounts.size()).isEqualTo(5);
+        for (int i = 0; i < flattenedAccounts.size(); i++)
+        {
+            assertThat(accounts.indexOfAccount(flattenedAccounts.get(i))).isEqualTo(i);
+        }
+        assertThat(accounts.indexOfAccount(notReferenced)).isEqualTo(-1);
+        assertThat(accounts.getFlattenedAccountList()).isSameAs(flattenedAccounts);
+    }
+
     private void staticAccountsEqual(final List<PublicKey> staticAccounts, final List<PublicKey> expectedAccounts)
     {
         assertThat(staticAccounts).usingRecursiveComparison().isEqualTo(expectedAccounts);
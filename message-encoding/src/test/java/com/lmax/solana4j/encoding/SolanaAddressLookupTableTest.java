@@ -0,0 +1,48 @@
+package com.lmax.solana4j.encoding;
+
+import com.lmax.solana4j.api.AddressLookupTable;
+import com.lmax.solana4j.api.PublicKey;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static com.lmax.solana4j.Solana4jTestHelper.ACCOUNT1;
+import static com.lmax.solana4j.Solana4jTestHelper.ACCOUNT2;
+import static com.lmax.solana4j.Solana4jTestHelper.ACCOUNT3;
+import static com.lmax.solana4j.Solana4jTestHelper.ACCOUNT4;
+import static com.lmax.solana4j.Solana4jTestHelper.LOOKUP_TABLE_ADDRESS1;
+import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
+import static org.assertj.core.api.AssertionsForClassTypes.assertThatThrownBy;
+
+class SolanaAddressLookupTableTest
+{
+    private static final SolanaAccount LOOKUP_TABLE_ADDRESS = new SolanaAccount(LOOKUP_TABLE_ADDRESS1);
+
+    @Test
+    void indexOfFindsFirstSlotOfEachAddress()
+    {
+        final AddressLookupTable addressLookupTable = new SolanaAddressLookupTable(
+                LOOKUP_TABLE_ADDRESS,
+                List.of(new SolanaAccount(ACCOUNT1), new SolanaAccount(ACCOUNT2), new SolanaAccount(ACCOUNT1), new SolanaAccount(ACCOUNT3)));
+
+        assertThat(addressLookupTable.indexOf(new SolanaAccount(ACCOUNT1))).isEqualTo(0);
+        assertThat(addressLookupTable.indexOf(new SolanaAccount(ACCOUNT2))).isEqualTo(1);
+        assertThat(addressLookupTable.indexOf(new SolanaAccount(ACCOUNT3))).isEqualTo(3);
+        assertThat(addressLookupTable.indexOf(new SolanaAccount(ACCOUNT4))).isEqualTo(-1);
+    }
+
+    @Test
+    void isUnaffectedByChangesToTheListItWasCreatedFrom()
+    {
+        final List<PublicKey> addresses = new ArrayList<>(List.of(new SolanaAccount(ACCOUNT1), new SolanaAccount(ACCOUNT2)));
+        final AddressLookupTable addressLookupTable = new SolanaAddressLookupTable(LOOKUP_TABLE_ADDRESS, addresses);
+
+        addresses.set(0, new SolanaAccount(ACCOUNT3));
+
+        assertThat(addressLookupTable.getAddresses().get(0)).isEqualTo(new SolanaAccount(ACCOUNT1));
+        assertThat(addressLookupTable.indexOf(new SolanaAccount(ACCOUNT3))).isEqualTo(-1);
+        assertThatThrownBy(() -> addressLookupTable.getAddresses().add(new SolanaAccount(ACCOUNT4)))
+                .isInstanceOf(UnsupportedOperationException.class);
+    }
+}
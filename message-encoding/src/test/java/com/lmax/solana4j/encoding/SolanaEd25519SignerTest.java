@@ -0,0 +1,229 @@
+package com.lmax.solana4j.encoding;
+
+import com.lmax.solana4j.Solana;
+import com.lmax.solana4j.api.AccountSigner;
+import com.lmax.solana4j.api.PublicKey;
+import com.lmax.solana4j.programs.SystemProgram;
+import org.bouncycastle.math.ec.rfc8032.Ed25519;
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
+import static org.assertj.core.api.AssertionsForClassTypes.assertThatThrownBy;
+import static org.junit.jupiter.api.Assumptions.assumeFalse;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+class SolanaEd25519SignerTest
+{
+    // RFC 8032 section 7.1, tests 1 and 2
+    private static final byte[] SECRET_KEY1 = hex("9d61b19deffd5a60ba844af492ec2cc44449c5697b326919703bac031cae7f60");
+    private static final PublicKey ACCOUNT1 = Solana.account(hex("d75a980182b10ab7d54bfed3c964073a0ee172f3daa62325af021a68f707511a"));
+    private static final byte[] SIGNATURE1 = hex("e5564300c360ac729086e2cc806e828a84877f1eb8e5d974d873e065224901555fb8821590a33bacc61e39701cf9b46bd25bf5f0595bbe24655141438e7a100b");
+    private static final byte[] SECRET_KEY2 = hex("4ccd089b28ff96da9db6c346ec114e0f5b8a319f35aba624da8cf6ed4fb8a6fb");
+    private static final PublicKey ACCOUNT2 = Solana.account(hex("3d4017c3e843895a92b70aa74d1b7ebc9c982ccf2ec4968cc0cd55f12af4660c"));
+    private static final byte[] MESSAGE2 = hex("72");
+    private static final byte[] SIGNATURE2 = hex("92a009a9f0d4cab8720e820b5f642540a2b27b5416503f8fb3762223ebdb69da085ac1e43e15996e458f3613d0f11d8c387b2eaeb4302aeeb00d291612bb0c00");
+
+    @Test
+    void jdkEngineSignsRfc8032TestVectors()
+    {
+        assumeTrue(SolanaEd25519Signer.Jdk.AVAILABLE, "the JDK has an Ed25519 provider from 15");
+
+        assertThat(sign(new SolanaEd25519Signer((SolanaAccount) ACCOUNT1, SolanaEd25519Signer.Jdk.create(SECRET_KEY1, ACCOUNT1)), new byte[0]))
+                .isEqualTo(SIGNATURE1);
+        assertThat(sign(new SolanaEd25519Signer((SolanaAccount) ACCOUNT2, SolanaEd25519Signer.Jdk.create(SECRET_KEY2, ACCOUNT2)), MESSAGE2))
+                .isEqualTo(SIGNATURE2);
+    }
+
+    @Test
+    void jdkEngineReportsMissingProviderRatherThanInvalidKey()
+    {
+        assumeFalse(SolanaEd25519Signer.Jdk.AVAILABLE);
+
+        assertThatThrownBy(() -> SolanaEd25519Signer.Jdk.create(SECRET_KEY1, ACCOUNT1))
+                .isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    void bouncyCastleEngineSignsRfc8032TestVectors()
+    {
+        assertThat(sign(new SolanaEd25519Signer((SolanaAccount) ACCOUNT1, SolanaEd25519Signer.BouncyCastle.create(SECRET_KEY1, ACCOUNT1)), new byte[0]))
+                .isEqualTo(SIGNATURE1);
+        assertThat(sign(new SolanaEd25519Signer((SolanaAccount) ACCOUNT2, SolanaEd25519Signer.BouncyCastle.create(SECRET_KEY2, ACCOUNT2)), MESSAGE2))
+                .isEqualTo(SIGNATURE2);
+    }
+
+    @Test
+    void enginesAgreeForHeapDirectAndReadOnlyBuffers()
+    {
+        final Random random = new Random(16);
+        for (int i = 0; i < 20; i++)
+        {
+            final byte[] secretKey = new byte[32];
+            random.nextBytes(secretKey);
+            final PublicKey account = publicKeyOf(secretKey);
+            final byte[] message = new byte[random.nextInt(Solana.MAX_MESSAGE_SIZE)];
+            random.nextBytes(message);
+
+            final List<AccountSigner> signers = new ArrayList<>();
+            signers.add(new SolanaEd25519Signer((SolanaAccount) account, SolanaEd25519Signer.BouncyCastle.create(secretKey, account)));
+            if (SolanaEd25519Signer.Jdk.AVAILABLE)
+            {
+                signers.add(new SolanaEd25519Signer((SolanaAccount) account, SolanaEd25519Signer.Jdk.create(secretKey, account)));
+            }
+
+            final byte[] expected = signWithBouncyCastleDirectly(secretKey, message);
+            for (final AccountSigner signer : signers)
+            {
+                assertThat(sign(signer, message)).isEqualTo(expected);
+
+                final ByteBuffer direct = ByteBuffer.allocateDirect(message.length).put(message).flip();
+                final ByteBuffer directSignature = ByteBuffer.allocateDirect(64);
+                signer.sign(direct, directSignature);
+                assertThat(bytesOf(directSignature)).isEqualTo(expected);
+
+                final ByteBuffer readOnly = ByteBuffer.wrap(message).asReadOnlyBuffer();
+                final ByteBuffer signature = ByteBuffer.allocate(64);
+                signer.sign(readOnly, signature);
+                assertThat(signature.array()).isEqualTo(expected);
+            }
+        }
+    }
+
+    @Test
+    void signsFromPositionToLimitWithoutMovingEitherBuffer()
+    {
+        final AccountSigner signer = Solana.signer(ACCOUNT2, SECRET_KEY2);
+        final ByteBuffer transaction = ByteBuffer.wrap(new byte[]{1, 2, 0x72, 3});
+        transaction.position(2).limit(3);
+        final ByteBuffer signature = ByteBuffer.allocate(70);
+        signature.position(3);
+
+        signer.sign(transaction, signature);
+
+        assertThat(transaction.position()).isEqualTo(2);
+        assertThat(transaction.limit()).isEqualTo(3);
+        assertThat(signature.position()).isEqualTo(3);
+        final byte[] written = new byte[64];
+        signature.get(written);
+        assertThat(written).isEqualTo(SIGNATURE2);
+    }
+
+    @Test
+    void signsEachMessageInPlace()
+    {
+        final AccountSigner payer = Solana.signer(ACCOUNT1, SECRET_KEY1);
+        final AccountSigner other = Solana.signer(ACCOUNT2, SECRET_KEY2);
+        final ByteBuffer legacy = transfer(ByteBuffer.allocate(Solana.MAX_MESSAGE_SIZE), false);
+        final ByteBuffer v0 = transfer(ByteBuffer.allocateDirect(Solana.MAX_MESSAGE_SIZE), true);
+
+        payer.signAll(List.of(legacy, v0));
+        other.signAll(List.of(legacy, v0));
+
+        for (final boolean isV0 : new boolean[]{false, true})
+        {
+            final ByteBuffer expected = transfer(ByteBuffer.allocate(Solana.MAX_MESSAGE_SIZE), isV0);
+            Solana.forSigning(expected).by(ACCOUNT1, payer).by(ACCOUNT2, other).build();
+            assertThat(bytesOf(isV0 ? v0 : legacy)).isEqualTo(bytesOf(expected));
+        }
+        assertThat(legacy.position()).isEqualTo(0);
+    }
+
+    @Test
+    void rejectsMessagesTheAccountDoesNotSign()
+    {
+        final byte[] secretKey = new byte[32];
+        final AccountSigner stranger = Solana.signer(publicKeyOf(secretKey), secretKey);
+        final ByteBuffer message = transfer(ByteBuffer.allocate(Solana.MAX_MESSAGE_SIZE), false);
+
+        assertThatThrownBy(() -> stranger.signAll(List.of(message)))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void acceptsKeyPairOfSecretAndPublicKey()
+    {
+        final byte[] keyPair = new byte[64];
+        System.arraycopy(SECRET_KEY2, 0, keyPair, 0, 32);
+        System.arraycopy(ACCOUNT2.bytes(), 0, keyPair, 32, 32);
+
+        assertThat(sign(Solana.signer(ACCOUNT2, keyPair), MESSAGE2)).isEqualTo(SIGNATURE2);
+    }
+
+    @Test
+    void rejectsSecretKeyOfAnotherAccount()
+    {
+        if (SolanaEd25519Signer.Jdk.AVAILABLE)
+        {
+            assertThatThrownBy(() -> SolanaEd25519Signer.Jdk.create(SECRET_KEY1, ACCOUNT2))
+                    .isInstanceOf(IllegalArgumentException.class);
+        }
+        assertThatThrownBy(() -> SolanaEd25519Signer.BouncyCastle.create(SECRET_KEY1, ACCOUNT2))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> Solana.signer(ACCOUNT2, new byte[31]))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> Solana.signer(ACCOUNT2, new byte[64]))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static ByteBuffer transfer(final ByteBuffer buffer, final boolean v0)
+    {
+        final var builder = Solana.builder(buffer);
+        final var sealed = v0
+                ? builder.v0()
+                        .payer(ACCOUNT1)
+                        .recent(Solana.blockhash(new byte[32]))
+                        .instructions(tb -> SystemProgram.factory(tb).transfer(ACCOUNT2, Solana.account(new byte[32]), 10L))
+                        .lookups(List.of())
+                        .seal()
+                : builder.legacy()
+                        .payer(ACCOUNT1)
+                        .recent(Solana.blockhash(new byte[32]))
+                        .instructions(tb -> SystemProgram.factory(tb).transfer(ACCOUNT2, Solana.account(new byte[32]), 10L))
+                        .seal();
+        sealed.unsigned().build();
+        return buffer;
+    }
+
+    private static byte[] sign(final AccountSigner signer, final byte[] message)
+    {
+        final byte[] signature = new byte[64];
+        signer.sign(ByteBuffer.wrap(message), ByteBuffer.wrap(signature));
+        return signature;
+    }
+
+    private static byte[] signWithBouncyCastleDirectly(final byte[] secretKey, final byte[] message)
+    {
+        final byte[] signature = new byte[64];
+        Ed25519.sign(secretKey, 0, message, 0, message.length, signature, 0);
+        return signature;
+    }
+
+    private static PublicKey publicKeyOf(final byte[] secretKey)
+    {
+        final byte[] publicKey = new byte[32];
+        Ed25519.generatePublicKey(secretKey, 0, publicKey, 0);
+        return Solana.account(publicKey);
+    }
+
+    private static byte[] bytesOf(final ByteBuffer buffer)
+    {
+        final byte[] bytes = new byte[buffer.remaining()];
+        buffer.duplicate().get(bytes);
+        return bytes;
+    }
+
+    private static byte[] hex(final String hex)
+    {
+        final byte[] bytes = new byte[hex.length() / 2];
+        for (int i = 0; i < bytes.length; i++)
+        {
+            bytes[i] = (byte) Integer.parseInt(hex.substring(2 * i, 2 * i + 2), 16);
+        }
+        return bytes;
+    }
+}
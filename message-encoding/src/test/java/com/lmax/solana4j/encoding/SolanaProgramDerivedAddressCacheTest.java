@@ -0,0 +1,103 @@
+package com.lmax.solana4j.encoding;
+
+import com.lmax.solana4j.api.ProgramDerivedAddress;
+import com.lmax.solana4j.api.ProgramDerivedAddressCache;
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.util.List;
+
+import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
+import static org.assertj.core.api.AssertionsForClassTypes.assertThatThrownBy;
+
+class SolanaProgramDerivedAddressCacheTest
+{
+    private static final SolanaAccount PROGRAM = new SolanaAccount(Base58.decode("MuMQqQg7tcaerMu7RKMuAvXjLLF4yeQ6swdqUu4eDNN"));
+    private static final List<byte[]> SEEDS_A = List.of(new byte[]{1}, new byte[]{2, 3});
+    private static final List<byte[]> SEEDS_B = List.of(new byte[]{1, 2}, new byte[]{3});
+    private static final List<byte[]> SEEDS_C = List.of(new byte[]{4});
+
+    private final ProgramDerivedAddressCache cache = SolanaEncoding.programDerivedAddressCache(2);
+
+    @Test
+    void shouldCountMissThenHit()
+    {
+        final ProgramDerivedAddress first = cache.findProgramAddress(SEEDS_A, PROGRAM);
+        final ProgramDerivedAddress second = cache.findProgramAddress(List.of(new byte[]{1}, new byte[]{2, 3}), PROGRAM);
+
+        assertThat(first).isEqualTo(SolanaProgramDerivedAddress.deriveProgramAddress(SEEDS_A, PROGRAM));
+        assertThat(second).isSameAs(first);
+        assertThat(cache.misses()).isEqualTo(1L);
+        assertThat(cache.hits()).isEqualTo(1L);
+        assertThat(cache.size()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldKeepAddressesForDifferentProgramsApart()
+    {
+        final SolanaAccount otherProgram = new SolanaAccount(Base58.decode("FTCuVnzaBZQXGz7D5mweRnWgY4fbS8rg42SD6envtoUD"));
+
+        cache.findProgramAddress(SEEDS_A, PROGRAM);
+        final ProgramDerivedAddress other = cache.findProgramAddress(SEEDS_A, otherProgram);
+
+        assertThat(other).isEqualTo(SolanaProgramDerivedAddress.deriveProgramAddress(SEEDS_A, otherProgram));
+        assertThat(cache.misses()).isEqualTo(2L);
+        assertThat(cache.hits()).isEqualTo(0L);
+    }
+
+    @Test
+    void shouldEvictLeastRecentlyUsedAddress()
+    {
+        cache.findProgramAddress(SEEDS_A, PROGRAM);
+        cache.findProgramAddress(SEEDS_B, PROGRAM);
+        cache.findProgramAddress(SEEDS_A, PROGRAM);
+        cache.findProgramAddress(SEEDS_C, PROGRAM);
+
+        assertThat(cache.size()).isEqualTo(2);
+
+        cache.findProgramAddress(SEEDS_A, PROGRAM);
+        assertThat(cache.hits()).isEqualTo(2L);
+
+        cache.findProgramAddress(SEEDS_B, PROGRAM);
+        assertThat(cache.misses()).isEqualTo(4L);
+    }
+
+    @Test
+    void shouldWriteCachedAddressIntoBuffer()
+    {
+        final ProgramDerivedAddress expected = cache.findProgramAddress(SEEDS_A, PROGRAM);
+        final ByteBuffer address = ByteBuffer.allocate(32);
+
+        final int bump = cache.findProgramAddress(SEEDS_A, PROGRAM, address);
+
+        assertThat(bump).isEqualTo(expected.nonce());
+        assertThat(new SolanaAccount(address.array())).isEqualTo(expected.address());
+        assertThat(cache.hits()).isEqualTo(1L);
+    }
+
+    @Test
+    void shouldNotCacheCreatedAddresses()
+    {
+        final ProgramDerivedAddress found = SolanaProgramDerivedAddress.deriveProgramAddress(SEEDS_A, PROGRAM);
+
+        assertThat(cache.createProgramAddress(SEEDS_A, found.nonce(), PROGRAM)).isEqualTo(found);
+        assertThat(cache.size()).isEqualTo(0);
+        assertThat(cache.misses()).isEqualTo(0L);
+    }
+
+    @Test
+    void shouldClearAddressesButKeepCounts()
+    {
+        cache.findProgramAddress(SEEDS_A, PROGRAM);
+        cache.clear();
+
+        assertThat(cache.size()).isEqualTo(0);
+        assertThat(cache.misses()).isEqualTo(1L);
+    }
+
+    @Test
+    void shouldRejectNonPositiveMaximumSize()
+    {
+        assertThatThrownBy(() -> SolanaEncoding.programDerivedAddressCache(0)).isInstanceOf(IllegalArgumentException.class);
+    }
+}
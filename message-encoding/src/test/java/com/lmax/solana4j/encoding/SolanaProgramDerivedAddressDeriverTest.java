@@ -0,0 +1,126 @@
+package com.lmax.solana4j.encoding;
+
+import com.lmax.solana4j.api.ProgramDerivedAddress;
+import com.lmax.solana4j.api.ProgramDerivedAddressDeriver;
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.List;
+
+import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
+import static org.assertj.core.api.AssertionsForClassTypes.assertThatThrownBy;
+
+class SolanaProgramDerivedAddressDeriverTest
+{
+    //Some precomputed values from web3.js
+    private static final SolanaAccount PROGRAM = new SolanaAccount(Base58.decode("FTCuVnzaBZQXGz7D5mweRnWgY4fbS8rg42SD6envtoUD"));
+    private static final SolanaAccount SEED = new SolanaAccount(Base58.decode("Wd4UqPtgrnYAH6pxMrzr6aNv4CmTFgwDfPQi9BYjPt7"));
+    private static final List<byte[]> SEEDS = List.of(
+            "aString".getBytes(StandardCharsets.UTF_8),
+            "anotherString".getBytes(StandardCharsets.UTF_8),
+            SEED.bytes());
+    private static final String EXPECTED_ADDRESS = "FiZFCNEX1WJbP1UEyr2o4uyhtEFoZc3cMyYScf6LAYDx";
+
+    private final ProgramDerivedAddressDeriver deriver = SolanaEncoding.programDerivedAddressDeriver();
+
+    @Test
+    void shouldFindProgramAddress()
+    {
+        final ProgramDerivedAddress programDerivedAddress = deriver.findProgramAddress(SEEDS, PROGRAM);
+
+        assertThat(programDerivedAddress.address().base58()).isEqualTo(EXPECTED_ADDRESS);
+        assertThat(programDerivedAddress.programId()).isEqualTo(PROGRAM);
+        assertThat(programDerivedAddress.nonce()).isEqualTo(254);
+    }
+
+    @Test
+    void shouldFindProgramAddressIntoBuffer()
+    {
+        final ByteBuffer address = ByteBuffer.allocate(40);
+        address.position(4);
+
+        final int bump = deriver.findProgramAddress(SEEDS, PROGRAM, address);
+
+        assertThat(bump).isEqualTo(254);
+        assertThat(address.position()).isEqualTo(36);
+        assertThat(Base58.encode(address.flip().position(4))).isEqualTo(EXPECTED_ADDRESS);
+    }
+
+    @Test
+    void shouldCreateProgramAddressFromKnownBump()
+    {
+        final ProgramDerivedAddress programDerivedAddress = deriver.createProgramAddress(SEEDS, 254, PROGRAM);
+
+        assertThat(programDerivedAddress.address().base58()).isEqualTo(EXPECTED_ADDRESS);
+        assertThat(programDerivedAddress.nonce()).isEqualTo(254);
+    }
+
+    @Test
+    void shouldCreateProgramAddressFromKnownBumpIntoBuffer()
+    {
+        final ByteBuffer address = ByteBuffer.allocate(32);
+
+        deriver.createProgramAddress(SEEDS, 254, PROGRAM, address);
+
+        assertThat(Base58.encode(address.array())).isEqualTo(EXPECTED_ADDRESS);
+    }
+
+    @Test
+    void shouldRejectBumpThatProducesAddressOnTheCurve()
+    {
+        // 255 is the first bump tried by find, which moved on to 254 because 255 landed on the curve
+        final ByteBuffer address = ByteBuffer.allocate(32);
+
+        assertThatThrownBy(() -> deriver.createProgramAddress(SEEDS, 255, PROGRAM)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> deriver.createProgramAddress(SEEDS, 255, PROGRAM, address)).isInstanceOf(IllegalArgumentException.class);
+        assertThat(address.position()).isEqualTo(0);
+    }
+
+    @Test
+    void shouldRejectBumpOutsideSingleByte()
+    {
+        assertThatThrownBy(() -> deriver.createProgramAddress(SEEDS, 256, PROGRAM)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> deriver.createProgramAddress(SEEDS, -1, PROGRAM)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void shouldMatchReferenceDerivationForManySeeds() throws Exception
+    {
+        for (int i = 0; i < 100; i++)
+        {
+            final List<byte[]> seeds = List.of(new byte[]{(byte) i}, SEED.bytes());
+
+            final ProgramDerivedAddress found = deriver.findProgramAddress(seeds, PROGRAM);
+            final ProgramDerivedAddress created = deriver.createProgramAddress(seeds, found.nonce(), PROGRAM);
+
+            assertThat(created).isEqualTo(found);
+            assertThat(found).isEqualTo(referenceDerivation(seeds, PROGRAM));
+        }
+    }
+
+    /**
+     * Derives the address the way the runtime describes it, hashing with a fresh digest and checking the curve with the
+     * {@code BigInteger} reference, so that the deriver is not checked against itself.
+     */
+    private static ProgramDerivedAddress referenceDerivation(final List<byte[]> seeds, final SolanaAccount program) throws NoSuchAlgorithmException
+    {
+        for (int bump = 255; bump > 0; bump--)
+        {
+            final MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            seeds.forEach(digest::update);
+            digest.update((byte) bump);
+            digest.update(program.bytes());
+            digest.update("ProgramDerivedAddress".getBytes(StandardCharsets.UTF_8));
+            final byte[] address = digest.digest();
+
+            if (!BigIntegerEd25519.isOnCurve(address))
+            {
+                return new SolanaProgramDerivedAddress(new SolanaAccount(address), program, bump);
+            }
+        }
+        throw new AssertionError("No program address off the curve.");
+    }
+}
@@ -33,7 +33,7 @@ class SolanaProgramDerivedAddressTest
 
         final SolanaAccount seed = new SolanaAccount(Base58.decode("Wd4UqPtgrnYAH6pxMrzr6aNv4CmTFgwDfPQi9BYjPt7"));
         final ProgramDerivedAddress programDerivedAddress = SolanaProgramDerivedAddress.deriveProgramAddress(
-                List.of("aString".getBytes(StandardCharsets.UTF_8), "anotherString".getBytes(StandardCharsets.UTF_8), seed.bytes),
+                List.of("aString".getBytes(StandardCharsets.UTF_8), "anotherString".getBytes(StandardCharsets.UTF_8), seed.bytes()),
                 program);
 
         AssertionsForClassTypes.assertThat(programDerivedAddress.address().base58()).isEqualTo("FiZFCNEX1WJbP1UEyr2o4uyhtEFoZc3cMyYScf6LAYDx");
@@ -0,0 +1,158 @@
+package com.lmax.solana4j.encoding;
+
+import com.lmax.solana4j.Solana;
+import com.lmax.solana4j.api.AccountSigner;
+import com.lmax.solana4j.api.PublicKey;
+import com.lmax.solana4j.api.SignatureVerifier;
+import com.lmax.solana4j.programs.SystemProgram;
+import org.bouncycastle.math.ec.rfc8032.Ed25519;
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
+
+class SolanaSignatureVerifierTest
+{
+    private static final byte[] PAYER_SECRET_KEY = secretKey((byte) 1);
+    private static final byte[] OTHER_SECRET_KEY = secretKey((byte) 2);
+    private static final PublicKey PAYER = publicKeyOf(PAYER_SECRET_KEY);
+    private static final PublicKey OTHER = publicKeyOf(OTHER_SECRET_KEY);
+    private static final AccountSigner PAYER_SIGNER = Solana.signer(PAYER, PAYER_SECRET_KEY);
+    private static final AccountSigner OTHER_SIGNER = Solana.signer(OTHER, OTHER_SECRET_KEY);
+
+    private static final List<SignatureVerifier> VERIFIERS = verifiers();
+
+    @Test
+    void verifiesSignedLegacyAndV0MessagesInHeapDirectAndReadOnlyBuffers()
+    {
+        for (final boolean v0 : new boolean[]{false, true})
+        {
+            final ByteBuffer heap = signed(ByteBuffer.allocate(Solana.MAX_MESSAGE_SIZE), v0);
+            final ByteBuffer direct = signed(ByteBuffer.allocateDirect(Solana.MAX_MESSAGE_SIZE), v0);
+
+            for (final SignatureVerifier verifier : VERIFIERS)
+            {
+                assertThat(verifier.verify(heap)).isTrue();
+                assertThat(verifier.verify(direct)).isTrue();
+                assertThat(verifier.verify(heap.asReadOnlyBuffer())).isTrue();
+                assertThat(heap.position()).isEqualTo(0);
+            }
+        }
+    }
+
+    @Test
+    void rejectsMessageWithTamperedTransaction()
+    {
+        final ByteBuffer message = signed(ByteBuffer.allocate(Solana.MAX_MESSAGE_SIZE), false);
+        final int lastByte = message.limit() - 1;
+        message.put(lastByte, (byte) (message.get(lastByte) + 1));
+
+        for (final SignatureVerifier verifier : VERIFIERS)
+        {
+            assertThat(verifier.verify(message)).isFalse();
+        }
+    }
+
+    @Test
+    void rejectsMessageWithTamperedOrMissingSignature()
+    {
+        final ByteBuffer tampered = signed(ByteBuffer.allocate(Solana.MAX_MESSAGE_SIZE), false);
+        // the second signature starts after the count and the payer's signature
+        tampered.put(1 + 64 + 3, (byte) (tampered.get(1 + 64 + 3) ^ 1));
+
+        final ByteBuffer partlySigned = unsigned(ByteBuffer.allocate(Solana.MAX_MESSAGE_SIZE), true);
+        Solana.forSigning(partlySigned).by(PAYER, PAYER_SIGNER).build();
+
+        for (final SignatureVerifier verifier : VERIFIERS)
+        {
+            assertThat(verifier.verify(tampered)).isFalse();
+            assertThat(verifier.verify(partlySigned)).isFalse();
+        }
+    }
+
+    @Test
+    void rejectsMalformedMessages()
+    {
+        final ByteBuffer truncated = signed(ByteBuffer.allocate(Solana.MAX_MESSAGE_SIZE), false);
+        truncated.limit(100);
+
+        for (final SignatureVerifier verifier : VERIFIERS)
+        {
+            assertThat(verifier.verify(truncated)).isFalse();
+            assertThat(verifier.verify(ByteBuffer.allocate(0))).isFalse();
+            assertThat(verifier.verify(ByteBuffer.wrap(new byte[]{0, (byte) 0x81, 0, 0, 0}))).isFalse();
+        }
+    }
+
+    @Test
+    void verifiesEachOfManyMessages()
+    {
+        final ByteBuffer tampered = signed(ByteBuffer.allocate(Solana.MAX_MESSAGE_SIZE), true);
+        tampered.put(tampered.limit() - 1, (byte) 0x7f);
+        final List<ByteBuffer> messages = List.of(
+                signed(ByteBuffer.allocate(Solana.MAX_MESSAGE_SIZE), false),
+                tampered,
+                signed(ByteBuffer.allocateDirect(Solana.MAX_MESSAGE_SIZE), true),
+                unsigned(ByteBuffer.allocate(Solana.MAX_MESSAGE_SIZE), false));
+
+        for (final SignatureVerifier verifier : VERIFIERS)
+        {
+            assertThat(verifier.verifyAll(messages)).isEqualTo(new boolean[]{true, false, true, false});
+        }
+    }
+
+    private static ByteBuffer signed(final ByteBuffer buffer, final boolean v0)
+    {
+        unsigned(buffer, v0);
+        Solana.forSigning(buffer).by(PAYER, PAYER_SIGNER).by(OTHER, OTHER_SIGNER).build();
+        return buffer;
+    }
+
+    private static ByteBuffer unsigned(final ByteBuffer buffer, final boolean v0)
+    {
+        final var builder = Solana.builder(buffer);
+        final var sealed = v0
+                ? builder.v0()
+                        .payer(PAYER)
+                        .recent(Solana.blockhash(new byte[32]))
+                        .instructions(tb -> SystemProgram.factory(tb).transfer(OTHER, Solana.account(new byte[32]), 10L))
+                        .lookups(List.of())
+                        .seal()
+                : builder.legacy()
+                        .payer(PAYER)
+                        .recent(Solana.blockhash(new byte[32]))
+                        .instructions(tb -> SystemProgram.factory(tb).transfer(OTHER, Solana.account(new byte[32]), 10L))
+                        .seal();
+        sealed.unsigned().build();
+        return buffer;
+    }
+
+    private static List<SignatureVerifier> verifiers()
+    {
+        final List<SignatureVerifier> verifiers = new ArrayList<>();
+        verifiers.add(new SolanaSignatureVerifier(new SolanaSignatureVerifier.BouncyCastle()));
+        // the JDK has an Ed25519 provider from 15
+        if (SolanaSignatureVerifier.Jdk.AVAILABLE)
+        {
+            verifiers.add(new SolanaSignatureVerifier(new SolanaSignatureVerifier.Jdk()));
+        }
+        return verifiers;
+    }
+
+    private static byte[] secretKey(final byte value)
+    {
+        final byte[] secretKey = new byte[32];
+        secretKey[0] = value;
+        return secretKey;
+    }
+
+    private static PublicKey publicKeyOf(final byte[] secretKey)
+    {
+        final byte[] publicKey = new byte[32];
+        Ed25519.generatePublicKey(secretKey, 0, publicKey, 0);
+        return Solana.account(publicKey);
+    }
+}
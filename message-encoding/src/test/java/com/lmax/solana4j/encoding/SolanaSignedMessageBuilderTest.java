@@ -1,10 +1,16 @@
 package com.lmax.solana4j.encoding;
 
 import com.lmax.solana4j.Solana;
+import com.lmax.solana4j.api.AsyncByteBufferSigner;
 import com.lmax.solana4j.api.Message;
 import org.junit.jupiter.api.Test;
 
 import java.nio.ByteBuffer;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
 
 import static com.lmax.solana4j.Solana4jTestHelper.ACCOUNT1;
 import static com.lmax.solana4j.Solana4jTestHelper.ACCOUNT2;
@@ -15,6 +21,7 @@ import static com.lmax.solana4j.Solana4jTestHelper.writeSimpleFullySignedV0Messa
 import static com.lmax.solana4j.Solana4jTestHelper.writeSimpleUnsignedLegacyMessage;
 import static com.lmax.solana4j.Solana4jTestHelper.writeSimpleUnsignedV0Message;
 import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
+import static org.assertj.core.api.AssertionsForClassTypes.assertThatThrownBy;
 
 class SolanaSignedMessageBuilderTest
 {
@@ -55,4 +62,106 @@ class SolanaSignedMessageBuilderTest
 
         assertThat(signedMessageActual).usingRecursiveComparison().isEqualTo(signedMessageExpected);
     }
-}
\ No newline at end of file
+
+    @Test
+    void shouldRunAsyncSignersConcurrentlyIntoTheirOwnSignatureSlots()
+    {
+        final ExecutorService executor = Executors.newFixedThreadPool(3);
+        try
+        {
+            final var buffer = ByteBuffer.allocate(Solana.MAX_MESSAGE_SIZE);
+            writeSimpleUnsignedLegacyMessage(buffer);
+
+            // each signer waits for the others to start, so signing only finishes if all three run at once
+            final CountDownLatch started = new CountDownLatch(3);
+            final Message message = new SolanaSignedMessageBuilder(buffer)
+                    .byAsync(Solana.account(PAYER), asyncSignerFor(PAYER, executor, started))
+                    .byAsync(Solana.account(ACCOUNT1), asyncSignerFor(ACCOUNT1, executor, started))
+                    .byAsync(Solana.account(ACCOUNT2), asyncSignerFor(ACCOUNT2, executor, started))
+                    .buildAsync()
+                    .join();
+
+            final var expected = ByteBuffer.allocate(Solana.MAX_MESSAGE_SIZE);
+            writeSimpleFullySignedLegacyMessage(expected);
+            assertThat(message).isNotNull();
+            assertThat(bytesOf(buffer)).isEqualTo(bytesOf(expected));
+        }
+        finally
+        {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void shouldSignWithSynchronousAndAsyncSignersTogetherV0Message()
+    {
+        final ExecutorService executor = Executors.newFixedThreadPool(2);
+        try
+        {
+            final var buffer = ByteBuffer.allocate(Solana.MAX_MESSAGE_SIZE);
+            writeSimpleUnsignedV0Message(buffer);
+
+            final CountDownLatch started = new CountDownLatch(2);
+            new SolanaSignedMessageBuilder(buffer)
+                    .by(Solana.account(PAYER), getByteBufferSignerFor(PAYER))
+                    .byAsync(Solana.account(ACCOUNT1), asyncSignerFor(ACCOUNT1, executor, started))
+                    .byAsync(Solana.account(ACCOUNT2), asyncSignerFor(ACCOUNT2, executor, started))
+                    .build();
+
+            final var expected = ByteBuffer.allocate(Solana.MAX_MESSAGE_SIZE);
+            writeSimpleFullySignedV0Message(expected);
+            assertThat(bytesOf(buffer)).isEqualTo(bytesOf(expected));
+        }
+        finally
+        {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void shouldFailOnlyOnceEveryAsyncSignerHasFinished()
+    {
+        final var buffer = ByteBuffer.allocate(Solana.MAX_MESSAGE_SIZE);
+        writeSimpleUnsignedLegacyMessage(buffer);
+        final CompletableFuture<Void> slowSigning = new CompletableFuture<>();
+
+        final CompletableFuture<Message> message = new SolanaSignedMessageBuilder(buffer)
+                .byAsync(Solana.account(PAYER), (transaction, signature) -> CompletableFuture.failedFuture(new IllegalStateException("unavailable")))
+                .byAsync(Solana.account(ACCOUNT1), (transaction, signature) -> slowSigning)
+                .buildAsync();
+
+        assertThat(message.isDone()).isFalse();
+        slowSigning.complete(null);
+        assertThat(message.isCompletedExceptionally()).isTrue();
+        assertThatThrownBy(message::join).hasCauseInstanceOf(IllegalStateException.class);
+    }
+
+    private static AsyncByteBufferSigner asyncSignerFor(final byte[] account, final ExecutorService executor, final CountDownLatch started)
+    {
+        return (transaction, signature) -> CompletableFuture.runAsync(
+                () ->
+                {
+                    started.countDown();
+                    try
+                    {
+                        if (!started.await(10, TimeUnit.SECONDS))
+                        {
+                            throw new IllegalStateException("signers did not run concurrently");
+                        }
+                    }
+                    catch (final InterruptedException e)
+                    {
+                        throw new IllegalStateException(e);
+                    }
+                    getByteBufferSignerFor(account).sign(transaction, signature);
+                },
+                executor);
+    }
+
+    private static byte[] bytesOf(final ByteBuffer buffer)
+    {
+        final byte[] bytes = new byte[buffer.remaining()];
+        buffer.duplicate().get(bytes);
+        return bytes;
+    }
+}
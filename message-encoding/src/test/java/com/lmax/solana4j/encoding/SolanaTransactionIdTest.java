@@ -0,0 +1,104 @@
+package com.lmax.solana4j.encoding;
+
+import com.lmax.solana4j.Solana;
+import com.lmax.solana4j.api.PublicKey;
+import com.lmax.solana4j.programs.SystemProgram;
+import org.bouncycastle.math.ec.rfc8032.Ed25519;
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.List;
+
+import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
+import static org.assertj.core.api.AssertionsForClassTypes.assertThatThrownBy;
+
+class SolanaTransactionIdTest
+{
+    private static final byte[] PAYER_SECRET_KEY = secretKey((byte) 1);
+    private static final byte[] OTHER_SECRET_KEY = secretKey((byte) 2);
+    private static final PublicKey PAYER = publicKeyOf(PAYER_SECRET_KEY);
+    private static final PublicKey OTHER = publicKeyOf(OTHER_SECRET_KEY);
+
+    @Test
+    void readsFirstSignatureOfLegacyAndV0MessagesWithoutMovingBuffer()
+    {
+        for (final boolean v0 : new boolean[]{false, true})
+        {
+            final ByteBuffer heap = signed(ByteBuffer.allocate(Solana.MAX_MESSAGE_SIZE), v0);
+            final ByteBuffer direct = signed(ByteBuffer.allocateDirect(Solana.MAX_MESSAGE_SIZE).order(ByteOrder.LITTLE_ENDIAN), v0);
+            final String expected = Solana.read(heap).accept(message -> Base58.encode(message.signature(PAYER).array()));
+
+            assertThat(Solana.transactionId(heap)).isEqualTo(expected);
+            assertThat(Solana.transactionId(direct)).isEqualTo(expected);
+            assertThat(Solana.transactionId(bytesOf(heap))).isEqualTo(expected);
+            assertThat(heap.position()).isEqualTo(0);
+        }
+    }
+
+    @Test
+    void readsFromBufferPosition()
+    {
+        final ByteBuffer message = signed(ByteBuffer.allocate(Solana.MAX_MESSAGE_SIZE), false);
+        final ByteBuffer offset = ByteBuffer.allocate(message.remaining() + 5);
+        offset.position(5);
+        offset.put(message.duplicate()).flip().position(5);
+
+        assertThat(Solana.transactionId(offset)).isEqualTo(Solana.transactionId(message));
+    }
+
+    @Test
+    void rejectsMessagesWithoutFirstSignature()
+    {
+        assertThatThrownBy(() -> Solana.transactionId(ByteBuffer.allocate(0))).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> Solana.transactionId(new byte[]{0, 1, 2})).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> Solana.transactionId(new byte[64])).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> Solana.transactionId(new byte[]{1, 2, 3})).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> Solana.transactionId(new byte[]{(byte) 0x80, (byte) 0x80, (byte) 0x80, 1}))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static ByteBuffer signed(final ByteBuffer buffer, final boolean v0)
+    {
+        final var builder = Solana.builder(buffer);
+        final var sealed = v0
+                ? builder.v0()
+                        .payer(PAYER)
+                        .recent(Solana.blockhash(new byte[32]))
+                        .instructions(tb -> SystemProgram.factory(tb).transfer(OTHER, Solana.account(new byte[32]), 10L))
+                        .lookups(List.of())
+                        .seal()
+                : builder.legacy()
+                        .payer(PAYER)
+                        .recent(Solana.blockhash(new byte[32]))
+                        .instructions(tb -> SystemProgram.factory(tb).transfer(OTHER, Solana.account(new byte[32]), 10L))
+                        .seal();
+        sealed.unsigned().build();
+        Solana.forSigning(buffer)
+                .by(PAYER, Solana.signer(PAYER, PAYER_SECRET_KEY))
+                .by(OTHER, Solana.signer(OTHER, OTHER_SECRET_KEY))
+                .build();
+        return buffer;
+    }
+
+    private static byte[] secretKey(final byte value)
+    {
+        final byte[] secretKey = new byte[32];
+        secretKey[0] = value;
+        return secretKey;
+    }
+
+    private static PublicKey publicKeyOf(final byte[] secretKey)
+    {
+        final byte[] publicKey = new byte[32];
+        Ed25519.generatePublicKey(secretKey, 0, publicKey, 0);
+        return Solana.account(publicKey);
+    }
+
+    private static byte[] bytesOf(final ByteBuffer buffer)
+    {
+        final byte[] bytes = new byte[buffer.remaining()];
+        buffer.duplicate().get(bytes);
+        return bytes;
+    }
+}
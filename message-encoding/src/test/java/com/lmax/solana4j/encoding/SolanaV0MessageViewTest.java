@@ -330,6 +330,32 @@ class SolanaV0MessageViewTest
                 .isEqualTo(List.of(5, 1, 2, 4));
     }
 
+    @Test
+    void primitiveAccessorsAgreeWithListsReadFromBuffer()
+    {
+        final var buffer = ByteBuffer.allocateDirect(Solana.MAX_MESSAGE_SIZE);
+
+        writeSimpleFullySignedV0Message(buffer);
+
+        final SolanaV0MessageView messageView = (SolanaV0MessageView) SolanaV0MessageView.fromBuffer(buffer);
+
+        assertThat(messageView.countStaticAccounts()).isEqualTo(messageView.staticAccounts().size());
+        for (int i = 0; i < messageView.countStaticAccounts(); i++)
+        {
+            assertThat(messageView.staticAccount(i)).isEqualTo(messageView.staticAccounts().get(i));
+        }
+
+        final MessageVisitor.V0InstructionView instruction = messageView.instructions().get(0);
+        assertThat(instruction.countAccountIndexes()).isEqualTo(4);
+        assertThat(new int[]{instruction.accountIndex(0), instruction.accountIndex(1), instruction.accountIndex(2), instruction.accountIndex(3)})
+                .isEqualTo(new int[]{5, 1, 2, 4});
+
+        final MessageVisitor.AccountLookupView accountLookup = messageView.accountLookups().get(1);
+        assertThat(accountLookup.countReadWriteTableIndexes()).isEqualTo(0);
+        assertThat(accountLookup.countReadOnlyTableIndexes()).isEqualTo(1);
+        assertThat(accountLookup.readOnlyTableIndex(0)).isEqualTo(1);
+    }
+
     @Test
     void willThrowIllegalArgumentExceptionWhenReadingAccountsWithIncorrectLookupTablesSupplied()
     {
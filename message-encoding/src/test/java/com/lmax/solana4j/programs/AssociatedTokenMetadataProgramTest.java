@@ -2,6 +2,7 @@ package com.lmax.solana4j.programs;
 
 import com.lmax.solana4j.Solana;
 import com.lmax.solana4j.api.ProgramDerivedAddress;
+import com.lmax.solana4j.api.ProgramDerivedAddressCache;
 import com.lmax.solana4j.api.PublicKey;
 import com.lmax.solana4j.encoding.SolanaEncoding;
 import org.junit.jupiter.api.Test;
@@ -22,6 +23,21 @@ class AssociatedTokenMetadataProgramTest
         assertThat(metadataAddress.programId().base58()).isEqualTo("metaqbxxUerdq28cj1RbAWkYQm3ybzjb6a8bt518x1s");
     }
 
+    @Test
+    void derivesSameProgramDerivedAddressThroughCache()
+    {
+        final PublicKey mint = Solana.account(SolanaEncoding.decodeBase58("HDLRMKW1FDz2q5Zg778CZx26UgrtnqpUDkNNJHhmVUFr"));
+        final ProgramDerivedAddressCache cache = Solana.programDerivedAddressCache(16);
+
+        final ProgramDerivedAddress first = AssociatedTokenMetadataProgram.deriveAddress(mint, cache);
+        final ProgramDerivedAddress second = AssociatedTokenMetadataProgram.deriveAddress(mint, cache);
+
+        assertThat(first).isEqualTo(AssociatedTokenMetadataProgram.deriveAddress(mint));
+        assertThat(second).isSameAs(first);
+        assertThat(cache.misses()).isEqualTo(1);
+        assertThat(cache.hits()).isEqualTo(1);
+    }
+
     @Test
     void extractsCorrectTokenMetadata()
     {
@@ -2,6 +2,7 @@ package com.lmax.solana4j.programs;
 
 import com.lmax.solana4j.Solana;
 import com.lmax.solana4j.api.ProgramDerivedAddress;
+import com.lmax.solana4j.api.ProgramDerivedAddressCache;
 import com.lmax.solana4j.api.PublicKey;
 import org.junit.jupiter.api.Test;
 
@@ -36,6 +37,14 @@ public class AssociatedTokenProgramTest
                 .isInstanceOf(NullPointerException.class);
     }
 
+    @Test
+    void throwsOnNullDeriver()
+    {
+        assertThatThrownBy(() ->
+                AssociatedTokenProgram.deriveAddress(Solana.account(ACCOUNT1), TokenProgram.PROGRAM_ACCOUNT, Solana.account(ACCOUNT2), null))
+                .isInstanceOf(NullPointerException.class);
+    }
+
     @Test
     void shouldCreateAssociatedTokenAddress()
     {
@@ -67,4 +76,21 @@ public class AssociatedTokenProgramTest
         assertThat(associatedTokenAddress.address().base58()).isEqualTo("6TZpgbVr5gCryZfwJEEgTjp88DU4LWDkVA68ACUdC9gK");
         assertThat(associatedTokenAddress.nonce()).isEqualTo(253);
     }
+
+    @Test
+    void shouldCreateAssociatedTokenAddressThroughCache()
+    {
+        final PublicKey owner = Solana.account(ACCOUNT1);
+        final PublicKey mint = Solana.account(ACCOUNT2);
+        final ProgramDerivedAddressCache cache = Solana.programDerivedAddressCache(16);
+
+        final ProgramDerivedAddress tokenAddress = AssociatedTokenProgram.deriveAddress(owner, TokenProgram.PROGRAM_ACCOUNT, mint, cache);
+        final ProgramDerivedAddress token2022Address = AssociatedTokenProgram.deriveAddress(owner, Token2022Program.PROGRAM_ACCOUNT, mint, cache);
+
+        assertThat(tokenAddress.address().base58()).isEqualTo("BtHaGVQ4uRjgxGSoADNkPLxQUVBFhv3GaLbrU5jQnbmh");
+        assertThat(token2022Address.address().base58()).isEqualTo("6TZpgbVr5gCryZfwJEEgTjp88DU4LWDkVA68ACUdC9gK");
+        assertThat(AssociatedTokenProgram.deriveAddress(owner, TokenProgram.PROGRAM_ACCOUNT, mint, cache)).isSameAs(tokenAddress);
+        assertThat(cache.misses()).isEqualTo(2);
+        assertThat(cache.hits()).isEqualTo(1);
+    }
 }
@@ -20,6 +20,7 @@ public abstract class IntegrationTestBase
     private static final GenericContainer<?> SOLANA_VALIDATOR;
 
     protected static String solanaRpcUrl;
+    protected static String solanaWsUrl;
 
     static
     {
@@ -69,6 +70,7 @@ public abstract class IntegrationTestBase
             final String solanaHost = SOLANA_VALIDATOR.getHost();
 
             solanaRpcUrl = "http://" + solanaHost + ':' + mappedPort;
+            solanaWsUrl = "ws://" + solanaHost + ':' + SOLANA_VALIDATOR.getMappedPort(SOLANA_WS_PORT);
         }
         catch (final IOException e)
         {